@@ -0,0 +1,51 @@
+package com.catalis.core.kycb.core.events;
+
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.reactive.TransactionSynchronization;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import reactor.core.publisher.Mono;
+
+/**
+ * Defers work until the current reactive transaction has committed, or undoes it if the transaction rolls back.
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    /**
+     * Runs the action once the current transaction commits, and not at all if it rolls back. Outside a transaction
+     * the action runs when the returned Mono is subscribed.
+     *
+     * @return A Mono that completes once the action is registered or, outside a transaction, has run
+     */
+    public static Mono<Void> run(Runnable action) {
+        return TransactionSynchronizationManager.forCurrentTransaction()
+                .doOnNext(synchronizations -> synchronizations.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public Mono<Void> afterCommit() {
+                        return Mono.fromRunnable(action);
+                    }
+                }))
+                .then()
+                .onErrorResume(NoTransactionException.class, e -> Mono.fromRunnable(action));
+    }
+
+    /**
+     * Runs the action if the current transaction rolls back, for undoing in-memory changes made ahead of the commit.
+     * Outside a transaction there is nothing to roll back and the action never runs.
+     *
+     * @return A Mono that completes once the action is registered
+     */
+    public static Mono<Void> onRollback(Runnable action) {
+        return TransactionSynchronizationManager.forCurrentTransaction()
+                .doOnNext(synchronizations -> synchronizations.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public Mono<Void> afterCompletion(int status) {
+                        return status == STATUS_COMMITTED ? Mono.empty() : Mono.fromRunnable(action);
+                    }
+                }))
+                .then()
+                .onErrorResume(NoTransactionException.class, e -> Mono.empty());
+    }
+}
@@ -0,0 +1,62 @@
+package com.catalis.core.kycb.core.events.compliance.v1;
+
+import com.catalis.core.kycb.interfaces.enums.compliance.v1.CaseStatusEnum;
+import com.catalis.core.kycb.models.entities.compliance.v1.ComplianceCase;
+
+import java.util.Objects;
+
+/**
+ * Application event published by services after a compliance case was written in a way that may change an analyst's
+ * open-case count: created, deleted, reassigned, closed or reopened.
+ *
+ * @param complianceCaseId The ID of the case
+ * @param previousAssignee The analyst the case was assigned to before the change, if any
+ * @param previouslyOpen   Whether the case existed and was not closed before the change
+ * @param assignee         The analyst the case is assigned to after the change, if any
+ * @param open             Whether the case exists and is not closed after the change
+ */
+public record ComplianceCaseAssignmentChangedEvent(Long complianceCaseId, String previousAssignee,
+                                                   boolean previouslyOpen, String assignee, boolean open) {
+
+    /**
+     * Builds the event for a case write.
+     *
+     * @param before The case before the write, or null if it was created
+     * @param after  The case after the write, or null if it was deleted
+     * @return The event
+     */
+    public static ComplianceCaseAssignmentChangedEvent of(ComplianceCase before, ComplianceCase after) {
+        ComplianceCase any = after != null ? after : before;
+        return new ComplianceCaseAssignmentChangedEvent(
+                any.getComplianceCaseId(),
+                before != null ? before.getAssignedTo() : null,
+                isOpen(before),
+                after != null ? after.getAssignedTo() : null,
+                isOpen(after));
+    }
+
+    /**
+     * @return The analyst whose open-case count included the case before the change, if any
+     */
+    public String previousWorkloadOwner() {
+        return previouslyOpen ? previousAssignee : null;
+    }
+
+    /**
+     * @return The analyst whose open-case count includes the case after the change, if any
+     */
+    public String workloadOwner() {
+        return open ? assignee : null;
+    }
+
+    /**
+     * @return Whether the write moved the case from one analyst's open-case count to another's
+     */
+    public boolean changesWorkload() {
+        return !Objects.equals(previousWorkloadOwner(), workloadOwner());
+    }
+
+    private static boolean isOpen(ComplianceCase complianceCase) {
+        return complianceCase != null && complianceCase.getCaseStatus() != CaseStatusEnum.CLOSED;
+    }
+}
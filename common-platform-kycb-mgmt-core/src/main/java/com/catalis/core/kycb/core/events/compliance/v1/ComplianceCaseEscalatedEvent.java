@@ -0,0 +1,14 @@
+package com.catalis.core.kycb.core.events.compliance.v1;
+
+import com.catalis.core.kycb.interfaces.enums.compliance.v1.CasePriorityEnum;
+
+/**
+ * Application event published when a compliance case's priority is raised because it or one of its actions breached
+ * its SLA.
+ *
+ * @param complianceCaseId The ID of the case
+ * @param casePriority     The priority after the escalation
+ * @param assignedTo       The analyst the case is assigned to, if any
+ */
+public record ComplianceCaseEscalatedEvent(Long complianceCaseId, CasePriorityEnum casePriority, String assignedTo) {
+}
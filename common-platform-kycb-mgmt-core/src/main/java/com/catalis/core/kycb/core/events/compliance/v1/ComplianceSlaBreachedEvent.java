@@ -0,0 +1,16 @@
+package com.catalis.core.kycb.core.events.compliance.v1;
+
+import java.time.LocalDateTime;
+
+/**
+ * Application event published once when an open compliance case or action passes its due date.
+ *
+ * @param targetType       Whether a case or an action breached
+ * @param targetId         The ID of the case or action
+ * @param complianceCaseId The ID of the case, or of the case the action belongs to
+ * @param dueDate          When the case or action was due
+ * @param breachedAt       When the breach was detected
+ */
+public record ComplianceSlaBreachedEvent(SlaTargetTypeEnum targetType, Long targetId, Long complianceCaseId,
+                                         LocalDateTime dueDate, LocalDateTime breachedAt) {
+}
@@ -0,0 +1,9 @@
+package com.catalis.core.kycb.core.events.compliance.v1;
+
+/**
+ * Kinds of compliance records with a due date monitored for SLA breaches.
+ */
+public enum SlaTargetTypeEnum {
+    CASE,
+    ACTION
+}
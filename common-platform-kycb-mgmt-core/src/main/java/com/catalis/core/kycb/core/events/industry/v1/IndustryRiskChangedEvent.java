@@ -0,0 +1,10 @@
+package com.catalis.core.kycb.core.events.industry.v1;
+
+/**
+ * Application event published when an industry risk assessment that the risk engine reads has materially changed.
+ *
+ * @param industryRiskId The ID of the industry risk assessment
+ * @param activityCode   The activity code whose parties need re-rating
+ */
+public record IndustryRiskChangedEvent(Long industryRiskId, String activityCode) {
+}
@@ -0,0 +1,10 @@
+package com.catalis.core.kycb.core.events.industry.v1;
+
+/**
+ * Application event published when the periodic reassessment of an industry risk falls due.
+ *
+ * @param industryRiskId The ID of the industry risk assessment
+ * @param activityCode   The activity code the assessment covers
+ */
+public record IndustryRiskReviewDueEvent(Long industryRiskId, String activityCode) {
+}
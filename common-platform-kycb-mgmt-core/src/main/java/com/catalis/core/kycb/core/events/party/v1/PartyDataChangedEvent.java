@@ -0,0 +1,10 @@
+package com.catalis.core.kycb.core.events.party.v1;
+
+/**
+ * Application event published by services after a party's data has been created, updated or deleted.
+ *
+ * @param partyId The ID of the party whose data changed
+ * @param type    The kind of data that changed
+ */
+public record PartyDataChangedEvent(Long partyId, PartyDataTypeEnum type) {
+}
@@ -0,0 +1,20 @@
+package com.catalis.core.kycb.core.events.party.v1;
+
+/**
+ * Kinds of party data whose mutations are announced through {@link PartyDataChangedEvent}.
+ */
+public enum PartyDataTypeEnum {
+    AML_MATCH,
+    AML_SCREENING,
+    BUSINESS_LOCATION,
+    BUSINESS_PROFILE,
+    CORPORATE_STRUCTURE,
+    ECONOMIC_ACTIVITY,
+    EXPECTED_ACTIVITY,
+    KYB_VERIFICATION,
+    KYC_VERIFICATION,
+    POWER_OF_ATTORNEY,
+    RISK_ASSESSMENT,
+    SANCTIONS_QUESTIONNAIRE,
+    UBO
+}
@@ -0,0 +1,19 @@
+package com.catalis.core.kycb.core.metrics;
+
+import reactor.blockhound.BlockHound;
+import reactor.blockhound.integration.BlockHoundIntegration;
+
+/**
+ * Blocking calls that BlockHound may tolerate on non-blocking threads, shared by the test suite and the production
+ * reporter. Loaded through {@code META-INF/services}.
+ */
+public class BlockingCallIntegration implements BlockHoundIntegration {
+
+    @Override
+    public void applyTo(BlockHound.Builder builder) {
+        // Job ids: SecureRandom reads its seed once and then runs from memory
+        builder.allowBlockingCallsInside("java.util.UUID", "randomUUID");
+        // Reporting a blocking call must not report the writes of its own log line
+        builder.allowBlockingCallsInside(BlockingCallReporter.class.getName(), "report");
+    }
+}
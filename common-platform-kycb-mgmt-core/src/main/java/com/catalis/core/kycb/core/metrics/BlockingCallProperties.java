@@ -0,0 +1,25 @@
+package com.catalis.core.kycb.core.metrics;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the production reporting of blocking calls made on non-blocking threads.
+ */
+@Data
+@ConfigurationProperties(prefix = "kycb.blocking-calls")
+public class BlockingCallProperties {
+
+    /**
+     * Whether BlockHound is installed at startup to count and log blocking calls instead of failing them. Needs the
+     * JVM flag {@code -XX:+AllowRedefinitionToAddDeleteMethods}.
+     */
+    private boolean reportingEnabled = false;
+
+    /**
+     * Minimum time between two stack traces logged for the same blocking method; every call is still counted.
+     */
+    private Duration logInterval = Duration.ofMinutes(1);
+}
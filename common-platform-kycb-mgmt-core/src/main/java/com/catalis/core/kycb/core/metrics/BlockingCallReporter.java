@@ -0,0 +1,75 @@
+package com.catalis.core.kycb.core.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.blockhound.BlockHound;
+import reactor.blockhound.BlockingMethod;
+import reactor.blockhound.BlockingOperationError;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reports blocking calls on event-loop and other non-blocking threads when {@code kycb.blocking-calls} reporting is
+ * enabled.
+ * <p>
+ * BlockHound's default is to fail the call; here every call is counted in {@value #METRIC_BLOCKING_CALLS} by
+ * blocking method and thread, and a stack trace naming the caller is logged at most once per {@code logInterval}
+ * and method, so that stalls show up on dashboards without breaking requests.
+ */
+@Slf4j
+@Component
+public class BlockingCallReporter {
+
+    public static final String METRIC_BLOCKING_CALLS = "kycb.blocking.calls";
+    public static final String TAG_METHOD = "method";
+    public static final String TAG_THREAD = "thread";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private BlockingCallProperties properties;
+
+    private final Map<String, Long> lastLoggedNanos = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void start() {
+        if (!properties.isReportingEnabled()) {
+            return;
+        }
+        BlockHound.install(builder -> builder.blockingMethodCallback(this::report));
+        log.info("Reporting blocking calls on non-blocking threads as {}", METRIC_BLOCKING_CALLS);
+    }
+
+    void report(BlockingMethod blockingMethod) {
+        String method = blockingMethod.getClassName() + "." + blockingMethod.getName();
+        meterRegistry.counter(METRIC_BLOCKING_CALLS, TAG_METHOD, method, TAG_THREAD, threadGroup()).increment();
+        long now = System.nanoTime();
+        Long last = lastLoggedNanos.get(method);
+        // Only the thread that moves the timestamp logs, so racing reports of one method log once
+        boolean due = last == null
+                ? lastLoggedNanos.putIfAbsent(method, now) == null
+                : now - last >= properties.getLogInterval().toNanos() && lastLoggedNanos.replace(method, last, now);
+        if (due) {
+            log.warn("Blocking call {} on non-blocking thread {}", method, Thread.currentThread().getName(),
+                    new BlockingOperationError(blockingMethod));
+        }
+    }
+
+    /**
+     * @return The thread name without its trailing index, e.g. {@code reactor-http-nio} or {@code parallel}, to
+     * keep the tag bounded
+     */
+    private static String threadGroup() {
+        String name = Thread.currentThread().getName();
+        int end = name.length();
+        while (end > 0 && (Character.isDigit(name.charAt(end - 1)) || name.charAt(end - 1) == '-')) {
+            end--;
+        }
+        return end == 0 ? name : name.substring(0, end);
+    }
+}
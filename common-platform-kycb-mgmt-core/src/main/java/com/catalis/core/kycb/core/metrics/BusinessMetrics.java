@@ -0,0 +1,46 @@
+package com.catalis.core.kycb.core.metrics;
+
+import com.catalis.core.kycb.interfaces.enums.compliance.v1.CaseTypeEnum;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Names and tags of the business counters shared by several services.
+ */
+public final class BusinessMetrics {
+
+    public static final String SCREENINGS_CREATED = "kycb.screenings.created";
+    public static final String MATCHES_RESOLVED = "kycb.matches.resolved";
+    public static final String CASES_OPENED = "kycb.cases.opened";
+
+    public static final String TAG_RESULT = "result";
+    public static final String TAG_RESOLUTION = "resolution";
+    public static final String TAG_TYPE = "type";
+    public static final String TAG_SOURCE = "source";
+
+    public static final String SOURCE_API = "api";
+    public static final String SOURCE_DOCUMENT_EXPIRY = "document_expiry";
+    public static final String SOURCE_PERIODIC_REVIEW = "periodic_review";
+    public static final String SOURCE_TRANSACTION_MONITORING = "transaction_monitoring";
+
+    static final String NONE = "none";
+
+    private BusinessMetrics() {
+    }
+
+    /**
+     * Counts compliance cases opened by one source; nothing is registered for a zero count.
+     */
+    public static void casesOpened(MeterRegistry meterRegistry, CaseTypeEnum type, String source, long count) {
+        if (count > 0) {
+            meterRegistry.counter(CASES_OPENED, TAG_TYPE, tagValue(type), TAG_SOURCE, source)
+                    .increment(count);
+        }
+    }
+
+    /**
+     * @return The name of an enum value, or {@code none} so that a tag is never null
+     */
+    public static String tagValue(Enum<?> value) {
+        return value == null ? NONE : value.name();
+    }
+}
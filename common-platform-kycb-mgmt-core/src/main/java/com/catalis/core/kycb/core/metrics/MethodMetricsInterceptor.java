@@ -0,0 +1,164 @@
+package com.catalis.core.kycb.core.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.ReflectionUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every public method of one bean into {@value MethodMetricsPostProcessor#METRIC_INVOCATIONS}, tagged with
+ * the bean's layer and resource, the method and the outcome.
+ * <p>
+ * Reactive methods are timed from subscription to termination, so the timer measures the work rather than the
+ * assembly of the pipeline. A {@code Mono} that completes empty, a {@code Flux} that emits nothing, a null result
+ * or a 404 response is {@code not_found}; a {@code Mono<Void>} that completes is {@code found}. Timers are
+ * registered on first use of each method and outcome, so the hot path is a map lookup and two clock reads.
+ */
+final class MethodMetricsInterceptor implements MethodInterceptor {
+
+    static final String OUTCOME_FOUND = "found";
+    static final String OUTCOME_NOT_FOUND = "not_found";
+    static final String OUTCOME_ERROR = "error";
+
+    private static final int FOUND = 0;
+    private static final int NOT_FOUND = 1;
+    private static final int ERROR = 2;
+    private static final String[] OUTCOMES = {OUTCOME_FOUND, OUTCOME_NOT_FOUND, OUTCOME_ERROR};
+
+    private final String layer;
+    private final String resource;
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+    private final MethodMetricsProperties properties;
+    private final Map<Method, MethodTimers> timersByMethod = new ConcurrentHashMap<>();
+
+    private volatile MeterRegistry meterRegistry;
+
+    MethodMetricsInterceptor(String layer, String resource, ObjectProvider<MeterRegistry> meterRegistryProvider,
+                             MethodMetricsProperties properties) {
+        this.layer = layer;
+        this.resource = resource;
+        this.meterRegistryProvider = meterRegistryProvider;
+        this.properties = properties;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Method method = invocation.getMethod();
+        MeterRegistry registry = meterRegistry();
+        if (registry == null || ReflectionUtils.isObjectMethod(method)) {
+            return invocation.proceed();
+        }
+        MethodTimers timers = timersByMethod.get(method);
+        if (timers == null) {
+            timers = timersByMethod.computeIfAbsent(method, m -> new MethodTimers(registry, m));
+        }
+        long start = System.nanoTime();
+        Object result;
+        try {
+            result = invocation.proceed();
+        } catch (Throwable e) {
+            timers.record(ERROR, start);
+            throw e;
+        }
+        if (result instanceof Mono<?> mono) {
+            return time(mono, timers);
+        }
+        if (result instanceof Flux<?> flux) {
+            return time(flux, timers);
+        }
+        timers.record(method.getReturnType() == void.class ? FOUND : outcome(result), start);
+        return result;
+    }
+
+    String getLayer() {
+        return layer;
+    }
+
+    String getResource() {
+        return resource;
+    }
+
+    private static <T> Mono<T> time(Mono<T> mono, MethodTimers timers) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return mono
+                    .doOnSuccess(value -> timers.record(
+                            value == null && timers.emptyIsFound ? FOUND : outcome(value), start))
+                    .doOnError(e -> timers.record(ERROR, start));
+        });
+    }
+
+    private static <T> Flux<T> time(Flux<T> flux, MethodTimers timers) {
+        return Flux.defer(() -> {
+            long start = System.nanoTime();
+            boolean[] emitted = new boolean[1];
+            return flux
+                    .doOnNext(value -> emitted[0] = true)
+                    .doFinally(signal -> timers.record(signal == SignalType.ON_ERROR ? ERROR
+                            : emitted[0] || timers.emptyIsFound ? FOUND : NOT_FOUND, start));
+        });
+    }
+
+    private static int outcome(Object value) {
+        if (value == null) {
+            return NOT_FOUND;
+        }
+        if (value instanceof ResponseEntity<?> response && response.getStatusCode().value() == 404) {
+            return NOT_FOUND;
+        }
+        return FOUND;
+    }
+
+    private MeterRegistry meterRegistry() {
+        MeterRegistry registry = meterRegistry;
+        if (registry == null) {
+            registry = meterRegistryProvider.getIfAvailable();
+            meterRegistry = registry;
+        }
+        return registry;
+    }
+
+    private final class MethodTimers {
+        private final MeterRegistry registry;
+        private final String method;
+        private final boolean emptyIsFound;
+        private final Timer[] timers = new Timer[OUTCOMES.length];
+
+        private MethodTimers(MeterRegistry registry, Method method) {
+            this.registry = registry;
+            this.method = method.getName();
+            // Completing is the only successful outcome of a Mono<Void> or Flux<Void>
+            this.emptyIsFound = ResolvableType.forMethodReturnType(method).getGeneric(0).resolve() == Void.class;
+        }
+
+        private void record(int outcome, long start) {
+            Timer timer = timers[outcome];
+            if (timer == null) {
+                // Racing registrations resolve to the same meter
+                timer = Timer.builder(MethodMetricsPostProcessor.METRIC_INVOCATIONS)
+                        .tag(MethodMetricsPostProcessor.TAG_LAYER, layer)
+                        .tag(MethodMetricsPostProcessor.TAG_RESOURCE, resource)
+                        .tag(MethodMetricsPostProcessor.TAG_METHOD, method)
+                        .tag(MethodMetricsPostProcessor.TAG_OUTCOME, OUTCOMES[outcome])
+                        .publishPercentileHistogram(properties.isPercentileHistogram())
+                        .minimumExpectedValue(properties.getMinimumExpectedDuration())
+                        .maximumExpectedValue(properties.getMaximumExpectedDuration())
+                        .register(registry);
+                timers[outcome] = timer;
+            }
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.catalis.core.kycb.core.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.aopalliance.aop.Advice;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.BeanClassLoaderAware;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Wraps the application's controllers, {@code *ServiceImpl} services and repositories with a
+ * {@link MethodObservationInterceptor} and a {@link MethodMetricsInterceptor}, so that every call through them is
+ * traced and timed without touching their code.
+ * <p>
+ * Beans that are already proxies, such as transactional services and repositories, get the interceptors as their
+ * outermost advice; other beans get a class-based proxy. The resource tag is derived from the type name, e.g.
+ * {@code AmlScreeningServiceImpl} and {@code AmlScreeningRepository} both report {@code aml_screening}.
+ */
+@Component
+public class MethodMetricsPostProcessor implements BeanPostProcessor, BeanClassLoaderAware {
+
+    public static final String METRIC_INVOCATIONS = "kycb.method.invocations";
+    public static final String TAG_LAYER = "layer";
+    public static final String TAG_RESOURCE = "resource";
+    public static final String TAG_METHOD = "method";
+    public static final String TAG_OUTCOME = "outcome";
+
+    static final String LAYER_CONTROLLER = "controller";
+    static final String LAYER_SERVICE = "service";
+    static final String LAYER_REPOSITORY = "repository";
+
+    private static final String BASE_PACKAGE = "com.catalis.core.kycb.";
+    private static final String REPOSITORY_PACKAGE = "com.catalis.core.kycb.models.repositories.";
+
+    // Resolved lazily: looking the registry up while post-processors are created would skip its customizers
+    @Autowired
+    private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    @Autowired
+    private ObjectProvider<MethodMetricsProperties> propertiesProvider;
+
+    @Autowired
+    private ObjectProvider<ObservationRegistry> observationRegistryProvider;
+
+    @Autowired
+    private ObjectProvider<MethodTracingProperties> tracingPropertiesProvider;
+
+    private ClassLoader beanClassLoader = ClassUtils.getDefaultClassLoader();
+
+    @Override
+    public void setBeanClassLoader(ClassLoader classLoader) {
+        this.beanClassLoader = classLoader;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        String layer;
+        String resource;
+        Class<?> type;
+        Class<?> repositoryInterface = repositoryInterface(bean);
+        Class<?> targetClass = AopUtils.getTargetClass(bean);
+        if (repositoryInterface != null) {
+            layer = LAYER_REPOSITORY;
+            type = repositoryInterface;
+            resource = resourceName(repositoryInterface, "Repository");
+        } else if (!targetClass.getName().startsWith(BASE_PACKAGE)) {
+            return bean;
+        } else if (AnnotatedElementUtils.hasAnnotation(targetClass, RestController.class)) {
+            layer = LAYER_CONTROLLER;
+            type = targetClass;
+            resource = resourceName(targetClass, "Controller");
+        } else if (targetClass.getSimpleName().endsWith("ServiceImpl")) {
+            layer = LAYER_SERVICE;
+            type = targetClass;
+            resource = resourceName(targetClass, "ServiceImpl");
+        } else {
+            return bean;
+        }
+
+        // The observation goes first so that the timer runs inside the span
+        List<Advice> advices = new ArrayList<>(2);
+        if (tracingPropertiesProvider.getIfAvailable(MethodTracingProperties::new).isMethodSpansEnabled()) {
+            advices.add(new MethodObservationInterceptor(layer, resource, type.getSimpleName(),
+                    observationRegistryProvider));
+        }
+        MethodMetricsProperties properties = propertiesProvider.getIfAvailable(MethodMetricsProperties::new);
+        if (properties.isEnabled()) {
+            advices.add(new MethodMetricsInterceptor(layer, resource, meterRegistryProvider, properties));
+        }
+        if (advices.isEmpty()) {
+            return bean;
+        }
+        if (bean instanceof Advised advised && !advised.isFrozen()) {
+            for (int i = 0; i < advices.size(); i++) {
+                advised.addAdvice(i, advices.get(i));
+            }
+            return bean;
+        }
+        ProxyFactory proxyFactory = new ProxyFactory(bean);
+        if (Proxy.isProxyClass(bean.getClass())) {
+            proxyFactory.setInterfaces(ClassUtils.getAllInterfaces(bean));
+        } else {
+            proxyFactory.setProxyTargetClass(true);
+        }
+        advices.forEach(proxyFactory::addAdvice);
+        return proxyFactory.getProxy(beanClassLoader);
+    }
+
+    /**
+     * @return The application repository interface a bean implements, or null if it is not a repository
+     */
+    private static Class<?> repositoryInterface(Object bean) {
+        if (!Proxy.isProxyClass(bean.getClass())) {
+            return null;
+        }
+        for (Class<?> type : bean.getClass().getInterfaces()) {
+            if (type.getPackageName().startsWith(REPOSITORY_PACKAGE) && type.getSimpleName().endsWith("Repository")) {
+                return type;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Converts a type name without its suffix to snake case, e.g. {@code KycVerificationRepository} to
+     * {@code kyc_verification}.
+     */
+    static String resourceName(Class<?> type, String suffix) {
+        String name = type.getSimpleName();
+        if (name.endsWith(suffix) && name.length() > suffix.length()) {
+            name = name.substring(0, name.length() - suffix.length());
+        }
+        StringBuilder resource = new StringBuilder(name.length() + 4);
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (Character.isUpperCase(c) && i > 0) {
+                resource.append('_');
+            }
+            resource.append(Character.toLowerCase(c));
+        }
+        return resource.toString();
+    }
+}
@@ -0,0 +1,30 @@
+package com.catalis.core.kycb.core.metrics;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the automatic timing of controller, service and repository methods.
+ */
+@Data
+@ConfigurationProperties(prefix = "kycb.metrics")
+public class MethodMetricsProperties {
+
+    /**
+     * Whether controllers, services and repositories are wrapped with timing proxies. Read once at startup.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Whether the method timers publish percentile histograms for server-side quantile aggregation.
+     */
+    private boolean percentileHistogram = true;
+
+    /**
+     * Lower and upper bounds of the histogram buckets; narrowing them reduces the number of series per timer.
+     */
+    private Duration minimumExpectedDuration = Duration.ofMillis(1);
+    private Duration maximumExpectedDuration = Duration.ofSeconds(30);
+}
@@ -0,0 +1,124 @@
+package com.catalis.core.kycb.core.metrics;
+
+import io.micrometer.common.KeyValues;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.contextpropagation.ObservationThreadLocalAccessor;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.util.ReflectionUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Opens a {@value #OBSERVATION_NAME} observation around every public method of one bean, which the tracing bridge
+ * turns into a span named after the type and method, e.g. {@code KybVerificationServiceImpl.update}.
+ * <p>
+ * Reactive methods are observed from subscription to termination. The parent is the observation found in the
+ * subscriber's Reactor context, and the observation is written into the context of the wrapped publisher, so
+ * repository calls and R2DBC statements subscribed inside it become its children across thread hops.
+ */
+final class MethodObservationInterceptor implements MethodInterceptor {
+
+    static final String OBSERVATION_NAME = "kycb.method.span";
+
+    private final KeyValues keyValues;
+    private final String typeName;
+    private final ObjectProvider<ObservationRegistry> observationRegistryProvider;
+    private final Map<Method, String> contextualNames = new ConcurrentHashMap<>();
+
+    private volatile ObservationRegistry observationRegistry;
+
+    MethodObservationInterceptor(String layer, String resource, String typeName,
+                                 ObjectProvider<ObservationRegistry> observationRegistryProvider) {
+        this.keyValues = KeyValues.of(MethodMetricsPostProcessor.TAG_LAYER, layer,
+                MethodMetricsPostProcessor.TAG_RESOURCE, resource);
+        this.typeName = typeName;
+        this.observationRegistryProvider = observationRegistryProvider;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Method method = invocation.getMethod();
+        ObservationRegistry registry = observationRegistry();
+        if (registry == null || registry.isNoop() || ReflectionUtils.isObjectMethod(method)) {
+            return invocation.proceed();
+        }
+        String contextualName = contextualNames.get(method);
+        if (contextualName == null) {
+            contextualName = contextualNames.computeIfAbsent(method, m -> typeName + "." + m.getName());
+        }
+        Class<?> returnType = method.getReturnType();
+        if (Mono.class.isAssignableFrom(returnType) || Flux.class.isAssignableFrom(returnType)) {
+            Object result = invocation.proceed();
+            if (result instanceof Mono<?> mono) {
+                return observe(mono, registry, method, contextualName);
+            }
+            if (result instanceof Flux<?> flux) {
+                return observe(flux, registry, method, contextualName);
+            }
+            return result;
+        }
+        Observation observation = observation(registry, method, contextualName, registry.getCurrentObservation())
+                .start();
+        try (Observation.Scope scope = observation.openScope()) {
+            return invocation.proceed();
+        } catch (Throwable e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
+
+    private <T> Mono<T> observe(Mono<T> mono, ObservationRegistry registry, Method method, String contextualName) {
+        return Mono.deferContextual(context -> {
+            Observation observation = observation(registry, method, contextualName, parent(registry, context))
+                    .start();
+            return mono
+                    .doOnError(observation::error)
+                    .doFinally(signal -> observation.stop())
+                    .contextWrite(inner -> inner.put(ObservationThreadLocalAccessor.KEY, observation));
+        });
+    }
+
+    private <T> Flux<T> observe(Flux<T> flux, ObservationRegistry registry, Method method, String contextualName) {
+        return Flux.deferContextual(context -> {
+            Observation observation = observation(registry, method, contextualName, parent(registry, context))
+                    .start();
+            return flux
+                    .doOnError(observation::error)
+                    .doFinally(signal -> observation.stop())
+                    .contextWrite(inner -> inner.put(ObservationThreadLocalAccessor.KEY, observation));
+        });
+    }
+
+    private Observation observation(ObservationRegistry registry, Method method, String contextualName,
+                                    Observation parent) {
+        return Observation.createNotStarted(OBSERVATION_NAME, registry)
+                .contextualName(contextualName)
+                .lowCardinalityKeyValues(keyValues)
+                .lowCardinalityKeyValue(MethodMetricsPostProcessor.TAG_METHOD, method.getName())
+                .parentObservation(parent);
+    }
+
+    private static Observation parent(ObservationRegistry registry, ContextView context) {
+        Observation parent = context.getOrDefault(ObservationThreadLocalAccessor.KEY, null);
+        return parent != null ? parent : registry.getCurrentObservation();
+    }
+
+    private ObservationRegistry observationRegistry() {
+        ObservationRegistry registry = observationRegistry;
+        if (registry == null) {
+            registry = observationRegistryProvider.getIfAvailable();
+            observationRegistry = registry;
+        }
+        return registry;
+    }
+}
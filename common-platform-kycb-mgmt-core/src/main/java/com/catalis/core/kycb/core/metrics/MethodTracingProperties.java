@@ -0,0 +1,18 @@
+package com.catalis.core.kycb.core.metrics;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration of the spans opened around controller, service and repository methods. Exporting and sampling are
+ * configured under {@code management.tracing}.
+ */
+@Data
+@ConfigurationProperties(prefix = "kycb.tracing")
+public class MethodTracingProperties {
+
+    /**
+     * Whether controllers, services and repositories open a span per call. Read once at startup.
+     */
+    private boolean methodSpansEnabled = true;
+}
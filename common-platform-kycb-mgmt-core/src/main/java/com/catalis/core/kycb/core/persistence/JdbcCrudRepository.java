@@ -0,0 +1,221 @@
+package com.catalis.core.kycb.core.persistence;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.SqlParameterValue;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.lang.reflect.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * JDBC implementation of the CRUD methods of {@code ReactiveCrudRepository} and {@code BaseRepository} for one
+ * entity, mapped from the same {@code @Table}, {@code @Column} and auditing annotations that R2DBC uses.
+ * <p>
+ * Every call blocks a virtual thread of the given scheduler rather than an event-loop thread. Enums are bound as
+ * untyped strings so that PostgreSQL casts them to the column's enum type.
+ */
+public class JdbcCrudRepository<T> {
+
+    private final RelationalPersistentEntity<T> entity;
+    private final JdbcTemplate jdbcTemplate;
+    private final Scheduler scheduler;
+    private final RelationalPersistentProperty idProperty;
+    private final List<RelationalPersistentProperty> columns = new ArrayList<>();
+    private final RowMapper<T> rowMapper = this::mapRow;
+
+    private final String table;
+    private final String idColumn;
+    private final String insertSql;
+    private final String updateSql;
+    private final String selectSql;
+    private final String selectByIdSql;
+    private final String existsByIdSql;
+    private final String countSql;
+    private final String deleteByIdSql;
+
+    public JdbcCrudRepository(RelationalPersistentEntity<T> entity, JdbcTemplate jdbcTemplate, Scheduler scheduler) {
+        this.entity = entity;
+        this.jdbcTemplate = jdbcTemplate;
+        this.scheduler = scheduler;
+        this.idProperty = entity.getRequiredIdProperty();
+        entity.doWithProperties((RelationalPersistentProperty property) -> {
+            if (!property.isIdProperty() && property.isWritable()) {
+                columns.add(property);
+            }
+        });
+
+        this.table = entity.getTableName().getReference();
+        this.idColumn = idProperty.getColumnName().getReference();
+        StringJoiner insertColumns = new StringJoiner(", ");
+        StringJoiner insertValues = new StringJoiner(", ");
+        StringJoiner assignments = new StringJoiner(", ");
+        StringJoiner selectColumns = new StringJoiner(", ").add(idColumn);
+        for (RelationalPersistentProperty column : columns) {
+            String name = column.getColumnName().getReference();
+            insertColumns.add(name);
+            insertValues.add("?");
+            assignments.add(name + " = ?");
+            selectColumns.add(name);
+        }
+        this.insertSql = "INSERT INTO " + table + " (" + insertColumns + ") VALUES (" + insertValues + ") RETURNING "
+                + idColumn;
+        this.updateSql = "UPDATE " + table + " SET " + assignments + " WHERE " + idColumn + " = ?";
+        this.selectSql = "SELECT " + selectColumns + " FROM " + table;
+        this.selectByIdSql = selectSql + " WHERE " + idColumn + " = ?";
+        this.existsByIdSql = "SELECT EXISTS (SELECT 1 FROM " + table + " WHERE " + idColumn + " = ?)";
+        this.countSql = "SELECT COUNT(*) FROM " + table;
+        this.deleteByIdSql = "DELETE FROM " + table + " WHERE " + idColumn + " = ?";
+    }
+
+    public Class<T> getEntityType() {
+        return entity.getType();
+    }
+
+    public Mono<T> save(T bean) {
+        return Mono.fromCallable(() -> saveBlocking(bean)).subscribeOn(scheduler);
+    }
+
+    public Flux<T> saveAll(Iterable<T> beans) {
+        return Mono.fromCallable(() -> {
+                    List<T> saved = new ArrayList<>();
+                    for (T bean : beans) {
+                        saved.add(saveBlocking(bean));
+                    }
+                    return saved;
+                })
+                .subscribeOn(scheduler)
+                .flatMapIterable(saved -> saved);
+    }
+
+    public Mono<T> findById(Object id) {
+        return Mono.fromCallable(() -> {
+                    List<T> rows = jdbcTemplate.query(selectByIdSql, rowMapper, id);
+                    return rows.isEmpty() ? null : rows.get(0);
+                })
+                .subscribeOn(scheduler);
+    }
+
+    public Mono<Boolean> existsById(Object id) {
+        return Mono.fromCallable(() -> jdbcTemplate.queryForObject(existsByIdSql, Boolean.class, id))
+                .subscribeOn(scheduler);
+    }
+
+    public Flux<T> findAll() {
+        return query(selectSql);
+    }
+
+    public Flux<T> findAllById(Iterable<?> ids) {
+        List<Object> list = new ArrayList<>();
+        ids.forEach(list::add);
+        if (list.isEmpty()) {
+            return Flux.empty();
+        }
+        // A typed array such as Long[], which the driver binds as a PostgreSQL array
+        Object[] array = (Object[]) Array.newInstance(idProperty.getType(), list.size());
+        return query(selectSql + " WHERE " + idColumn + " = ANY(?)", (Object) list.toArray(array));
+    }
+
+    public Flux<T> findAllBy(Pageable pageable) {
+        StringBuilder sql = new StringBuilder(selectSql);
+        Sort sort = pageable.getSort();
+        if (sort.isSorted()) {
+            StringJoiner orderBy = new StringJoiner(", ", " ORDER BY ", "");
+            for (Sort.Order order : sort) {
+                orderBy.add(entity.getRequiredPersistentProperty(order.getProperty()).getColumnName().getReference()
+                        + (order.isAscending() ? " ASC" : " DESC"));
+            }
+            sql.append(orderBy);
+        }
+        if (pageable.isPaged()) {
+            sql.append(" LIMIT ").append(pageable.getPageSize()).append(" OFFSET ").append(pageable.getOffset());
+        }
+        return query(sql.toString());
+    }
+
+    public Mono<Long> count() {
+        return Mono.fromCallable(() -> jdbcTemplate.queryForObject(countSql, Long.class)).subscribeOn(scheduler);
+    }
+
+    public Mono<Void> deleteById(Object id) {
+        return Mono.fromRunnable(() -> jdbcTemplate.update(deleteByIdSql, id)).subscribeOn(scheduler).then();
+    }
+
+    public Mono<Void> delete(T bean) {
+        return deleteById(entity.getPropertyAccessor(bean).getProperty(idProperty));
+    }
+
+    private Flux<T> query(String sql, Object... args) {
+        return Mono.fromCallable(() -> jdbcTemplate.query(sql, rowMapper, args))
+                .subscribeOn(scheduler)
+                .flatMapIterable(rows -> rows);
+    }
+
+    private T saveBlocking(T bean) {
+        PersistentPropertyAccessor<T> accessor = entity.getPropertyAccessor(bean);
+        Object id = accessor.getProperty(idProperty);
+        LocalDateTime now = LocalDateTime.now();
+        for (RelationalPersistentProperty column : columns) {
+            // Same rules as R2DBC auditing: the creation date is kept, the update date also set on creation
+            if (column.isAnnotationPresent(LastModifiedDate.class)
+                    || (id == null && column.isAnnotationPresent(CreatedDate.class)
+                    && accessor.getProperty(column) == null)) {
+                accessor.setProperty(column, now);
+            }
+        }
+        Object[] values = new Object[id == null ? columns.size() : columns.size() + 1];
+        for (int i = 0; i < columns.size(); i++) {
+            values[i] = bind(accessor.getProperty(columns.get(i)));
+        }
+        if (id == null) {
+            accessor.setProperty(idProperty, jdbcTemplate.queryForObject(insertSql, idProperty.getType(), values));
+        } else {
+            values[columns.size()] = id;
+            if (jdbcTemplate.update(updateSql, values) == 0) {
+                throw new TransientDataAccessResourceException(
+                        "Failed to update table [" + table + "]; Row with Id [" + id + "] does not exist");
+            }
+        }
+        return accessor.getBean();
+    }
+
+    private T mapRow(ResultSet resultSet, int rowNum) throws SQLException {
+        T bean = BeanUtils.instantiateClass(entity.getType());
+        PersistentPropertyAccessor<T> accessor = entity.getPropertyAccessor(bean);
+        accessor.setProperty(idProperty, read(resultSet, idColumn, idProperty.getType()));
+        for (RelationalPersistentProperty column : columns) {
+            accessor.setProperty(column, read(resultSet, column.getColumnName().getReference(), column.getType()));
+        }
+        return accessor.getBean();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object read(ResultSet resultSet, String column, Class<?> type) throws SQLException {
+        if (type.isEnum()) {
+            String value = resultSet.getString(column);
+            return value == null ? null : Enum.valueOf((Class<? extends Enum>) type, value);
+        }
+        return resultSet.getObject(column, type);
+    }
+
+    private static Object bind(Object value) {
+        return value instanceof Enum<?> e ? new SqlParameterValue(Types.OTHER, e.name()) : value;
+    }
+}
@@ -0,0 +1,75 @@
+package com.catalis.core.kycb.core.persistence;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.r2dbc.mapping.R2dbcMappingContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Hikari pool and virtual-thread scheduler behind the JDBC side of the {@link PersistenceBenchmark}.
+ * <p>
+ * Nothing is opened until the first {@link JdbcCrudRepository} is requested. Entity metadata comes from the R2DBC
+ * mapping context, so both drivers map rows identically.
+ */
+@Slf4j
+public class JdbcPersistence {
+
+    @Autowired
+    private PersistenceProperties properties;
+
+    @Autowired
+    private R2dbcMappingContext mappingContext;
+
+    private final Map<Class<?>, JdbcCrudRepository<?>> repositories = new ConcurrentHashMap<>();
+
+    private HikariDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private ExecutorService executor;
+    private Scheduler scheduler;
+
+    @SuppressWarnings("unchecked")
+    public <T> JdbcCrudRepository<T> repository(Class<T> entityType) {
+        return (JdbcCrudRepository<T>) repositories.computeIfAbsent(entityType, type -> {
+            open();
+            return new JdbcCrudRepository<>(mappingContext.getRequiredPersistentEntity(type), jdbcTemplate, scheduler);
+        });
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (dataSource != null) {
+            scheduler.dispose();
+            executor.shutdown();
+            dataSource.close();
+            dataSource = null;
+            repositories.clear();
+        }
+    }
+
+    private synchronized void open() {
+        if (dataSource == null) {
+            HikariConfig config = new HikariConfig();
+            config.setPoolName("kycb-jdbc");
+            config.setJdbcUrl(properties.getJdbcUrl());
+            config.setUsername(properties.getUsername());
+            config.setPassword(properties.getPassword());
+            config.setMaximumPoolSize(properties.getMaximumPoolSize());
+            config.setConnectionTimeout(properties.getConnectionTimeout().toMillis());
+            dataSource = new HikariDataSource(config);
+            jdbcTemplate = new JdbcTemplate(dataSource);
+            executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("kycb-jdbc-", 0).factory());
+            scheduler = Schedulers.fromExecutorService(executor, "kycb-jdbc");
+            log.info("Opened JDBC pool of up to {} connections on virtual threads", properties.getMaximumPoolSize());
+        }
+    }
+}
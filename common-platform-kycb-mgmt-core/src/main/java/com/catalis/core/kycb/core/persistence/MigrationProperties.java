@@ -0,0 +1,31 @@
+package com.catalis.core.kycb.core.persistence;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration of how the application brings the database schema up to date at startup.
+ */
+@Data
+@ConfigurationProperties(prefix = "kycb.migration")
+public class MigrationProperties {
+
+    /**
+     * Whether every instance applies pending Flyway migrations at startup. When false, migrations are applied once
+     * per deploy by the {@code migrate} command and instances only check the schema version.
+     */
+    private boolean applyOnStartup = true;
+
+    /**
+     * Whether startup fails when the database is behind the newest migration of this build. Only applies when
+     * migrations are not applied on startup.
+     */
+    private boolean schemaCheckEnabled = true;
+
+    /**
+     * Maximum time to wait for the applied versions to be read.
+     */
+    private Duration schemaCheckTimeout = Duration.ofSeconds(10);
+}
@@ -0,0 +1,86 @@
+package com.catalis.core.kycb.core.persistence;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration of online column migrations, which change the type or content of a column of a large table without
+ * rewriting it under an exclusive lock.
+ */
+@Data
+@ConfigurationProperties(prefix = "kycb.online-migration")
+public class OnlineMigrationProperties {
+
+    /**
+     * Whether this node runs the configured migrations at startup. Enable it on one node; a second node would only
+     * repeat idempotent backfill chunks.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Number of primary keys covered by one backfill statement; each chunk commits on its own.
+     */
+    private int chunkSize = 1_000;
+
+    /**
+     * Pause between backfill chunks, which caps the write load the backfill adds to the table.
+     */
+    private Duration chunkDelay = Duration.ofMillis(100);
+
+    /**
+     * Maximum time a schema change waits for its table lock before failing, so that it never queues the table's
+     * traffic behind a long-running transaction.
+     */
+    private Duration lockTimeout = Duration.ofSeconds(2);
+
+    /**
+     * Whether a backfilled migration is cut over right away; otherwise it waits at {@code BACKFILLED} until this is
+     * turned on, e.g. once every node runs code that reads the new column type.
+     */
+    private boolean autoCutover = false;
+
+    /**
+     * Migrations to run, in order.
+     */
+    private List<Migration> migrations = new ArrayList<>();
+
+    @Data
+    public static class Migration {
+
+        /**
+         * Unique name, also used to name the trigger, its function and the not-null constraint.
+         */
+        private String name;
+
+        private String table;
+
+        /**
+         * Numeric primary key column the backfill walks in chunks.
+         */
+        private String keyColumn;
+
+        /**
+         * Column being replaced.
+         */
+        private String column;
+
+        /**
+         * SQL type of the new column, e.g. {@code NUMERIC(5,2)} or an enum type.
+         */
+        private String type;
+
+        /**
+         * SQL expression over the table's columns giving the new value of a row, e.g. {@code round(match_score, 2)}.
+         */
+        private String expression;
+
+        /**
+         * Whether the new column is {@code NOT NULL}.
+         */
+        private boolean notNull;
+    }
+}
@@ -0,0 +1,262 @@
+package com.catalis.core.kycb.core.persistence;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Runs the configured online column migrations, each through its phases: prepare (shadow column and trigger),
+ * backfill, verification and cutover. See {@link OnlineMigrationStatements} for the SQL of each phase.
+ * <p>
+ * The phase and the backfill position are kept in {@code online_migration}, so a migration resumes where it stopped
+ * after a restart. The backfill commits chunk by chunk with a pause between chunks and reports its progress in
+ * {@value #METRIC_PROGRESS} and {@value #METRIC_ROWS}. Schema changes run with a short lock timeout, so a change that
+ * cannot get its lock fails instead of holding up the table's traffic, and the cutover is retried.
+ */
+@Slf4j
+@Component
+public class OnlineMigrationRunner {
+
+    static final String METRIC_ROWS = "kycb.online.migration.rows";
+    static final String METRIC_PROGRESS = "kycb.online.migration.progress";
+    static final String TAG_MIGRATION = "migration";
+
+    private static final int CUTOVER_ATTEMPTS = 5;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private TransactionalOperator transactionalOperator;
+
+    @Autowired
+    private OnlineMigrationProperties properties;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Map<String, Progress> progress = new ConcurrentHashMap<>();
+
+    private Disposable runner;
+
+    @PostConstruct
+    public void start() {
+        if (!properties.isEnabled() || properties.getMigrations().isEmpty()) {
+            return;
+        }
+        runner = Flux.fromIterable(properties.getMigrations())
+                .concatMap(this::run)
+                .then()
+                .subscribe(null,
+                        e -> log.error("Online migration failed; it resumes from its last phase on the next start", e));
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (runner != null) {
+            runner.dispose();
+        }
+    }
+
+    /**
+     * Takes one migration as far as it can go: to {@code COMPLETED}, or to {@code BACKFILLED} when the cutover is
+     * not automatic.
+     *
+     * @return A Mono containing the phase reached
+     */
+    public Mono<OnlineMigrationStatusEnum> run(OnlineMigrationProperties.Migration migration) {
+        return Mono.defer(() -> advance(migration, new OnlineMigrationStatements(migration)));
+    }
+
+    private Mono<OnlineMigrationStatusEnum> advance(OnlineMigrationProperties.Migration migration,
+                                                    OnlineMigrationStatements statements) {
+        Mono<OnlineMigrationStatusEnum> next = Mono.defer(() -> advance(migration, statements));
+        return state(migration.getName())
+                .flatMap(state -> switch (state.status()) {
+                    case PREPARED -> backfill(migration, statements, state)
+                            .then(verify(migration, statements))
+                            .then(next);
+                    case BACKFILLED -> properties.isAutoCutover()
+                            ? cutover(migration, statements).then(next)
+                            : Mono.just(OnlineMigrationStatusEnum.BACKFILLED);
+                    case COMPLETED -> Mono.just(OnlineMigrationStatusEnum.COMPLETED);
+                })
+                .switchIfEmpty(Mono.defer(() -> prepare(migration, statements).then(next)));
+    }
+
+    private Mono<Void> prepare(OnlineMigrationProperties.Migration migration, OnlineMigrationStatements statements) {
+        log.info("Online migration {}: adding the shadow column and trigger on {}", migration.getName(),
+                migration.getTable());
+        return execute(statements.prepare())
+                .then(recordPrepared(migration, statements))
+                .as(this::withLockTimeout);
+    }
+
+    /**
+     * Records the migration as prepared, with the highest key read in the transaction that created the trigger.
+     * The trigger's lock waits for the table's open writes, and later writes wait for the commit, so every row above
+     * max_key is written with the trigger in place.
+     */
+    Mono<Void> recordPrepared(OnlineMigrationProperties.Migration migration, OnlineMigrationStatements statements) {
+        return databaseClient.sql("INSERT INTO online_migration (name, table_name, column_name, status, max_key) "
+                        + "VALUES (:name, :table, :column, :status, (" + statements.maxKey() + ")) "
+                        + "ON CONFLICT (name) DO NOTHING")
+                .bind("name", migration.getName())
+                .bind("table", migration.getTable())
+                .bind("column", migration.getColumn())
+                .bind("status", OnlineMigrationStatusEnum.PREPARED.name())
+                .then();
+    }
+
+    private Mono<Void> backfill(OnlineMigrationProperties.Migration migration, OnlineMigrationStatements statements,
+                                State state) {
+        String name = migration.getName();
+        long maxKey = state.maxKey();
+        int chunkSize = properties.getChunkSize();
+        Counter rows = meterRegistry.counter(METRIC_ROWS, TAG_MIGRATION, name);
+        Progress position = progress(name);
+        position.maxKey = maxKey;
+        position.lastKey = state.lastKey();
+        log.info("Online migration {}: backfilling keys {} to {} of {}", name, state.lastKey(), maxKey,
+                migration.getTable());
+        return Mono.just(state.lastKey())
+                .expand(from -> {
+                    if (from >= maxKey) {
+                        return Mono.empty();
+                    }
+                    return Mono.delay(properties.getChunkDelay())
+                            .then(backfillChunk(name, statements, from, Math.min(from + chunkSize, maxKey), rows))
+                            .doOnNext(to -> position.lastKey = to);
+                })
+                .then();
+    }
+
+    Mono<Long> backfillChunk(String name, OnlineMigrationStatements statements, long from, long to, Counter rows) {
+        return databaseClient.sql(statements.backfillChunk())
+                .bind("from", from)
+                .bind("to", to)
+                .fetch()
+                .rowsUpdated()
+                .flatMap(updated -> databaseClient.sql("UPDATE online_migration SET last_key = :to, "
+                                + "rows_backfilled = rows_backfilled + :updated, date_updated = now() "
+                                + "WHERE name = :name")
+                        .bind("to", to)
+                        .bind("updated", updated)
+                        .bind("name", name)
+                        .then()
+                        .doOnSuccess(v -> rows.increment(updated)))
+                .thenReturn(to);
+    }
+
+    private Mono<Void> verify(OnlineMigrationProperties.Migration migration, OnlineMigrationStatements statements) {
+        String name = migration.getName();
+        return execute(statements.addNotNull())
+                .as(this::withLockTimeout)
+                .then(execute(statements.validateNotNull()))
+                .then(countMismatches(statements))
+                .flatMap(mismatches -> {
+                    if (mismatches > 0) {
+                        return Mono.error(new IllegalStateException("Online migration " + name + ": " + mismatches
+                                + " rows of " + migration.getTable() + " differ from their converted value"));
+                    }
+                    log.info("Online migration {}: backfill verified", name);
+                    return updateStatus(name, OnlineMigrationStatusEnum.PREPARED, OnlineMigrationStatusEnum.BACKFILLED)
+                            .then();
+                });
+    }
+
+    private Mono<Void> cutover(OnlineMigrationProperties.Migration migration, OnlineMigrationStatements statements) {
+        String name = migration.getName();
+        // The status update locks the migration's row, so a concurrent cutover finds it completed and stops
+        return updateStatus(name, OnlineMigrationStatusEnum.BACKFILLED, OnlineMigrationStatusEnum.COMPLETED)
+                .flatMap(updated -> updated == 0 ? Mono.empty() : execute(statements.cutover()))
+                .as(this::withLockTimeout)
+                .retryWhen(Retry.backoff(CUTOVER_ATTEMPTS - 1, Duration.ofSeconds(1)))
+                .doOnSuccess(v -> log.info("Online migration {}: {}.{} cut over", name, migration.getTable(),
+                        migration.getColumn()));
+    }
+
+    Mono<Long> countMismatches(OnlineMigrationStatements statements) {
+        return databaseClient.sql(statements.countMismatches())
+                .map(row -> row.get(0, Long.class))
+                .one();
+    }
+
+    Mono<State> state(String name) {
+        return databaseClient.sql("SELECT status, last_key, max_key FROM online_migration WHERE name = :name")
+                .bind("name", name)
+                .map(row -> new State(
+                        OnlineMigrationStatusEnum.valueOf(row.get("status", String.class)),
+                        row.get("last_key", Long.class),
+                        row.get("max_key", Long.class)))
+                .one();
+    }
+
+    Mono<Long> updateStatus(String name, OnlineMigrationStatusEnum from, OnlineMigrationStatusEnum to) {
+        return databaseClient.sql("UPDATE online_migration SET status = :to, date_updated = now() "
+                        + "WHERE name = :name AND status = :from")
+                .bind("to", to.name())
+                .bind("name", name)
+                .bind("from", from.name())
+                .fetch()
+                .rowsUpdated();
+    }
+
+    Mono<Void> execute(List<String> statements) {
+        return Flux.fromIterable(statements)
+                .concatMap(sql -> databaseClient.sql(sql).then())
+                .then();
+    }
+
+    /**
+     * Runs the given work in one transaction that gives up on any lock it cannot get within the lock timeout.
+     */
+    private <T> Mono<T> withLockTimeout(Mono<T> work) {
+        return execute(List.of(OnlineMigrationStatements.lockTimeout(properties.getLockTimeout())))
+                .then(work)
+                .as(transactionalOperator::transactional);
+    }
+
+    private Progress progress(String name) {
+        return progress.computeIfAbsent(name, n -> {
+            Progress position = new Progress();
+            Gauge.builder(METRIC_PROGRESS, position, Progress::ratio)
+                    .description("Share of the existing rows backfilled by an online migration")
+                    .tag(TAG_MIGRATION, n)
+                    .register(meterRegistry);
+            return position;
+        });
+    }
+
+    record State(OnlineMigrationStatusEnum status, long lastKey, long maxKey) {
+    }
+
+    /**
+     * Backfill position of one migration, read by its progress gauge.
+     */
+    private static final class Progress {
+
+        private volatile long lastKey;
+        private volatile long maxKey;
+
+        double ratio() {
+            return maxKey == 0 ? 1.0 : Math.min(1.0, (double) lastKey / maxKey);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.catalis.core.kycb.core.persistence;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * SQL of each phase of one online column migration.
+ * <p>
+ * The new values are written to a shadow column, {@code <column>_online}, which a {@code BEFORE INSERT OR UPDATE}
+ * trigger keeps current for every write while the backfill converts the existing rows in primary key chunks. The
+ * cutover then swaps the shadow column in for the original one; dropping and renaming columns only changes the
+ * catalog, so the exclusive lock it takes is held for milliseconds rather than for a table rewrite.
+ */
+final class OnlineMigrationStatements {
+
+    private static final Pattern IDENTIFIER = Pattern.compile("[a-z_][a-z0-9_]*");
+    private static final int MAX_IDENTIFIER_LENGTH = 63;
+
+    private final String table;
+    private final String keyColumn;
+    private final String column;
+    private final String shadowColumn;
+    private final String function;
+    private final String constraint;
+    private final String type;
+    private final String expression;
+    private final boolean notNull;
+
+    OnlineMigrationStatements(OnlineMigrationProperties.Migration migration) {
+        this.table = identifier(migration.getTable());
+        this.keyColumn = identifier(migration.getKeyColumn());
+        this.column = identifier(migration.getColumn());
+        this.shadowColumn = identifier(column + "_online");
+        this.function = identifier("online_migration_" + identifier(migration.getName()));
+        this.constraint = identifier(function + "_not_null");
+        this.type = required(migration.getType(), "type");
+        this.expression = "(" + required(migration.getExpression(), "expression") + ")";
+        this.notNull = migration.isNotNull();
+    }
+
+    static String lockTimeout(Duration lockTimeout) {
+        return "SET LOCAL lock_timeout = '" + lockTimeout.toMillis() + "ms'";
+    }
+
+    /**
+     * Adds the shadow column, which is nullable and has no default so that adding it does not rewrite the table,
+     * and the trigger that fills it.
+     */
+    List<String> prepare() {
+        return List.of(
+                "ALTER TABLE " + table + " ADD COLUMN IF NOT EXISTS " + shadowColumn + " " + type,
+                "CREATE OR REPLACE FUNCTION " + function + "() RETURNS trigger LANGUAGE plpgsql AS $$ BEGIN "
+                        + "NEW." + shadowColumn + " = (SELECT " + expression + " FROM (SELECT (NEW).*) AS new_row); "
+                        + "RETURN NEW; END $$",
+                "DROP TRIGGER IF EXISTS " + function + " ON " + table,
+                "CREATE TRIGGER " + function + " BEFORE INSERT OR UPDATE ON " + table
+                        + " FOR EACH ROW EXECUTE FUNCTION " + function + "()");
+    }
+
+    /**
+     * The highest key when the trigger was created; rows inserted later are converted by the trigger.
+     */
+    String maxKey() {
+        return "SELECT coalesce(max(" + keyColumn + "), 0) FROM " + table;
+    }
+
+    /**
+     * Converts the rows with a key in {@code (:from, :to]}.
+     */
+    String backfillChunk() {
+        return "UPDATE " + table + " SET " + shadowColumn + " = " + expression
+                + " WHERE " + keyColumn + " > :from AND " + keyColumn + " <= :to";
+    }
+
+    String countMismatches() {
+        return "SELECT count(*) FROM " + table + " WHERE " + shadowColumn + " IS DISTINCT FROM " + expression;
+    }
+
+    /**
+     * Adds the not-null check without scanning the table; {@link #validateNotNull()} scans it without blocking
+     * writes, and lets the cutover set {@code NOT NULL} without another scan.
+     */
+    List<String> addNotNull() {
+        if (!notNull) {
+            return List.of();
+        }
+        return List.of("ALTER TABLE " + table + " DROP CONSTRAINT IF EXISTS " + constraint + ", ADD CONSTRAINT "
+                + constraint + " CHECK (" + shadowColumn + " IS NOT NULL) NOT VALID");
+    }
+
+    List<String> validateNotNull() {
+        if (!notNull) {
+            return List.of();
+        }
+        return List.of("ALTER TABLE " + table + " VALIDATE CONSTRAINT " + constraint);
+    }
+
+    /**
+     * Replaces the original column with the shadow column. Indexes and constraints on the original column are
+     * dropped with it, so create their equivalents on the shadow column before the cutover.
+     */
+    List<String> cutover() {
+        List<String> statements = new ArrayList<>();
+        statements.add("DROP TRIGGER IF EXISTS " + function + " ON " + table);
+        statements.add("DROP FUNCTION IF EXISTS " + function + "()");
+        if (notNull) {
+            statements.add("ALTER TABLE " + table + " ALTER COLUMN " + shadowColumn + " SET NOT NULL");
+            statements.add("ALTER TABLE " + table + " DROP CONSTRAINT IF EXISTS " + constraint);
+        }
+        statements.add("ALTER TABLE " + table + " DROP COLUMN " + column);
+        statements.add("ALTER TABLE " + table + " RENAME COLUMN " + shadowColumn + " TO " + column);
+        return statements;
+    }
+
+    private static String identifier(String name) {
+        if (name == null || name.length() > MAX_IDENTIFIER_LENGTH || !IDENTIFIER.matcher(name).matches()) {
+            throw new IllegalArgumentException("Invalid identifier for an online migration: " + name);
+        }
+        return name;
+    }
+
+    private static String required(String value, String property) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Online migrations need a " + property);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,23 @@
+package com.catalis.core.kycb.core.persistence;
+
+/**
+ * Phases of an online column migration, in order.
+ */
+public enum OnlineMigrationStatusEnum {
+
+    /**
+     * The shadow column and the trigger that fills it on every insert and update are in place; existing rows are
+     * being backfilled.
+     */
+    PREPARED,
+
+    /**
+     * Every row has its shadow column filled and verified; waiting for the cutover.
+     */
+    BACKFILLED,
+
+    /**
+     * The shadow column has replaced the original column.
+     */
+    COMPLETED
+}
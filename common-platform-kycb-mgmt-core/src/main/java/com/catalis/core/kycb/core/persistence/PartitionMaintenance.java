@@ -0,0 +1,172 @@
+package com.catalis.core.kycb.core.persistence;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Keeps the monthly partitions of {@code aml_screening} (by screening date) and {@code aml_match} (by creation date)
+ * in shape on every run: the months from the newest partition up to the configured months ahead get a partition,
+ * and, when archiving is on, partitions wholly older than the retention are detached and moved to the archive
+ * schema.
+ * <p>
+ * Partitions are detached {@code CONCURRENTLY}, so the live table stays readable and writable meanwhile. Nodes need
+ * no coordination: creation is idempotent, and a detach that loses a race with another node fails and is logged.
+ */
+@Slf4j
+@Component
+public class PartitionMaintenance {
+
+    static final List<String> PARTITIONED_TABLES = List.of("aml_screening", "aml_match");
+
+    private static final Pattern UPPER_BOUND = Pattern.compile("TO \\('([^']+)'\\)");
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("'_p'yyyy_MM");
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private PartitionProperties properties;
+
+    private Disposable maintainer;
+
+    @PostConstruct
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        maintainer = Flux.interval(Duration.ZERO, properties.getInterval())
+                .onBackpressureDrop()
+                .concatMap(tick -> runOnce(LocalDate.now())
+                        .onErrorResume(e -> {
+                            log.error("Partition maintenance failed", e);
+                            return Mono.empty();
+                        }), 1)
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (maintainer != null) {
+            maintainer.dispose();
+        }
+    }
+
+    public Mono<Void> runOnce(LocalDate today) {
+        return Flux.fromIterable(PARTITIONED_TABLES)
+                .concatMap(table -> partitions(table)
+                        .collectList()
+                        .flatMap(partitions -> create(table, monthsToCreate(partitions, today,
+                                properties.getPremakeMonths()))
+                                .then(properties.isArchiveEnabled()
+                                        ? archive(table, partitionsToArchive(partitions, today,
+                                        properties.getArchiveAfterMonths()))
+                                        : Mono.empty())))
+                .then();
+    }
+
+    /**
+     * @return The first day of each month without a partition, from the end of the newest partition to the
+     * configured months ahead; none when the table has no partitions, i.e. is not partitioned
+     */
+    static List<LocalDate> monthsToCreate(List<Partition> partitions, LocalDate today, int premakeMonths) {
+        LocalDateTime covered = partitions.stream()
+                .map(Partition::upperBound)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElse(null);
+        List<LocalDate> months = new ArrayList<>();
+        if (covered == null) {
+            return months;
+        }
+        LocalDate month = covered.toLocalDate().withDayOfMonth(1);
+        if (month.atStartOfDay().isBefore(covered)) {
+            month = month.plusMonths(1);
+        }
+        LocalDate end = today.withDayOfMonth(1).plusMonths(premakeMonths + 1L);
+        for (; month.isBefore(end); month = month.plusMonths(1)) {
+            months.add(month);
+        }
+        return months;
+    }
+
+    /**
+     * @return The partitions whose whole range lies before the retained months
+     */
+    static List<Partition> partitionsToArchive(List<Partition> partitions, LocalDate today, int archiveAfterMonths) {
+        LocalDateTime cutoff = today.withDayOfMonth(1).minusMonths(archiveAfterMonths).atStartOfDay();
+        return partitions.stream()
+                .filter(partition -> partition.upperBound() != null && !partition.upperBound().isAfter(cutoff))
+                .toList();
+    }
+
+    /**
+     * @param bound A partition bound as printed by {@code pg_get_expr}, e.g.
+     *              {@code FOR VALUES FROM (MINVALUE) TO ('2026-11-01 00:00:00')}
+     * @return The exclusive upper bound, or null for {@code MAXVALUE}
+     */
+    static LocalDateTime upperBound(String bound) {
+        Matcher matcher = UPPER_BOUND.matcher(bound);
+        return matcher.find() ? LocalDateTime.parse(matcher.group(1).replace(' ', 'T')) : null;
+    }
+
+    private Flux<Partition> partitions(String table) {
+        return databaseClient.sql("SELECT c.relname AS name, pg_get_expr(c.relpartbound, c.oid) AS bound "
+                        + "FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid "
+                        + "WHERE i.inhparent = CAST(:table AS regclass)")
+                .bind("table", table)
+                .map(row -> new Partition(row.get("name", String.class), upperBound(row.get("bound", String.class))))
+                .all();
+    }
+
+    private Mono<Void> create(String table, List<LocalDate> months) {
+        return Flux.fromIterable(months)
+                .concatMap(month -> {
+                    String partition = table + PARTITION_SUFFIX.format(month);
+                    return databaseClient.sql("CREATE TABLE IF NOT EXISTS " + partition + " PARTITION OF " + table
+                                    + " FOR VALUES FROM ('" + month + "') TO ('" + month.plusMonths(1) + "')")
+                            .then()
+                            .doOnSuccess(v -> log.info("Created partition {} of {}", partition, table));
+                })
+                .then();
+    }
+
+    private Mono<Void> archive(String table, List<Partition> partitions) {
+        String schema = properties.getArchiveSchema();
+        return Flux.fromIterable(partitions)
+                .concatMap(partition -> databaseClient
+                        .sql("ALTER TABLE " + table + " DETACH PARTITION " + partition.name() + " CONCURRENTLY")
+                        .then()
+                        .then(databaseClient.sql("ALTER TABLE " + partition.name() + " SET SCHEMA " + schema).then())
+                        .doOnSuccess(v -> log.info("Archived partition {} of {} to {}", partition.name(), table,
+                                schema))
+                        .onErrorResume(e -> {
+                            log.warn("Could not archive partition {} of {}", partition.name(), table, e);
+                            return Mono.empty();
+                        }))
+                .then();
+    }
+
+    /**
+     * @param upperBound Exclusive upper bound of the partition's range; null for {@code MAXVALUE}
+     */
+    record Partition(String name, LocalDateTime upperBound) {
+    }
+}
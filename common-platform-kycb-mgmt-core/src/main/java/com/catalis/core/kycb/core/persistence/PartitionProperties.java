@@ -0,0 +1,46 @@
+package com.catalis.core.kycb.core.persistence;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the maintenance of the monthly partitions of {@code aml_screening} and {@code aml_match}.
+ */
+@Data
+@ConfigurationProperties(prefix = "kycb.partitions")
+public class PartitionProperties {
+
+    /**
+     * Whether this node creates partitions ahead and archives old ones. Inserts fail once no partition covers their
+     * date, so keep it on for at least one node.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Time between maintenance runs; the first runs at startup.
+     */
+    private Duration interval = Duration.ofHours(1);
+
+    /**
+     * Number of months after the current one that always have a partition.
+     */
+    private int premakeMonths = 3;
+
+    /**
+     * Whether partitions past the retention are detached and moved to the archive schema, where they can still be
+     * queried but no longer slow down queries on the live tables.
+     */
+    private boolean archiveEnabled = false;
+
+    /**
+     * Number of whole months before the current one that stay in the live tables.
+     */
+    private int archiveAfterMonths = 24;
+
+    /**
+     * Schema archived partitions are moved to.
+     */
+    private String archiveSchema = "kycb_archive";
+}
@@ -0,0 +1,154 @@
+package com.catalis.core.kycb.core.persistence;
+
+import com.catalis.core.kycb.models.entities.economic.v1.EconomicActivity;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+import static org.springframework.data.relational.core.query.Criteria.where;
+import static org.springframework.data.relational.core.query.Query.query;
+
+/**
+ * Runs the same CRUD workload through R2DBC and through JDBC on virtual threads, one driver after the other, and
+ * logs throughput, latency percentiles and heap and GC figures for each.
+ * <p>
+ * An operation inserts an economic activity, reads it back by id, updates it and deletes it, so the benchmark
+ * leaves no rows behind. Both drivers run in the same process against the same database, with the same number of
+ * operations in flight.
+ * <p>
+ * Not part of the application context: it writes to the database it points at, so it only runs as the separate
+ * {@code benchmark-persistence} command, preferably against a database of its own.
+ */
+@Slf4j
+public class PersistenceBenchmark {
+
+    static final String BENCHMARK_ACTIVITY_CODE = "BENCHMARK";
+
+    @Autowired
+    private PersistenceBenchmarkProperties properties;
+
+    @Autowired
+    private R2dbcEntityTemplate r2dbcEntityTemplate;
+
+    @Autowired
+    private JdbcPersistence jdbcPersistence;
+
+    public Mono<List<PersistenceBenchmarkResult>> run() {
+        JdbcCrudRepository<EconomicActivity> jdbc = jdbcPersistence.repository(EconomicActivity.class);
+        Workload r2dbcWorkload = new Workload(
+                r2dbcEntityTemplate::insert,
+                id -> r2dbcEntityTemplate.selectOne(
+                        query(where("economicActivityId").is(id)), EconomicActivity.class),
+                r2dbcEntityTemplate::update,
+                activity -> r2dbcEntityTemplate.delete(activity).then());
+        Workload jdbcWorkload = new Workload(jdbc::save, jdbc::findById, jdbc::save, jdbc::delete);
+        return Flux.concat(
+                        measure("R2DBC", r2dbcWorkload),
+                        measure("JDBC", jdbcWorkload))
+                .doOnNext(PersistenceBenchmark::report)
+                .collectList();
+    }
+
+    private Mono<PersistenceBenchmarkResult> measure(String driver, Workload workload) {
+        int operations = properties.getOperations();
+        int concurrency = properties.getConcurrency();
+        return Flux.range(0, properties.getWarmupOperations())
+                .flatMap(i -> workload.operation(), concurrency)
+                .then(Mono.defer(() -> {
+                    AtomicLongArray latencies = new AtomicLongArray(operations);
+                    long heapUsedBefore = heapUsed();
+                    long gcCountBefore = gcCount();
+                    long gcMillisBefore = gcMillis();
+                    long start = System.nanoTime();
+                    return Flux.range(0, operations)
+                            .flatMap(i -> {
+                                long operationStart = System.nanoTime();
+                                return workload.operation()
+                                        .doOnSuccess(v -> latencies.set(i, System.nanoTime() - operationStart));
+                            }, concurrency)
+                            .then(Mono.fromCallable(() -> {
+                                long elapsed = System.nanoTime() - start;
+                                long[] sorted = new long[operations];
+                                for (int i = 0; i < operations; i++) {
+                                    sorted[i] = latencies.get(i);
+                                }
+                                return PersistenceBenchmarkResult.of(driver, concurrency, sorted, elapsed,
+                                        heapUsed() - heapUsedBefore, gcCount() - gcCountBefore,
+                                        gcMillis() - gcMillisBefore);
+                            }));
+                }));
+    }
+
+    private static void report(PersistenceBenchmarkResult result) {
+        log.info("Persistence benchmark {}: {} operations at concurrency {}: {} ops/s, "
+                        + "latency p50 {} ms, p95 {} ms, p99 {} ms, max {} ms, heap {} MB, {} GCs in {} ms",
+                result.driver(), result.operations(), result.concurrency(), Math.round(result.operationsPerSecond()),
+                millis(result.p50Millis()), millis(result.p95Millis()), millis(result.p99Millis()),
+                millis(result.maxMillis()), result.heapUsedDelta() / (1024 * 1024), result.gcCount(),
+                result.gcMillis());
+    }
+
+    /**
+     * @return The latency rounded to hundredths of a millisecond, for logging
+     */
+    private static double millis(double millis) {
+        return Math.round(millis * 100) / 100.0;
+    }
+
+    private static long heapUsed() {
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private static long gcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(collector.getCollectionCount(), 0);
+        }
+        return count;
+    }
+
+    private static long gcMillis() {
+        long millis = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            millis += Math.max(collector.getCollectionTime(), 0);
+        }
+        return millis;
+    }
+
+    /**
+     * The four CRUD steps of an operation, bound to one driver.
+     */
+    private record Workload(
+            Function<EconomicActivity, Mono<EconomicActivity>> insert,
+            Function<Long, Mono<EconomicActivity>> findById,
+            Function<EconomicActivity, Mono<EconomicActivity>> update,
+            Function<EconomicActivity, Mono<Void>> delete
+    ) {
+
+        Mono<Void> operation() {
+            EconomicActivity activity = EconomicActivity.builder()
+                    .partyId(0L)
+                    .activityCode(BENCHMARK_ACTIVITY_CODE)
+                    .isPrimary(false)
+                    .build();
+            activity.setDateCreated(LocalDateTime.now());
+            return insert.apply(activity)
+                    .flatMap(inserted -> findById.apply(inserted.getEconomicActivityId()))
+                    .flatMap(found -> {
+                        found.setActivityDetails("Updated by the persistence benchmark");
+                        found.setDateUpdated(LocalDateTime.now());
+                        return update.apply(found);
+                    })
+                    .flatMap(delete);
+        }
+    }
+}
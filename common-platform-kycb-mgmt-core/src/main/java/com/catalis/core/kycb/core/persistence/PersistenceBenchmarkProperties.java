@@ -0,0 +1,27 @@
+package com.catalis.core.kycb.core.persistence;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration of the benchmark that runs the same CRUD workload through R2DBC and JDBC.
+ */
+@Data
+@ConfigurationProperties(prefix = "kycb.persistence.benchmark")
+public class PersistenceBenchmarkProperties {
+
+    /**
+     * Number of measured operations per driver; each operation inserts, reads, updates and deletes one row.
+     */
+    private int operations = 10_000;
+
+    /**
+     * Number of unmeasured operations run per driver before measuring, to warm up pools and the JIT.
+     */
+    private int warmupOperations = 1_000;
+
+    /**
+     * Number of operations in flight at a time.
+     */
+    private int concurrency = 64;
+}
@@ -0,0 +1,51 @@
+package com.catalis.core.kycb.core.persistence;
+
+import java.util.Arrays;
+
+/**
+ * Outcome of one driver's run of the persistence benchmark.
+ *
+ * @param heapUsedDelta Change of the used heap over the run, in bytes; negative when a collection freed more
+ */
+public record PersistenceBenchmarkResult(
+        String driver,
+        int operations,
+        int concurrency,
+        double operationsPerSecond,
+        double p50Millis,
+        double p95Millis,
+        double p99Millis,
+        double maxMillis,
+        long heapUsedDelta,
+        long gcCount,
+        long gcMillis
+) {
+
+    /**
+     * @param latencies The latency of each operation in nanoseconds; sorted in place
+     */
+    static PersistenceBenchmarkResult of(String driver, int concurrency, long[] latencies, long elapsedNanos,
+                                         long heapUsedDelta, long gcCount, long gcMillis) {
+        Arrays.sort(latencies);
+        return new PersistenceBenchmarkResult(
+                driver,
+                latencies.length,
+                concurrency,
+                latencies.length * 1e9 / elapsedNanos,
+                percentile(latencies, 0.50),
+                percentile(latencies, 0.95),
+                percentile(latencies, 0.99),
+                latencies.length == 0 ? 0 : latencies[latencies.length - 1] / 1e6,
+                heapUsedDelta,
+                gcCount,
+                gcMillis);
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1e6;
+    }
+}
@@ -0,0 +1,32 @@
+package com.catalis.core.kycb.core.persistence;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the JDBC pool the persistence benchmark compares with R2DBC. The application itself only uses
+ * R2DBC, whose transactions JDBC statements could not join.
+ */
+@Data
+@ConfigurationProperties(prefix = "kycb.persistence")
+public class PersistenceProperties {
+
+    /**
+     * JDBC URL, user and password of the Hikari pool, opened by the benchmark.
+     */
+    private String jdbcUrl;
+    private String username;
+    private String password;
+
+    /**
+     * Maximum number of JDBC connections. Calls run on virtual threads, so this bounds the database concurrency.
+     */
+    private int maximumPoolSize = 20;
+
+    /**
+     * How long a call waits for a free JDBC connection before failing.
+     */
+    private Duration connectionTimeout = Duration.ofSeconds(30);
+}
@@ -0,0 +1,106 @@
+package com.catalis.core.kycb.core.persistence;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.MigrationVersion;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Checks at startup that the database has every versioned migration of this build applied, when migrations are
+ * applied once per deploy by the {@code migrate} command rather than by every instance.
+ * <p>
+ * The check reads the successful versions from the Flyway history table over R2DBC and compares the highest with
+ * the highest {@code V<version>__*.sql} script on the classpath, so serving instances neither open a JDBC
+ * connection nor wait for the migration lock. A database ahead of the build is accepted, as during a rolling
+ * deploy of a newer version; a database behind it fails startup.
+ */
+@Slf4j
+@Component
+public class SchemaVersionCheck {
+
+    private static final String DEFAULT_LOCATION = "classpath:db/migration";
+    private static final String DEFAULT_TABLE = "flyway_schema_history";
+    private static final Pattern VERSIONED_MIGRATION = Pattern.compile("V(.+?)__.+\\.sql");
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private MigrationProperties properties;
+
+    @Autowired
+    private Environment environment;
+
+    @PostConstruct
+    public void verify() {
+        if (properties.isApplyOnStartup() || !properties.isSchemaCheckEnabled()) {
+            return;
+        }
+        MigrationVersion expected = latestVersion(bundledMigrations());
+        String table = environment.getProperty("spring.flyway.table", DEFAULT_TABLE);
+        MigrationVersion applied = databaseClient
+                .sql("SELECT version FROM " + table + " WHERE success AND version IS NOT NULL")
+                .map(row -> row.get("version", String.class))
+                .all()
+                .map(MigrationVersion::fromVersion)
+                .reduce(MigrationVersion.EMPTY, SchemaVersionCheck::max)
+                .onErrorMap(e -> new IllegalStateException(
+                        "Could not read the applied schema version from " + table, e))
+                .block(properties.getSchemaCheckTimeout());
+        if (applied == null || applied.compareTo(expected) < 0) {
+            throw new IllegalStateException("Database schema is at version " + applied + " but this build needs "
+                    + expected + "; run the migrate command before starting the application");
+        }
+        log.info("Database schema is at version {}; this build needs {}", applied, expected);
+    }
+
+    /**
+     * @param filenames Names of migration scripts; repeatable and non-SQL scripts are ignored
+     * @return The highest version among the versioned scripts, or {@link MigrationVersion#EMPTY} if there are none
+     */
+    static MigrationVersion latestVersion(Collection<String> filenames) {
+        MigrationVersion latest = MigrationVersion.EMPTY;
+        for (String filename : filenames) {
+            Matcher matcher = VERSIONED_MIGRATION.matcher(filename);
+            if (matcher.matches()) {
+                latest = max(latest, MigrationVersion.fromVersion(matcher.group(1).replace('_', '.')));
+            }
+        }
+        return latest;
+    }
+
+    private List<String> bundledMigrations() {
+        String[] locations = environment.getProperty("spring.flyway.locations", String[].class,
+                new String[]{DEFAULT_LOCATION});
+        PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+        List<String> filenames = new ArrayList<>();
+        try {
+            for (String location : locations) {
+                String pattern = location.replaceFirst("^classpath:", "classpath*:") + "/V*.sql";
+                for (Resource resource : resolver.getResources(pattern)) {
+                    filenames.add(resource.getFilename());
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not list the bundled migrations", e);
+        }
+        return filenames;
+    }
+
+    private static MigrationVersion max(MigrationVersion a, MigrationVersion b) {
+        return a.compareTo(b) >= 0 ? a : b;
+    }
+}
@@ -0,0 +1,30 @@
+package com.catalis.core.kycb.core.persistence;
+
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.stereotype.Component;
+
+/**
+ * Applies pending migrations at startup only when {@code kycb.migration.apply-on-startup} is on. Otherwise Flyway
+ * neither connects nor takes the migration lock, and {@link SchemaVersionCheck} verifies the schema instead.
+ * <p>
+ * Decided at runtime rather than through {@code spring.flyway.enabled}, which AOT processing fixes at build time.
+ */
+@Slf4j
+@Component
+public class StartupMigrationStrategy implements FlywayMigrationStrategy {
+
+    @Autowired
+    private MigrationProperties properties;
+
+    @Override
+    public void migrate(Flyway flyway) {
+        if (!properties.isApplyOnStartup()) {
+            log.info("Skipping Flyway migrations at startup; they are applied by the migrate command");
+            return;
+        }
+        flyway.migrate();
+    }
+}
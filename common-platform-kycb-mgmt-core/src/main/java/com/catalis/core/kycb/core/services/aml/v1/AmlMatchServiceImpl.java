@@ -3,11 +3,20 @@ package com.catalis.core.kycb.core.services.aml.v1;
 import com.catalis.common.core.filters.FilterRequest;
 import com.catalis.common.core.filters.FilterUtils;
 import com.catalis.common.core.queries.PaginationResponse;
+import com.catalis.core.kycb.core.events.AfterCommit;
+import com.catalis.core.kycb.core.events.party.v1.PartyDataChangedEvent;
+import com.catalis.core.kycb.core.events.party.v1.PartyDataTypeEnum;
 import com.catalis.core.kycb.core.mappers.aml.v1.AmlMatchMapper;
+import com.catalis.core.kycb.core.metrics.BusinessMetrics;
 import com.catalis.core.kycb.interfaces.dtos.aml.v1.AmlMatchDTO;
+import com.catalis.core.kycb.interfaces.enums.aml.v1.ListTypeEnum;
+import com.catalis.core.kycb.interfaces.enums.resolution.v1.ResolutionStatusEnum;
 import com.catalis.core.kycb.models.entities.aml.v1.AmlMatch;
 import com.catalis.core.kycb.models.repositories.aml.v1.AmlMatchRepository;
+import com.catalis.core.kycb.models.repositories.aml.v1.AmlScreeningRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
@@ -25,6 +34,15 @@ public class AmlMatchServiceImpl implements AmlMatchService {
     @Autowired
     private AmlMatchMapper mapper;
 
+    @Autowired
+    private AmlScreeningRepository amlScreeningRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @Override
     public Mono<PaginationResponse<AmlMatchDTO>> findAll(FilterRequest<AmlMatchDTO> filterRequest) {
         return FilterUtils.createFilter(
@@ -37,6 +55,8 @@ public class AmlMatchServiceImpl implements AmlMatchService {
     public Mono<AmlMatchDTO> create(AmlMatchDTO dto) {
         AmlMatch entity = mapper.toEntity(dto);
         return repository.save(entity)
+                .doOnNext(saved -> countResolution(null, saved))
+                .flatMap(saved -> publishChange(saved).thenReturn(saved))
                 .map(mapper::toDTO);
     }
 
@@ -54,8 +74,10 @@ public class AmlMatchServiceImpl implements AmlMatchService {
                     updatedEntity.setAmlMatchId(amlMatchId);
                     // Preserve creation date
                     updatedEntity.setDateCreated(existingEntity.getDateCreated());
-                    return repository.save(updatedEntity);
+                    return repository.save(updatedEntity)
+                            .doOnNext(saved -> countResolution(existingEntity.getResolutionStatus(), saved));
                 })
+                .flatMap(saved -> publishChange(saved).thenReturn(saved))
                 .map(mapper::toDTO);
     }
 
@@ -63,4 +85,31 @@ public class AmlMatchServiceImpl implements AmlMatchService {
     public Mono<Void> delete(Long amlMatchId) {
         return repository.deleteById(amlMatchId);
     }
+
+    /**
+     * Counts a match whose resolution status moved from pending, or none, to a final status.
+     */
+    private void countResolution(ResolutionStatusEnum previous, AmlMatch match) {
+        ResolutionStatusEnum status = match.getResolutionStatus();
+        if (status == null || status == ResolutionStatusEnum.PENDING || status == previous) {
+            return;
+        }
+        meterRegistry.counter(BusinessMetrics.MATCHES_RESOLVED,
+                BusinessMetrics.TAG_RESOLUTION, BusinessMetrics.tagValue(status)).increment();
+    }
+
+    /**
+     * Announces a confirmed PEP match as a change of the screened party once it is committed; other matches feed no
+     * downstream engine.
+     */
+    private Mono<Void> publishChange(AmlMatch match) {
+        if (match.getListType() != ListTypeEnum.PEP
+                || match.getResolutionStatus() != ResolutionStatusEnum.CONFIRMED_HIT
+                || match.getAmlScreeningId() == null) {
+            return Mono.empty();
+        }
+        return amlScreeningRepository.findById(match.getAmlScreeningId())
+                .flatMap(screening -> AfterCommit.run(() -> eventPublisher.publishEvent(
+                        new PartyDataChangedEvent(screening.getPartyId(), PartyDataTypeEnum.AML_MATCH))));
+    }
 }
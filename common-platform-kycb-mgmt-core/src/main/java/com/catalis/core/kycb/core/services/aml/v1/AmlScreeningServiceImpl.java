@@ -3,15 +3,23 @@ package com.catalis.core.kycb.core.services.aml.v1;
 import com.catalis.common.core.filters.FilterRequest;
 import com.catalis.common.core.filters.FilterUtils;
 import com.catalis.common.core.queries.PaginationResponse;
+import com.catalis.core.kycb.core.events.AfterCommit;
+import com.catalis.core.kycb.core.events.party.v1.PartyDataChangedEvent;
+import com.catalis.core.kycb.core.events.party.v1.PartyDataTypeEnum;
 import com.catalis.core.kycb.core.mappers.aml.v1.AmlScreeningMapper;
+import com.catalis.core.kycb.core.metrics.BusinessMetrics;
 import com.catalis.core.kycb.interfaces.dtos.aml.v1.AmlScreeningDTO;
 import com.catalis.core.kycb.models.entities.aml.v1.AmlScreening;
 import com.catalis.core.kycb.models.repositories.aml.v1.AmlScreeningRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
+
 /**
  * Implementation of the AML screening service.
  */
@@ -25,6 +33,12 @@ public class AmlScreeningServiceImpl implements AmlScreeningService {
     @Autowired
     private AmlScreeningMapper mapper;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @Override
     public Mono<PaginationResponse<AmlScreeningDTO>> findAll(FilterRequest<AmlScreeningDTO> filterRequest) {
         return FilterUtils.createFilter(
@@ -36,8 +50,15 @@ public class AmlScreeningServiceImpl implements AmlScreeningService {
     @Override
     public Mono<AmlScreeningDTO> create(AmlScreeningDTO dto) {
         AmlScreening entity = mapper.toEntity(dto);
+        // The screening date is the partition key of aml_screening
+        if (entity.getScreeningDate() == null) {
+            entity.setScreeningDate(LocalDateTime.now());
+        }
         return repository.save(entity)
-                .map(mapper::toDTO);
+                .doOnNext(saved -> meterRegistry.counter(BusinessMetrics.SCREENINGS_CREATED,
+                        BusinessMetrics.TAG_RESULT, BusinessMetrics.tagValue(saved.getScreeningResult())).increment())
+                .map(mapper::toDTO)
+                .flatMap(saved -> publishChange(saved.getPartyId()).thenReturn(saved));
     }
 
     @Override
@@ -54,13 +75,27 @@ public class AmlScreeningServiceImpl implements AmlScreeningService {
                     updatedEntity.setAmlScreeningId(amlScreeningId);
                     // Preserve creation date
                     updatedEntity.setDateCreated(existingEntity.getDateCreated());
+                    if (updatedEntity.getScreeningDate() == null) {
+                        updatedEntity.setScreeningDate(existingEntity.getScreeningDate());
+                    }
                     return repository.save(updatedEntity);
                 })
-                .map(mapper::toDTO);
+                .map(mapper::toDTO)
+                .flatMap(saved -> publishChange(saved.getPartyId()).thenReturn(saved));
     }
 
     @Override
     public Mono<Void> delete(Long amlScreeningId) {
-        return repository.deleteById(amlScreeningId);
+        return repository.findById(amlScreeningId)
+                .flatMap(existingEntity -> repository.deleteById(amlScreeningId)
+                        .then(publishChange(existingEntity.getPartyId())));
+    }
+
+    /**
+     * Announces the change once it is committed, so that listeners reloading the party read the new rows.
+     */
+    private Mono<Void> publishChange(Long partyId) {
+        return AfterCommit.run(() -> eventPublisher.publishEvent(
+                new PartyDataChangedEvent(partyId, PartyDataTypeEnum.AML_SCREENING)));
     }
 }
@@ -3,15 +3,21 @@ package com.catalis.core.kycb.core.services.business.v1;
 import com.catalis.common.core.filters.FilterRequest;
 import com.catalis.common.core.filters.FilterUtils;
 import com.catalis.common.core.queries.PaginationResponse;
+import com.catalis.core.kycb.core.events.AfterCommit;
+import com.catalis.core.kycb.core.events.party.v1.PartyDataChangedEvent;
+import com.catalis.core.kycb.core.events.party.v1.PartyDataTypeEnum;
 import com.catalis.core.kycb.core.mappers.business.v1.BusinessProfileMapper;
 import com.catalis.core.kycb.interfaces.dtos.business.v1.BusinessProfileDTO;
 import com.catalis.core.kycb.models.entities.business.v1.BusinessProfile;
 import com.catalis.core.kycb.models.repositories.business.v1.BusinessProfileRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
 
+import java.util.Objects;
+
 /**
  * Implementation of the business profile service.
  */
@@ -25,6 +31,9 @@ public class BusinessProfileServiceImpl implements BusinessProfileService {
     @Autowired
     private BusinessProfileMapper mapper;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Override
     public Mono<PaginationResponse<BusinessProfileDTO>> findAll(FilterRequest<BusinessProfileDTO> filterRequest) {
         return FilterUtils.createFilter(
@@ -37,7 +46,8 @@ public class BusinessProfileServiceImpl implements BusinessProfileService {
     public Mono<BusinessProfileDTO> create(BusinessProfileDTO dto) {
         BusinessProfile entity = mapper.toEntity(dto);
         return repository.save(entity)
-                .map(mapper::toDTO);
+                .map(mapper::toDTO)
+                .flatMap(saved -> publishChange(saved.getPartyId()).thenReturn(saved));
     }
 
     @Override
@@ -54,13 +64,30 @@ public class BusinessProfileServiceImpl implements BusinessProfileService {
                     updatedEntity.setBusinessProfileId(businessProfileId);
                     // Preserve creation date
                     updatedEntity.setDateCreated(existingEntity.getDateCreated());
-                    return repository.save(updatedEntity);
+                    return repository.save(updatedEntity)
+                            .flatMap(saved -> {
+                                Mono<Void> published = publishChange(saved.getPartyId());
+                                if (!Objects.equals(existingEntity.getPartyId(), saved.getPartyId())) {
+                                    published = published.then(publishChange(existingEntity.getPartyId()));
+                                }
+                                return published.thenReturn(saved);
+                            });
                 })
                 .map(mapper::toDTO);
     }
 
     @Override
     public Mono<Void> delete(Long businessProfileId) {
-        return repository.deleteById(businessProfileId);
+        return repository.findById(businessProfileId)
+                .flatMap(existingEntity -> repository.deleteById(businessProfileId)
+                        .then(publishChange(existingEntity.getPartyId())));
+    }
+
+    /**
+     * Announces the change once it is committed, so that listeners reloading the party read the new rows.
+     */
+    private Mono<Void> publishChange(Long partyId) {
+        return AfterCommit.run(() -> eventPublisher.publishEvent(
+                new PartyDataChangedEvent(partyId, PartyDataTypeEnum.BUSINESS_PROFILE)));
     }
 }
@@ -0,0 +1,57 @@
+package com.catalis.core.kycb.core.services.compliance.v1;
+
+import com.catalis.core.kycb.interfaces.enums.compliance.v1.CasePriorityEnum;
+import com.catalis.core.kycb.interfaces.enums.compliance.v1.CaseTypeEnum;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Configuration of automatic compliance case assignment.
+ */
+@Data
+@ConfigurationProperties(prefix = "kycb.case-assignment")
+public class CaseAssignmentProperties {
+
+    /**
+     * Whether cases created without an assignee are assigned to the least-loaded eligible analyst.
+     */
+    private boolean autoAssign = true;
+
+    /**
+     * Time between rebuilds of the open-case counters from the database, which also picks up case changes made by
+     * other nodes.
+     */
+    private Duration resyncInterval = Duration.ofMinutes(5);
+
+    /**
+     * Analysts cases can be assigned to.
+     */
+    private List<Analyst> analysts = new ArrayList<>();
+
+    @Data
+    public static class Analyst {
+
+        private String id;
+
+        /**
+         * Case types the analyst handles; empty for all.
+         */
+        private Set<CaseTypeEnum> caseTypes = EnumSet.noneOf(CaseTypeEnum.class);
+
+        /**
+         * Case priorities the analyst handles; empty for all.
+         */
+        private Set<CasePriorityEnum> priorities = EnumSet.noneOf(CasePriorityEnum.class);
+
+        /**
+         * Open cases beyond which the analyst receives no new cases; 0 for no limit.
+         */
+        private int maxOpenCases;
+    }
+}
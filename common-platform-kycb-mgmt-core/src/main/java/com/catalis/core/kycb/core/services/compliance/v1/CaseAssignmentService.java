@@ -0,0 +1,28 @@
+package com.catalis.core.kycb.core.services.compliance.v1;
+
+import com.catalis.core.kycb.interfaces.dtos.compliance.v1.AnalystWorkloadDTO;
+import com.catalis.core.kycb.interfaces.dtos.compliance.v1.ComplianceCaseDTO;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Service interface for load-balanced assignment of compliance cases to analysts.
+ */
+public interface CaseAssignmentService {
+
+    /**
+     * Assigns an unassigned case to the least-loaded analyst eligible for its type and priority.
+     *
+     * @param caseId The ID of the case to assign
+     * @return A Mono containing the case, unchanged if it is closed, already assigned or no eligible analyst has
+     * capacity; empty if the case does not exist
+     */
+    Mono<ComplianceCaseDTO> assign(Long caseId);
+
+    /**
+     * Retrieves the open-case workload of every analyst.
+     *
+     * @return A Flux of analyst workloads, by analyst
+     */
+    Flux<AnalystWorkloadDTO> workload();
+}
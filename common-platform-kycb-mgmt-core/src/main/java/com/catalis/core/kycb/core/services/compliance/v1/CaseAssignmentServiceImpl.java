@@ -0,0 +1,65 @@
+package com.catalis.core.kycb.core.services.compliance.v1;
+
+import com.catalis.core.kycb.core.events.AfterCommit;
+import com.catalis.core.kycb.core.mappers.compliance.v1.ComplianceCaseMapper;
+import com.catalis.core.kycb.interfaces.dtos.compliance.v1.AnalystWorkloadDTO;
+import com.catalis.core.kycb.interfaces.dtos.compliance.v1.ComplianceCaseDTO;
+import com.catalis.core.kycb.interfaces.enums.compliance.v1.CaseStatusEnum;
+import com.catalis.core.kycb.models.repositories.compliance.v1.ComplianceCaseRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Implementation of the case assignment service.
+ * <p>
+ * The analyst is reserved in the {@link CaseWorkloadIndex} before the case is written, so concurrent assignments
+ * see each other's load. The write only succeeds if the case is still unassigned; otherwise the reservation is
+ * released and the case is returned as another writer left it. A reservation is also released if the transaction
+ * it was made in rolls back.
+ */
+@Service
+public class CaseAssignmentServiceImpl implements CaseAssignmentService {
+
+    @Autowired
+    private ComplianceCaseRepository repository;
+
+    @Autowired
+    private ComplianceCaseMapper mapper;
+
+    @Autowired
+    private CaseWorkloadIndex workloadIndex;
+
+    @Override
+    @Transactional
+    public Mono<ComplianceCaseDTO> assign(Long caseId) {
+        return repository.findById(caseId)
+                .flatMap(existing -> {
+                    if (existing.getAssignedTo() != null || existing.getCaseStatus() == CaseStatusEnum.CLOSED) {
+                        return Mono.just(existing);
+                    }
+                    String analyst = workloadIndex.reserve(existing.getCaseType(), existing.getCasePriority());
+                    if (analyst == null) {
+                        return Mono.just(existing);
+                    }
+                    return repository.assignIfUnassigned(caseId, analyst, LocalDateTime.now())
+                            .doOnError(e -> workloadIndex.release(analyst))
+                            .flatMap(assigned -> AfterCommit.onRollback(() -> workloadIndex.release(analyst))
+                                    .thenReturn(assigned))
+                            .switchIfEmpty(Mono.defer(() -> {
+                                workloadIndex.release(analyst);
+                                return repository.findById(caseId);
+                            }));
+                })
+                .map(mapper::toDTO);
+    }
+
+    @Override
+    public Flux<AnalystWorkloadDTO> workload() {
+        return Flux.defer(() -> Flux.fromIterable(workloadIndex.snapshot()));
+    }
+}
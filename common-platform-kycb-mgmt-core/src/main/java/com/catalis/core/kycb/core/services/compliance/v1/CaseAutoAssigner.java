@@ -0,0 +1,86 @@
+package com.catalis.core.kycb.core.services.compliance.v1;
+
+import com.catalis.core.kycb.core.events.AfterCommit;
+import com.catalis.core.kycb.interfaces.enums.compliance.v1.CaseStatusEnum;
+import com.catalis.core.kycb.models.entities.compliance.v1.ComplianceCase;
+import com.catalis.core.kycb.models.repositories.compliance.v1.ComplianceCaseRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Assigns cases opened in bulk, such as by the document expiry scan or transaction monitoring, to the least-loaded
+ * eligible analysts, so they are balanced and counted like cases created one at a time.
+ * <p>
+ * Each case reserves its analyst in the {@link CaseWorkloadIndex}, and all of them are written with one
+ * {@code UPDATE}. Reservations whose case was assigned in the meantime are released straight away, and the rest
+ * are released again if the surrounding transaction rolls back.
+ */
+@Slf4j
+@Component
+public class CaseAutoAssigner {
+
+    @Autowired
+    private ComplianceCaseRepository repository;
+
+    @Autowired
+    private CaseWorkloadIndex workloadIndex;
+
+    @Autowired
+    private CaseAssignmentProperties properties;
+
+    /**
+     * Assigns the unassigned, open cases among the given freshly written ones.
+     *
+     * @param cases The cases, as written
+     * @return A Mono containing the number of cases assigned
+     */
+    public Mono<Long> assignAll(List<ComplianceCase> cases) {
+        if (!properties.isAutoAssign() || cases.isEmpty()) {
+            return Mono.just(0L);
+        }
+        return Mono.defer(() -> {
+            List<Long> caseIds = new ArrayList<>();
+            List<String> assignees = new ArrayList<>();
+            for (ComplianceCase complianceCase : cases) {
+                if (complianceCase.getAssignedTo() != null || complianceCase.getCaseStatus() == CaseStatusEnum.CLOSED) {
+                    continue;
+                }
+                String analyst = workloadIndex.reserve(complianceCase.getCaseType(), complianceCase.getCasePriority());
+                if (analyst != null) {
+                    caseIds.add(complianceCase.getComplianceCaseId());
+                    assignees.add(analyst);
+                }
+            }
+            if (caseIds.isEmpty()) {
+                return Mono.just(0L);
+            }
+            Map<Long, String> reserved = new HashMap<>();
+            for (int i = 0; i < caseIds.size(); i++) {
+                reserved.put(caseIds.get(i), assignees.get(i));
+            }
+            return repository.assignAllIfUnassigned(caseIds.toArray(Long[]::new), assignees.toArray(String[]::new),
+                            LocalDateTime.now())
+                    .collectList()
+                    .doOnError(e -> reserved.values().forEach(workloadIndex::release))
+                    .flatMap(assigned -> {
+                        List<String> kept = new ArrayList<>();
+                        for (ComplianceCase complianceCase : assigned) {
+                            kept.add(reserved.remove(complianceCase.getComplianceCaseId()));
+                        }
+                        // Cases assigned by someone else in the meantime
+                        reserved.values().forEach(workloadIndex::release);
+                        log.debug("Auto-assigned {} of {} bulk-opened cases", assigned.size(), cases.size());
+                        return AfterCommit.onRollback(() -> kept.forEach(workloadIndex::release))
+                                .thenReturn((long) assigned.size());
+                    });
+        });
+    }
+}
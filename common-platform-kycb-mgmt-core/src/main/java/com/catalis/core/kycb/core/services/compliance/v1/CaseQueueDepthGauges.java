@@ -0,0 +1,90 @@
+package com.catalis.core.kycb.core.services.compliance.v1;
+
+import com.catalis.core.kycb.interfaces.dtos.compliance.v1.CaseQueueDepthDTO;
+import com.catalis.core.kycb.interfaces.enums.compliance.v1.CasePriorityEnum;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publishes the depth of the case queue per priority as {@code kycb.case.queue.depth} gauges.
+ * <p>
+ * Gauges are read on every scrape, so they report a value held in memory that a background loop refreshes with one
+ * grouped count over the queue index, rather than querying the database from the scrape itself.
+ */
+@Slf4j
+@Component
+public class CaseQueueDepthGauges {
+
+    static final String METRIC_DEPTH = "kycb.case.queue.depth";
+
+    @Autowired
+    private CaseQueueService caseQueueService;
+
+    @Autowired
+    private CaseQueueProperties properties;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Map<String, AtomicLong> depths = new LinkedHashMap<>();
+
+    private Disposable poller;
+
+    @PostConstruct
+    public void start() {
+        for (CasePriorityEnum priority : CasePriorityEnum.values()) {
+            register(priority.name());
+        }
+        register(CaseQueueServiceImpl.NO_PRIORITY);
+        poller = Flux.interval(Duration.ZERO, properties.getDepthRefreshInterval())
+                .onBackpressureDrop()
+                .concatMap(tick -> refresh()
+                        .onErrorResume(e -> {
+                            log.warn("Case queue depth refresh failed", e);
+                            return Mono.empty();
+                        }), 1)
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (poller != null) {
+            poller.dispose();
+        }
+    }
+
+    /**
+     * Re-counts the queue and updates the gauges. Priorities with no queued cases drop to zero.
+     *
+     * @return A Mono that completes once the gauges are updated
+     */
+    public Mono<Void> refresh() {
+        return caseQueueService.depth()
+                .collectMap(CaseQueueDepthDTO::getCasePriority, CaseQueueDepthDTO::getDepth, HashMap::new)
+                .doOnNext(counts -> depths.forEach((priority, depth) -> depth.set(counts.getOrDefault(priority, 0L))))
+                .then();
+    }
+
+    private void register(String priority) {
+        AtomicLong depth = new AtomicLong();
+        depths.put(priority, depth);
+        Gauge.builder(METRIC_DEPTH, depth, AtomicLong::get)
+                .tag("priority", priority)
+                .description("Unassigned compliance cases that are not closed")
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,29 @@
+package com.catalis.core.kycb.core.services.compliance.v1;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the compliance case queue.
+ */
+@Data
+@ConfigurationProperties(prefix = "kycb.case-queue")
+public class CaseQueueProperties {
+
+    /**
+     * Maximum number of cases an analyst can claim at once.
+     */
+    private int maxClaimSize = 50;
+
+    /**
+     * Maximum number of cases returned when peeking at the queue.
+     */
+    private int maxPeekSize = 200;
+
+    /**
+     * Time between refreshes of the queue depth gauges.
+     */
+    private Duration depthRefreshInterval = Duration.ofSeconds(15);
+}
@@ -0,0 +1,36 @@
+package com.catalis.core.kycb.core.services.compliance.v1;
+
+import com.catalis.core.kycb.interfaces.dtos.compliance.v1.CaseQueueDepthDTO;
+import com.catalis.core.kycb.interfaces.dtos.compliance.v1.ComplianceCaseDTO;
+import reactor.core.publisher.Flux;
+
+/**
+ * Service interface for the compliance case queue: unassigned cases that are not closed, highest priority and
+ * earliest due date first.
+ */
+public interface CaseQueueService {
+
+    /**
+     * Retrieves the head of the queue without claiming it.
+     *
+     * @param limit The maximum number of cases to return, capped at the configured peek size
+     * @return A Flux of queued cases in queue order
+     */
+    Flux<ComplianceCaseDTO> peek(int limit);
+
+    /**
+     * Atomically assigns the next cases of the queue to an analyst. Concurrent claims never return the same case.
+     *
+     * @param analyst The analyst claiming the cases
+     * @param limit The maximum number of cases to claim, capped at the configured claim size
+     * @return A Flux of the claimed cases in queue order; empty if the queue is empty
+     */
+    Flux<ComplianceCaseDTO> claim(String analyst, int limit);
+
+    /**
+     * Counts the queued cases per priority.
+     *
+     * @return A Flux with the depth of every priority, highest priority first
+     */
+    Flux<CaseQueueDepthDTO> depth();
+}
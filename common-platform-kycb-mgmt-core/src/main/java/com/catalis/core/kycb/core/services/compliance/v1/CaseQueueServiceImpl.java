@@ -0,0 +1,110 @@
+package com.catalis.core.kycb.core.services.compliance.v1;
+
+import com.catalis.core.kycb.core.events.AfterCommit;
+import com.catalis.core.kycb.core.events.compliance.v1.ComplianceCaseAssignmentChangedEvent;
+import com.catalis.core.kycb.core.mappers.compliance.v1.ComplianceCaseMapper;
+import com.catalis.core.kycb.interfaces.dtos.compliance.v1.CaseQueueDepthDTO;
+import com.catalis.core.kycb.interfaces.dtos.compliance.v1.ComplianceCaseDTO;
+import com.catalis.core.kycb.interfaces.enums.compliance.v1.CasePriorityEnum;
+import com.catalis.core.kycb.models.entities.compliance.v1.ComplianceCase;
+import com.catalis.core.kycb.models.repositories.compliance.v1.ComplianceCaseRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+
+/**
+ * Implementation of the case queue service.
+ * <p>
+ * The queue is not a separate table: it is the set of unassigned, not closed rows of {@code compliance_case}, read
+ * off a partial index in queue order. A claim assigns the head of the queue in a single {@code UPDATE} whose
+ * subquery locks rows with {@code SKIP LOCKED}, so analysts claiming concurrently each get distinct cases without
+ * waiting on one another.
+ */
+@Slf4j
+@Service
+@Transactional
+public class CaseQueueServiceImpl implements CaseQueueService {
+
+    static final String METRIC_CLAIMED = "kycb.case.queue.claimed";
+
+    static final String NO_PRIORITY = "NONE";
+
+    /**
+     * Queue order; matches the ORDER BY of the queue queries.
+     */
+    static final Comparator<ComplianceCase> QUEUE_ORDER = Comparator
+            .comparing(ComplianceCase::getCasePriority,
+                    Comparator.nullsLast(Comparator.<CasePriorityEnum>reverseOrder()))
+            .thenComparing(ComplianceCase::getDueDate,
+                    Comparator.nullsLast(Comparator.<LocalDateTime>naturalOrder()))
+            .thenComparing(ComplianceCase::getComplianceCaseId);
+
+    @Autowired
+    private ComplianceCaseRepository repository;
+
+    @Autowired
+    private ComplianceCaseMapper mapper;
+
+    @Autowired
+    private CaseQueueProperties properties;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Flux<ComplianceCaseDTO> peek(int limit) {
+        return repository.findQueueHead(cap(limit, properties.getMaxPeekSize()))
+                .map(mapper::toDTO);
+    }
+
+    @Override
+    public Flux<ComplianceCaseDTO> claim(String analyst, int limit) {
+        if (analyst == null || analyst.isBlank()) {
+            return Flux.error(new IllegalArgumentException("Analyst is required to claim cases"));
+        }
+        return repository.claimQueueHead(analyst, LocalDateTime.now(), cap(limit, properties.getMaxClaimSize()))
+                .collectSortedList(QUEUE_ORDER)
+                .doOnNext(claimed -> {
+                    meterRegistry.counter(METRIC_CLAIMED).increment(claimed.size());
+                    log.debug("Analyst {} claimed {} cases", analyst, claimed.size());
+                })
+                .flatMap(claimed -> AfterCommit.run(() -> claimed.forEach(complianceCase -> eventPublisher.publishEvent(
+                                new ComplianceCaseAssignmentChangedEvent(complianceCase.getComplianceCaseId(), null,
+                                        true, analyst, true))))
+                        .thenReturn(claimed))
+                .flatMapIterable(claimed -> claimed)
+                .map(mapper::toDTO);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Flux<CaseQueueDepthDTO> depth() {
+        return repository.countQueueDepthByPriority()
+                .map(depth -> CaseQueueDepthDTO.builder()
+                        .casePriority(depth.casePriority() != null ? depth.casePriority() : NO_PRIORITY)
+                        .depth(depth.depth())
+                        .build())
+                .sort(Comparator.comparingInt(depth -> priorityRank(depth.getCasePriority())));
+    }
+
+    private static int cap(int limit, int max) {
+        return Math.max(1, Math.min(limit, max));
+    }
+
+    private static int priorityRank(String casePriority) {
+        return NO_PRIORITY.equals(casePriority)
+                ? Integer.MAX_VALUE
+                : -CasePriorityEnum.valueOf(casePriority).ordinal();
+    }
+}
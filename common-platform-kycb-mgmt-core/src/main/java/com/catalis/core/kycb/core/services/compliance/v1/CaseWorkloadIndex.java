@@ -0,0 +1,247 @@
+package com.catalis.core.kycb.core.services.compliance.v1;
+
+import com.catalis.core.kycb.core.events.compliance.v1.ComplianceCaseAssignmentChangedEvent;
+import com.catalis.core.kycb.interfaces.dtos.compliance.v1.AnalystWorkloadDTO;
+import com.catalis.core.kycb.interfaces.enums.compliance.v1.CasePriorityEnum;
+import com.catalis.core.kycb.interfaces.enums.compliance.v1.CaseTypeEnum;
+import com.catalis.core.kycb.models.repositories.compliance.v1.AnalystOpenCases;
+import com.catalis.core.kycb.models.repositories.compliance.v1.ComplianceCaseRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * In-memory open-case counters per analyst, used to pick the least-loaded eligible analyst for a new case.
+ * <p>
+ * Every (case type, priority) combination has a pool: a tree of the analysts eligible for it who are below their
+ * open-case limit, ordered by open cases. Picking an analyst takes the first entry of one pool; changing an
+ * analyst's count re-inserts them in each of their pools. Both are logarithmic in the number of analysts, so no
+ * aggregate query runs per assignment.
+ * <p>
+ * The counters are rebuilt from the database at startup and every {@code resyncInterval}, and kept current in
+ * between from {@link ComplianceCaseAssignmentChangedEvent}s and the assignments made through {@link #reserve}.
+ * Writes made by other nodes are only seen at the next rebuild.
+ */
+@Slf4j
+@Component
+public class CaseWorkloadIndex {
+
+    private static final Comparator<Load> LEAST_LOADED = Comparator.comparingInt(Load::openCases)
+            .thenComparing(Load::analyst);
+
+    @Autowired
+    private ComplianceCaseRepository repository;
+
+    @Autowired
+    private CaseAssignmentProperties properties;
+
+    private final Map<String, Integer> openCases = new HashMap<>();
+    private final Map<String, CaseAssignmentProperties.Analyst> roster = new HashMap<>();
+    private final Map<String, List<PoolKey>> poolsByAnalyst = new HashMap<>();
+    private final Map<PoolKey, TreeSet<Load>> pools = new HashMap<>();
+
+    private boolean ready;
+
+    private Disposable poller;
+
+    @PostConstruct
+    public void start() {
+        loadRoster();
+        poller = Flux.interval(Duration.ZERO, properties.getResyncInterval())
+                .onBackpressureDrop()
+                .concatMap(tick -> rebuild()
+                        .onErrorResume(e -> {
+                            log.error("Rebuilding analyst workload counters failed", e);
+                            return Mono.empty();
+                        }), 1)
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (poller != null) {
+            poller.dispose();
+        }
+    }
+
+    /**
+     * Replaces the counters with the open-case counts currently in the database.
+     *
+     * @return A Mono that completes once the counters are replaced
+     */
+    public Mono<Void> rebuild() {
+        return repository.countOpenCasesByAssignee()
+                .collectMap(AnalystOpenCases::assignedTo, AnalystOpenCases::openCases)
+                .doOnNext(this::reset)
+                .then();
+    }
+
+    /**
+     * Picks the least-loaded analyst eligible for a case and counts the case towards them.
+     *
+     * @param caseType The type of the case
+     * @param priority The priority of the case
+     * @return The analyst, or null if no eligible analyst has capacity or the counters are not built yet
+     */
+    public synchronized String reserve(CaseTypeEnum caseType, CasePriorityEnum priority) {
+        if (!ready) {
+            return null;
+        }
+        TreeSet<Load> pool = pools.get(new PoolKey(caseType, priority));
+        if (pool == null || pool.isEmpty()) {
+            return null;
+        }
+        Load least = pool.first();
+        setOpenCases(least.analyst(), least.openCases() + 1);
+        return least.analyst();
+    }
+
+    /**
+     * Undoes a {@link #reserve} whose assignment was not persisted.
+     */
+    public synchronized void release(String analyst) {
+        adjust(analyst, -1);
+    }
+
+    @EventListener
+    public synchronized void onAssignmentChanged(ComplianceCaseAssignmentChangedEvent event) {
+        if (event.changesWorkload()) {
+            adjust(event.previousWorkloadOwner(), -1);
+            adjust(event.workloadOwner(), 1);
+        }
+    }
+
+    /**
+     * @return The workload of every rostered analyst and of every other analyst with open cases, by analyst
+     */
+    public synchronized List<AnalystWorkloadDTO> snapshot() {
+        return openCases.entrySet().stream()
+                .map(entry -> {
+                    CaseAssignmentProperties.Analyst analyst = roster.get(entry.getKey());
+                    int max = analyst != null ? analyst.getMaxOpenCases() : 0;
+                    return AnalystWorkloadDTO.builder()
+                            .analyst(entry.getKey())
+                            .openCases(entry.getValue())
+                            .maxOpenCases(max > 0 ? max : null)
+                            .rostered(analyst != null)
+                            .available(analyst != null && hasCapacity(analyst, entry.getValue()))
+                            .build();
+                })
+                .sorted(Comparator.comparing(AnalystWorkloadDTO::getAnalyst))
+                .toList();
+    }
+
+    synchronized void loadRoster() {
+        for (CaseAssignmentProperties.Analyst analyst : properties.getAnalysts()) {
+            addToRoster(analyst);
+        }
+    }
+
+    synchronized void reset(Map<String, Long> counts) {
+        Set<String> analysts = new HashSet<>(openCases.keySet());
+        analysts.addAll(counts.keySet());
+        for (String analyst : analysts) {
+            setOpenCases(analyst, Math.toIntExact(counts.getOrDefault(analyst, 0L)));
+        }
+        ready = true;
+    }
+
+    private void addToRoster(CaseAssignmentProperties.Analyst analyst) {
+        String id = analyst.getId();
+        if (id == null || id.isBlank() || roster.containsKey(id)) {
+            log.warn("Ignoring analyst with missing or duplicate ID: {}", id);
+            return;
+        }
+        List<PoolKey> keys = new ArrayList<>();
+        for (CaseTypeEnum caseType : eligible(analyst.getCaseTypes(), CaseTypeEnum.values())) {
+            for (CasePriorityEnum priority : eligible(analyst.getPriorities(), CasePriorityEnum.values())) {
+                keys.add(new PoolKey(caseType, priority));
+            }
+        }
+        roster.put(id, analyst);
+        poolsByAnalyst.put(id, keys);
+        int current = openCases.getOrDefault(id, 0);
+        openCases.put(id, current);
+        if (hasCapacity(analyst, current)) {
+            for (PoolKey key : keys) {
+                pools.computeIfAbsent(key, k -> new TreeSet<>(LEAST_LOADED)).add(new Load(id, current));
+            }
+        }
+    }
+
+    /**
+     * An analyst without restrictions also handles cases whose type or priority is not set.
+     */
+    private static <E extends Enum<E>> Collection<E> eligible(Set<E> configured, E[] all) {
+        if (configured != null && !configured.isEmpty()) {
+            return configured;
+        }
+        List<E> values = new ArrayList<>(Arrays.asList(all));
+        values.add(null);
+        return values;
+    }
+
+    private void adjust(String analyst, int delta) {
+        if (analyst != null) {
+            setOpenCases(analyst, Math.max(0, openCases.getOrDefault(analyst, 0) + delta));
+        }
+    }
+
+    private void setOpenCases(String analyst, int count) {
+        Integer previous = openCases.get(analyst);
+        CaseAssignmentProperties.Analyst rostered = roster.get(analyst);
+        if (rostered == null) {
+            // Not assignable; tracked for the workload view only
+            if (count == 0) {
+                openCases.remove(analyst);
+            } else {
+                openCases.put(analyst, count);
+            }
+            return;
+        }
+        if (previous != null && previous == count) {
+            return;
+        }
+        int before = previous != null ? previous : 0;
+        boolean wasAvailable = hasCapacity(rostered, before);
+        boolean isAvailable = hasCapacity(rostered, count);
+        for (PoolKey key : poolsByAnalyst.get(analyst)) {
+            TreeSet<Load> pool = pools.computeIfAbsent(key, k -> new TreeSet<>(LEAST_LOADED));
+            if (wasAvailable) {
+                pool.remove(new Load(analyst, before));
+            }
+            if (isAvailable) {
+                pool.add(new Load(analyst, count));
+            }
+        }
+        openCases.put(analyst, count);
+    }
+
+    private static boolean hasCapacity(CaseAssignmentProperties.Analyst analyst, int openCases) {
+        return analyst.getMaxOpenCases() <= 0 || openCases < analyst.getMaxOpenCases();
+    }
+
+    private record PoolKey(CaseTypeEnum caseType, CasePriorityEnum priority) {
+    }
+
+    private record Load(String analyst, int openCases) {
+    }
+}
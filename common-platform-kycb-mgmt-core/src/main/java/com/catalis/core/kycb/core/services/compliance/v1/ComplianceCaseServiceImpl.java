@@ -3,17 +3,28 @@ package com.catalis.core.kycb.core.services.compliance.v1;
 import com.catalis.common.core.filters.FilterRequest;
 import com.catalis.common.core.filters.FilterUtils;
 import com.catalis.common.core.queries.PaginationResponse;
+import com.catalis.core.kycb.core.events.AfterCommit;
+import com.catalis.core.kycb.core.events.compliance.v1.ComplianceCaseAssignmentChangedEvent;
 import com.catalis.core.kycb.core.mappers.compliance.v1.ComplianceCaseMapper;
+import com.catalis.core.kycb.core.metrics.BusinessMetrics;
 import com.catalis.core.kycb.interfaces.dtos.compliance.v1.ComplianceCaseDTO;
+import com.catalis.core.kycb.interfaces.enums.compliance.v1.CaseStatusEnum;
 import com.catalis.core.kycb.models.entities.compliance.v1.ComplianceCase;
 import com.catalis.core.kycb.models.repositories.compliance.v1.ComplianceCaseRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
 
 /**
  * Implementation of the compliance case service.
+ * <p>
+ * Cases created without an assignee are assigned to the least-loaded eligible analyst when automatic assignment is
+ * enabled. Writes that change an analyst's open cases are announced with a
+ * {@link ComplianceCaseAssignmentChangedEvent} once they commit, except automatic assignments, which the
+ * {@link CaseWorkloadIndex} counts when it picks the analyst and uncounts if the write rolls back.
  */
 @Service
 @Transactional
@@ -25,6 +36,18 @@ public class ComplianceCaseServiceImpl implements ComplianceCaseService {
     @Autowired
     private ComplianceCaseMapper mapper;
 
+    @Autowired
+    private CaseWorkloadIndex workloadIndex;
+
+    @Autowired
+    private CaseAssignmentProperties assignmentProperties;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @Override
     public Mono<PaginationResponse<ComplianceCaseDTO>> findAll(FilterRequest<ComplianceCaseDTO> filterRequest) {
         return FilterUtils.createFilter(
@@ -35,9 +58,22 @@ public class ComplianceCaseServiceImpl implements ComplianceCaseService {
 
     @Override
     public Mono<ComplianceCaseDTO> create(ComplianceCaseDTO dto) {
-        ComplianceCase entity = mapper.toEntity(dto);
-        return repository.save(entity)
-                .map(mapper::toDTO);
+        return Mono.defer(() -> {
+            ComplianceCase entity = mapper.toEntity(dto);
+            String reserved = autoAssign(entity);
+            return repository.save(entity)
+                    .doOnError(e -> {
+                        if (reserved != null) {
+                            workloadIndex.release(reserved);
+                        }
+                    })
+                    .doOnNext(saved -> BusinessMetrics.casesOpened(meterRegistry, saved.getCaseType(),
+                            BusinessMetrics.SOURCE_API, 1))
+                    .flatMap(saved -> (reserved == null
+                            ? publishChange(null, saved)
+                            : AfterCommit.onRollback(() -> workloadIndex.release(reserved)))
+                            .thenReturn(saved));
+        }).map(mapper::toDTO);
     }
 
     @Override
@@ -54,13 +90,42 @@ public class ComplianceCaseServiceImpl implements ComplianceCaseService {
                     updatedEntity.setComplianceCaseId(caseId);
                     // Preserve creation date
                     updatedEntity.setDateCreated(existingEntity.getDateCreated());
-                    return repository.save(updatedEntity);
+                    return repository.save(updatedEntity)
+                            .flatMap(saved -> publishChange(existingEntity, saved).thenReturn(saved));
                 })
                 .map(mapper::toDTO);
     }
 
     @Override
     public Mono<Void> delete(Long caseId) {
-        return repository.deleteById(caseId);
+        return repository.findById(caseId)
+                .flatMap(existingEntity -> repository.deleteById(caseId)
+                        .then(publishChange(existingEntity, null)));
+    }
+
+    /**
+     * Assigns an unassigned, open case to the least-loaded eligible analyst.
+     *
+     * @return The analyst reserved for the case, or null if the case was left as is
+     */
+    private String autoAssign(ComplianceCase entity) {
+        if (!assignmentProperties.isAutoAssign()
+                || (entity.getAssignedTo() != null && !entity.getAssignedTo().isBlank())
+                || entity.getCaseStatus() == CaseStatusEnum.CLOSED) {
+            return null;
+        }
+        String analyst = workloadIndex.reserve(entity.getCaseType(), entity.getCasePriority());
+        if (analyst != null) {
+            entity.setAssignedTo(analyst);
+        }
+        return analyst;
+    }
+
+    private Mono<Void> publishChange(ComplianceCase before, ComplianceCase after) {
+        ComplianceCaseAssignmentChangedEvent event = ComplianceCaseAssignmentChangedEvent.of(before, after);
+        if (!event.changesWorkload()) {
+            return Mono.empty();
+        }
+        return AfterCommit.run(() -> eventPublisher.publishEvent(event));
     }
 }
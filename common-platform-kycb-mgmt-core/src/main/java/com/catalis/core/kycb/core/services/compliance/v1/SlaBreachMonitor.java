@@ -0,0 +1,169 @@
+package com.catalis.core.kycb.core.services.compliance.v1;
+
+import com.catalis.core.kycb.core.events.compliance.v1.SlaTargetTypeEnum;
+import com.catalis.core.kycb.core.utils.TimerWheel;
+import com.catalis.core.kycb.models.repositories.compliance.v1.ComplianceActionRepository;
+import com.catalis.core.kycb.models.repositories.compliance.v1.ComplianceCaseRepository;
+import com.catalis.core.kycb.models.repositories.compliance.v1.SlaDeadline;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Detects SLA breaches of open compliance cases and actions as their due dates pass.
+ * <p>
+ * Due dates within {@code horizon} are loaded into a {@link TimerWheel} and reloaded every {@code reloadInterval}, a
+ * range scan over partial indexes of unbreached open rows, so new, moved and closed deadlines are picked up. The
+ * wheel advances every {@code tick} and hands the deadlines that passed to the {@link SlaEscalationService} in
+ * batches. A deadline that fires for a row closed or rescheduled in the meantime is a no-op, because the breach
+ * update re-checks the row; a batch that fails is retried after the next reload, since its rows are still
+ * unbreached.
+ */
+@Slf4j
+@Component
+public class SlaBreachMonitor {
+
+    static final String METRIC_SCHEDULED = "kycb.sla.scheduled";
+
+    @Autowired
+    private ComplianceCaseRepository complianceCaseRepository;
+
+    @Autowired
+    private ComplianceActionRepository complianceActionRepository;
+
+    @Autowired
+    private SlaEscalationService slaEscalationService;
+
+    @Autowired
+    private SlaProperties properties;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private TimerWheel<SlaTarget> wheel;
+
+    private Disposable loader;
+
+    private Disposable ticker;
+
+    @PostConstruct
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        wheel = new TimerWheel<>(properties.getTick().toMillis(), properties.getWheelSize(),
+                System.currentTimeMillis());
+        Gauge.builder(METRIC_SCHEDULED, this, SlaBreachMonitor::scheduled)
+                .description("Compliance case and action due dates held in the SLA timer wheel")
+                .register(meterRegistry);
+        loader = Flux.interval(Duration.ZERO, properties.getReloadInterval())
+                .onBackpressureDrop()
+                .concatMap(tick -> load()
+                        .onErrorResume(e -> {
+                            log.error("Loading SLA due dates failed", e);
+                            return Mono.just(0);
+                        }), 1)
+                .subscribe();
+        ticker = Flux.interval(properties.getTick(), properties.getTick())
+                .onBackpressureDrop()
+                .concatMap(tick -> fire()
+                        .onErrorResume(e -> {
+                            log.error("Recording SLA breaches failed", e);
+                            return Mono.just(0);
+                        }), 1)
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (loader != null) {
+            loader.dispose();
+        }
+        if (ticker != null) {
+            ticker.dispose();
+        }
+    }
+
+    /**
+     * Schedules the due dates of open, unbreached cases and actions up to the horizon.
+     *
+     * @return A Mono containing the number of due dates added or changed
+     */
+    public Mono<Integer> load() {
+        LocalDateTime before = LocalDateTime.now().plus(properties.getHorizon());
+        return Mono.zip(
+                        complianceCaseRepository.findSlaDeadlinesBefore(before).collectList(),
+                        complianceActionRepository.findSlaDeadlinesBefore(before).collectList())
+                .map(deadlines -> {
+                    synchronized (this) {
+                        return schedule(SlaTargetTypeEnum.CASE, deadlines.getT1())
+                                + schedule(SlaTargetTypeEnum.ACTION, deadlines.getT2());
+                    }
+                });
+    }
+
+    /**
+     * Advances the wheel to now and records the breaches of the deadlines that passed.
+     *
+     * @return A Mono containing the number of cases and actions marked as breached
+     */
+    public Mono<Integer> fire() {
+        return Mono.defer(() -> {
+            long now = System.currentTimeMillis();
+            List<SlaTarget> expired;
+            synchronized (this) {
+                expired = wheel.advance(now);
+            }
+            if (expired.isEmpty()) {
+                return Mono.just(0);
+            }
+            LocalDateTime breachedAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(now), ZoneId.systemDefault());
+            return Flux.fromIterable(expired)
+                    .buffer(properties.getBatchSize())
+                    .concatMap(batch -> {
+                        List<Long> caseIds = new ArrayList<>();
+                        List<Long> actionIds = new ArrayList<>();
+                        for (SlaTarget target : batch) {
+                            (target.type() == SlaTargetTypeEnum.CASE ? caseIds : actionIds).add(target.id());
+                        }
+                        return slaEscalationService.breach(caseIds, actionIds, breachedAt);
+                    })
+                    .reduce(0, Integer::sum);
+        });
+    }
+
+    private int schedule(SlaTargetTypeEnum type, List<SlaDeadline> deadlines) {
+        int changed = 0;
+        for (SlaDeadline deadline : deadlines) {
+            if (wheel.schedule(new SlaTarget(type, deadline.id()), toMillis(deadline.dueDate()))) {
+                changed++;
+            }
+        }
+        return changed;
+    }
+
+    private synchronized int scheduled() {
+        return wheel.size();
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private record SlaTarget(SlaTargetTypeEnum type, Long id) {
+    }
+}
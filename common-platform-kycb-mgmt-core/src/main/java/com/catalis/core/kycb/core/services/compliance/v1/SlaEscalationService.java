@@ -0,0 +1,23 @@
+package com.catalis.core.kycb.core.services.compliance.v1;
+
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * Service interface for recording SLA breaches of compliance cases and actions.
+ */
+public interface SlaEscalationService {
+
+    /**
+     * Marks the given cases and actions as breached if they are still open and past their due date, and raises the
+     * priority of every case that breached or has an action that breached by one level.
+     *
+     * @param caseIds The IDs of the cases whose due date passed
+     * @param actionIds The IDs of the actions whose due date passed
+     * @param breachedAt The time of the breach
+     * @return A Mono containing the number of cases and actions marked as breached
+     */
+    Mono<Integer> breach(Collection<Long> caseIds, Collection<Long> actionIds, LocalDateTime breachedAt);
+}
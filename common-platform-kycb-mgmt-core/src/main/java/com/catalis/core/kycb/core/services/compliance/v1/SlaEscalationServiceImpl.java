@@ -0,0 +1,123 @@
+package com.catalis.core.kycb.core.services.compliance.v1;
+
+import com.catalis.core.kycb.core.events.compliance.v1.ComplianceCaseEscalatedEvent;
+import com.catalis.core.kycb.core.events.compliance.v1.ComplianceSlaBreachedEvent;
+import com.catalis.core.kycb.core.events.compliance.v1.SlaTargetTypeEnum;
+import com.catalis.core.kycb.models.repositories.compliance.v1.ComplianceActionRepository;
+import com.catalis.core.kycb.models.repositories.compliance.v1.ComplianceCaseRepository;
+import com.catalis.core.kycb.models.repositories.compliance.v1.SlaBreach;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Implementation of the SLA escalation service.
+ * <p>
+ * Marking a breach stamps {@code sla_breached_at} only where it is still empty, so when several nodes detect the
+ * same breach exactly one of them gets the row back and escalates. Each case is escalated at most one level per call,
+ * however many of its actions breached together.
+ */
+@Slf4j
+@Service
+@Transactional
+public class SlaEscalationServiceImpl implements SlaEscalationService {
+
+    static final String METRIC_BREACHES = "kycb.sla.breaches";
+    static final String METRIC_TIME_TO_BREACH = "kycb.sla.time.to.breach";
+    static final String METRIC_DETECTION_LAG = "kycb.sla.detection.lag";
+    static final String METRIC_ESCALATIONS = "kycb.sla.escalations";
+
+    private static final String TAG_TARGET = "target";
+
+    @Autowired
+    private ComplianceCaseRepository complianceCaseRepository;
+
+    @Autowired
+    private ComplianceActionRepository complianceActionRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Override
+    public Mono<Integer> breach(Collection<Long> caseIds, Collection<Long> actionIds, LocalDateTime breachedAt) {
+        Mono<List<SlaBreach>> cases = caseIds.isEmpty()
+                ? Mono.just(List.of())
+                : complianceCaseRepository.markSlaBreached(caseIds.toArray(Long[]::new), breachedAt).collectList();
+        Mono<List<SlaBreach>> actions = actionIds.isEmpty()
+                ? Mono.just(List.of())
+                : complianceActionRepository.markSlaBreached(actionIds.toArray(Long[]::new), breachedAt).collectList();
+        return cases.zipWith(actions)
+                .flatMap(breaches -> {
+                    record(SlaTargetTypeEnum.CASE, breaches.getT1(), breachedAt);
+                    record(SlaTargetTypeEnum.ACTION, breaches.getT2(), breachedAt);
+                    Set<Long> escalate = new LinkedHashSet<>();
+                    breaches.getT1().forEach(breach -> escalate.add(breach.complianceCaseId()));
+                    breaches.getT2().forEach(breach -> {
+                        if (breach.complianceCaseId() != null) {
+                            escalate.add(breach.complianceCaseId());
+                        }
+                    });
+                    int breached = breaches.getT1().size() + breaches.getT2().size();
+                    return escalate(escalate, breachedAt).thenReturn(breached);
+                });
+    }
+
+    private Mono<Void> escalate(Set<Long> caseIds, LocalDateTime updatedAt) {
+        if (caseIds.isEmpty()) {
+            return Mono.empty();
+        }
+        return complianceCaseRepository.escalatePriority(caseIds.toArray(Long[]::new), updatedAt)
+                .doOnNext(escalated -> {
+                    String priority = String.valueOf(escalated.getCasePriority());
+                    meterRegistry.counter(METRIC_ESCALATIONS, "priority", priority).increment();
+                    eventPublisher.publishEvent(new ComplianceCaseEscalatedEvent(
+                            escalated.getComplianceCaseId(), escalated.getCasePriority(), escalated.getAssignedTo()));
+                })
+                .then();
+    }
+
+    private void record(SlaTargetTypeEnum targetType, List<SlaBreach> breaches, LocalDateTime breachedAt) {
+        if (breaches.isEmpty()) {
+            return;
+        }
+        String target = targetType.name();
+        meterRegistry.counter(METRIC_BREACHES, TAG_TARGET, target).increment(breaches.size());
+        Timer timeToBreach = Timer.builder(METRIC_TIME_TO_BREACH)
+                .description("Time from creation until a compliance case or action breached its SLA")
+                .tag(TAG_TARGET, target)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Timer detectionLag = Timer.builder(METRIC_DETECTION_LAG)
+                .description("Time from due date until an SLA breach was detected")
+                .tag(TAG_TARGET, target)
+                .register(meterRegistry);
+        for (SlaBreach breach : breaches) {
+            if (breach.dateCreated() != null) {
+                timeToBreach.record(nonNegative(Duration.between(breach.dateCreated(), breach.dueDate())));
+            }
+            detectionLag.record(nonNegative(Duration.between(breach.dueDate(), breachedAt)));
+            eventPublisher.publishEvent(new ComplianceSlaBreachedEvent(
+                    targetType, breach.id(), breach.complianceCaseId(), breach.dueDate(), breachedAt));
+        }
+        log.info("{} {}s breached their SLA", breaches.size(), target.toLowerCase());
+    }
+
+    private static Duration nonNegative(Duration duration) {
+        return duration.isNegative() ? Duration.ZERO : duration;
+    }
+}
@@ -0,0 +1,41 @@
+package com.catalis.core.kycb.core.services.compliance.v1;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the SLA breach monitor for compliance cases and actions.
+ */
+@Data
+@ConfigurationProperties(prefix = "kycb.sla")
+public class SlaProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Resolution of the timer wheel; breaches are detected at most this long after the due date.
+     */
+    private Duration tick = Duration.ofSeconds(1);
+
+    /**
+     * Number of slots in the timer wheel.
+     */
+    private int wheelSize = 4096;
+
+    /**
+     * Due dates up to this far ahead are held in memory.
+     */
+    private Duration horizon = Duration.ofHours(1);
+
+    /**
+     * Time between reloads of the due dates within the horizon, which picks up new and changed due dates.
+     */
+    private Duration reloadInterval = Duration.ofMinutes(1);
+
+    /**
+     * Maximum number of cases or actions marked and escalated per statement.
+     */
+    private int batchSize = 500;
+}
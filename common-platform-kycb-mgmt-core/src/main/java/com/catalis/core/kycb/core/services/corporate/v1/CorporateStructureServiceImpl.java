@@ -3,16 +3,21 @@ package com.catalis.core.kycb.core.services.corporate.v1;
 import com.catalis.common.core.filters.FilterRequest;
 import com.catalis.common.core.filters.FilterUtils;
 import com.catalis.common.core.queries.PaginationResponse;
+import com.catalis.core.kycb.core.events.AfterCommit;
+import com.catalis.core.kycb.core.events.party.v1.PartyDataChangedEvent;
+import com.catalis.core.kycb.core.events.party.v1.PartyDataTypeEnum;
 import com.catalis.core.kycb.core.mappers.corporate.v1.CorporateStructureMapper;
 import com.catalis.core.kycb.interfaces.dtos.corporate.v1.CorporateStructureDTO;
 import com.catalis.core.kycb.models.entities.corporate.v1.CorporateStructure;
 import com.catalis.core.kycb.models.repositories.corporate.v1.CorporateStructureRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
+import java.util.Objects;
 
 /**
  * Implementation of the corporate structure service.
@@ -27,6 +32,9 @@ public class CorporateStructureServiceImpl implements CorporateStructureService
     @Autowired
     private CorporateStructureMapper mapper;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Override
     public Mono<PaginationResponse<CorporateStructureDTO>> findAll(FilterRequest<CorporateStructureDTO> filterRequest) {
         return FilterUtils.createFilter(
@@ -43,7 +51,8 @@ public class CorporateStructureServiceImpl implements CorporateStructureService
             entity.setStartDate(LocalDateTime.now());
         }
         return repository.save(entity)
-                .map(mapper::toDTO);
+                .map(mapper::toDTO)
+                .flatMap(saved -> publishChange(saved.getPartyId()).thenReturn(saved));
     }
 
     @Override
@@ -65,13 +74,31 @@ public class CorporateStructureServiceImpl implements CorporateStructureService
                         updatedEntity.setIsVerified(existingEntity.getIsVerified());
                         updatedEntity.setVerificationDate(existingEntity.getVerificationDate());
                     }
-                    return repository.save(updatedEntity);
+                    return repository.save(updatedEntity)
+                            .flatMap(saved -> {
+                                // A row moved to another party changes the ownership of both
+                                Mono<Void> published = publishChange(saved.getPartyId());
+                                if (!Objects.equals(existingEntity.getPartyId(), saved.getPartyId())) {
+                                    published = published.then(publishChange(existingEntity.getPartyId()));
+                                }
+                                return published.thenReturn(saved);
+                            });
                 })
                 .map(mapper::toDTO);
     }
 
     @Override
     public Mono<Void> delete(Long structureId) {
-        return repository.deleteById(structureId);
+        return repository.findById(structureId)
+                .flatMap(existingEntity -> repository.deleteById(structureId)
+                        .then(publishChange(existingEntity.getPartyId())));
+    }
+
+    /**
+     * Announces the change once it is committed, so that listeners reloading the party read the new rows.
+     */
+    private Mono<Void> publishChange(Long partyId) {
+        return AfterCommit.run(() -> eventPublisher.publishEvent(
+                new PartyDataChangedEvent(partyId, PartyDataTypeEnum.CORPORATE_STRUCTURE)));
     }
 }
@@ -0,0 +1,134 @@
+package com.catalis.core.kycb.core.services.document.v1;
+
+import com.catalis.core.kycb.models.repositories.document.v1.CorporateDocumentRepository;
+import com.catalis.core.kycb.models.repositories.document.v1.ExpiringDocument;
+import com.catalis.core.kycb.models.repositories.document.v1.VerificationDocumentRepository;
+import com.catalis.core.kycb.models.repositories.power.v1.PowerOfAttorneyRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Periodically scans corporate documents, identity documents and powers of attorney for expiry.
+ * <p>
+ * Every scan covers the window from {@code lookBehind} ago to {@code lookAhead} ahead. Each table is walked in
+ * (expiry date, ID) keyset chunks over a covering index, and the next chunk is read while the previous one is
+ * handled. The three tables are scanned in parallel. Case and action creation is idempotent, so overlapping scans,
+ * including those of other nodes, only create what is missing.
+ */
+@Slf4j
+@Component
+public class DocumentExpiryMonitor {
+
+    static final String METRIC_SCANNED = "kycb.document.expiry.scanned";
+    static final String METRIC_ACTIONS = "kycb.document.expiry.actions";
+    static final String METRIC_SCAN = "kycb.document.expiry.scan";
+
+    private static final String TAG_SOURCE = "source";
+
+    @Autowired
+    private CorporateDocumentRepository corporateDocumentRepository;
+
+    @Autowired
+    private VerificationDocumentRepository verificationDocumentRepository;
+
+    @Autowired
+    private PowerOfAttorneyRepository powerOfAttorneyRepository;
+
+    @Autowired
+    private DocumentExpiryService documentExpiryService;
+
+    @Autowired
+    private DocumentExpiryProperties properties;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Disposable poller;
+
+    @PostConstruct
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        poller = Flux.interval(properties.getInitialDelay(), properties.getScanInterval())
+                .onBackpressureDrop()
+                .concatMap(tick -> scan()
+                        .onErrorResume(e -> {
+                            log.error("Document expiry scan failed", e);
+                            return Mono.just(0L);
+                        }), 1)
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (poller != null) {
+            poller.dispose();
+        }
+    }
+
+    /**
+     * Scans all document tables once.
+     *
+     * @return A Mono containing the number of actions created
+     */
+    public Mono<Long> scan() {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime from = now.minus(properties.getLookBehind());
+            LocalDateTime to = now.plus(properties.getLookAhead());
+            return Flux.fromArray(ExpiringDocumentSourceEnum.values())
+                    .flatMap(source -> scan(source, from, to))
+                    .reduce(0L, Long::sum)
+                    .doOnNext(actions -> {
+                        sample.stop(meterRegistry.timer(METRIC_SCAN));
+                        log.info("Document expiry scan created {} actions", actions);
+                    });
+        });
+    }
+
+    private Mono<Long> scan(ExpiringDocumentSourceEnum source, LocalDateTime from, LocalDateTime to) {
+        int chunkSize = properties.getChunkSize();
+        return fetch(source, from, to, from, 0L, chunkSize)
+                .expand(chunk -> {
+                    if (chunk.size() < chunkSize) {
+                        return Mono.empty();
+                    }
+                    ExpiringDocument last = chunk.get(chunk.size() - 1);
+                    return fetch(source, from, to, last.expiryDate(), last.documentId(), chunkSize);
+                })
+                .filter(chunk -> !chunk.isEmpty())
+                .concatMap(chunk -> {
+                    meterRegistry.counter(METRIC_SCANNED, TAG_SOURCE, source.name()).increment(chunk.size());
+                    return documentExpiryService.raiseActions(source, chunk);
+                })
+                .doOnNext(actions -> meterRegistry.counter(METRIC_ACTIONS, TAG_SOURCE, source.name())
+                        .increment(actions))
+                .reduce(0L, Long::sum);
+    }
+
+    private Mono<List<ExpiringDocument>> fetch(ExpiringDocumentSourceEnum source, LocalDateTime from,
+                                               LocalDateTime to, LocalDateTime afterDate, Long afterId, int limit) {
+        Flux<ExpiringDocument> documents = switch (source) {
+            case CORPORATE_DOCUMENT ->
+                    corporateDocumentRepository.findExpiringAfter(from, to, afterDate, afterId, limit);
+            case IDENTITY_DOCUMENT ->
+                    verificationDocumentRepository.findExpiringAfter(from, to, afterDate, afterId, limit);
+            case POWER_OF_ATTORNEY ->
+                    powerOfAttorneyRepository.findExpiringAfter(from, to, afterDate, afterId, limit);
+        };
+        return documents.collectList();
+    }
+}
@@ -0,0 +1,41 @@
+package com.catalis.core.kycb.core.services.document.v1;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the document expiry monitor.
+ */
+@Data
+@ConfigurationProperties(prefix = "kycb.document-expiry")
+public class DocumentExpiryProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Delay before the first scan after startup.
+     */
+    private Duration initialDelay = Duration.ofMinutes(1);
+
+    /**
+     * Time between scans.
+     */
+    private Duration scanInterval = Duration.ofMinutes(15);
+
+    /**
+     * Documents expiring up to this far in the future are reported.
+     */
+    private Duration lookAhead = Duration.ofDays(30);
+
+    /**
+     * Documents that expired up to this long ago are still reported.
+     */
+    private Duration lookBehind = Duration.ofDays(90);
+
+    /**
+     * Number of documents read per range scan and handled per transaction.
+     */
+    private int chunkSize = 5000;
+}
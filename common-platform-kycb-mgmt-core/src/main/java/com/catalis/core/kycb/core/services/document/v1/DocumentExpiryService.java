@@ -0,0 +1,21 @@
+package com.catalis.core.kycb.core.services.document.v1;
+
+import com.catalis.core.kycb.models.repositories.document.v1.ExpiringDocument;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Service interface for raising compliance actions for expiring documents.
+ */
+public interface DocumentExpiryService {
+    /**
+     * Opens or reuses one document expiry case per party and adds a document request action for each document that
+     * does not have one on that case yet.
+     *
+     * @param source    The table the documents were read from
+     * @param documents The expiring documents
+     * @return A Mono containing the number of actions created
+     */
+    Mono<Integer> raiseActions(ExpiringDocumentSourceEnum source, List<ExpiringDocument> documents);
+}
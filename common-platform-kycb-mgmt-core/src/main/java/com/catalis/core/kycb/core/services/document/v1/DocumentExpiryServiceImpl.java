@@ -0,0 +1,153 @@
+package com.catalis.core.kycb.core.services.document.v1;
+
+import com.catalis.core.kycb.core.metrics.BusinessMetrics;
+import com.catalis.core.kycb.core.services.compliance.v1.CaseAutoAssigner;
+import com.catalis.core.kycb.interfaces.enums.compliance.v1.CaseTypeEnum;
+import com.catalis.core.kycb.models.entities.compliance.v1.ComplianceCase;
+import com.catalis.core.kycb.models.repositories.compliance.v1.ComplianceActionRepository;
+import com.catalis.core.kycb.models.repositories.compliance.v1.ComplianceCaseRepository;
+import com.catalis.core.kycb.models.repositories.document.v1.ExpiringDocument;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Implementation of the document expiry service.
+ * <p>
+ * Each party has at most one open case with reference {@code DOC-EXPIRY-<partyId>}, enforced by a partial unique
+ * index so that monitors on several nodes converge on the same case. Open cases are looked up first and only the
+ * missing ones are inserted, so repeated scans leave existing cases untouched. Actions carry the source table, row
+ * and expiry date as their source reference; a renewed document with a new expiry date gets a new action.
+ */
+@Service
+@Transactional
+public class DocumentExpiryServiceImpl implements DocumentExpiryService {
+
+    static final String CASE_REFERENCE_PREFIX = "DOC-EXPIRY-";
+    static final String ACTION_AGENT = "document-expiry-monitor";
+    private static final String CASE_SUMMARY = "Expired or expiring documents require renewal";
+
+    @Autowired
+    private ComplianceCaseRepository complianceCaseRepository;
+
+    @Autowired
+    private ComplianceActionRepository complianceActionRepository;
+
+    @Autowired
+    private CaseAutoAssigner caseAutoAssigner;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Override
+    public Mono<Integer> raiseActions(ExpiringDocumentSourceEnum source, List<ExpiringDocument> documents) {
+        Map<Long, LocalDateTime> earliestExpiryByParty = new LinkedHashMap<>();
+        for (ExpiringDocument document : documents) {
+            if (document.partyId() != null) {
+                earliestExpiryByParty.merge(document.partyId(), document.expiryDate(),
+                        (a, b) -> a.isBefore(b) ? a : b);
+            }
+        }
+        if (earliestExpiryByParty.isEmpty()) {
+            return Mono.just(0);
+        }
+        LocalDateTime now = LocalDateTime.now();
+        return resolveCases(earliestExpiryByParty, now)
+                .flatMap(caseIdByParty -> insertActions(source, documents, caseIdByParty, now));
+    }
+
+    private Mono<Map<Long, Long>> resolveCases(Map<Long, LocalDateTime> earliestExpiryByParty, LocalDateTime now) {
+        Map<Long, Long> caseIdByParty = new HashMap<>(earliestExpiryByParty.size() * 2);
+        return findOpenCases(earliestExpiryByParty.keySet(), caseIdByParty)
+                .then(Mono.defer(() -> {
+                    List<Long> missing = new ArrayList<>();
+                    for (Long partyId : earliestExpiryByParty.keySet()) {
+                        if (!caseIdByParty.containsKey(partyId)) {
+                            missing.add(partyId);
+                        }
+                    }
+                    if (missing.isEmpty()) {
+                        return Mono.just(caseIdByParty);
+                    }
+                    Long[] partyIds = missing.toArray(new Long[0]);
+                    LocalDateTime[] dueDates = new LocalDateTime[partyIds.length];
+                    for (int i = 0; i < partyIds.length; i++) {
+                        dueDates[i] = earliestExpiryByParty.get(partyIds[i]);
+                    }
+                    return complianceCaseRepository.insertOpenDocumentExpiryCases(partyIds, dueDates, CASE_SUMMARY, now)
+                            .doOnNext(opened -> caseIdByParty.put(opened.getPartyId(), opened.getComplianceCaseId()))
+                            .collectList()
+                            .flatMap(caseAutoAssigner::assignAll)
+                            .then(Mono.defer(() -> {
+                                // Cases another node opened between our lookup and insert
+                                List<Long> lost = missing.stream()
+                                        .filter(partyId -> !caseIdByParty.containsKey(partyId))
+                                        .toList();
+                                BusinessMetrics.casesOpened(meterRegistry, CaseTypeEnum.KYC_REVIEW,
+                                        BusinessMetrics.SOURCE_DOCUMENT_EXPIRY, missing.size() - lost.size());
+                                return lost.isEmpty() ? Mono.<Void>empty() : findOpenCases(lost, caseIdByParty);
+                            }))
+                            .thenReturn(caseIdByParty);
+                }));
+    }
+
+    private Mono<Void> findOpenCases(Iterable<Long> partyIds, Map<Long, Long> caseIdByParty) {
+        List<String> references = new ArrayList<>();
+        for (Long partyId : partyIds) {
+            references.add(CASE_REFERENCE_PREFIX + partyId);
+        }
+        return complianceCaseRepository.findOpenDocumentExpiryCases(references)
+                .doOnNext(open -> caseIdByParty.putIfAbsent(open.getPartyId(), open.getComplianceCaseId()))
+                .then();
+    }
+
+    private Mono<Integer> insertActions(ExpiringDocumentSourceEnum source, List<ExpiringDocument> documents,
+                                        Map<Long, Long> caseIdByParty, LocalDateTime now) {
+        int size = documents.size();
+        Long[] caseIds = new Long[size];
+        String[] descriptions = new String[size];
+        LocalDateTime[] dueDates = new LocalDateTime[size];
+        String[] sourceReferences = new String[size];
+        int count = 0;
+        for (ExpiringDocument document : documents) {
+            Long caseId = caseIdByParty.get(document.partyId());
+            if (caseId == null) {
+                continue;
+            }
+            caseIds[count] = caseId;
+            descriptions[count] = description(source, document, now);
+            dueDates[count] = document.expiryDate();
+            sourceReferences[count] = source.name() + ":" + document.documentId() + ":" + document.expiryDate();
+            count++;
+        }
+        if (count == 0) {
+            return Mono.just(0);
+        }
+        if (count < size) {
+            caseIds = Arrays.copyOf(caseIds, count);
+            descriptions = Arrays.copyOf(descriptions, count);
+            dueDates = Arrays.copyOf(dueDates, count);
+            sourceReferences = Arrays.copyOf(sourceReferences, count);
+        }
+        return complianceActionRepository.insertDocumentRequests(
+                caseIds, descriptions, dueDates, sourceReferences, ACTION_AGENT, now);
+    }
+
+    private static String description(ExpiringDocumentSourceEnum source, ExpiringDocument document,
+                                      LocalDateTime now) {
+        String state = document.expiryDate().isAfter(now) ? "expires" : "expired";
+        String type = document.documentType() == null ? source.name() : document.documentType();
+        return "Request renewal: " + type + " " + document.documentId() + " " + state + " on "
+                + document.expiryDate().toLocalDate();
+    }
+}
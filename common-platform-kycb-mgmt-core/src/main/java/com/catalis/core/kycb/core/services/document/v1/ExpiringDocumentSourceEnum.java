@@ -0,0 +1,10 @@
+package com.catalis.core.kycb.core.services.document.v1;
+
+/**
+ * Tables scanned by the document expiry monitor.
+ */
+public enum ExpiringDocumentSourceEnum {
+    CORPORATE_DOCUMENT,
+    IDENTITY_DOCUMENT,
+    POWER_OF_ATTORNEY
+}
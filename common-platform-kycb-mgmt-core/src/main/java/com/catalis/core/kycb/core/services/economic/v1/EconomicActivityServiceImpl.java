@@ -3,11 +3,15 @@ package com.catalis.core.kycb.core.services.economic.v1;
 import com.catalis.common.core.filters.FilterRequest;
 import com.catalis.common.core.filters.FilterUtils;
 import com.catalis.common.core.queries.PaginationResponse;
+import com.catalis.core.kycb.core.events.AfterCommit;
+import com.catalis.core.kycb.core.events.party.v1.PartyDataChangedEvent;
+import com.catalis.core.kycb.core.events.party.v1.PartyDataTypeEnum;
 import com.catalis.core.kycb.core.mappers.economic.v1.EconomicActivityMapper;
 import com.catalis.core.kycb.interfaces.dtos.economic.v1.EconomicActivityDTO;
 import com.catalis.core.kycb.models.entities.economic.v1.EconomicActivity;
 import com.catalis.core.kycb.models.repositories.economic.v1.EconomicActivityRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
@@ -25,6 +29,9 @@ public class EconomicActivityServiceImpl implements EconomicActivityService {
     @Autowired
     private EconomicActivityMapper mapper;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Override
     public Mono<PaginationResponse<EconomicActivityDTO>> findAll(FilterRequest<EconomicActivityDTO> filterRequest) {
         return FilterUtils.createFilter(
@@ -45,11 +52,13 @@ public class EconomicActivityServiceImpl implements EconomicActivityService {
                         return repository.save(existingPrimary);
                     })
                     .then(repository.save(entity).map(mapper::toDTO))
-                    .switchIfEmpty(repository.save(entity).map(mapper::toDTO));
+                    .switchIfEmpty(repository.save(entity).map(mapper::toDTO))
+                    .flatMap(saved -> publishChange(saved.getPartyId()).thenReturn(saved));
         }
 
         return repository.save(entity)
-                .map(mapper::toDTO);
+                .map(mapper::toDTO)
+                .flatMap(saved -> publishChange(saved.getPartyId()).thenReturn(saved));
     }
 
     @Override
@@ -80,11 +89,22 @@ public class EconomicActivityServiceImpl implements EconomicActivityService {
 
                     return repository.save(updatedEntity)
                             .map(mapper::toDTO);
-                });
+                })
+                .flatMap(saved -> publishChange(saved.getPartyId()).thenReturn(saved));
     }
 
     @Override
     public Mono<Void> delete(Long activityId) {
-        return repository.deleteById(activityId);
+        return repository.findById(activityId)
+                .flatMap(existingEntity -> repository.deleteById(activityId)
+                        .then(publishChange(existingEntity.getPartyId())));
+    }
+
+    /**
+     * Announces the change once it is committed, so that listeners reloading the party read the new rows.
+     */
+    private Mono<Void> publishChange(Long partyId) {
+        return AfterCommit.run(() -> eventPublisher.publishEvent(
+                new PartyDataChangedEvent(partyId, PartyDataTypeEnum.ECONOMIC_ACTIVITY)));
     }
 }
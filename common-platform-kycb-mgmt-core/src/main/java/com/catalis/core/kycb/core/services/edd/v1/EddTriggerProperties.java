@@ -0,0 +1,50 @@
+package com.catalis.core.kycb.core.services.edd.v1;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the automatic EDD trigger engine.
+ */
+@Data
+@ConfigurationProperties(prefix = "kycb.edd.triggers")
+public class EddTriggerProperties {
+
+    /**
+     * Whether writes to trigger sources are evaluated as they happen; evaluations and backfills run regardless.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Maximum number of changed parties evaluated in one statement.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Longest time a changed party waits for its batch to fill up.
+     */
+    private Duration batchWindow = Duration.ofSeconds(2);
+
+    /**
+     * Number of parties evaluated per statement by backfills and industry risk changes.
+     */
+    private int chunkSize = 1000;
+
+    /**
+     * Maximum number of parties evaluated in a synchronous request; larger sets need a backfill.
+     */
+    private int maxSyncParties = 1000;
+
+    /**
+     * How long a completed or waived EDD keeps the trigger it was opened for from opening a new one on the same
+     * verification and reason.
+     */
+    private Duration closedCooldown = Duration.ofDays(180);
+
+    /**
+     * Number of finished backfill jobs kept for progress queries.
+     */
+    private int retainedJobs = 20;
+}
@@ -0,0 +1,62 @@
+package com.catalis.core.kycb.core.services.edd.v1;
+
+import com.catalis.core.kycb.core.events.industry.v1.IndustryRiskChangedEvent;
+import com.catalis.core.kycb.core.events.party.v1.PartyDataChangedEvent;
+import com.catalis.core.kycb.interfaces.dtos.edd.v1.EddTriggerJobDTO;
+import com.catalis.core.kycb.interfaces.dtos.edd.v1.EnhancedDueDiligenceDTO;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Service interface for opening enhanced due diligence automatically when a party meets an EDD trigger: a HIGH or
+ * EXTREME risk level on its KYC or KYB verification, an activity whose industry risk requires EDD, a confirmed PEP
+ * match, or a positive answer on its sanctions questionnaire.
+ */
+public interface EddTriggerService {
+
+    /**
+     * Evaluates the triggers of the given parties and creates the EDDs that are due.
+     *
+     * @param partyIds The IDs of the parties, at most the configured synchronous limit
+     * @return A Flux of the EDDs created
+     */
+    Flux<EnhancedDueDiligenceDTO> evaluate(List<Long> partyIds);
+
+    /**
+     * Queues a party for evaluation when one of its trigger sources changed.
+     *
+     * @param event The party data change
+     */
+    void onPartyDataChanged(PartyDataChangedEvent event);
+
+    /**
+     * Evaluates every party carrying an activity code when its industry risk now requires EDD.
+     *
+     * @param event The industry risk change
+     */
+    void onIndustryRiskChanged(IndustryRiskChangedEvent event);
+
+    /**
+     * Starts a background job evaluating every party with a KYC verification.
+     *
+     * @return A Mono containing the job as started
+     */
+    Mono<EddTriggerJobDTO> startBackfill();
+
+    /**
+     * Gets the progress of a backfill job.
+     *
+     * @param jobId The ID of the job
+     * @return A Mono containing the job, or empty if unknown or no longer retained
+     */
+    Mono<EddTriggerJobDTO> getJob(String jobId);
+
+    /**
+     * Lists running and recently finished backfill jobs, newest first.
+     *
+     * @return A Flux of jobs
+     */
+    Flux<EddTriggerJobDTO> listJobs();
+}
@@ -0,0 +1,284 @@
+package com.catalis.core.kycb.core.services.edd.v1;
+
+import com.catalis.core.kycb.core.events.industry.v1.IndustryRiskChangedEvent;
+import com.catalis.core.kycb.core.events.party.v1.PartyDataChangedEvent;
+import com.catalis.core.kycb.core.events.party.v1.PartyDataTypeEnum;
+import com.catalis.core.kycb.core.mappers.edd.v1.EnhancedDueDiligenceMapper;
+import com.catalis.core.kycb.interfaces.dtos.edd.v1.EddTriggerJobDTO;
+import com.catalis.core.kycb.interfaces.dtos.edd.v1.EnhancedDueDiligenceDTO;
+import com.catalis.core.kycb.interfaces.enums.edd.v1.EddTriggerJobStatusEnum;
+import com.catalis.core.kycb.models.entities.edd.v1.EnhancedDueDiligence;
+import com.catalis.core.kycb.models.repositories.economic.v1.EconomicActivityRepository;
+import com.catalis.core.kycb.models.repositories.edd.v1.EnhancedDueDiligenceRepository;
+import com.catalis.core.kycb.models.repositories.industry.v1.IndustryRiskRepository;
+import com.catalis.core.kycb.models.repositories.kyc.v1.KycVerificationRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Implementation of the EDD trigger service.
+ * <p>
+ * Every evaluation is one statement over a set of parties: it resolves the latest KYC verification of each, unions
+ * the trigger sources, and inserts the EDDs that have no open or recently closed counterpart for the same
+ * verification and reason.
+ * Changed parties are collected into batches by size or time window, so a burst of writes costs one statement per
+ * batch rather than one per write. Changes are announced once committed, so a batch closed early by its size reads
+ * them. Backfills page party IDs by keyset, so memory stays bounded by one chunk.
+ */
+@Slf4j
+@Service
+public class EddTriggerServiceImpl implements EddTriggerService {
+
+    /**
+     * Party data whose changes can raise an EDD trigger.
+     */
+    static final Set<PartyDataTypeEnum> TRIGGER_SOURCES = EnumSet.of(
+            PartyDataTypeEnum.AML_MATCH,
+            PartyDataTypeEnum.ECONOMIC_ACTIVITY,
+            PartyDataTypeEnum.KYB_VERIFICATION,
+            PartyDataTypeEnum.KYC_VERIFICATION,
+            PartyDataTypeEnum.SANCTIONS_QUESTIONNAIRE
+    );
+
+    static final String METRIC_TRIGGERED = "kycb.edd.triggered";
+
+    @Autowired
+    private EnhancedDueDiligenceRepository enhancedDueDiligenceRepository;
+
+    @Autowired
+    private KycVerificationRepository kycVerificationRepository;
+
+    @Autowired
+    private EconomicActivityRepository economicActivityRepository;
+
+    @Autowired
+    private IndustryRiskRepository industryRiskRepository;
+
+    @Autowired
+    private EnhancedDueDiligenceMapper mapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EddTriggerProperties properties;
+
+    private final Map<String, BackfillJob> jobs = new ConcurrentHashMap<>();
+    private final Sinks.Many<Long> changedParties = Sinks.many().unicast().onBackpressureBuffer();
+    private Disposable pipeline;
+
+    @PostConstruct
+    public void start() {
+        pipeline = changedParties.asFlux()
+                .bufferTimeout(properties.getBatchSize(), properties.getBatchWindow())
+                .concatMap(batch -> trigger(List.copyOf(new LinkedHashSet<>(batch)))
+                        .onErrorResume(e -> {
+                            log.error("Failed to evaluate EDD triggers of {} parties", batch.size(), e);
+                            return Mono.empty();
+                        }), 1)
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        jobs.values().forEach(job -> job.finish(EddTriggerJobStatusEnum.CANCELLED, "Shutdown"));
+        if (pipeline != null) {
+            pipeline.dispose();
+        }
+    }
+
+    @Override
+    public Flux<EnhancedDueDiligenceDTO> evaluate(List<Long> partyIds) {
+        List<Long> distinct = List.copyOf(new LinkedHashSet<>(partyIds));
+        if (distinct.size() > properties.getMaxSyncParties()) {
+            return Flux.error(new IllegalArgumentException("At most " + properties.getMaxSyncParties()
+                    + " parties can be evaluated per request; start a backfill instead"));
+        }
+        return Flux.fromIterable(distinct)
+                .buffer(properties.getChunkSize())
+                .concatMap(this::trigger)
+                .flatMapIterable(Function.identity())
+                .map(mapper::toDTO);
+    }
+
+    @Override
+    @EventListener
+    public void onPartyDataChanged(PartyDataChangedEvent event) {
+        if (!properties.isEnabled() || event.partyId() == null || !TRIGGER_SOURCES.contains(event.type())) {
+            return;
+        }
+        changedParties.emitNext(event.partyId(), Sinks.EmitFailureHandler.busyLooping(Duration.ofMillis(100)));
+    }
+
+    @Override
+    @EventListener
+    public void onIndustryRiskChanged(IndustryRiskChangedEvent event) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        String activityCode = event.activityCode();
+        industryRiskRepository.findFirstByActivityCodeOrderByAssessmentDateDesc(activityCode)
+                .filter(latest -> Boolean.TRUE.equals(latest.getRequiresEdd()))
+                .flatMapMany(latest -> fetchActivityPage(activityCode, 0L)
+                        .expand(page -> page.size() < properties.getChunkSize()
+                                ? Mono.empty()
+                                : fetchActivityPage(activityCode, page.get(page.size() - 1))))
+                .concatMap(this::trigger)
+                .map(List::size)
+                .reduce(0, Integer::sum)
+                .subscribe(
+                        created -> log.info("Industry risk of activity code {} requires EDD: {} EDDs created",
+                                activityCode, created),
+                        e -> log.error("Failed to evaluate EDD triggers for activity code {}", activityCode, e)
+                );
+    }
+
+    @Override
+    public Mono<EddTriggerJobDTO> startBackfill() {
+        return Mono.fromCallable(() -> {
+            BackfillJob job = new BackfillJob(UUID.randomUUID().toString());
+            jobs.put(job.jobId, job);
+            evictFinishedJobs();
+            job.disposable = run(job).subscribe();
+            return job.toDTO();
+        });
+    }
+
+    @Override
+    public Mono<EddTriggerJobDTO> getJob(String jobId) {
+        return Mono.justOrEmpty(jobs.get(jobId))
+                .map(BackfillJob::toDTO);
+    }
+
+    @Override
+    public Flux<EddTriggerJobDTO> listJobs() {
+        return Flux.fromStream(jobs.values().stream()
+                        .sorted(Comparator.comparing((BackfillJob job) -> job.startedAt).reversed()))
+                .map(BackfillJob::toDTO);
+    }
+
+    private Mono<Void> run(BackfillJob job) {
+        return kycVerificationRepository.countParties()
+                .doOnNext(job.totalParties::set)
+                .thenMany(fetchPage(0L).expand(page -> page.size() < properties.getChunkSize()
+                        ? Mono.empty()
+                        : fetchPage(page.get(page.size() - 1))))
+                .concatMap(chunk -> trigger(chunk)
+                        .doOnNext(created -> {
+                            job.evaluatedParties.addAndGet(chunk.size());
+                            job.createdEdds.addAndGet(created.size());
+                        }))
+                .then()
+                .doOnSuccess(ignored -> {
+                    job.finish(EddTriggerJobStatusEnum.COMPLETED, null);
+                    log.info("EDD trigger backfill {} completed: {} parties evaluated, {} EDDs created",
+                            job.jobId, job.evaluatedParties.get(), job.createdEdds.get());
+                })
+                .onErrorResume(e -> {
+                    log.error("EDD trigger backfill {} failed", job.jobId, e);
+                    job.finish(EddTriggerJobStatusEnum.FAILED, e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<List<Long>> fetchPage(Long afterPartyId) {
+        return kycVerificationRepository.findPartyIdsAfter(afterPartyId, properties.getChunkSize())
+                .collectList()
+                .filter(page -> !page.isEmpty());
+    }
+
+    private Mono<List<Long>> fetchActivityPage(String activityCode, Long afterPartyId) {
+        return economicActivityRepository
+                .findPartyIdsByActivityCodeAfter(activityCode, afterPartyId, properties.getChunkSize())
+                .collectList()
+                .filter(page -> !page.isEmpty());
+    }
+
+    private Mono<List<EnhancedDueDiligence>> trigger(List<Long> partyIds) {
+        if (partyIds.isEmpty()) {
+            return Mono.just(List.of());
+        }
+        LocalDateTime now = LocalDateTime.now();
+        return enhancedDueDiligenceRepository
+                .createTriggered(partyIds.toArray(Long[]::new), now, now.minus(properties.getClosedCooldown()))
+                .collectList()
+                .doOnNext(created -> created.forEach(edd -> {
+                    meterRegistry.counter(METRIC_TRIGGERED, "reason", edd.getEddReason().name()).increment();
+                    log.info("Opened {} EDD {} for KYC verification {}",
+                            edd.getEddReason(), edd.getEddId(), edd.getKycVerificationId());
+                }));
+    }
+
+    private void evictFinishedJobs() {
+        List<BackfillJob> finished = jobs.values().stream()
+                .filter(job -> job.status != EddTriggerJobStatusEnum.RUNNING)
+                .sorted(Comparator.comparing((BackfillJob job) -> job.startedAt).reversed())
+                .toList();
+        for (int i = properties.getRetainedJobs(); i < finished.size(); i++) {
+            jobs.remove(finished.get(i).jobId);
+        }
+    }
+
+    private static final class BackfillJob {
+        private final String jobId;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final AtomicLong totalParties = new AtomicLong();
+        private final AtomicLong evaluatedParties = new AtomicLong();
+        private final AtomicLong createdEdds = new AtomicLong();
+        private volatile EddTriggerJobStatusEnum status = EddTriggerJobStatusEnum.RUNNING;
+        private volatile LocalDateTime finishedAt;
+        private volatile String errorMessage;
+        private volatile Disposable disposable;
+
+        private BackfillJob(String jobId) {
+            this.jobId = jobId;
+        }
+
+        private synchronized void finish(EddTriggerJobStatusEnum finalStatus, String message) {
+            if (status != EddTriggerJobStatusEnum.RUNNING) {
+                return;
+            }
+            status = finalStatus;
+            errorMessage = message;
+            finishedAt = LocalDateTime.now();
+            if (finalStatus == EddTriggerJobStatusEnum.CANCELLED && disposable != null) {
+                disposable.dispose();
+            }
+        }
+
+        private EddTriggerJobDTO toDTO() {
+            return EddTriggerJobDTO.builder()
+                    .jobId(jobId)
+                    .status(status.name())
+                    .totalParties(totalParties.get())
+                    .evaluatedParties(evaluatedParties.get())
+                    .createdEdds(createdEdds.get())
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .errorMessage(errorMessage)
+                    .build();
+        }
+    }
+}
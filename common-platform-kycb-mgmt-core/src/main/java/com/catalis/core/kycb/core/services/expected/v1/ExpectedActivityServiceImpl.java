@@ -3,11 +3,15 @@ package com.catalis.core.kycb.core.services.expected.v1;
 import com.catalis.common.core.filters.FilterRequest;
 import com.catalis.common.core.filters.FilterUtils;
 import com.catalis.common.core.queries.PaginationResponse;
+import com.catalis.core.kycb.core.events.AfterCommit;
+import com.catalis.core.kycb.core.events.party.v1.PartyDataChangedEvent;
+import com.catalis.core.kycb.core.events.party.v1.PartyDataTypeEnum;
 import com.catalis.core.kycb.core.mappers.expected.v1.ExpectedActivityMapper;
 import com.catalis.core.kycb.interfaces.dtos.expected.v1.ExpectedActivityDTO;
 import com.catalis.core.kycb.models.entities.expected.v1.ExpectedActivity;
 import com.catalis.core.kycb.models.repositories.expected.v1.ExpectedActivityRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
@@ -25,6 +29,9 @@ public class ExpectedActivityServiceImpl implements ExpectedActivityService {
     @Autowired
     private ExpectedActivityMapper mapper;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Override
     public Mono<PaginationResponse<ExpectedActivityDTO>> findAll(FilterRequest<ExpectedActivityDTO> filterRequest) {
         return FilterUtils.createFilter(
@@ -37,7 +44,8 @@ public class ExpectedActivityServiceImpl implements ExpectedActivityService {
     public Mono<ExpectedActivityDTO> create(ExpectedActivityDTO dto) {
         ExpectedActivity entity = mapper.toEntity(dto);
         return repository.save(entity)
-                .map(mapper::toDTO);
+                .map(mapper::toDTO)
+                .flatMap(saved -> publishChange(saved.getPartyId()).thenReturn(saved));
     }
 
     @Override
@@ -56,11 +64,22 @@ public class ExpectedActivityServiceImpl implements ExpectedActivityService {
                     updatedEntity.setDateCreated(existingEntity.getDateCreated());
                     return repository.save(updatedEntity);
                 })
-                .map(mapper::toDTO);
+                .map(mapper::toDTO)
+                .flatMap(saved -> publishChange(saved.getPartyId()).thenReturn(saved));
     }
 
     @Override
     public Mono<Void> delete(Long activityId) {
-        return repository.deleteById(activityId);
+        return repository.findById(activityId)
+                .flatMap(existingEntity -> repository.deleteById(activityId)
+                        .then(publishChange(existingEntity.getPartyId())));
+    }
+
+    /**
+     * Announces the change once it is committed, so that listeners reloading the party read the new rows.
+     */
+    private Mono<Void> publishChange(Long partyId) {
+        return AfterCommit.run(() -> eventPublisher.publishEvent(
+                new PartyDataChangedEvent(partyId, PartyDataTypeEnum.EXPECTED_ACTIVITY)));
     }
-}
\ No newline at end of file
+}
@@ -3,16 +3,20 @@ package com.catalis.core.kycb.core.services.industry.v1;
 import com.catalis.common.core.filters.FilterRequest;
 import com.catalis.common.core.filters.FilterUtils;
 import com.catalis.common.core.queries.PaginationResponse;
+import com.catalis.core.kycb.core.events.AfterCommit;
+import com.catalis.core.kycb.core.events.industry.v1.IndustryRiskChangedEvent;
 import com.catalis.core.kycb.core.mappers.industry.v1.IndustryRiskMapper;
 import com.catalis.core.kycb.interfaces.dtos.industry.v1.IndustryRiskDTO;
 import com.catalis.core.kycb.models.entities.industry.v1.IndustryRisk;
 import com.catalis.core.kycb.models.repositories.industry.v1.IndustryRiskRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
+import java.util.Objects;
 
 /**
  * Implementation of the industry risk service.
@@ -27,6 +31,9 @@ public class IndustryRiskServiceImpl implements IndustryRiskService {
     @Autowired
     private IndustryRiskMapper mapper;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Override
     public Mono<PaginationResponse<IndustryRiskDTO>> findAll(FilterRequest<IndustryRiskDTO> filterRequest) {
         return FilterUtils.createFilter(
@@ -43,6 +50,7 @@ public class IndustryRiskServiceImpl implements IndustryRiskService {
             entity.setAssessmentDate(LocalDateTime.now());
         }
         return repository.save(entity)
+                .flatMap(saved -> publishChange(saved.getIndustryRiskId(), saved.getActivityCode()).thenReturn(saved))
                 .map(mapper::toDTO);
     }
 
@@ -60,13 +68,52 @@ public class IndustryRiskServiceImpl implements IndustryRiskService {
                     updatedEntity.setIndustryRiskId(industryRiskId);
                     // Preserve creation date
                     updatedEntity.setDateCreated(existingEntity.getDateCreated());
-                    return repository.save(updatedEntity);
+                    return repository.save(updatedEntity)
+                            .flatMap(saved -> {
+                                if (!affectsRiskRating(existingEntity, saved)) {
+                                    return Mono.just(saved);
+                                }
+                                Mono<Void> published = publishChange(industryRiskId, saved.getActivityCode());
+                                if (!Objects.equals(existingEntity.getActivityCode(), saved.getActivityCode())) {
+                                    published = published.then(
+                                            publishChange(industryRiskId, existingEntity.getActivityCode()));
+                                }
+                                return published.thenReturn(saved);
+                            });
                 })
                 .map(mapper::toDTO);
     }
 
     @Override
     public Mono<Void> delete(Long industryRiskId) {
-        return repository.deleteById(industryRiskId);
+        return repository.findById(industryRiskId)
+                .flatMap(existingEntity -> repository.deleteById(industryRiskId)
+                        .then(publishChange(industryRiskId, existingEntity.getActivityCode())))
+                .then();
+    }
+
+    /**
+     * Whether an update touches any field the risk engine scores parties from.
+     */
+    private boolean affectsRiskRating(IndustryRisk before, IndustryRisk after) {
+        return !Objects.equals(before.getActivityCode(), after.getActivityCode())
+                || before.getInherentRiskLevel() != after.getInherentRiskLevel()
+                || !Objects.equals(before.getSepblacHighRisk(), after.getSepblacHighRisk())
+                || !Objects.equals(before.getEuHighRisk(), after.getEuHighRisk())
+                || !Objects.equals(before.getFatfHighRisk(), after.getFatfHighRisk())
+                || !Objects.equals(before.getRequiresEdd(), after.getRequiresEdd())
+                || !Objects.equals(before.getCashIntensive(), after.getCashIntensive())
+                || !Objects.equals(before.getComplexStructures(), after.getComplexStructures());
+    }
+
+    /**
+     * Announces the change once it is committed, so that listeners re-rating parties read the new row.
+     */
+    private Mono<Void> publishChange(Long industryRiskId, String activityCode) {
+        if (activityCode == null) {
+            return Mono.empty();
+        }
+        return AfterCommit.run(() -> eventPublisher.publishEvent(new IndustryRiskChangedEvent(industryRiskId,
+                activityCode)));
     }
-}
\ No newline at end of file
+}
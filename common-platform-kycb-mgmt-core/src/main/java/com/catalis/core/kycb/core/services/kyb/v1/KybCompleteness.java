@@ -0,0 +1,71 @@
+package com.catalis.core.kycb.core.services.kyb.v1;
+
+import com.catalis.core.kycb.interfaces.dtos.kyb.v1.KybCompletenessDTO;
+import com.catalis.core.kycb.interfaces.enums.verification.v1.VerificationStatusEnum;
+import com.catalis.core.kycb.models.repositories.business.v1.BusinessProfileCoverage;
+import com.catalis.core.kycb.models.repositories.corporate.v1.CorporateStructureCoverage;
+import com.catalis.core.kycb.models.repositories.document.v1.CorporateDocumentCoverage;
+import com.catalis.core.kycb.models.repositories.ownership.v1.UboCoverage;
+
+/**
+ * The KYB verification flags of a party, derived from what its records show:
+ * <ul>
+ *     <li>mercantile registry: a verified document carries a commercial registry entry</li>
+ *     <li>deed of incorporation and tax ID: a verified, unexpired document of that type exists</li>
+ *     <li>business structure: the business profile states a legal form, verified bylaws exist and every current
+ *     structure link is verified</li>
+ *     <li>UBO: at least one current UBO, all of them verified</li>
+ *     <li>operating license: a business profile exists and, if the business is regulated, names its regulator</li>
+ * </ul>
+ */
+public record KybCompleteness(Long partyId, boolean mercantileRegistry, boolean deedOfIncorporation,
+                              boolean businessStructure, boolean ubo, boolean taxId, boolean operatingLicense) {
+
+    /**
+     * @param documents The party's document coverage, or null if it has no verified documents
+     * @param structure The party's structure coverage, or null if it has no current links
+     * @param ubos      The party's UBO coverage, or null if it has no current UBOs
+     * @param profile   The party's latest business profile, or null if it has none
+     */
+    public static KybCompleteness of(Long partyId, CorporateDocumentCoverage documents,
+                                     CorporateStructureCoverage structure, UboCoverage ubos,
+                                     BusinessProfileCoverage profile) {
+        boolean bylaws = documents != null && isTrue(documents.bylaws());
+        boolean structureVerified = structure == null
+                || structure.verifiedLinks().equals(structure.currentLinks());
+        return new KybCompleteness(
+                partyId,
+                documents != null && isTrue(documents.mercantileRegistry()),
+                documents != null && isTrue(documents.deedOfIncorporation()),
+                profile != null && isTrue(profile.hasLegalForm()) && bylaws && structureVerified,
+                ubos != null && ubos.currentUbos() > 0 && ubos.verifiedUbos().equals(ubos.currentUbos()),
+                documents != null && isTrue(documents.taxId()),
+                profile != null && (!isTrue(profile.regulated()) || isTrue(profile.hasRegulator())));
+    }
+
+    public VerificationStatusEnum status() {
+        int verified = (mercantileRegistry ? 1 : 0) + (deedOfIncorporation ? 1 : 0) + (businessStructure ? 1 : 0)
+                + (ubo ? 1 : 0) + (taxId ? 1 : 0) + (operatingLicense ? 1 : 0);
+        if (verified == 6) {
+            return VerificationStatusEnum.VERIFIED;
+        }
+        return verified > 0 ? VerificationStatusEnum.IN_PROGRESS : VerificationStatusEnum.PENDING;
+    }
+
+    public KybCompletenessDTO toDTO() {
+        return KybCompletenessDTO.builder()
+                .partyId(partyId)
+                .mercantileRegistryVerified(mercantileRegistry)
+                .deedOfIncorporationVerified(deedOfIncorporation)
+                .businessStructureVerified(businessStructure)
+                .uboVerified(ubo)
+                .taxIdVerified(taxId)
+                .operatingLicenseVerified(operatingLicense)
+                .verificationStatus(status().name())
+                .build();
+    }
+
+    private static boolean isTrue(Boolean value) {
+        return Boolean.TRUE.equals(value);
+    }
+}
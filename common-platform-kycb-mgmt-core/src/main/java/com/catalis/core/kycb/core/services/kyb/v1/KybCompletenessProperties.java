@@ -0,0 +1,27 @@
+package com.catalis.core.kycb.core.services.kyb.v1;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration of KYB completeness evaluation.
+ */
+@Data
+@ConfigurationProperties(prefix = "kycb.kyb.completeness")
+public class KybCompletenessProperties {
+
+    /**
+     * Number of parties read and written per set of statements.
+     */
+    private int chunkSize = 2000;
+
+    /**
+     * Maximum number of parties evaluated in a synchronous request; larger sets need a job.
+     */
+    private int maxSyncParties = 2000;
+
+    /**
+     * Number of finished jobs kept for progress queries.
+     */
+    private int retainedJobs = 20;
+}
@@ -0,0 +1,47 @@
+package com.catalis.core.kycb.core.services.kyb.v1;
+
+import com.catalis.core.kycb.interfaces.dtos.kyb.v1.KybCompletenessDTO;
+import com.catalis.core.kycb.interfaces.dtos.kyb.v1.KybCompletenessJobDTO;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Service interface for deriving KYB verification flags and status from a party's corporate documents, structure,
+ * UBOs and business profile.
+ */
+public interface KybCompletenessService {
+
+    /**
+     * Evaluates the given parties and writes the result to the latest KYB verification of each.
+     *
+     * @param partyIds The IDs of the parties, at most the configured synchronous limit
+     * @return A Flux of evaluations, one per distinct party
+     */
+    Flux<KybCompletenessDTO> evaluate(List<Long> partyIds);
+
+    /**
+     * Starts a background job evaluating the given parties, or every party with a KYB verification if none are
+     * given.
+     *
+     * @param partyIds The IDs of the parties, or null or empty for all
+     * @return A Mono containing the job as started
+     */
+    Mono<KybCompletenessJobDTO> startJob(List<Long> partyIds);
+
+    /**
+     * Gets the progress of a job.
+     *
+     * @param jobId The ID of the job
+     * @return A Mono containing the job, or empty if unknown or no longer retained
+     */
+    Mono<KybCompletenessJobDTO> getJob(String jobId);
+
+    /**
+     * Lists running and recently finished jobs, newest first.
+     *
+     * @return A Flux of jobs
+     */
+    Flux<KybCompletenessJobDTO> listJobs();
+}
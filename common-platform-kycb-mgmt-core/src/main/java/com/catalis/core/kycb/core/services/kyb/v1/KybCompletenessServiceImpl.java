@@ -0,0 +1,251 @@
+package com.catalis.core.kycb.core.services.kyb.v1;
+
+import com.catalis.core.kycb.interfaces.dtos.kyb.v1.KybCompletenessDTO;
+import com.catalis.core.kycb.interfaces.dtos.kyb.v1.KybCompletenessJobDTO;
+import com.catalis.core.kycb.interfaces.enums.verification.v1.KybCompletenessJobStatusEnum;
+import com.catalis.core.kycb.models.repositories.business.v1.BusinessProfileCoverage;
+import com.catalis.core.kycb.models.repositories.business.v1.BusinessProfileRepository;
+import com.catalis.core.kycb.models.repositories.corporate.v1.CorporateStructureCoverage;
+import com.catalis.core.kycb.models.repositories.corporate.v1.CorporateStructureRepository;
+import com.catalis.core.kycb.models.repositories.document.v1.CorporateDocumentCoverage;
+import com.catalis.core.kycb.models.repositories.document.v1.CorporateDocumentRepository;
+import com.catalis.core.kycb.models.repositories.kyb.v1.KybVerificationRepository;
+import com.catalis.core.kycb.models.repositories.ownership.v1.UboCoverage;
+import com.catalis.core.kycb.models.repositories.ownership.v1.UboRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Implementation of the KYB completeness service.
+ * <p>
+ * Parties are handled in chunks. For each chunk the four source tables are read concurrently, each with one grouped
+ * query over all parties of the chunk, the flags are derived in memory and the latest KYB verification of every
+ * party is written with one {@code UPDATE ... FROM unnest(...)}. A job over the whole portfolio pages party IDs by
+ * keyset, so memory stays bounded by one chunk. A job runs detached from the transaction of the request that
+ * started it, so each chunk commits on its own and a failure only loses the chunk in progress.
+ */
+@Slf4j
+@Service
+@Transactional
+public class KybCompletenessServiceImpl implements KybCompletenessService {
+
+    @Autowired
+    private CorporateDocumentRepository corporateDocumentRepository;
+
+    @Autowired
+    private CorporateStructureRepository corporateStructureRepository;
+
+    @Autowired
+    private UboRepository uboRepository;
+
+    @Autowired
+    private BusinessProfileRepository businessProfileRepository;
+
+    @Autowired
+    private KybVerificationRepository kybVerificationRepository;
+
+    @Autowired
+    private KybCompletenessProperties properties;
+
+    private final Map<String, CompletenessJob> jobs = new ConcurrentHashMap<>();
+
+    @Override
+    public Flux<KybCompletenessDTO> evaluate(List<Long> partyIds) {
+        List<Long> distinct = List.copyOf(new LinkedHashSet<>(partyIds));
+        if (distinct.size() > properties.getMaxSyncParties()) {
+            return Flux.error(new IllegalArgumentException("At most " + properties.getMaxSyncParties()
+                    + " parties can be evaluated per request; start a job instead"));
+        }
+        return Flux.fromIterable(distinct)
+                .buffer(properties.getChunkSize())
+                .concatMap(chunk -> evaluateChunk(chunk, LocalDateTime.now()))
+                .flatMapIterable(ChunkResult::evaluations)
+                .map(KybCompleteness::toDTO);
+    }
+
+    @Override
+    public Mono<KybCompletenessJobDTO> startJob(List<Long> partyIds) {
+        return Mono.fromCallable(() -> {
+            CompletenessJob job = new CompletenessJob(UUID.randomUUID().toString());
+            jobs.put(job.jobId, job);
+            evictFinishedJobs();
+            job.disposable = run(job, partyIds == null ? List.of() : List.copyOf(new LinkedHashSet<>(partyIds)))
+                    .subscribe();
+            return job.toDTO();
+        });
+    }
+
+    @Override
+    public Mono<KybCompletenessJobDTO> getJob(String jobId) {
+        return Mono.justOrEmpty(jobs.get(jobId))
+                .map(CompletenessJob::toDTO);
+    }
+
+    @Override
+    public Flux<KybCompletenessJobDTO> listJobs() {
+        return Flux.fromStream(jobs.values().stream()
+                        .sorted(Comparator.comparing((CompletenessJob job) -> job.startedAt).reversed()))
+                .map(CompletenessJob::toDTO);
+    }
+
+    @PreDestroy
+    public void stop() {
+        jobs.values().forEach(job -> job.finish(KybCompletenessJobStatusEnum.CANCELLED, "Shutdown"));
+    }
+
+    private Mono<Void> run(CompletenessJob job, List<Long> partyIds) {
+        Mono<Long> total = partyIds.isEmpty()
+                ? kybVerificationRepository.countParties()
+                : Mono.just((long) partyIds.size());
+        Flux<List<Long>> chunks = partyIds.isEmpty()
+                ? fetchPage(0L).expand(page -> page.size() < properties.getChunkSize()
+                        ? Mono.empty()
+                        : fetchPage(page.get(page.size() - 1)))
+                : Flux.fromIterable(partyIds).buffer(properties.getChunkSize());
+        return total
+                .doOnNext(job.totalParties::set)
+                .thenMany(chunks)
+                .concatMap(chunk -> evaluateChunk(chunk, LocalDateTime.now()))
+                .doOnNext(result -> {
+                    job.evaluatedParties.addAndGet(result.evaluations().size());
+                    job.updatedVerifications.addAndGet(result.updated());
+                })
+                .then()
+                .doOnSuccess(ignored -> {
+                    job.finish(KybCompletenessJobStatusEnum.COMPLETED, null);
+                    log.info("KYB completeness job {} completed: {} parties evaluated, {} verifications updated",
+                            job.jobId, job.evaluatedParties.get(), job.updatedVerifications.get());
+                })
+                .onErrorResume(e -> {
+                    log.error("KYB completeness job {} failed", job.jobId, e);
+                    job.finish(KybCompletenessJobStatusEnum.FAILED, e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<List<Long>> fetchPage(Long afterPartyId) {
+        return kybVerificationRepository.findPartyIdsAfter(afterPartyId, properties.getChunkSize())
+                .collectList()
+                .filter(page -> !page.isEmpty());
+    }
+
+    private Mono<ChunkResult> evaluateChunk(List<Long> partyIds, LocalDateTime at) {
+        Long[] ids = partyIds.toArray(Long[]::new);
+        return Mono.zip(
+                        corporateDocumentRepository.summarizeCoverage(ids, at)
+                                .collectMap(CorporateDocumentCoverage::partyId),
+                        corporateStructureRepository.summarizeCoverage(ids, at)
+                                .collectMap(CorporateStructureCoverage::partyId),
+                        uboRepository.summarizeCoverage(ids, at)
+                                .collectMap(UboCoverage::partyId),
+                        businessProfileRepository.summarizeCoverage(ids)
+                                .collectMap(BusinessProfileCoverage::partyId))
+                .flatMap(coverage -> {
+                    List<KybCompleteness> evaluations = new ArrayList<>(partyIds.size());
+                    for (Long partyId : partyIds) {
+                        evaluations.add(KybCompleteness.of(partyId,
+                                coverage.getT1().get(partyId),
+                                coverage.getT2().get(partyId),
+                                coverage.getT3().get(partyId),
+                                coverage.getT4().get(partyId)));
+                    }
+                    return apply(evaluations, at)
+                            .map(updated -> new ChunkResult(evaluations, updated));
+                });
+    }
+
+    private Mono<Integer> apply(List<KybCompleteness> evaluations, LocalDateTime at) {
+        int size = evaluations.size();
+        Long[] partyIds = new Long[size];
+        Boolean[] mercantileRegistry = new Boolean[size];
+        Boolean[] deedOfIncorporation = new Boolean[size];
+        Boolean[] businessStructure = new Boolean[size];
+        Boolean[] ubo = new Boolean[size];
+        Boolean[] taxId = new Boolean[size];
+        Boolean[] operatingLicense = new Boolean[size];
+        String[] statuses = new String[size];
+        for (int i = 0; i < size; i++) {
+            KybCompleteness evaluation = evaluations.get(i);
+            partyIds[i] = evaluation.partyId();
+            mercantileRegistry[i] = evaluation.mercantileRegistry();
+            deedOfIncorporation[i] = evaluation.deedOfIncorporation();
+            businessStructure[i] = evaluation.businessStructure();
+            ubo[i] = evaluation.ubo();
+            taxId[i] = evaluation.taxId();
+            operatingLicense[i] = evaluation.operatingLicense();
+            statuses[i] = evaluation.status().name();
+        }
+        return kybVerificationRepository.applyCompleteness(partyIds, mercantileRegistry, deedOfIncorporation,
+                businessStructure, ubo, taxId, operatingLicense, statuses, at);
+    }
+
+    private void evictFinishedJobs() {
+        List<CompletenessJob> finished = jobs.values().stream()
+                .filter(job -> job.status != KybCompletenessJobStatusEnum.RUNNING)
+                .sorted(Comparator.comparing((CompletenessJob job) -> job.startedAt).reversed())
+                .toList();
+        for (int i = properties.getRetainedJobs(); i < finished.size(); i++) {
+            jobs.remove(finished.get(i).jobId);
+        }
+    }
+
+    private record ChunkResult(List<KybCompleteness> evaluations, int updated) {
+    }
+
+    private static final class CompletenessJob {
+        private final String jobId;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final AtomicLong totalParties = new AtomicLong();
+        private final AtomicLong evaluatedParties = new AtomicLong();
+        private final AtomicLong updatedVerifications = new AtomicLong();
+        private volatile KybCompletenessJobStatusEnum status = KybCompletenessJobStatusEnum.RUNNING;
+        private volatile LocalDateTime finishedAt;
+        private volatile String errorMessage;
+        private volatile Disposable disposable;
+
+        private CompletenessJob(String jobId) {
+            this.jobId = jobId;
+        }
+
+        private synchronized void finish(KybCompletenessJobStatusEnum finalStatus, String message) {
+            if (status != KybCompletenessJobStatusEnum.RUNNING) {
+                return;
+            }
+            status = finalStatus;
+            errorMessage = message;
+            finishedAt = LocalDateTime.now();
+            if (finalStatus == KybCompletenessJobStatusEnum.CANCELLED && disposable != null) {
+                disposable.dispose();
+            }
+        }
+
+        private KybCompletenessJobDTO toDTO() {
+            return KybCompletenessJobDTO.builder()
+                    .jobId(jobId)
+                    .status(status.name())
+                    .totalParties(totalParties.get())
+                    .evaluatedParties(evaluatedParties.get())
+                    .updatedVerifications(updatedVerifications.get())
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .errorMessage(errorMessage)
+                    .build();
+        }
+    }
+}
@@ -4,12 +4,16 @@ import com.catalis.common.core.filters.FilterRequest;
 import com.catalis.common.core.filters.FilterUtils;
 import com.catalis.common.core.queries.PaginationRequest;
 import com.catalis.common.core.queries.PaginationResponse;
+import com.catalis.core.kycb.core.events.AfterCommit;
+import com.catalis.core.kycb.core.events.party.v1.PartyDataChangedEvent;
+import com.catalis.core.kycb.core.events.party.v1.PartyDataTypeEnum;
 import com.catalis.core.kycb.core.mappers.kyb.v1.KybVerificationMapper;
 import com.catalis.core.kycb.interfaces.dtos.kyb.v1.KybVerificationDTO;
 import com.catalis.core.kycb.interfaces.enums.verification.v1.VerificationStatusEnum;
 import com.catalis.core.kycb.models.entities.kyb.v1.KybVerification;
 import com.catalis.core.kycb.models.repositories.kyb.v1.KybVerificationRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
@@ -26,6 +30,9 @@ public class KybVerificationServiceImpl implements KybVerificationService {
     @Autowired
     private KybVerificationMapper mapper;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Override
     public Mono<PaginationResponse<KybVerificationDTO>> findAll(FilterRequest<KybVerificationDTO> filterRequest) {
         return FilterUtils.createFilter(
@@ -38,7 +45,8 @@ public class KybVerificationServiceImpl implements KybVerificationService {
     public Mono<KybVerificationDTO> create(KybVerificationDTO dto) {
         KybVerification entity = mapper.toEntity(dto);
         return repository.save(entity)
-                .map(mapper::toDTO);
+                .map(mapper::toDTO)
+                .flatMap(saved -> publishChange(saved.getPartyId()).thenReturn(saved));
     }
 
     @Override
@@ -57,7 +65,8 @@ public class KybVerificationServiceImpl implements KybVerificationService {
                     updatedEntity.setDateCreated(existingEntity.getDateCreated());
                     return repository.save(updatedEntity);
                 })
-                .map(mapper::toDTO);
+                .map(mapper::toDTO)
+                .flatMap(saved -> publishChange(saved.getPartyId()).thenReturn(saved));
     }
 
     @Override
@@ -65,4 +74,11 @@ public class KybVerificationServiceImpl implements KybVerificationService {
         return repository.deleteById(kybVerificationId);
     }
 
-}
\ No newline at end of file
+    /**
+     * Announces the change once it is committed, so that listeners reloading the party read the new rows.
+     */
+    private Mono<Void> publishChange(Long partyId) {
+        return AfterCommit.run(() -> eventPublisher.publishEvent(
+                new PartyDataChangedEvent(partyId, PartyDataTypeEnum.KYB_VERIFICATION)));
+    }
+}
@@ -4,12 +4,16 @@ import com.catalis.common.core.filters.FilterRequest;
 import com.catalis.common.core.filters.FilterUtils;
 import com.catalis.common.core.queries.PaginationRequest;
 import com.catalis.common.core.queries.PaginationResponse;
+import com.catalis.core.kycb.core.events.AfterCommit;
+import com.catalis.core.kycb.core.events.party.v1.PartyDataChangedEvent;
+import com.catalis.core.kycb.core.events.party.v1.PartyDataTypeEnum;
 import com.catalis.core.kycb.core.mappers.kyc.v1.KycVerificationMapper;
 import com.catalis.core.kycb.interfaces.dtos.kyc.v1.KycVerificationDTO;
 import com.catalis.core.kycb.interfaces.enums.verification.v1.VerificationStatusEnum;
 import com.catalis.core.kycb.models.entities.kyc.v1.KycVerification;
 import com.catalis.core.kycb.models.repositories.kyc.v1.KycVerificationRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
@@ -26,6 +30,9 @@ public class KycVerificationServiceImpl implements KycVerificationService {
     @Autowired
     private KycVerificationMapper mapper;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Override
     public Mono<PaginationResponse<KycVerificationDTO>> findAll(FilterRequest<KycVerificationDTO> filterRequest) {
         return FilterUtils.createFilter(
@@ -38,7 +45,8 @@ public class KycVerificationServiceImpl implements KycVerificationService {
     public Mono<KycVerificationDTO> create(KycVerificationDTO dto) {
         KycVerification entity = mapper.toEntity(dto);
         return repository.save(entity)
-                .map(mapper::toDTO);
+                .map(mapper::toDTO)
+                .flatMap(saved -> publishChange(saved.getPartyId()).thenReturn(saved));
     }
 
     @Override
@@ -57,12 +65,22 @@ public class KycVerificationServiceImpl implements KycVerificationService {
                     updatedEntity.setDateCreated(existingEntity.getDateCreated());
                     return repository.save(updatedEntity);
                 })
-                .map(mapper::toDTO);
+                .map(mapper::toDTO)
+                .flatMap(saved -> publishChange(saved.getPartyId()).thenReturn(saved));
     }
 
     @Override
     public Mono<Void> delete(Long kycVerificationId) {
-        return repository.deleteById(kycVerificationId);
+        return repository.findById(kycVerificationId)
+                .flatMap(existingEntity -> repository.deleteById(kycVerificationId)
+                        .then(publishChange(existingEntity.getPartyId())));
     }
 
+    /**
+     * Announces the change once it is committed, so that listeners reloading the party read the new rows.
+     */
+    private Mono<Void> publishChange(Long partyId) {
+        return AfterCommit.run(() -> eventPublisher.publishEvent(
+                new PartyDataChangedEvent(partyId, PartyDataTypeEnum.KYC_VERIFICATION)));
+    }
 }
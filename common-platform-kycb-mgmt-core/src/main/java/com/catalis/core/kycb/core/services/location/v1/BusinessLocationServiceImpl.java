@@ -3,11 +3,15 @@ package com.catalis.core.kycb.core.services.location.v1;
 import com.catalis.common.core.filters.FilterRequest;
 import com.catalis.common.core.filters.FilterUtils;
 import com.catalis.common.core.queries.PaginationResponse;
+import com.catalis.core.kycb.core.events.AfterCommit;
+import com.catalis.core.kycb.core.events.party.v1.PartyDataChangedEvent;
+import com.catalis.core.kycb.core.events.party.v1.PartyDataTypeEnum;
 import com.catalis.core.kycb.core.mappers.location.v1.BusinessLocationMapper;
 import com.catalis.core.kycb.interfaces.dtos.location.v1.BusinessLocationDTO;
 import com.catalis.core.kycb.models.entities.location.v1.BusinessLocation;
 import com.catalis.core.kycb.models.repositories.location.v1.BusinessLocationRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
@@ -25,6 +29,9 @@ public class BusinessLocationServiceImpl implements BusinessLocationService {
     @Autowired
     private BusinessLocationMapper mapper;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Override
     public Mono<PaginationResponse<BusinessLocationDTO>> findAll(FilterRequest<BusinessLocationDTO> filterRequest) {
         return FilterUtils.createFilter(
@@ -45,11 +52,13 @@ public class BusinessLocationServiceImpl implements BusinessLocationService {
                         return repository.save(existingPrimary);
                     })
                     .then(repository.save(entity).map(mapper::toDTO))
-                    .switchIfEmpty(repository.save(entity).map(mapper::toDTO));
+                    .switchIfEmpty(repository.save(entity).map(mapper::toDTO))
+                    .flatMap(saved -> publishChange(saved.getPartyId()).thenReturn(saved));
         }
 
         return repository.save(entity)
-                .map(mapper::toDTO);
+                .map(mapper::toDTO)
+                .flatMap(saved -> publishChange(saved.getPartyId()).thenReturn(saved));
     }
 
     @Override
@@ -87,11 +96,22 @@ public class BusinessLocationServiceImpl implements BusinessLocationService {
 
                     return repository.save(updatedEntity)
                             .map(mapper::toDTO);
-                });
+                })
+                .flatMap(saved -> publishChange(saved.getPartyId()).thenReturn(saved));
     }
 
     @Override
     public Mono<Void> delete(Long locationId) {
-        return repository.deleteById(locationId);
+        return repository.findById(locationId)
+                .flatMap(existingEntity -> repository.deleteById(locationId)
+                        .then(publishChange(existingEntity.getPartyId())));
+    }
+
+    /**
+     * Announces the change once it is committed, so that listeners reloading the party read the new rows.
+     */
+    private Mono<Void> publishChange(Long partyId) {
+        return AfterCommit.run(() -> eventPublisher.publishEvent(
+                new PartyDataChangedEvent(partyId, PartyDataTypeEnum.BUSINESS_LOCATION)));
     }
 }
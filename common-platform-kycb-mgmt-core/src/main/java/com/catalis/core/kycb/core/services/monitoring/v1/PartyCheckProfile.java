@@ -0,0 +1,193 @@
+package com.catalis.core.kycb.core.services.monitoring.v1;
+
+import com.catalis.core.kycb.interfaces.enums.monitoring.v1.TransactionCheckDecisionEnum;
+import com.catalis.core.kycb.interfaces.enums.monitoring.v1.TransactionCheckReasonEnum;
+import com.catalis.core.kycb.interfaces.enums.risk.v1.RiskLevelEnum;
+import com.catalis.core.kycb.interfaces.enums.screening.v1.ScreeningResultEnum;
+import com.catalis.core.kycb.interfaces.enums.verification.v1.VerificationStatusEnum;
+import com.catalis.core.kycb.models.repositories.kyc.v1.PartyCheckProfileRow;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.catalis.core.kycb.interfaces.enums.monitoring.v1.TransactionCheckReasonEnum.*;
+
+/**
+ * Immutable pre-transaction check profile of a party, compiled from its latest KYC verification, risk assessment,
+ * AML screening and sanctions questionnaire, its confirmed PEP matches and its expected activity.
+ * <p>
+ * Everything that does not depend on the transaction is folded into a reason mask at compile time; amounts are
+ * kept in minor units and countries as bitsets over the 676 alpha-2 codes, so {@link #evaluate} is a handful of
+ * comparisons and does not allocate.
+ */
+public final class PartyCheckProfile {
+
+    static final long BLOCKING = bit(KYC_MISSING) | bit(KYC_REJECTED) | bit(SCREENING_POSITIVE_HIT)
+            | bit(BLOCKED_COUNTRY) | bit(AMOUNT_ABOVE_BLOCK_LIMIT);
+
+    private static final TransactionCheckReasonEnum[] REASONS = TransactionCheckReasonEnum.values();
+    private static final int COUNTRY_WORDS = (26 * 26 + 63) / 64;
+    private static final long NO_LIMIT = -1L;
+
+    private final Long partyId;
+    private final long profileReasons;
+    private final long reviewLimit;
+    private final long blockLimit;
+    private final long cashThreshold;
+    private final boolean cashIntensive;
+    private final int domesticCountry;
+    private final long[] blockedCountries;
+
+    /**
+     * Null when the party declared no expected activity, in which case countries are not checked.
+     */
+    private final long[] anticipatedCountries;
+
+    private final LocalDateTime compiledAt;
+
+    private PartyCheckProfile(Long partyId, long profileReasons, long reviewLimit, long blockLimit,
+                              long cashThreshold, boolean cashIntensive, int domesticCountry,
+                              long[] blockedCountries, long[] anticipatedCountries) {
+        this.partyId = partyId;
+        this.profileReasons = profileReasons;
+        this.reviewLimit = reviewLimit;
+        this.blockLimit = blockLimit;
+        this.cashThreshold = cashThreshold;
+        this.cashIntensive = cashIntensive;
+        this.domesticCountry = domesticCountry;
+        this.blockedCountries = blockedCountries;
+        this.anticipatedCountries = anticipatedCountries;
+        this.compiledAt = LocalDateTime.now();
+    }
+
+    public static PartyCheckProfile compile(PartyCheckProfileRow row, TransactionCheckProperties properties) {
+        long reasons = 0;
+        String status = row.verificationStatus();
+        if (status == null) {
+            reasons |= bit(KYC_MISSING);
+        } else if (VerificationStatusEnum.REJECTED.name().equals(status)) {
+            reasons |= bit(KYC_REJECTED);
+        } else if (!VerificationStatusEnum.VERIFIED.name().equals(status)) {
+            reasons |= bit(KYC_NOT_VERIFIED);
+        }
+        if (ScreeningResultEnum.POSITIVE_HIT.name().equals(row.screeningResult())) {
+            reasons |= bit(SCREENING_POSITIVE_HIT);
+        } else if (ScreeningResultEnum.REVIEW_REQUIRED.name().equals(row.screeningResult())) {
+            reasons |= bit(SCREENING_REVIEW_REQUIRED);
+        }
+        // A risk assessment supersedes the risk level recorded at verification
+        String riskLevel = row.assessedRiskLevel() != null ? row.assessedRiskLevel() : row.kycRiskLevel();
+        if (RiskLevelEnum.EXTREME.name().equals(riskLevel)) {
+            reasons |= bit(EXTREME_RISK);
+        }
+        // Both are scored into the next risk assessment, but are sent to review until it is written
+        if (Boolean.TRUE.equals(row.confirmedPep())) {
+            reasons |= bit(CONFIRMED_PEP);
+        }
+        if (Boolean.TRUE.equals(row.sanctionsExposure())) {
+            reasons |= bit(SANCTIONS_EXPOSURE);
+        }
+
+        double riskFactor = RiskLevelEnum.HIGH.name().equals(riskLevel) ? properties.getHighRiskAmountFactor() : 1.0;
+        long expected = TransactionWindows.minorUnits(row.expectedMonthlyVolume());
+        long reviewLimit;
+        long blockLimit;
+        if (expected > 0) {
+            reviewLimit = (long) (expected * properties.getReviewAmountFactor() * riskFactor);
+            blockLimit = (long) (expected * properties.getBlockAmountFactor() * riskFactor);
+        } else {
+            reviewLimit = defaultLimit(properties.getDefaultReviewAmount(), riskFactor);
+            blockLimit = NO_LIMIT;
+        }
+
+        boolean declared = row.expectedActivities() != null && row.expectedActivities() > 0;
+        return new PartyCheckProfile(
+                row.partyId(),
+                reasons,
+                reviewLimit,
+                blockLimit,
+                TransactionWindows.minorUnits(properties.getCashThreshold()),
+                Boolean.TRUE.equals(row.cashIntensive()),
+                TransactionWindows.countryCode(properties.getDomesticCountry()),
+                countrySet(String.join(",", properties.getBlockedCountries())),
+                declared ? countrySet(row.anticipatedCountries()) : null);
+    }
+
+    /**
+     * @param amount  The absolute amount in minor units
+     * @param country The country code from {@link TransactionWindows#countryCode}, or -1 if unknown
+     * @param cash    Whether the transaction is in cash
+     * @return The bits of the reasons found, by {@link TransactionCheckReasonEnum} ordinal
+     */
+    public long evaluate(long amount, int country, boolean cash) {
+        long reasons = profileReasons;
+        if (country >= 0) {
+            if (contains(blockedCountries, country)) {
+                reasons |= bit(BLOCKED_COUNTRY);
+            } else if (anticipatedCountries != null && country != domesticCountry
+                    && !contains(anticipatedCountries, country)) {
+                reasons |= bit(UNANTICIPATED_COUNTRY);
+            }
+        }
+        if (blockLimit != NO_LIMIT && amount > blockLimit) {
+            reasons |= bit(AMOUNT_ABOVE_BLOCK_LIMIT);
+        } else if (reviewLimit != NO_LIMIT && amount > reviewLimit) {
+            reasons |= bit(AMOUNT_ABOVE_REVIEW_LIMIT);
+        }
+        if (cash && !cashIntensive && amount >= cashThreshold) {
+            reasons |= bit(UNEXPECTED_CASH);
+        }
+        return reasons;
+    }
+
+    public static TransactionCheckDecisionEnum decision(long reasons) {
+        if ((reasons & BLOCKING) != 0) {
+            return TransactionCheckDecisionEnum.BLOCK;
+        }
+        return reasons == 0 ? TransactionCheckDecisionEnum.ALLOW : TransactionCheckDecisionEnum.REVIEW;
+    }
+
+    /**
+     * @return The reasons of a mask in declaration order, so blocking reasons come first
+     */
+    public static List<TransactionCheckReasonEnum> reasons(long reasons) {
+        List<TransactionCheckReasonEnum> list = new ArrayList<>(Long.bitCount(reasons));
+        for (TransactionCheckReasonEnum reason : REASONS) {
+            if ((reasons & bit(reason)) != 0) {
+                list.add(reason);
+            }
+        }
+        return list;
+    }
+
+    public Long getPartyId() {
+        return partyId;
+    }
+
+    public LocalDateTime getCompiledAt() {
+        return compiledAt;
+    }
+
+    static long bit(TransactionCheckReasonEnum reason) {
+        return 1L << reason.ordinal();
+    }
+
+    private static long defaultLimit(BigDecimal amount, double riskFactor) {
+        long limit = TransactionWindows.minorUnits(amount);
+        return limit < 0 ? NO_LIMIT : (long) (limit * riskFactor);
+    }
+
+    private static long[] countrySet(String countries) {
+        long[] set = new long[COUNTRY_WORDS];
+        for (short code : TransactionWindows.countryCodes(countries)) {
+            set[code >>> 6] |= 1L << code;
+        }
+        return set;
+    }
+
+    private static boolean contains(long[] set, int country) {
+        return (set[country >>> 6] & (1L << country)) != 0;
+    }
+}
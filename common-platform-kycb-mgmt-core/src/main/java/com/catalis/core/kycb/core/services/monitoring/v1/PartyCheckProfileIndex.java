@@ -0,0 +1,130 @@
+package com.catalis.core.kycb.core.services.monitoring.v1;
+
+import com.catalis.core.kycb.core.events.party.v1.PartyDataChangedEvent;
+import com.catalis.core.kycb.core.events.party.v1.PartyDataTypeEnum;
+import com.catalis.core.kycb.models.repositories.kyc.v1.KycVerificationRepository;
+import com.catalis.core.kycb.models.repositories.kyc.v1.PartyCheckProfileRow;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Per-party cache of compiled {@link PartyCheckProfile}s for pre-transaction checks.
+ * <p>
+ * A party's profile is read with one {@code findCheckProfiles} query on first use, or at startup when preloading
+ * is enabled, and concurrent first requests share a single load. A profile is dropped when a committed change to one
+ * of the party's check inputs is announced, and once it is older than {@code maxAge}; the next check then waits for
+ * the recompiled profile rather than using the old one. Announcements reach only this node, so a change made through
+ * another node can be checked against here for up to {@code maxAge} after it commits.
+ */
+@Slf4j
+@Component
+public class PartyCheckProfileIndex {
+
+    static final Set<PartyDataTypeEnum> CHECK_INPUTS = EnumSet.of(
+            PartyDataTypeEnum.AML_MATCH,
+            PartyDataTypeEnum.AML_SCREENING,
+            PartyDataTypeEnum.EXPECTED_ACTIVITY,
+            PartyDataTypeEnum.KYC_VERIFICATION,
+            PartyDataTypeEnum.RISK_ASSESSMENT,
+            PartyDataTypeEnum.SANCTIONS_QUESTIONNAIRE
+    );
+
+    @Autowired
+    private KycVerificationRepository repository;
+
+    @Autowired
+    private TransactionCheckProperties properties;
+
+    private final Map<Long, CachedProfile> profilesByParty = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void start() {
+        if (!properties.isPreloadEnabled()) {
+            return;
+        }
+        long start = System.nanoTime();
+        fetchPage(0L)
+                .expand(page -> page.size() < properties.getChunkSize()
+                        ? Mono.empty()
+                        : fetchPage(page.get(page.size() - 1)))
+                .concatMap(page -> repository.findCheckProfiles(page.toArray(Long[]::new))
+                        .doOnNext(row -> profilesByParty.putIfAbsent(row.partyId(),
+                                new CachedProfile(Mono.just(PartyCheckProfile.compile(row, properties)),
+                                        System.nanoTime())))
+                        .count())
+                .reduce(0L, Long::sum)
+                .subscribe(
+                        count -> log.info("Preloaded {} transaction check profiles in {} ms",
+                                count, (System.nanoTime() - start) / 1_000_000),
+                        e -> log.error("Transaction check profile preload failed", e));
+    }
+
+    /**
+     * @return A Mono containing the party's compiled profile, loaded on first call and cached afterwards
+     */
+    public Mono<PartyCheckProfile> getProfile(Long partyId) {
+        CachedProfile cached = profilesByParty.get(partyId);
+        if (cached != null) {
+            if (System.nanoTime() - cached.loadedNanos() < properties.getMaxAge().toNanos()) {
+                return cached.profile();
+            }
+            profilesByParty.remove(partyId, cached);
+        }
+        AtomicReference<CachedProfile> self = new AtomicReference<>();
+        Mono<PartyCheckProfile> profile = load(partyId)
+                .doOnError(e -> profilesByParty.remove(partyId, self.get()))
+                .cache();
+        CachedProfile candidate = new CachedProfile(profile, System.nanoTime());
+        self.set(candidate);
+        CachedProfile existing = profilesByParty.putIfAbsent(partyId, candidate);
+        return existing != null ? existing.profile() : profile;
+    }
+
+    @EventListener
+    public void onPartyDataChanged(PartyDataChangedEvent event) {
+        Long partyId = event.partyId();
+        if (partyId == null || !CHECK_INPUTS.contains(event.type())) {
+            return;
+        }
+        invalidate(partyId);
+    }
+
+    /**
+     * Drops the cached profile of a party so the next check reloads it.
+     */
+    public void invalidate(Long partyId) {
+        profilesByParty.remove(partyId);
+    }
+
+    public int size() {
+        return profilesByParty.size();
+    }
+
+    private Mono<PartyCheckProfile> load(Long partyId) {
+        return repository.findCheckProfiles(new Long[]{partyId})
+                .next()
+                .defaultIfEmpty(new PartyCheckProfileRow(partyId, null, null, null, null, null, null, 0L, null, null,
+                        null))
+                .map(row -> PartyCheckProfile.compile(row, properties));
+    }
+
+    private Mono<List<Long>> fetchPage(Long afterPartyId) {
+        return repository.findPartyIdsAfter(afterPartyId, properties.getChunkSize())
+                .collectList()
+                .filter(page -> !page.isEmpty());
+    }
+
+    private record CachedProfile(Mono<PartyCheckProfile> profile, long loadedNanos) {
+    }
+}
@@ -0,0 +1,69 @@
+package com.catalis.core.kycb.core.services.monitoring.v1;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Configuration of the pre-transaction check and of its in-memory party profiles.
+ */
+@Data
+@ConfigurationProperties(prefix = "kycb.transaction-check")
+public class TransactionCheckProperties {
+
+    /**
+     * Transactions above this factor of the party's expected monthly volume are sent to review.
+     */
+    private double reviewAmountFactor = 1.0;
+
+    /**
+     * Transactions above this factor of the party's expected monthly volume are blocked.
+     */
+    private double blockAmountFactor = 5.0;
+
+    /**
+     * Factor applied to both amount limits of HIGH risk parties.
+     */
+    private double highRiskAmountFactor = 0.5;
+
+    /**
+     * Transactions above this amount are sent to review for parties without an expected monthly volume.
+     */
+    private BigDecimal defaultReviewAmount = new BigDecimal("10000");
+
+    /**
+     * Cash transactions of at least this amount are sent to review for parties not declared cash intensive.
+     */
+    private BigDecimal cashThreshold = new BigDecimal("10000");
+
+    /**
+     * ISO 3166 alpha-2 code of the country considered domestic, which never needs to be anticipated.
+     */
+    private String domesticCountry = "ES";
+
+    /**
+     * ISO 3166 alpha-2 codes of the countries transactions are always blocked to (FATF call for action list).
+     */
+    private Set<String> blockedCountries = new LinkedHashSet<>(List.of("KP", "IR", "MM"));
+
+    /**
+     * Age after which a profile is recompiled on the next check. Changes made through other nodes are not announced
+     * to this one, so this is how long a transaction can still be checked against a party's previous data.
+     */
+    private Duration maxAge = Duration.ofSeconds(5);
+
+    /**
+     * Whether the profiles of all parties with a KYC verification are compiled at startup.
+     */
+    private boolean preloadEnabled = false;
+
+    /**
+     * Number of parties whose profiles are compiled together by the preload.
+     */
+    private int chunkSize = 1000;
+}
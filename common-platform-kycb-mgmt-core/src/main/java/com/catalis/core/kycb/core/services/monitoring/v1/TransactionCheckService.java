@@ -0,0 +1,19 @@
+package com.catalis.core.kycb.core.services.monitoring.v1;
+
+import com.catalis.core.kycb.interfaces.dtos.monitoring.v1.TransactionCheckResultDTO;
+import com.catalis.core.kycb.interfaces.dtos.monitoring.v1.TransactionDTO;
+import reactor.core.publisher.Mono;
+
+/**
+ * Service interface for checking transactions against the party's KYC state and expected activity before they
+ * are executed.
+ */
+public interface TransactionCheckService {
+    /**
+     * Decides whether a transaction may be executed, must be reviewed first, or must not be executed.
+     *
+     * @param transaction The transaction to check; its party and amount are required
+     * @return A Mono containing the decision and every reason found
+     */
+    Mono<TransactionCheckResultDTO> check(TransactionDTO transaction);
+}
@@ -0,0 +1,66 @@
+package com.catalis.core.kycb.core.services.monitoring.v1;
+
+import com.catalis.core.kycb.interfaces.dtos.monitoring.v1.TransactionCheckResultDTO;
+import com.catalis.core.kycb.interfaces.dtos.monitoring.v1.TransactionDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Implementation of the pre-transaction check.
+ * <p>
+ * Checks are answered from the party's compiled {@link PartyCheckProfile} held by {@link PartyCheckProfileIndex};
+ * only the first check of a party not preloaded reads the database. The check latency, including such loads, is
+ * published as the {@code kycb.transaction.check} timer with its 50th and 99th percentiles.
+ */
+@Service
+public class TransactionCheckServiceImpl implements TransactionCheckService {
+
+    static final String METRIC_CHECK = "kycb.transaction.check";
+
+    @Autowired
+    private PartyCheckProfileIndex partyCheckProfileIndex;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Timer checkTimer;
+
+    @PostConstruct
+    public void start() {
+        checkTimer = Timer.builder(METRIC_CHECK)
+                .description("Time to answer a pre-transaction check")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<TransactionCheckResultDTO> check(TransactionDTO transaction) {
+        if (transaction.getPartyId() == null || transaction.getAmount() == null) {
+            return Mono.error(new IllegalArgumentException("Party and amount are required to check a transaction"));
+        }
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            long amount = TransactionWindows.minorUnits(transaction.getAmount().abs());
+            int country = TransactionWindows.countryCode(transaction.getCountryIsoCode());
+            boolean cash = Boolean.TRUE.equals(transaction.getCash());
+            return partyCheckProfileIndex.getProfile(transaction.getPartyId())
+                    .map(profile -> {
+                        long reasons = profile.evaluate(amount, country, cash);
+                        return TransactionCheckResultDTO.builder()
+                                .transactionId(transaction.getTransactionId())
+                                .partyId(transaction.getPartyId())
+                                .decision(PartyCheckProfile.decision(reasons))
+                                .reasons(PartyCheckProfile.reasons(reasons))
+                                .profileCompiledAt(profile.getCompiledAt())
+                                .build();
+                    })
+                    .doOnNext(result -> checkTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+        });
+    }
+}
@@ -0,0 +1,29 @@
+package com.catalis.core.kycb.core.services.monitoring.v1;
+
+import com.catalis.core.kycb.interfaces.enums.compliance.v1.CasePriorityEnum;
+
+/**
+ * Deviations from a party's expected activity detected by transaction monitoring, with the priority of the case
+ * each one opens.
+ */
+public enum TransactionDeviationEnum {
+    MONTHLY_VOLUME(CasePriorityEnum.HIGH),
+    ANNUAL_VOLUME(CasePriorityEnum.HIGH),
+    TRANSACTION_COUNT(CasePriorityEnum.MEDIUM),
+    UNEXPECTED_COUNTRY(CasePriorityEnum.HIGH),
+    UNEXPECTED_CASH(CasePriorityEnum.HIGH);
+
+    private final CasePriorityEnum priority;
+
+    TransactionDeviationEnum(CasePriorityEnum priority) {
+        this.priority = priority;
+    }
+
+    public CasePriorityEnum getPriority() {
+        return priority;
+    }
+
+    int bit() {
+        return 1 << ordinal();
+    }
+}
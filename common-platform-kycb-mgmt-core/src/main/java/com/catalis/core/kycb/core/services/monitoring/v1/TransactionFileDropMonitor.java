@@ -0,0 +1,174 @@
+package com.catalis.core.kycb.core.services.monitoring.v1;
+
+import com.catalis.core.kycb.interfaces.dtos.monitoring.v1.TransactionDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Periodically ingests the NDJSON transaction files dropped in the drop directory.
+ * <p>
+ * A file is claimed by renaming it to {@code .processing}, so a file is ingested by one node only, then streamed
+ * line by line into {@link TransactionMonitoringService#ingest}. Malformed lines are counted as rejected
+ * transactions rather than failing the file. Files are ingested one at a time, in name order. A file that fails is
+ * moved to {@code failed} with none of its transactions left in the windows, so it can be dropped again whole.
+ */
+@Slf4j
+@Component
+public class TransactionFileDropMonitor {
+
+    static final String FILE_SUFFIX = ".ndjson";
+    static final String CLAIM_SUFFIX = ".processing";
+    static final String PROCESSED_DIRECTORY = "processed";
+    static final String FAILED_DIRECTORY = "failed";
+
+    @Autowired
+    private TransactionMonitoringService transactionMonitoringService;
+
+    @Autowired
+    private TransactionMonitoringProperties properties;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private ObjectReader reader;
+
+    private Disposable poller;
+
+    @PostConstruct
+    public void start() {
+        reader = objectMapper.readerFor(TransactionDTO.class);
+        if (!properties.isFileDropEnabled()) {
+            return;
+        }
+        poller = Flux.interval(properties.getFileDropInterval(), properties.getFileDropInterval())
+                .onBackpressureDrop()
+                .concatMap(tick -> scan()
+                        .onErrorResume(e -> {
+                            log.error("Transaction file drop scan failed", e);
+                            return Mono.just(0L);
+                        }), 1)
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (poller != null) {
+            poller.dispose();
+        }
+    }
+
+    /**
+     * Ingests every file currently in the drop directory.
+     *
+     * @return A Mono containing the number of files ingested
+     */
+    public Mono<Long> scan() {
+        Path directory = Paths.get(properties.getFileDropDirectory()).toAbsolutePath().normalize();
+        return Mono.fromCallable(() -> list(directory))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapMany(Flux::fromIterable)
+                .concatMap(file -> ingest(directory, file))
+                .count();
+    }
+
+    private List<Path> list(Path directory) throws IOException {
+        List<Path> files = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return files;
+        }
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + FILE_SUFFIX)) {
+            for (Path file : stream) {
+                if (Files.isRegularFile(file)) {
+                    files.add(file);
+                }
+            }
+        }
+        files.sort(null);
+        return files;
+    }
+
+    private Mono<Path> ingest(Path directory, Path file) {
+        Path claimed = file.resolveSibling(file.getFileName() + CLAIM_SUFFIX);
+        return Mono.fromCallable(() -> claim(file, claimed))
+                .subscribeOn(Schedulers.boundedElastic())
+                .filter(Boolean::booleanValue)
+                .flatMap(ignored -> transactionMonitoringService.ingest(lines(claimed).map(this::parse)))
+                .flatMap(result -> {
+                    log.info("Ingested transaction file {}: {} received, {} rejected, {} cases opened in {} ms",
+                            file.getFileName(), result.getReceivedTransactions(), result.getRejectedTransactions(),
+                            result.getCasesOpened(), result.getElapsedMillis());
+                    return moveTo(claimed, directory.resolve(PROCESSED_DIRECTORY), file);
+                })
+                .onErrorResume(e -> {
+                    log.error("Failed to ingest transaction file {}", file.getFileName(), e);
+                    return moveTo(claimed, directory.resolve(FAILED_DIRECTORY), file);
+                });
+    }
+
+    private boolean claim(Path file, Path claimed) {
+        try {
+            Files.move(file, claimed, StandardCopyOption.ATOMIC_MOVE);
+            return true;
+        } catch (IOException e) {
+            // Claimed by another node in the meantime
+            log.debug("Could not claim transaction file {}", file.getFileName(), e);
+            return false;
+        }
+    }
+
+    private Flux<String> lines(Path file) {
+        return Flux.using(
+                        () -> Files.newBufferedReader(file, StandardCharsets.UTF_8),
+                        input -> Flux.fromStream(input.lines()),
+                        this::closeQuietly)
+                .filter(line -> !line.isBlank())
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private TransactionDTO parse(String line) {
+        try {
+            return reader.readValue(line);
+        } catch (JsonProcessingException e) {
+            // An empty transaction is rejected by the monitoring service and counted as such
+            return new TransactionDTO();
+        }
+    }
+
+    private Mono<Path> moveTo(Path claimed, Path targetDirectory, Path file) {
+        return Mono.fromCallable(() -> {
+                    Files.createDirectories(targetDirectory);
+                    return Files.move(claimed, targetDirectory.resolve(file.getFileName()),
+                            StandardCopyOption.REPLACE_EXISTING);
+                })
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private void closeQuietly(BufferedReader input) {
+        try {
+            input.close();
+        } catch (IOException e) {
+            log.warn("Failed to close transaction file reader", e);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.catalis.core.kycb.core.services.monitoring.v1;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+/**
+ * Configuration of transaction monitoring against the parties' expected activity.
+ */
+@Data
+@ConfigurationProperties(prefix = "kycb.transaction-monitoring")
+public class TransactionMonitoringProperties {
+
+    /**
+     * Number of transactions whose missing profiles are loaded together and that are applied under one lock.
+     */
+    private int batchSize = 10_000;
+
+    /**
+     * Number of parties the window tables are initially sized for.
+     */
+    private int expectedParties = 1 << 16;
+
+    /**
+     * Factor by which the windowed volumes and counts may exceed the expected activity before a case is opened.
+     */
+    private double tolerance = 1.2;
+
+    /**
+     * Cash transactions of at least this amount are a deviation for parties not declared cash intensive.
+     */
+    private BigDecimal cashThreshold = new BigDecimal("10000");
+
+    /**
+     * ISO 3166 alpha-2 code of the country considered domestic, which never needs to be anticipated.
+     */
+    private String domesticCountry = "ES";
+
+    /**
+     * Time from opening a transaction monitoring case to its due date.
+     */
+    private Duration caseDueIn = Duration.ofDays(7);
+
+    /**
+     * Whether NDJSON files dropped in the drop directory are ingested.
+     */
+    private boolean fileDropEnabled = false;
+
+    /**
+     * Directory polled for {@code *.ndjson} transaction files. Ingested files are moved to its {@code processed}
+     * subdirectory, files that fail to ingest to its {@code failed} subdirectory.
+     */
+    private String fileDropDirectory = "/var/lib/kycb/transactions";
+
+    /**
+     * Time between polls of the drop directory.
+     */
+    private Duration fileDropInterval = Duration.ofSeconds(10);
+}
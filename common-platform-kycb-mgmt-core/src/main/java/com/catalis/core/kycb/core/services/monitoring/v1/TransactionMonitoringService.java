@@ -0,0 +1,28 @@
+package com.catalis.core.kycb.core.services.monitoring.v1;
+
+import com.catalis.core.kycb.core.events.party.v1.PartyDataChangedEvent;
+import com.catalis.core.kycb.interfaces.dtos.monitoring.v1.TransactionDTO;
+import com.catalis.core.kycb.interfaces.dtos.monitoring.v1.TransactionIngestionResultDTO;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Service interface for monitoring transactions against the parties' expected activity.
+ */
+public interface TransactionMonitoringService {
+    /**
+     * Adds transactions to the sliding windows of their parties and opens a compliance case for every deviation
+     * from a party's expected activity that has no open case yet.
+     *
+     * @param transactions The transactions, in any order
+     * @return A Mono containing the ingestion summary, emitted once all transactions are processed
+     */
+    Mono<TransactionIngestionResultDTO> ingest(Flux<TransactionDTO> transactions);
+
+    /**
+     * Reloads the expected activity of a party before its next transactions when it changes.
+     *
+     * @param event The change
+     */
+    void onPartyDataChanged(PartyDataChangedEvent event);
+}
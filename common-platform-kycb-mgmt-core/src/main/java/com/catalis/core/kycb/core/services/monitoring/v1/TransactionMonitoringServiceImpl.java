@@ -0,0 +1,272 @@
+package com.catalis.core.kycb.core.services.monitoring.v1;
+
+import com.catalis.core.kycb.core.events.party.v1.PartyDataChangedEvent;
+import com.catalis.core.kycb.core.events.party.v1.PartyDataTypeEnum;
+import com.catalis.core.kycb.core.metrics.BusinessMetrics;
+import com.catalis.core.kycb.core.services.compliance.v1.CaseAutoAssigner;
+import com.catalis.core.kycb.interfaces.dtos.monitoring.v1.TransactionDTO;
+import com.catalis.core.kycb.interfaces.dtos.monitoring.v1.TransactionIngestionResultDTO;
+import com.catalis.core.kycb.interfaces.enums.compliance.v1.CaseTypeEnum;
+import com.catalis.core.kycb.models.repositories.compliance.v1.ComplianceCaseRepository;
+import com.catalis.core.kycb.models.repositories.expected.v1.ExpectedActivityProfile;
+import com.catalis.core.kycb.models.repositories.expected.v1.ExpectedActivityRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Implementation of the transaction monitoring service.
+ * <p>
+ * Transactions are processed in batches. The expected activity of the parties of a batch that are not known yet is
+ * loaded with one aggregate query, then the whole batch is applied to the in-memory {@link TransactionWindows}
+ * under a single lock, so the per-transaction cost is a few array updates. The deviations a batch raises are
+ * opened as cases in one statement; each party has at most one open case per deviation, with reference
+ * {@code TXM-<partyId>-<deviation>}, enforced by a partial unique index so that several nodes converge on the same
+ * case. Windows are per node: a party's transactions should be routed to the same node. An ingestion that fails or
+ * is cancelled is taken back out of the windows, so its transactions can be replayed without counting twice.
+ */
+@Slf4j
+@Service
+public class TransactionMonitoringServiceImpl implements TransactionMonitoringService {
+
+    static final String CASE_REFERENCE_PREFIX = "TXM-";
+    static final String METRIC_TRANSACTIONS = "kycb.transactions.ingested";
+    static final String METRIC_DEVIATIONS = "kycb.transactions.deviations";
+
+    private static final TransactionDeviationEnum[] DEVIATIONS = TransactionDeviationEnum.values();
+
+    @Autowired
+    private ExpectedActivityRepository expectedActivityRepository;
+
+    @Autowired
+    private ComplianceCaseRepository complianceCaseRepository;
+
+    @Autowired
+    private CaseAutoAssigner caseAutoAssigner;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TransactionMonitoringProperties properties;
+
+    private TransactionWindows windows;
+
+    @PostConstruct
+    public void start() {
+        windows = new TransactionWindows(
+                properties.getExpectedParties(),
+                properties.getTolerance(),
+                TransactionWindows.minorUnits(properties.getCashThreshold()),
+                properties.getDomesticCountry());
+    }
+
+    @Override
+    public Mono<TransactionIngestionResultDTO> ingest(Flux<TransactionDTO> transactions) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            Totals totals = new Totals();
+            TransactionWindows.Journal journal = new TransactionWindows.Journal();
+            return transactions
+                    .buffer(properties.getBatchSize())
+                    .concatMap(batch -> process(batch, totals, journal))
+                    .then(Mono.fromCallable(() -> totals.toDTO(System.nanoTime() - start)))
+                    .doOnError(e -> undo(journal))
+                    .doOnCancel(() -> undo(journal));
+        });
+    }
+
+    @Override
+    @EventListener
+    public void onPartyDataChanged(PartyDataChangedEvent event) {
+        if (event.partyId() == null || event.type() != PartyDataTypeEnum.EXPECTED_ACTIVITY) {
+            return;
+        }
+        synchronized (windows) {
+            windows.invalidate(event.partyId());
+        }
+    }
+
+    /**
+     * Takes a failed ingestion back out of the windows, so that replaying its transactions does not count them twice,
+     * and puts back the deviations it raised, so that the replay raises them again if their cases were not opened.
+     * Cases it opened stay open; the replay finds them by reference.
+     */
+    private void undo(TransactionWindows.Journal journal) {
+        synchronized (windows) {
+            if (journal.size() > 0) {
+                log.warn("Taking {} party-days of a failed transaction ingestion back out of the windows",
+                        journal.size());
+                windows.undo(journal);
+            }
+        }
+    }
+
+    private Mono<Long> process(List<TransactionDTO> batch, Totals totals, TransactionWindows.Journal journal) {
+        return loadProfiles(batch)
+                .then(Mono.defer(() -> openCases(apply(batch, totals, journal))))
+                .doOnNext(totals.casesOpened::addAndGet);
+    }
+
+    private Mono<Void> loadProfiles(List<TransactionDTO> batch) {
+        Set<Long> missing = new LinkedHashSet<>();
+        synchronized (windows) {
+            for (TransactionDTO transaction : batch) {
+                Long partyId = transaction.getPartyId();
+                if (partyId != null && windows.needsProfile(partyId)) {
+                    missing.add(partyId);
+                }
+            }
+        }
+        if (missing.isEmpty()) {
+            return Mono.empty();
+        }
+        return expectedActivityRepository.findProfiles(missing.toArray(new Long[0]))
+                .collectList()
+                .doOnNext(profiles -> {
+                    synchronized (windows) {
+                        for (ExpectedActivityProfile profile : profiles) {
+                            windows.setProfile(profile.partyId(), profile);
+                            missing.remove(profile.partyId());
+                        }
+                        // Parties without expected activity are windowed but not evaluated
+                        for (Long partyId : missing) {
+                            windows.setProfile(partyId, null);
+                        }
+                    }
+                })
+                .then();
+    }
+
+    private List<Deviation> apply(List<TransactionDTO> batch, Totals totals, TransactionWindows.Journal journal) {
+        List<Deviation> deviations = new ArrayList<>();
+        long accepted = 0;
+        long rejected = 0;
+        synchronized (windows) {
+            for (TransactionDTO transaction : batch) {
+                if (transaction.getPartyId() == null || transaction.getAmount() == null
+                        || transaction.getBookingDate() == null) {
+                    rejected++;
+                    continue;
+                }
+                long partyId = transaction.getPartyId();
+                long amount = TransactionWindows.minorUnits(transaction.getAmount().abs());
+                int raised = windows.record(
+                        partyId,
+                        Math.toIntExact(transaction.getBookingDate().toLocalDate().toEpochDay()),
+                        amount,
+                        TransactionWindows.countryCode(transaction.getCountryIsoCode()),
+                        Boolean.TRUE.equals(transaction.getCash()),
+                        journal);
+                if (raised == TransactionWindows.REJECTED) {
+                    rejected++;
+                    continue;
+                }
+                accepted++;
+                for (TransactionDeviationEnum deviation : DEVIATIONS) {
+                    if ((raised & deviation.bit()) != 0) {
+                        deviations.add(new Deviation(partyId, deviation, summary(deviation, transaction, amount)));
+                    }
+                }
+            }
+        }
+        totals.received.addAndGet(batch.size());
+        totals.accepted.addAndGet(accepted);
+        totals.rejected.addAndGet(rejected);
+        totals.deviations.addAndGet(deviations.size());
+        meterRegistry.counter(METRIC_TRANSACTIONS, "outcome", "accepted").increment(accepted);
+        meterRegistry.counter(METRIC_TRANSACTIONS, "outcome", "rejected").increment(rejected);
+        for (Deviation deviation : deviations) {
+            meterRegistry.counter(METRIC_DEVIATIONS, "deviation", deviation.deviation().name()).increment();
+        }
+        return deviations;
+    }
+
+    private Mono<Long> openCases(List<Deviation> deviations) {
+        if (deviations.isEmpty()) {
+            return Mono.just(0L);
+        }
+        int size = deviations.size();
+        Long[] partyIds = new Long[size];
+        String[] caseReferences = new String[size];
+        String[] casePriorities = new String[size];
+        String[] caseSummaries = new String[size];
+        for (int i = 0; i < size; i++) {
+            Deviation deviation = deviations.get(i);
+            partyIds[i] = deviation.partyId();
+            caseReferences[i] = CASE_REFERENCE_PREFIX + deviation.partyId() + "-" + deviation.deviation().name();
+            casePriorities[i] = deviation.deviation().getPriority().name();
+            caseSummaries[i] = deviation.summary();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        return complianceCaseRepository.insertOpenTransactionMonitoringCases(partyIds, caseReferences,
+                        casePriorities, caseSummaries, now.plus(properties.getCaseDueIn()), now)
+                .doOnNext(opened -> log.info("Opened transaction monitoring case {} for party {}: {}",
+                        opened.getCaseReference(), opened.getPartyId(), opened.getCaseSummary()))
+                .collectList()
+                .flatMap(opened -> caseAutoAssigner.assignAll(opened).thenReturn((long) opened.size()))
+                .doOnNext(opened -> BusinessMetrics.casesOpened(meterRegistry, CaseTypeEnum.AML_ALERT,
+                        BusinessMetrics.SOURCE_TRANSACTION_MONITORING, opened));
+    }
+
+    /**
+     * Called under the windows lock, right after the transaction was recorded.
+     */
+    private String summary(TransactionDeviationEnum deviation, TransactionDTO transaction, long amount) {
+        long partyId = transaction.getPartyId();
+        return switch (deviation) {
+            case MONTHLY_VOLUME -> "30-day volume " + format(windows.monthlyVolume(partyId))
+                    + " exceeds expected monthly volume " + format(windows.expectedMonthlyVolume(partyId));
+            case ANNUAL_VOLUME -> "12-month volume " + format(windows.annualVolume(partyId))
+                    + " exceeds expected annual volume " + format(windows.expectedAnnualVolume(partyId));
+            case TRANSACTION_COUNT -> "30-day transaction count " + windows.monthlyCount(partyId)
+                    + " exceeds expected transaction count " + windows.expectedTransactionCount(partyId);
+            case UNEXPECTED_COUNTRY -> "Transaction " + transaction.getTransactionId() + " with country "
+                    + transaction.getCountryIsoCode() + " outside the anticipated countries";
+            case UNEXPECTED_CASH -> "Cash transaction " + transaction.getTransactionId() + " of " + format(amount)
+                    + " by a party not declared cash intensive";
+        };
+    }
+
+    private static String format(long minorUnits) {
+        return BigDecimal.valueOf(minorUnits, 2).toPlainString();
+    }
+
+    private record Deviation(long partyId, TransactionDeviationEnum deviation, String summary) {
+    }
+
+    private static final class Totals {
+        private final AtomicLong received = new AtomicLong();
+        private final AtomicLong accepted = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+        private final AtomicLong deviations = new AtomicLong();
+        private final AtomicLong casesOpened = new AtomicLong();
+
+        private TransactionIngestionResultDTO toDTO(long elapsedNanos) {
+            double seconds = Math.max(elapsedNanos, 1) / 1_000_000_000d;
+            return TransactionIngestionResultDTO.builder()
+                    .receivedTransactions(received.get())
+                    .acceptedTransactions(accepted.get())
+                    .rejectedTransactions(rejected.get())
+                    .deviations(deviations.get())
+                    .casesOpened(casesOpened.get())
+                    .elapsedMillis(TimeUnit.NANOSECONDS.toMillis(elapsedNanos))
+                    .transactionsPerSecond(received.get() / seconds)
+                    .build();
+        }
+    }
+}
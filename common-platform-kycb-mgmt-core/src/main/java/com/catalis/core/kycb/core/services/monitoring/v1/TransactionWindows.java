@@ -0,0 +1,474 @@
+package com.catalis.core.kycb.core.services.monitoring.v1;
+
+import com.catalis.core.kycb.core.utils.LongIntHashMap;
+import com.catalis.core.kycb.models.repositories.expected.v1.ExpectedActivityProfile;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Per-party sliding-window transaction aggregates and expected activity, held in primitive arrays indexed by one
+ * slot per party.
+ * <p>
+ * The monthly window is {@value #DAYS} daily buckets and the annual window {@value #PERIODS} buckets of
+ * {@value #DAYS} days. Every bucket is stamped with the day or period it holds and reset lazily when a later one
+ * lands in it, so nothing is ever swept. Windows end at the latest booking day seen for the party, and late
+ * transactions still count as long as they fall inside them. Amounts are in minor units. A party costs under a
+ * kilobyte however many transactions it books. Not thread-safe.
+ * <p>
+ * What a run of {@link #record} calls adds, and the deviations it raises, can be noted in a {@link Journal} and
+ * taken back out with {@link #undo}, so that an ingestion that fails part way can be replayed whole without counting
+ * twice or losing a deviation.
+ */
+final class TransactionWindows {
+
+    static final int DAYS = 30;
+    static final int PERIODS = 12;
+
+    /**
+     * Returned by {@link #record} for transactions booked before the annual window of their party.
+     */
+    static final int REJECTED = -1;
+
+    private static final int NO_SLOT = -1;
+    private static final int NO_STAMP = Integer.MIN_VALUE;
+    private static final long NOT_DECLARED = -1L;
+
+    /**
+     * Deviations raised by a single transaction rather than by a window total. They are raised at most once per
+     * party and period; window deviations are raised again once the window has been back within expectation.
+     */
+    private static final int EVENT_DEVIATIONS =
+            TransactionDeviationEnum.UNEXPECTED_COUNTRY.bit() | TransactionDeviationEnum.UNEXPECTED_CASH.bit();
+
+    private final double tolerance;
+    private final long cashThreshold;
+    private final int domesticCountry;
+    private final LongIntHashMap slots;
+    private int size;
+
+    private boolean[] loaded;
+    private boolean[] profiled;
+    private long[] expectedMonthly;
+    private long[] expectedAnnual;
+    private long[] expectedCount;
+    private short[][] anticipatedCountries;
+    private boolean[] cashIntensive;
+    private int[] latestDay;
+    private int[] raised;
+    private long[] dayAmounts;
+    private int[] dayCounts;
+    private int[] dayStamps;
+    private long[] periodAmounts;
+    private int[] periodStamps;
+
+    /**
+     * @param expectedParties Number of parties to size the tables for
+     * @param tolerance       Factor by which window totals may exceed the expected activity
+     * @param cashThreshold   Minimum amount, in minor units, of a cash transaction that is a deviation
+     * @param domesticCountry ISO 3166 alpha-2 code of the domestic country
+     */
+    TransactionWindows(int expectedParties, double tolerance, long cashThreshold, String domesticCountry) {
+        this.tolerance = tolerance;
+        this.cashThreshold = cashThreshold;
+        this.domesticCountry = countryCode(domesticCountry);
+        this.slots = new LongIntHashMap(expectedParties, NO_SLOT);
+        allocate(Math.max(16, expectedParties));
+    }
+
+    /**
+     * @return Whether the expected activity of the party has to be loaded before its transactions are recorded
+     */
+    boolean needsProfile(long partyId) {
+        int slot = slots.get(partyId);
+        return slot == NO_SLOT || !loaded[slot];
+    }
+
+    /**
+     * Sets the expected activity of a party. Deviations are evaluated afresh against it.
+     *
+     * @param partyId The ID of the party
+     * @param profile The expected activity, or null if the party has none, in which case it is not monitored
+     */
+    void setProfile(long partyId, ExpectedActivityProfile profile) {
+        int slot = slotOf(partyId);
+        loaded[slot] = true;
+        profiled[slot] = profile != null;
+        expectedMonthly[slot] = profile == null ? NOT_DECLARED : minorUnits(profile.expectedMonthlyVolume());
+        expectedAnnual[slot] = profile == null ? NOT_DECLARED : minorUnits(profile.expectedAnnualVolume());
+        expectedCount[slot] = profile == null || profile.expectedTransactionCount() == null
+                ? NOT_DECLARED
+                : profile.expectedTransactionCount();
+        anticipatedCountries[slot] = profile == null ? null : countryCodes(profile.anticipatedCountries());
+        cashIntensive[slot] = profile != null && Boolean.TRUE.equals(profile.cashIntensive());
+        raised[slot] = 0;
+    }
+
+    /**
+     * Marks the expected activity of a party stale, so it is loaded again before its next transactions. The windows
+     * are kept.
+     */
+    void invalidate(long partyId) {
+        int slot = slots.get(partyId);
+        if (slot != NO_SLOT) {
+            loaded[slot] = false;
+        }
+    }
+
+    /**
+     * Adds a transaction to the windows of its party and evaluates the party against its expected activity.
+     *
+     * @param partyId The ID of the party
+     * @param day     The epoch day the transaction was booked on
+     * @param amount  The absolute amount in minor units
+     * @param country The code of the counterparty country as returned by {@link #countryCode}, or -1 if unknown
+     * @param cash    Whether the transaction is in cash
+     * @param journal The journal to note the added amounts in, or null
+     * @return The bits of the deviations the transaction newly raised, or {@link #REJECTED}
+     */
+    int record(long partyId, int day, long amount, int country, boolean cash, Journal journal) {
+        int slot = slotOf(partyId);
+        int previous = latestDay[slot];
+        int latest = Math.max(previous, day);
+        int period = Math.floorDiv(day, DAYS);
+        int latestPeriod = Math.floorDiv(latest, DAYS);
+        if (period <= latestPeriod - PERIODS) {
+            return REJECTED;
+        }
+        if (journal != null) {
+            journal.noteRaised(slot, raised[slot]);
+        }
+        if (previous != NO_STAMP && latestPeriod > Math.floorDiv(previous, DAYS)) {
+            raised[slot] &= ~EVENT_DEVIATIONS;
+        }
+        latestDay[slot] = latest;
+
+        if (day > latest - DAYS) {
+            int dayIndex = slot * DAYS + Math.floorMod(day, DAYS);
+            if (dayStamps[dayIndex] != day) {
+                dayStamps[dayIndex] = day;
+                dayAmounts[dayIndex] = 0;
+                dayCounts[dayIndex] = 0;
+            }
+            dayAmounts[dayIndex] += amount;
+            dayCounts[dayIndex]++;
+            if (journal != null) {
+                journal.addDay(slot, day, amount);
+            }
+        }
+        int periodIndex = slot * PERIODS + Math.floorMod(period, PERIODS);
+        if (periodStamps[periodIndex] != period) {
+            periodStamps[periodIndex] = period;
+            periodAmounts[periodIndex] = 0;
+        }
+        periodAmounts[periodIndex] += amount;
+        if (journal != null) {
+            journal.addPeriod(slot, day, amount);
+        }
+
+        if (!profiled[slot]) {
+            return 0;
+        }
+        int deviations = 0;
+        if (exceeds(monthlyVolume(slot), expectedMonthly[slot])) {
+            deviations |= TransactionDeviationEnum.MONTHLY_VOLUME.bit();
+        }
+        if (exceeds(annualVolume(slot), expectedAnnual[slot])) {
+            deviations |= TransactionDeviationEnum.ANNUAL_VOLUME.bit();
+        }
+        if (exceeds(monthlyCount(slot), expectedCount[slot])) {
+            deviations |= TransactionDeviationEnum.TRANSACTION_COUNT.bit();
+        }
+        if (country >= 0 && country != domesticCountry && !isAnticipated(slot, country)) {
+            deviations |= TransactionDeviationEnum.UNEXPECTED_COUNTRY.bit();
+        }
+        if (cash && !cashIntensive[slot] && amount >= cashThreshold) {
+            deviations |= TransactionDeviationEnum.UNEXPECTED_CASH.bit();
+        }
+        int state = raised[slot];
+        raised[slot] = deviations | (state & EVENT_DEVIATIONS);
+        return deviations & ~state;
+    }
+
+    /**
+     * Takes the amounts noted in the journal back out of the windows. Buckets that have since moved on to a later
+     * day or period no longer hold them and are left alone. The deviations of the journal's parties are put back to
+     * what they were before it, so that a replay raises again those whose cases were never opened.
+     */
+    void undo(Journal journal) {
+        for (int i = 0; i < journal.raisedSize; i++) {
+            raised[journal.raisedSlots[i]] = journal.raisedBefore[i];
+        }
+        for (int i = 0; i < journal.size; i++) {
+            int slot = (int) (journal.keys[i] >>> 32);
+            int day = (int) journal.keys[i];
+            int dayIndex = slot * DAYS + Math.floorMod(day, DAYS);
+            if (dayStamps[dayIndex] == day) {
+                dayAmounts[dayIndex] = Math.max(0, dayAmounts[dayIndex] - journal.dayAmounts[i]);
+                dayCounts[dayIndex] = Math.max(0, dayCounts[dayIndex] - journal.dayCounts[i]);
+            }
+            int period = Math.floorDiv(day, DAYS);
+            int periodIndex = slot * PERIODS + Math.floorMod(period, PERIODS);
+            if (periodStamps[periodIndex] == period) {
+                periodAmounts[periodIndex] = Math.max(0, periodAmounts[periodIndex] - journal.periodAmounts[i]);
+            }
+        }
+        journal.clear();
+    }
+
+    long monthlyVolume(long partyId) {
+        return monthlyVolume(slots.get(partyId));
+    }
+
+    long monthlyCount(long partyId) {
+        return monthlyCount(slots.get(partyId));
+    }
+
+    long annualVolume(long partyId) {
+        return annualVolume(slots.get(partyId));
+    }
+
+    long expectedMonthlyVolume(long partyId) {
+        return expectedMonthly[slots.get(partyId)];
+    }
+
+    long expectedAnnualVolume(long partyId) {
+        return expectedAnnual[slots.get(partyId)];
+    }
+
+    long expectedTransactionCount(long partyId) {
+        return expectedCount[slots.get(partyId)];
+    }
+
+    int parties() {
+        return size;
+    }
+
+    /**
+     * @return The amount in minor units, or -1 for null
+     */
+    static long minorUnits(BigDecimal amount) {
+        return amount == null ? NOT_DECLARED : amount.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValue();
+    }
+
+    /**
+     * @return A code in 0..675 for an ISO 3166 alpha-2 country code, or -1 if the value is not one
+     */
+    static int countryCode(String country) {
+        if (country == null) {
+            return -1;
+        }
+        String code = country.trim().toUpperCase(Locale.ROOT);
+        if (code.length() != 2) {
+            return -1;
+        }
+        char first = code.charAt(0);
+        char second = code.charAt(1);
+        if (first < 'A' || first > 'Z' || second < 'A' || second > 'Z') {
+            return -1;
+        }
+        return (first - 'A') * 26 + (second - 'A');
+    }
+
+    /**
+     * Extracts the sorted codes of a free-form country list such as {@code "FR, PT;MA"}.
+     */
+    static short[] countryCodes(String countries) {
+        if (countries == null) {
+            return new short[0];
+        }
+        String[] tokens = countries.split("[^A-Za-z]+");
+        short[] codes = new short[tokens.length];
+        int count = 0;
+        for (String token : tokens) {
+            int code = token.length() == 2 ? countryCode(token) : -1;
+            if (code >= 0) {
+                codes[count++] = (short) code;
+            }
+        }
+        short[] sorted = Arrays.copyOf(codes, count);
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    private boolean exceeds(long actual, long expected) {
+        return expected > 0 && actual > expected * tolerance;
+    }
+
+    private boolean isAnticipated(int slot, int country) {
+        return Arrays.binarySearch(anticipatedCountries[slot], (short) country) >= 0;
+    }
+
+    private long monthlyVolume(int slot) {
+        int from = slot * DAYS;
+        int oldest = latestDay[slot] - DAYS;
+        long volume = 0;
+        for (int i = from; i < from + DAYS; i++) {
+            if (dayStamps[i] > oldest) {
+                volume += dayAmounts[i];
+            }
+        }
+        return volume;
+    }
+
+    private long monthlyCount(int slot) {
+        int from = slot * DAYS;
+        int oldest = latestDay[slot] - DAYS;
+        long count = 0;
+        for (int i = from; i < from + DAYS; i++) {
+            if (dayStamps[i] > oldest) {
+                count += dayCounts[i];
+            }
+        }
+        return count;
+    }
+
+    private long annualVolume(int slot) {
+        int from = slot * PERIODS;
+        int oldest = Math.floorDiv(latestDay[slot], DAYS) - PERIODS;
+        long volume = 0;
+        for (int i = from; i < from + PERIODS; i++) {
+            if (periodStamps[i] > oldest) {
+                volume += periodAmounts[i];
+            }
+        }
+        return volume;
+    }
+
+    private int slotOf(long partyId) {
+        int slot = slots.get(partyId);
+        if (slot != NO_SLOT) {
+            return slot;
+        }
+        if (size == loaded.length) {
+            grow(size << 1);
+        }
+        slot = size++;
+        slots.put(partyId, slot);
+        return slot;
+    }
+
+    private void allocate(int capacity) {
+        loaded = new boolean[capacity];
+        profiled = new boolean[capacity];
+        expectedMonthly = new long[capacity];
+        expectedAnnual = new long[capacity];
+        expectedCount = new long[capacity];
+        anticipatedCountries = new short[capacity][];
+        cashIntensive = new boolean[capacity];
+        latestDay = new int[capacity];
+        raised = new int[capacity];
+        dayAmounts = new long[capacity * DAYS];
+        dayCounts = new int[capacity * DAYS];
+        dayStamps = new int[capacity * DAYS];
+        periodAmounts = new long[capacity * PERIODS];
+        periodStamps = new int[capacity * PERIODS];
+        Arrays.fill(latestDay, NO_STAMP);
+        Arrays.fill(dayStamps, NO_STAMP);
+        Arrays.fill(periodStamps, NO_STAMP);
+    }
+
+    private void grow(int capacity) {
+        int previous = loaded.length;
+        loaded = Arrays.copyOf(loaded, capacity);
+        profiled = Arrays.copyOf(profiled, capacity);
+        expectedMonthly = Arrays.copyOf(expectedMonthly, capacity);
+        expectedAnnual = Arrays.copyOf(expectedAnnual, capacity);
+        expectedCount = Arrays.copyOf(expectedCount, capacity);
+        anticipatedCountries = Arrays.copyOf(anticipatedCountries, capacity);
+        cashIntensive = Arrays.copyOf(cashIntensive, capacity);
+        latestDay = Arrays.copyOf(latestDay, capacity);
+        raised = Arrays.copyOf(raised, capacity);
+        dayAmounts = Arrays.copyOf(dayAmounts, capacity * DAYS);
+        dayCounts = Arrays.copyOf(dayCounts, capacity * DAYS);
+        dayStamps = Arrays.copyOf(dayStamps, capacity * DAYS);
+        periodAmounts = Arrays.copyOf(periodAmounts, capacity * PERIODS);
+        periodStamps = Arrays.copyOf(periodStamps, capacity * PERIODS);
+        Arrays.fill(latestDay, previous, capacity, NO_STAMP);
+        Arrays.fill(dayStamps, previous * DAYS, capacity * DAYS, NO_STAMP);
+        Arrays.fill(periodStamps, previous * PERIODS, capacity * PERIODS, NO_STAMP);
+    }
+
+    /**
+     * The amounts added per party slot and booking day by a run of {@link #record} calls, and the raised deviations of
+     * each slot before the first of them. Costs one entry per distinct party and day rather than per transaction.
+     */
+    static final class Journal {
+
+        private static final int INITIAL_CAPACITY = 1024;
+
+        private LongIntHashMap entries = new LongIntHashMap(INITIAL_CAPACITY, NO_SLOT);
+        private long[] keys = new long[INITIAL_CAPACITY];
+        private long[] dayAmounts = new long[INITIAL_CAPACITY];
+        private int[] dayCounts = new int[INITIAL_CAPACITY];
+        private long[] periodAmounts = new long[INITIAL_CAPACITY];
+        private int size;
+
+        private LongIntHashMap raisedEntries = new LongIntHashMap(INITIAL_CAPACITY, NO_SLOT);
+        private int[] raisedSlots = new int[INITIAL_CAPACITY];
+        private int[] raisedBefore = new int[INITIAL_CAPACITY];
+        private int raisedSize;
+
+        int size() {
+            return size;
+        }
+
+        /**
+         * Notes the raised deviations of a slot, unless the journal already holds those from before its first change.
+         */
+        private void noteRaised(int slot, int state) {
+            if (raisedEntries.putIfAbsent(slot, raisedSize) != raisedSize) {
+                return;
+            }
+            if (raisedSize == raisedSlots.length) {
+                raisedSlots = Arrays.copyOf(raisedSlots, raisedSize << 1);
+                raisedBefore = Arrays.copyOf(raisedBefore, raisedSize << 1);
+            }
+            raisedSlots[raisedSize] = slot;
+            raisedBefore[raisedSize] = state;
+            raisedSize++;
+        }
+
+        private void addDay(int slot, int day, long amount) {
+            int entry = entryOf(slot, day);
+            dayAmounts[entry] += amount;
+            dayCounts[entry]++;
+        }
+
+        private void addPeriod(int slot, int day, long amount) {
+            periodAmounts[entryOf(slot, day)] += amount;
+        }
+
+        private int entryOf(int slot, int day) {
+            long key = ((long) slot << 32) | (day & 0xFFFFFFFFL);
+            int entry = entries.putIfAbsent(key, size);
+            if (entry != size) {
+                return entry;
+            }
+            if (size == keys.length) {
+                int capacity = size << 1;
+                keys = Arrays.copyOf(keys, capacity);
+                dayAmounts = Arrays.copyOf(dayAmounts, capacity);
+                dayCounts = Arrays.copyOf(dayCounts, capacity);
+                periodAmounts = Arrays.copyOf(periodAmounts, capacity);
+            }
+            keys[size] = key;
+            return size++;
+        }
+
+        private void clear() {
+            entries = new LongIntHashMap(INITIAL_CAPACITY, NO_SLOT);
+            keys = new long[INITIAL_CAPACITY];
+            dayAmounts = new long[INITIAL_CAPACITY];
+            dayCounts = new int[INITIAL_CAPACITY];
+            periodAmounts = new long[INITIAL_CAPACITY];
+            size = 0;
+            raisedEntries = new LongIntHashMap(INITIAL_CAPACITY, NO_SLOT);
+            raisedSlots = new int[INITIAL_CAPACITY];
+            raisedBefore = new int[INITIAL_CAPACITY];
+            raisedSize = 0;
+        }
+    }
+}
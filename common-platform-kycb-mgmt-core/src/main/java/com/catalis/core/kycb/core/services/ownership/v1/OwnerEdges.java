@@ -0,0 +1,19 @@
+package com.catalis.core.kycb.core.services.ownership.v1;
+
+/**
+ * Owners of one legal entity, held as parallel primitive arrays.
+ * <p>
+ * Fractions are ownership percentages divided by 100.
+ *
+ * @param parentEntityIds       Legal entities owning the entity
+ * @param parentFractions       Share held by each parent entity
+ * @param naturalPersonIds      Natural persons owning the entity directly
+ * @param naturalPersonFractions Share held by each natural person
+ */
+public record OwnerEdges(
+        long[] parentEntityIds,
+        double[] parentFractions,
+        long[] naturalPersonIds,
+        double[] naturalPersonFractions
+) {
+}
@@ -0,0 +1,323 @@
+package com.catalis.core.kycb.core.services.ownership.v1;
+
+import com.catalis.core.kycb.core.events.party.v1.PartyDataChangedEvent;
+import com.catalis.core.kycb.core.events.party.v1.PartyDataTypeEnum;
+import com.catalis.core.kycb.interfaces.enums.ownership.v1.OwnershipTypeEnum;
+import com.catalis.core.kycb.models.entities.corporate.v1.CorporateStructure;
+import com.catalis.core.kycb.models.entities.ownership.v1.Ubo;
+import com.catalis.core.kycb.models.repositories.corporate.v1.CorporateStructureRepository;
+import com.catalis.core.kycb.models.repositories.ownership.v1.UboRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+
+/**
+ * In-memory adjacency index from each legal entity to its owners, built from active {@code corporate_structure} and
+ * direct {@code ubo} rows.
+ * <p>
+ * Both tables key ownership rows by the owned party, so the index is loaded with one scan of each table on first use
+ * and afterwards kept current by reloading only the parties named in each committed UBO or corporate structure change.
+ * Rows ending in the future are held with their end date and dropped from what the index serves once it passes, which
+ * also counts as a change of the index. UBO rows declared as {@code INDIRECT} summarise chains that the graph already
+ * models and are left out to avoid counting them twice.
+ */
+@Slf4j
+@Component
+public class OwnershipGraphIndex {
+
+    private static final double PERCENT = 100.0;
+
+    @Autowired
+    private CorporateStructureRepository corporateStructureRepository;
+
+    @Autowired
+    private UboRepository uboRepository;
+
+    private final Map<Long, Owners> ownersByEntity = new ConcurrentHashMap<>();
+    private final AtomicReference<Mono<Void>> initialLoad = new AtomicReference<>();
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * When the first ownership row held by the index ends, in epoch seconds of local time.
+     */
+    private volatile long nextEnd = Long.MAX_VALUE;
+
+    /**
+     * Loads the index on first call; later calls complete immediately.
+     */
+    public Mono<Void> ensureLoaded() {
+        Mono<Void> load = initialLoad.get();
+        if (load != null) {
+            return load;
+        }
+        AtomicReference<Mono<Void>> self = new AtomicReference<>();
+        Mono<Void> candidate = loadAll()
+                .doOnError(e -> initialLoad.compareAndSet(self.get(), null))
+                .cache();
+        self.set(candidate);
+        return initialLoad.compareAndSet(null, candidate) ? candidate : initialLoad.get();
+    }
+
+    /**
+     * @return The owners of a legal entity, or {@code null} if it has none on record
+     */
+    public OwnerEdges getOwners(long entityId) {
+        dropEnded();
+        Owners owners = ownersByEntity.get(entityId);
+        return owners == null ? null : owners.edges();
+    }
+
+    public int size() {
+        return ownersByEntity.size();
+    }
+
+    /**
+     * Visits every legal entity with owners on record. Entries changed during iteration may or may not be seen.
+     */
+    public void forEach(BiConsumer<Long, OwnerEdges> action) {
+        dropEnded();
+        ownersByEntity.forEach((entityId, owners) -> action.accept(entityId, owners.edges()));
+    }
+
+    /**
+     * @return A counter that increases whenever the index changes, including when an ownership row ends
+     */
+    public long getVersion() {
+        dropEnded();
+        return version.get();
+    }
+
+    @EventListener
+    public void onPartyDataChanged(PartyDataChangedEvent event) {
+        if (event.partyId() == null || initialLoad.get() == null
+                || (event.type() != PartyDataTypeEnum.UBO && event.type() != PartyDataTypeEnum.CORPORATE_STRUCTURE)) {
+            return;
+        }
+        refresh(event.partyId())
+                .subscribe(null, e -> log.error("Failed to refresh ownership index for party {}", event.partyId(), e));
+    }
+
+    /**
+     * Reloads the owners of one legal entity.
+     */
+    public Mono<Void> refresh(Long partyId) {
+        return ensureLoaded()
+                .then(Mono.zip(
+                        corporateStructureRepository.findByPartyId(partyId).collectList(),
+                        uboRepository.findByPartyId(partyId).collectList()
+                ))
+                .doOnNext(rows -> {
+                    Owners owners = toOwners(rows.getT1(), rows.getT2(), epochSecond(LocalDateTime.now()));
+                    synchronized (this) {
+                        if (owners == null) {
+                            ownersByEntity.remove(partyId);
+                        } else {
+                            ownersByEntity.put(partyId, owners);
+                            nextEnd = Math.min(nextEnd, owners.nextEnd());
+                        }
+                        version.incrementAndGet();
+                    }
+                })
+                .then();
+    }
+
+    private Mono<Void> loadAll() {
+        LocalDateTime now = LocalDateTime.now();
+        return Mono.zip(
+                        corporateStructureRepository.findByEndDateAfterOrEndDateIsNull(now).collectList(),
+                        uboRepository.findByEndDateAfterOrEndDateIsNull(now).collectList()
+                )
+                .doOnNext(rows -> {
+                    Map<Long, List<CorporateStructure>> structuresByParty = new HashMap<>();
+                    for (CorporateStructure structure : rows.getT1()) {
+                        structuresByParty.computeIfAbsent(structure.getPartyId(), id -> new ArrayList<>()).add(structure);
+                    }
+                    Map<Long, List<Ubo>> ubosByParty = new HashMap<>();
+                    for (Ubo ubo : rows.getT2()) {
+                        ubosByParty.computeIfAbsent(ubo.getPartyId(), id -> new ArrayList<>()).add(ubo);
+                    }
+                    Map<Long, Owners> loaded = new HashMap<>();
+                    for (Long partyId : structuresByParty.keySet()) {
+                        putEdges(loaded, partyId, structuresByParty.get(partyId), ubosByParty.remove(partyId), now);
+                    }
+                    for (Map.Entry<Long, List<Ubo>> entry : ubosByParty.entrySet()) {
+                        putEdges(loaded, entry.getKey(), List.of(), entry.getValue(), now);
+                    }
+                    synchronized (this) {
+                        ownersByEntity.putAll(loaded);
+                        for (Owners owners : loaded.values()) {
+                            nextEnd = Math.min(nextEnd, owners.nextEnd());
+                        }
+                        version.incrementAndGet();
+                    }
+                    log.info("Loaded ownership index with {} entities", loaded.size());
+                })
+                .then();
+    }
+
+    /**
+     * Drops the ownership rows whose end date has passed since the index last looked.
+     */
+    private void dropEnded() {
+        if (epochSecond(LocalDateTime.now()) < nextEnd) {
+            return;
+        }
+        synchronized (this) {
+            long now = epochSecond(LocalDateTime.now());
+            if (now < nextEnd) {
+                return;
+            }
+            long next = Long.MAX_VALUE;
+            for (Map.Entry<Long, Owners> entry : ownersByEntity.entrySet()) {
+                Owners owners = entry.getValue();
+                if (owners.nextEnd() <= now) {
+                    owners = owners.activeAt(now);
+                    if (owners == null) {
+                        ownersByEntity.remove(entry.getKey());
+                        continue;
+                    }
+                    entry.setValue(owners);
+                }
+                next = Math.min(next, owners.nextEnd());
+            }
+            nextEnd = next;
+            version.incrementAndGet();
+        }
+    }
+
+    private static void putEdges(Map<Long, Owners> target, Long partyId,
+                                 List<CorporateStructure> structures, List<Ubo> ubos, LocalDateTime now) {
+        Owners owners = toOwners(structures, ubos == null ? List.of() : ubos, epochSecond(now));
+        if (partyId != null && owners != null) {
+            target.put(partyId, owners);
+        }
+    }
+
+    private static Owners toOwners(List<CorporateStructure> structures, List<Ubo> ubos, long now) {
+        long[] parentIds = new long[structures.size()];
+        double[] parentFractions = new double[structures.size()];
+        long[] parentEnds = new long[structures.size()];
+        int parents = 0;
+        for (CorporateStructure structure : structures) {
+            long end = endOf(structure.getEndDate());
+            if (structure.getParentEntityId() != null && end > now && structure.getOwnershipPercentage() != null) {
+                parentIds[parents] = structure.getParentEntityId();
+                parentFractions[parents] = fraction(structure.getOwnershipPercentage());
+                parentEnds[parents] = end;
+                parents++;
+            }
+        }
+        long[] personIds = new long[ubos.size()];
+        double[] personFractions = new double[ubos.size()];
+        long[] personEnds = new long[ubos.size()];
+        int persons = 0;
+        for (Ubo ubo : ubos) {
+            long end = endOf(ubo.getEndDate());
+            if (ubo.getNaturalPersonId() != null && end > now
+                    && ubo.getOwnershipPercentage() != null && ubo.getOwnershipType() != OwnershipTypeEnum.INDIRECT) {
+                personIds[persons] = ubo.getNaturalPersonId();
+                personFractions[persons] = fraction(ubo.getOwnershipPercentage());
+                personEnds[persons] = end;
+                persons++;
+            }
+        }
+        return Owners.of(parentIds, parentFractions, parentEnds, parents,
+                personIds, personFractions, personEnds, persons);
+    }
+
+    private static long endOf(LocalDateTime endDate) {
+        return endDate == null ? Long.MAX_VALUE : epochSecond(endDate);
+    }
+
+    private static long epochSecond(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static double fraction(BigDecimal percentage) {
+        return percentage.doubleValue() / PERCENT;
+    }
+
+    /**
+     * The owners of one legal entity as served, with the end of each ownership row in epoch seconds, or
+     * {@link Long#MAX_VALUE} for none.
+     */
+    private record Owners(OwnerEdges edges, long[] parentEnds, long[] naturalPersonEnds, long nextEnd) {
+
+        /**
+         * @return The first {@code parents} and {@code persons} entries of the arrays, or null if both are 0
+         */
+        static Owners of(long[] parentIds, double[] parentFractions, long[] parentEnds, int parents,
+                         long[] personIds, double[] personFractions, long[] personEnds, int persons) {
+            if (parents == 0 && persons == 0) {
+                return null;
+            }
+            long nextEnd = Long.MAX_VALUE;
+            for (int i = 0; i < parents; i++) {
+                nextEnd = Math.min(nextEnd, parentEnds[i]);
+            }
+            for (int i = 0; i < persons; i++) {
+                nextEnd = Math.min(nextEnd, personEnds[i]);
+            }
+            return new Owners(
+                    new OwnerEdges(
+                            Arrays.copyOf(parentIds, parents),
+                            Arrays.copyOf(parentFractions, parents),
+                            Arrays.copyOf(personIds, persons),
+                            Arrays.copyOf(personFractions, persons)),
+                    Arrays.copyOf(parentEnds, parents),
+                    Arrays.copyOf(personEnds, persons),
+                    nextEnd);
+        }
+
+        /**
+         * @return The owners whose rows have not ended by the given time, or null if none is left
+         */
+        Owners activeAt(long now) {
+            long[] parentIds = edges.parentEntityIds();
+            double[] parentFractions = edges.parentFractions();
+            long[] keptParentIds = new long[parentIds.length];
+            double[] keptParentFractions = new double[parentIds.length];
+            long[] keptParentEnds = new long[parentIds.length];
+            int parents = 0;
+            for (int i = 0; i < parentIds.length; i++) {
+                if (parentEnds[i] > now) {
+                    keptParentIds[parents] = parentIds[i];
+                    keptParentFractions[parents] = parentFractions[i];
+                    keptParentEnds[parents] = parentEnds[i];
+                    parents++;
+                }
+            }
+            long[] personIds = edges.naturalPersonIds();
+            double[] personFractions = edges.naturalPersonFractions();
+            long[] keptPersonIds = new long[personIds.length];
+            double[] keptPersonFractions = new double[personIds.length];
+            long[] keptPersonEnds = new long[personIds.length];
+            int persons = 0;
+            for (int i = 0; i < personIds.length; i++) {
+                if (naturalPersonEnds[i] > now) {
+                    keptPersonIds[persons] = personIds[i];
+                    keptPersonFractions[persons] = personFractions[i];
+                    keptPersonEnds[persons] = naturalPersonEnds[i];
+                    persons++;
+                }
+            }
+            return of(keptParentIds, keptParentFractions, keptParentEnds, parents,
+                    keptPersonIds, keptPersonFractions, keptPersonEnds, persons);
+        }
+    }
+}
@@ -0,0 +1,375 @@
+package com.catalis.core.kycb.core.services.ownership.v1;
+
+import com.catalis.core.kycb.core.utils.LongIntHashMap;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable compressed sparse row (CSR) snapshot of the ownership network.
+ * <p>
+ * Legal entities occupy node indexes {@code [0, partyCount)} and natural persons {@code [partyCount, nodeCount)}.
+ * Each node's owners and owned entities are contiguous slices of two int arrays, so traversals touch only primitive
+ * arrays and allocate nothing per edge. Connected components are labelled once at build time with union-find and
+ * stored in their own CSR, making component queries proportional to the component size.
+ */
+public final class OwnershipNetworkGraph {
+
+    private final long version;
+    private final LocalDateTime builtAt;
+    private final int partyCount;
+    private final long[] nodeIds;
+    private final LongIntHashMap partyNodes;
+    private final LongIntHashMap personNodes;
+    private final int[] ownerOffsets;
+    private final int[] ownerTargets;
+    private final int[] ownedOffsets;
+    private final int[] ownedTargets;
+    private final int[] componentOf;
+    private final int[] componentOffsets;
+    private final int[] componentMembers;
+
+    private OwnershipNetworkGraph(long version, int partyCount, long[] nodeIds,
+                                  LongIntHashMap partyNodes, LongIntHashMap personNodes,
+                                  int[] ownerOffsets, int[] ownerTargets, int[] ownedOffsets, int[] ownedTargets,
+                                  int[] componentOf, int[] componentOffsets, int[] componentMembers) {
+        this.version = version;
+        this.builtAt = LocalDateTime.now();
+        this.partyCount = partyCount;
+        this.nodeIds = nodeIds;
+        this.partyNodes = partyNodes;
+        this.personNodes = personNodes;
+        this.ownerOffsets = ownerOffsets;
+        this.ownerTargets = ownerTargets;
+        this.ownedOffsets = ownedOffsets;
+        this.ownedTargets = ownedTargets;
+        this.componentOf = componentOf;
+        this.componentOffsets = componentOffsets;
+        this.componentMembers = componentMembers;
+    }
+
+    /**
+     * Compacts the current content of the ownership index.
+     *
+     * @param index   The ownership index
+     * @param version The index version read before iterating, recorded to detect staleness
+     * @return The compacted graph
+     */
+    public static OwnershipNetworkGraph build(OwnershipGraphIndex index, long version) {
+        List<Long> ownedIds = new ArrayList<>(index.size());
+        List<OwnerEdges> ownerEdges = new ArrayList<>(index.size());
+        index.forEach((entityId, edges) -> {
+            ownedIds.add(entityId);
+            ownerEdges.add(edges);
+        });
+
+        // Number legal entities first, then natural persons
+        LongIntHashMap partyNodes = new LongIntHashMap(ownedIds.size() * 2, -1);
+        LongIntHashMap personNodes = new LongIntHashMap(ownedIds.size(), -1);
+        long[] partyIds = new long[Math.max(16, ownedIds.size() * 2)];
+        long[] personIds = new long[Math.max(16, ownedIds.size())];
+        int parties = 0;
+        int persons = 0;
+        int edgeCount = 0;
+        for (int i = 0; i < ownedIds.size(); i++) {
+            parties = addNode(partyNodes, ownedIds.get(i), parties, partyIds);
+            partyIds = grow(partyIds, parties);
+            OwnerEdges edges = ownerEdges.get(i);
+            for (long parentId : edges.parentEntityIds()) {
+                parties = addNode(partyNodes, parentId, parties, partyIds);
+                partyIds = grow(partyIds, parties);
+            }
+            for (long personId : edges.naturalPersonIds()) {
+                persons = addNode(personNodes, personId, persons, personIds);
+                personIds = grow(personIds, persons);
+            }
+            edgeCount += edges.parentEntityIds().length + edges.naturalPersonIds().length;
+        }
+        int nodeCount = parties + persons;
+        long[] nodeIds = new long[nodeCount];
+        System.arraycopy(partyIds, 0, nodeIds, 0, parties);
+        System.arraycopy(personIds, 0, nodeIds, parties, persons);
+
+        // Degree counts, prefix sums, then fill
+        int[] ownerOffsets = new int[nodeCount + 1];
+        int[] ownedOffsets = new int[nodeCount + 1];
+        for (int i = 0; i < ownedIds.size(); i++) {
+            int owned = partyNodes.get(ownedIds.get(i));
+            OwnerEdges edges = ownerEdges.get(i);
+            ownerOffsets[owned + 1] += edges.parentEntityIds().length + edges.naturalPersonIds().length;
+            for (long parentId : edges.parentEntityIds()) {
+                ownedOffsets[partyNodes.get(parentId) + 1]++;
+            }
+            for (long personId : edges.naturalPersonIds()) {
+                ownedOffsets[parties + personNodes.get(personId) + 1]++;
+            }
+        }
+        for (int node = 0; node < nodeCount; node++) {
+            ownerOffsets[node + 1] += ownerOffsets[node];
+            ownedOffsets[node + 1] += ownedOffsets[node];
+        }
+        int[] ownerTargets = new int[edgeCount];
+        int[] ownedTargets = new int[edgeCount];
+        int[] ownerCursor = Arrays.copyOf(ownerOffsets, nodeCount);
+        int[] ownedCursor = Arrays.copyOf(ownedOffsets, nodeCount);
+        int[] unionFind = new int[nodeCount];
+        for (int node = 0; node < nodeCount; node++) {
+            unionFind[node] = node;
+        }
+        for (int i = 0; i < ownedIds.size(); i++) {
+            int owned = partyNodes.get(ownedIds.get(i));
+            OwnerEdges edges = ownerEdges.get(i);
+            for (long parentId : edges.parentEntityIds()) {
+                int owner = partyNodes.get(parentId);
+                ownerTargets[ownerCursor[owned]++] = owner;
+                ownedTargets[ownedCursor[owner]++] = owned;
+                union(unionFind, owned, owner);
+            }
+            for (long personId : edges.naturalPersonIds()) {
+                int owner = parties + personNodes.get(personId);
+                ownerTargets[ownerCursor[owned]++] = owner;
+                ownedTargets[ownedCursor[owner]++] = owned;
+                union(unionFind, owned, owner);
+            }
+        }
+
+        // Component labels and a CSR of members per component
+        int[] componentOf = new int[nodeCount];
+        int[] labelOfRoot = new int[nodeCount];
+        Arrays.fill(labelOfRoot, -1);
+        int components = 0;
+        for (int node = 0; node < nodeCount; node++) {
+            int root = find(unionFind, node);
+            if (labelOfRoot[root] < 0) {
+                labelOfRoot[root] = components++;
+            }
+            componentOf[node] = labelOfRoot[root];
+        }
+        int[] componentOffsets = new int[components + 1];
+        for (int node = 0; node < nodeCount; node++) {
+            componentOffsets[componentOf[node] + 1]++;
+        }
+        for (int component = 0; component < components; component++) {
+            componentOffsets[component + 1] += componentOffsets[component];
+        }
+        int[] componentMembers = new int[nodeCount];
+        int[] componentCursor = Arrays.copyOf(componentOffsets, components);
+        for (int node = 0; node < nodeCount; node++) {
+            componentMembers[componentCursor[componentOf[node]]++] = node;
+        }
+
+        return new OwnershipNetworkGraph(version, parties, nodeIds, partyNodes, personNodes,
+                ownerOffsets, ownerTargets, ownedOffsets, ownedTargets,
+                componentOf, componentOffsets, componentMembers);
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public LocalDateTime builtAt() {
+        return builtAt;
+    }
+
+    public int nodeCount() {
+        return nodeIds.length;
+    }
+
+    public int edgeCount() {
+        return ownerTargets.length;
+    }
+
+    /**
+     * @return The node index of a legal entity, or -1 if it has no ownership edges
+     */
+    public int partyNode(long partyId) {
+        return partyNodes.get(partyId);
+    }
+
+    /**
+     * @return The node index of a natural person, or -1 if they own nothing on record
+     */
+    public int personNode(long naturalPersonId) {
+        int node = personNodes.get(naturalPersonId);
+        return node < 0 ? -1 : partyCount + node;
+    }
+
+    public boolean isPerson(int node) {
+        return node >= partyCount;
+    }
+
+    public long nodeId(int node) {
+        return nodeIds[node];
+    }
+
+    /**
+     * Members of the node's connected component, ignoring edge direction.
+     *
+     * @param limit Maximum number of members returned
+     */
+    public int[] component(int node, int limit) {
+        int component = componentOf[node];
+        int from = componentOffsets[component];
+        int to = Math.min(componentOffsets[component + 1], from + limit);
+        return Arrays.copyOfRange(componentMembers, from, to);
+    }
+
+    public int componentSize(int node) {
+        int component = componentOf[node];
+        return componentOffsets[component + 1] - componentOffsets[component];
+    }
+
+    /**
+     * Breadth-first traversal ignoring edge direction, up to {@code hops} edges from the start node.
+     *
+     * @return The visited nodes, start node first, in non-decreasing distance order
+     */
+    public Traversal neighbourhood(int start, int hops, int limit) {
+        int[] nodes = new int[Math.min(limit, nodeIds.length)];
+        int[] distances = new int[nodes.length];
+        BitSet visited = new BitSet(nodeIds.length);
+        int head = 0;
+        int tail = 0;
+        boolean truncated = false;
+        nodes[tail++] = start;
+        visited.set(start);
+        while (head < tail) {
+            int node = nodes[head];
+            int distance = distances[head++];
+            if (distance == hops) {
+                continue;
+            }
+            for (int pass = 0; pass < 2; pass++) {
+                int[] offsets = pass == 0 ? ownerOffsets : ownedOffsets;
+                int[] targets = pass == 0 ? ownerTargets : ownedTargets;
+                for (int e = offsets[node]; e < offsets[node + 1]; e++) {
+                    int next = targets[e];
+                    if (visited.get(next)) {
+                        continue;
+                    }
+                    if (tail == nodes.length) {
+                        truncated = true;
+                        break;
+                    }
+                    visited.set(next);
+                    nodes[tail] = next;
+                    distances[tail++] = distance + 1;
+                }
+            }
+        }
+        return new Traversal(Arrays.copyOf(nodes, tail), Arrays.copyOf(distances, tail), truncated);
+    }
+
+    /**
+     * Legal entities that share at least one natural-person owner with the given entity, at any depth: persons are
+     * collected by walking owners upwards from the entity, then their holdings are walked downwards.
+     *
+     * @return Map from each related legal entity node to the shared natural-person nodes, in discovery order
+     */
+    public Map<Integer, List<Integer>> sharedOwners(int partyNode, int maxDepth, int limit) {
+        BitSet seen = new BitSet(nodeIds.length);
+        List<Integer> owners = new ArrayList<>();
+        walk(partyNode, maxDepth, ownerOffsets, ownerTargets, seen, node -> {
+            if (isPerson(node)) {
+                owners.add(node);
+            }
+            return true;
+        });
+
+        Map<Integer, List<Integer>> related = new LinkedHashMap<>();
+        for (int owner : owners) {
+            BitSet held = new BitSet(nodeIds.length);
+            walk(owner, maxDepth, ownedOffsets, ownedTargets, held, node -> {
+                if (node != partyNode && !isPerson(node)) {
+                    List<Integer> via = related.get(node);
+                    if (via == null) {
+                        if (related.size() == limit) {
+                            return false;
+                        }
+                        via = new ArrayList<>(1);
+                        related.put(node, via);
+                    }
+                    via.add(owner);
+                }
+                return true;
+            });
+        }
+        return related;
+    }
+
+    private void walk(int start, int maxDepth, int[] offsets, int[] targets, BitSet visited, NodeVisitor visitor) {
+        int[] queue = new int[16];
+        int[] depths = new int[16];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = start;
+        visited.set(start);
+        while (head < tail) {
+            int node = queue[head];
+            int depth = depths[head++];
+            if (node != start && !visitor.visit(node)) {
+                return;
+            }
+            if (depth == maxDepth) {
+                continue;
+            }
+            for (int e = offsets[node]; e < offsets[node + 1]; e++) {
+                int next = targets[e];
+                if (!visited.get(next)) {
+                    visited.set(next);
+                    if (tail == queue.length) {
+                        queue = Arrays.copyOf(queue, tail << 1);
+                        depths = Arrays.copyOf(depths, tail << 1);
+                    }
+                    queue[tail] = next;
+                    depths[tail++] = depth + 1;
+                }
+            }
+        }
+    }
+
+    private static int addNode(LongIntHashMap nodes, long id, int count, long[] ids) {
+        if (nodes.containsKey(id)) {
+            return count;
+        }
+        nodes.put(id, count);
+        ids[count] = id;
+        return count + 1;
+    }
+
+    private static long[] grow(long[] ids, int count) {
+        return count < ids.length ? ids : Arrays.copyOf(ids, ids.length << 1);
+    }
+
+    private static int find(int[] unionFind, int node) {
+        while (unionFind[node] != node) {
+            unionFind[node] = unionFind[unionFind[node]];
+            node = unionFind[node];
+        }
+        return node;
+    }
+
+    private static void union(int[] unionFind, int a, int b) {
+        int rootA = find(unionFind, a);
+        int rootB = find(unionFind, b);
+        if (rootA != rootB) {
+            unionFind[rootA] = rootB;
+        }
+    }
+
+    @FunctionalInterface
+    private interface NodeVisitor {
+        boolean visit(int node);
+    }
+
+    /**
+     * Result of a bounded traversal.
+     */
+    public record Traversal(int[] nodes, int[] distances, boolean truncated) {
+    }
+}
@@ -0,0 +1,35 @@
+package com.catalis.core.kycb.core.services.ownership.v1;
+
+import com.catalis.core.kycb.interfaces.dtos.ownership.v1.OwnershipNetworkDTO;
+import reactor.core.publisher.Mono;
+
+/**
+ * Service interface for portfolio-wide ownership network analysis.
+ */
+public interface OwnershipNetworkService {
+    /**
+     * Gets every party and natural person connected to a party through ownership, in either direction.
+     *
+     * @param partyId The ID of the party
+     * @return A Mono containing the connected component
+     */
+    Mono<OwnershipNetworkDTO> getConnectedComponent(Long partyId);
+
+    /**
+     * Gets the legal entities that share a natural-person owner with a party, directly or through intermediate
+     * entities.
+     *
+     * @param partyId The ID of the party
+     * @return A Mono containing the related legal entities and the shared owners
+     */
+    Mono<OwnershipNetworkDTO> getSharedOwnerParties(Long partyId);
+
+    /**
+     * Gets the parties and natural persons within a number of ownership edges of a party.
+     *
+     * @param partyId The ID of the party
+     * @param hops    Maximum number of edges
+     * @return A Mono containing the neighbourhood, ordered by distance
+     */
+    Mono<OwnershipNetworkDTO> getNeighbourhood(Long partyId, int hops);
+}
@@ -0,0 +1,150 @@
+package com.catalis.core.kycb.core.services.ownership.v1;
+
+import com.catalis.core.kycb.interfaces.dtos.ownership.v1.OwnershipNetworkDTO;
+import com.catalis.core.kycb.interfaces.dtos.ownership.v1.OwnershipNetworkNodeDTO;
+import com.catalis.core.kycb.interfaces.enums.ownership.v1.OwnershipNodeTypeEnum;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Implementation of the ownership network service.
+ * <p>
+ * Queries are answered from an immutable {@link OwnershipNetworkGraph} snapshot compacted from the incrementally
+ * maintained {@link OwnershipGraphIndex}. When the index has moved on, the snapshot is recompacted in the background
+ * at most once per {@code networkRebuildInterval}; compaction is a pure in-memory pass and never touches the database.
+ */
+@Slf4j
+@Service
+public class OwnershipNetworkServiceImpl implements OwnershipNetworkService {
+
+    @Autowired
+    private OwnershipGraphIndex ownershipGraphIndex;
+
+    @Autowired
+    private OwnershipProperties properties;
+
+    private volatile OwnershipNetworkGraph graph;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    @Override
+    public Mono<OwnershipNetworkDTO> getConnectedComponent(Long partyId) {
+        return currentGraph().map(current -> {
+            int node = current.partyNode(partyId);
+            if (node < 0) {
+                return isolated(current, partyId);
+            }
+            int limit = properties.getNetworkResultLimit();
+            List<OwnershipNetworkNodeDTO> nodes = new ArrayList<>();
+            for (int member : current.component(node, limit)) {
+                nodes.add(toNode(current, member, null, null));
+            }
+            return result(current, partyId, nodes, current.componentSize(node) > limit);
+        });
+    }
+
+    @Override
+    public Mono<OwnershipNetworkDTO> getSharedOwnerParties(Long partyId) {
+        return currentGraph().map(current -> {
+            int node = current.partyNode(partyId);
+            if (node < 0) {
+                return result(current, partyId, List.of(), false);
+            }
+            int limit = properties.getNetworkResultLimit();
+            Map<Integer, List<Integer>> related = current.sharedOwners(node, properties.getMaxDepth(), limit);
+            List<OwnershipNetworkNodeDTO> nodes = new ArrayList<>(related.size());
+            related.forEach((relatedNode, owners) -> nodes.add(toNode(current, relatedNode, null,
+                    owners.stream().map(current::nodeId).distinct().toList())));
+            return result(current, partyId, nodes, related.size() == limit);
+        });
+    }
+
+    @Override
+    public Mono<OwnershipNetworkDTO> getNeighbourhood(Long partyId, int hops) {
+        return currentGraph().map(current -> {
+            int node = current.partyNode(partyId);
+            if (node < 0) {
+                return isolated(current, partyId);
+            }
+            OwnershipNetworkGraph.Traversal traversal = current.neighbourhood(node,
+                    Math.min(Math.max(hops, 0), properties.getMaxDepth()), properties.getNetworkResultLimit());
+            List<OwnershipNetworkNodeDTO> nodes = new ArrayList<>(traversal.nodes().length);
+            for (int i = 0; i < traversal.nodes().length; i++) {
+                nodes.add(toNode(current, traversal.nodes()[i], traversal.distances()[i], null));
+            }
+            return result(current, partyId, nodes, traversal.truncated());
+        });
+    }
+
+    private Mono<OwnershipNetworkGraph> currentGraph() {
+        return ownershipGraphIndex.ensureLoaded()
+                .then(Mono.defer(() -> {
+                    OwnershipNetworkGraph current = graph;
+                    if (current == null) {
+                        return Mono.fromCallable(this::rebuild).subscribeOn(Schedulers.boundedElastic());
+                    }
+                    if (current.version() != ownershipGraphIndex.getVersion()
+                            && current.builtAt().plus(properties.getNetworkRebuildInterval()).isBefore(LocalDateTime.now())
+                            && rebuilding.compareAndSet(false, true)) {
+                        Mono.fromCallable(this::rebuild)
+                                .subscribeOn(Schedulers.boundedElastic())
+                                .doFinally(signal -> rebuilding.set(false))
+                                .subscribe(null, e -> log.error("Failed to rebuild ownership network graph", e));
+                    }
+                    return Mono.just(current);
+                }));
+    }
+
+    private synchronized OwnershipNetworkGraph rebuild() {
+        long version = ownershipGraphIndex.getVersion();
+        OwnershipNetworkGraph current = graph;
+        if (current != null && current.version() == version) {
+            return current;
+        }
+        long started = System.nanoTime();
+        OwnershipNetworkGraph rebuilt = OwnershipNetworkGraph.build(ownershipGraphIndex, version);
+        graph = rebuilt;
+        log.info("Compacted ownership network graph: {} nodes, {} edges in {} ms",
+                rebuilt.nodeCount(), rebuilt.edgeCount(), (System.nanoTime() - started) / 1_000_000);
+        return rebuilt;
+    }
+
+    private OwnershipNetworkDTO isolated(OwnershipNetworkGraph current, Long partyId) {
+        OwnershipNetworkNodeDTO root = OwnershipNetworkNodeDTO.builder()
+                .nodeId(partyId)
+                .nodeType(OwnershipNodeTypeEnum.LEGAL_ENTITY.name())
+                .distance(0)
+                .build();
+        return result(current, partyId, List.of(root), false);
+    }
+
+    private static OwnershipNetworkNodeDTO toNode(OwnershipNetworkGraph current, int node, Integer distance,
+                                                  List<Long> sharedNaturalPersonIds) {
+        return OwnershipNetworkNodeDTO.builder()
+                .nodeId(current.nodeId(node))
+                .nodeType(current.isPerson(node)
+                        ? OwnershipNodeTypeEnum.NATURAL_PERSON.name()
+                        : OwnershipNodeTypeEnum.LEGAL_ENTITY.name())
+                .distance(distance)
+                .sharedNaturalPersonIds(sharedNaturalPersonIds)
+                .build();
+    }
+
+    private static OwnershipNetworkDTO result(OwnershipNetworkGraph current, Long partyId,
+                                             List<OwnershipNetworkNodeDTO> nodes, boolean truncated) {
+        return OwnershipNetworkDTO.builder()
+                .partyId(partyId)
+                .nodes(nodes)
+                .truncated(truncated)
+                .graphBuiltAt(current.builtAt())
+                .build();
+    }
+}
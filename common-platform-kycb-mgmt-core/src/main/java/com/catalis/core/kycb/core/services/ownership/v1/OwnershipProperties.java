@@ -0,0 +1,40 @@
+package com.catalis.core.kycb.core.services.ownership.v1;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+/**
+ * Configuration of beneficial ownership derivation.
+ */
+@Data
+@ConfigurationProperties(prefix = "kycb.ownership")
+public class OwnershipProperties {
+
+    /**
+     * Default effective ownership percentage at which a natural person is a beneficial owner.
+     */
+    private BigDecimal uboThreshold = new BigDecimal("25");
+
+    /**
+     * Maximum number of intermediate entities followed on a single ownership chain.
+     */
+    private int maxDepth = 32;
+
+    /**
+     * Chains whose cumulative ownership fraction drops below this are not followed further.
+     */
+    private double minFraction = 1e-6;
+
+    /**
+     * Minimum time between compactions of the ownership network graph after the ownership index changes.
+     */
+    private Duration networkRebuildInterval = Duration.ofSeconds(5);
+
+    /**
+     * Maximum number of nodes returned by an ownership network query.
+     */
+    private int networkResultLimit = 10_000;
+}
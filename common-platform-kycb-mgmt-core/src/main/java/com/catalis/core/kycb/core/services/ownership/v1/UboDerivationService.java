@@ -0,0 +1,20 @@
+package com.catalis.core.kycb.core.services.ownership.v1;
+
+import com.catalis.core.kycb.interfaces.dtos.ownership.v1.UboDerivationResultDTO;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+
+/**
+ * Service interface for deriving beneficial owners through multi-level ownership chains.
+ */
+public interface UboDerivationService {
+    /**
+     * Derives the natural persons whose effective ownership of a legal entity reaches a threshold.
+     *
+     * @param partyId   The ID of the legal entity
+     * @param threshold Minimum effective ownership percentage, or {@code null} for the configured default
+     * @return A Mono containing the derived beneficial owners
+     */
+    Mono<UboDerivationResultDTO> deriveUbos(Long partyId, BigDecimal threshold);
+}
@@ -0,0 +1,142 @@
+package com.catalis.core.kycb.core.services.ownership.v1;
+
+import com.catalis.core.kycb.interfaces.dtos.ownership.v1.DerivedUboDTO;
+import com.catalis.core.kycb.interfaces.dtos.ownership.v1.UboDerivationResultDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Implementation of the UBO derivation service.
+ * <p>
+ * Walks the {@link OwnershipGraphIndex} upwards from the entity, depth first, multiplying ownership fractions along
+ * each chain and summing them per natural person. An owner already on the current chain closes a cycle: the cycle is
+ * reported and the edge is not followed.
+ */
+@Service
+public class UboDerivationServiceImpl implements UboDerivationService {
+
+    private static final int SCALE = 4;
+
+    @Autowired
+    private OwnershipGraphIndex ownershipGraphIndex;
+
+    @Autowired
+    private OwnershipProperties properties;
+
+    @Override
+    public Mono<UboDerivationResultDTO> deriveUbos(Long partyId, BigDecimal threshold) {
+        BigDecimal effectiveThreshold = threshold != null ? threshold : properties.getUboThreshold();
+        return ownershipGraphIndex.ensureLoaded()
+                .then(Mono.fromCallable(() -> derive(partyId, effectiveThreshold)));
+    }
+
+    private UboDerivationResultDTO derive(Long partyId, BigDecimal threshold) {
+        Traversal traversal = new Traversal();
+        traversal.path.add(partyId);
+        traversal.onPath.add(partyId);
+        traversal.visited.add(partyId);
+        traversal.walk(partyId, 1.0, 0);
+
+        double thresholdFraction = threshold.doubleValue() / 100.0;
+        List<DerivedUboDTO> derivedUbos = traversal.owners.entrySet().stream()
+                .filter(entry -> entry.getValue().effective >= thresholdFraction - 1e-9)
+                .sorted(Comparator.comparingDouble((Map.Entry<Long, PersonOwnership> entry) -> entry.getValue().effective)
+                        .reversed())
+                .map(entry -> DerivedUboDTO.builder()
+                        .naturalPersonId(entry.getKey())
+                        .effectiveOwnershipPercentage(percentage(entry.getValue().effective))
+                        .directOwnershipPercentage(percentage(entry.getValue().direct))
+                        .indirectOwnershipPercentage(percentage(entry.getValue().effective - entry.getValue().direct))
+                        .pathCount(entry.getValue().paths)
+                        .maxChainLength(entry.getValue().maxChainLength)
+                        .build())
+                .toList();
+
+        return UboDerivationResultDTO.builder()
+                .partyId(partyId)
+                .thresholdPercentage(threshold)
+                .derivedUbos(derivedUbos)
+                .entitiesTraversed(traversal.visited.size())
+                .cycles(traversal.cycles)
+                .depthLimitReached(traversal.depthLimitReached)
+                .build();
+    }
+
+    private static BigDecimal percentage(double fraction) {
+        return BigDecimal.valueOf(fraction * 100.0).setScale(SCALE, RoundingMode.HALF_UP);
+    }
+
+    private static final class PersonOwnership {
+        private double effective;
+        private double direct;
+        private int paths;
+        private int maxChainLength;
+    }
+
+    private final class Traversal {
+        private final Map<Long, PersonOwnership> owners = new HashMap<>();
+        private final List<Long> path = new ArrayList<>();
+        private final Set<Long> onPath = new HashSet<>();
+        private final Set<Long> visited = new HashSet<>();
+        private final List<List<Long>> cycles = new ArrayList<>();
+        private boolean depthLimitReached;
+
+        private void walk(long entityId, double fraction, int depth) {
+            OwnerEdges edges = ownershipGraphIndex.getOwners(entityId);
+            if (edges == null) {
+                return;
+            }
+            long[] personIds = edges.naturalPersonIds();
+            double[] personFractions = edges.naturalPersonFractions();
+            for (int i = 0; i < personIds.length; i++) {
+                PersonOwnership ownership = owners.computeIfAbsent(personIds[i], id -> new PersonOwnership());
+                double share = fraction * personFractions[i];
+                ownership.effective += share;
+                if (depth == 0) {
+                    ownership.direct += share;
+                }
+                ownership.paths++;
+                ownership.maxChainLength = Math.max(ownership.maxChainLength, depth);
+            }
+
+            long[] parentIds = edges.parentEntityIds();
+            double[] parentFractions = edges.parentFractions();
+            for (int i = 0; i < parentIds.length; i++) {
+                long parentId = parentIds[i];
+                if (onPath.contains(parentId)) {
+                    List<Long> cycle = new ArrayList<>(path.subList(path.indexOf(parentId), path.size()));
+                    cycle.add(parentId);
+                    if (!cycles.contains(cycle)) {
+                        cycles.add(cycle);
+                    }
+                    continue;
+                }
+                double share = fraction * parentFractions[i];
+                if (share < properties.getMinFraction()) {
+                    continue;
+                }
+                if (depth + 1 > properties.getMaxDepth()) {
+                    depthLimitReached = true;
+                    continue;
+                }
+                visited.add(parentId);
+                path.add(parentId);
+                onPath.add(parentId);
+                walk(parentId, share, depth + 1);
+                onPath.remove(parentId);
+                path.remove(path.size() - 1);
+            }
+        }
+    }
+}
@@ -3,12 +3,16 @@ package com.catalis.core.kycb.core.services.ownership.v1;
 import com.catalis.common.core.filters.FilterRequest;
 import com.catalis.common.core.filters.FilterUtils;
 import com.catalis.common.core.queries.PaginationResponse;
+import com.catalis.core.kycb.core.events.AfterCommit;
+import com.catalis.core.kycb.core.events.party.v1.PartyDataChangedEvent;
+import com.catalis.core.kycb.core.events.party.v1.PartyDataTypeEnum;
 import com.catalis.core.kycb.core.mappers.ownership.v1.UboMapper;
 import com.catalis.core.kycb.interfaces.dtos.ownership.v1.UboDTO;
 import com.catalis.core.kycb.interfaces.enums.ownership.v1.OwnershipTypeEnum;
 import com.catalis.core.kycb.models.entities.ownership.v1.Ubo;
 import com.catalis.core.kycb.models.repositories.ownership.v1.UboRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Flux;
@@ -16,6 +20,7 @@ import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Objects;
 
 /**
  * Implementation of the UBO service.
@@ -30,6 +35,9 @@ public class UboServiceImpl implements UboService {
     @Autowired
     private UboMapper mapper;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Override
     public Mono<PaginationResponse<UboDTO>> findAll(FilterRequest<UboDTO> filterRequest) {
         return FilterUtils.createFilter(
@@ -46,7 +54,8 @@ public class UboServiceImpl implements UboService {
             entity.setStartDate(LocalDateTime.now());
         }
         return repository.save(entity)
-                .map(mapper::toDTO);
+                .map(mapper::toDTO)
+                .flatMap(saved -> publishChange(saved.getPartyId()).thenReturn(saved));
     }
 
     @Override
@@ -70,13 +79,31 @@ public class UboServiceImpl implements UboService {
                         updatedEntity.setVerificationMethod(existingEntity.getVerificationMethod());
                         updatedEntity.setTitularidadRealDocument(existingEntity.getTitularidadRealDocument());
                     }
-                    return repository.save(updatedEntity);
+                    return repository.save(updatedEntity)
+                            .flatMap(saved -> {
+                                // A row moved to another party changes the ownership of both
+                                Mono<Void> published = publishChange(saved.getPartyId());
+                                if (!Objects.equals(existingEntity.getPartyId(), saved.getPartyId())) {
+                                    published = published.then(publishChange(existingEntity.getPartyId()));
+                                }
+                                return published.thenReturn(saved);
+                            });
                 })
                 .map(mapper::toDTO);
     }
 
     @Override
     public Mono<Void> delete(Long uboId) {
-        return repository.deleteById(uboId);
+        return repository.findById(uboId)
+                .flatMap(existingEntity -> repository.deleteById(uboId)
+                        .then(publishChange(existingEntity.getPartyId())));
+    }
+
+    /**
+     * Announces the change once it is committed, so that listeners reloading the party read the new rows.
+     */
+    private Mono<Void> publishChange(Long partyId) {
+        return AfterCommit.run(() -> eventPublisher.publishEvent(
+                new PartyDataChangedEvent(partyId, PartyDataTypeEnum.UBO)));
     }
-}
\ No newline at end of file
+}
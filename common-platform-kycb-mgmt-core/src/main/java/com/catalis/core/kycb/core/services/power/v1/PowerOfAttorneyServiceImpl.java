@@ -3,15 +3,21 @@ package com.catalis.core.kycb.core.services.power.v1;
 import com.catalis.common.core.filters.FilterRequest;
 import com.catalis.common.core.filters.FilterUtils;
 import com.catalis.common.core.queries.PaginationResponse;
+import com.catalis.core.kycb.core.events.AfterCommit;
+import com.catalis.core.kycb.core.events.party.v1.PartyDataChangedEvent;
+import com.catalis.core.kycb.core.events.party.v1.PartyDataTypeEnum;
 import com.catalis.core.kycb.core.mappers.power.v1.PowerOfAttorneyMapper;
 import com.catalis.core.kycb.interfaces.dtos.power.v1.PowerOfAttorneyDTO;
 import com.catalis.core.kycb.models.entities.power.v1.PowerOfAttorney;
 import com.catalis.core.kycb.models.repositories.power.v1.PowerOfAttorneyRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
 
+import java.util.Objects;
+
 /**
  * Implementation of the power of attorney service.
  */
@@ -25,6 +31,9 @@ public class PowerOfAttorneyServiceImpl implements PowerOfAttorneyService {
     @Autowired
     private PowerOfAttorneyMapper mapper;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Override
     public Mono<PaginationResponse<PowerOfAttorneyDTO>> findAll(FilterRequest<PowerOfAttorneyDTO> filterRequest) {
         return FilterUtils.createFilter(
@@ -37,7 +46,8 @@ public class PowerOfAttorneyServiceImpl implements PowerOfAttorneyService {
     public Mono<PowerOfAttorneyDTO> create(PowerOfAttorneyDTO dto) {
         PowerOfAttorney entity = mapper.toEntity(dto);
         return repository.save(entity)
-                .map(mapper::toDTO);
+                .map(mapper::toDTO)
+                .flatMap(saved -> publishChange(saved.getPartyId()).thenReturn(saved));
     }
 
     @Override
@@ -61,13 +71,30 @@ public class PowerOfAttorneyServiceImpl implements PowerOfAttorneyService {
                         updatedEntity.setVerificationMethod(existingEntity.getVerificationMethod());
                         updatedEntity.setVerifyingLegalCounsel(existingEntity.getVerifyingLegalCounsel());
                     }
-                    return repository.save(updatedEntity);
+                    return repository.save(updatedEntity)
+                            .flatMap(saved -> {
+                                Mono<Void> published = publishChange(saved.getPartyId());
+                                if (!Objects.equals(existingEntity.getPartyId(), saved.getPartyId())) {
+                                    published = published.then(publishChange(existingEntity.getPartyId()));
+                                }
+                                return published.thenReturn(saved);
+                            });
                 })
                 .map(mapper::toDTO);
     }
 
     @Override
     public Mono<Void> delete(Long powerId) {
-        return repository.deleteById(powerId);
+        return repository.findById(powerId)
+                .flatMap(existingEntity -> repository.deleteById(powerId)
+                        .then(publishChange(existingEntity.getPartyId())));
+    }
+
+    /**
+     * Announces the change once it is committed, so that listeners reloading the party read the new rows.
+     */
+    private Mono<Void> publishChange(Long partyId) {
+        return AfterCommit.run(() -> eventPublisher.publishEvent(
+                new PartyDataChangedEvent(partyId, PartyDataTypeEnum.POWER_OF_ATTORNEY)));
     }
 }
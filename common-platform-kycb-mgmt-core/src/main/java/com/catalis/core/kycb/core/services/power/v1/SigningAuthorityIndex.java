@@ -0,0 +1,79 @@
+package com.catalis.core.kycb.core.services.power.v1;
+
+import com.catalis.core.kycb.core.events.party.v1.PartyDataChangedEvent;
+import com.catalis.core.kycb.core.events.party.v1.PartyDataTypeEnum;
+import com.catalis.core.kycb.models.repositories.power.v1.PowerOfAttorneyRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Per-party cache of usable powers of attorney for signing-authority checks.
+ * <p>
+ * A party's powers are read with one {@code findByPartyId} query on first use and held until a committed change to a
+ * power of attorney of that party is announced, or for at most {@code maxAge}. Concurrent first requests for the same
+ * party share a single load. Announcements reach only this node, so a change made through another node, such as a
+ * revocation, can be served here for up to {@code maxAge} after it commits.
+ */
+@Component
+public class SigningAuthorityIndex {
+
+    @Autowired
+    private PowerOfAttorneyRepository repository;
+
+    @Autowired
+    private SigningAuthorityProperties properties;
+
+    private final Map<Long, CachedPowers> powersByParty = new ConcurrentHashMap<>();
+
+    /**
+     * @return A Mono containing the party's usable powers, loaded on first call and cached afterwards
+     */
+    public Mono<SigningPowers> getPowers(Long partyId) {
+        CachedPowers cached = powersByParty.get(partyId);
+        if (cached != null) {
+            if (System.nanoTime() - cached.loadedNanos() < properties.getMaxAge().toNanos()) {
+                return cached.powers();
+            }
+            powersByParty.remove(partyId, cached);
+        }
+        AtomicReference<CachedPowers> self = new AtomicReference<>();
+        Mono<SigningPowers> powers = repository.findByPartyId(partyId)
+                .collectList()
+                .map(SigningPowers::of)
+                .doOnError(e -> powersByParty.remove(partyId, self.get()))
+                .cache();
+        CachedPowers candidate = new CachedPowers(powers, System.nanoTime());
+        self.set(candidate);
+        CachedPowers existing = powersByParty.putIfAbsent(partyId, candidate);
+        return existing != null ? existing.powers() : powers;
+    }
+
+    @EventListener
+    public void onPartyDataChanged(PartyDataChangedEvent event) {
+        Long partyId = event.partyId();
+        if (partyId == null || event.type() != PartyDataTypeEnum.POWER_OF_ATTORNEY) {
+            return;
+        }
+        invalidate(partyId);
+    }
+
+    /**
+     * Drops the cached powers of a party so the next check reloads them.
+     */
+    public void invalidate(Long partyId) {
+        powersByParty.remove(partyId);
+    }
+
+    public int size() {
+        return powersByParty.size();
+    }
+
+    private record CachedPowers(Mono<SigningPowers> powers, long loadedNanos) {
+    }
+}
@@ -0,0 +1,20 @@
+package com.catalis.core.kycb.core.services.power.v1;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the per-party cache behind signing-authority checks.
+ */
+@Data
+@ConfigurationProperties(prefix = "kycb.signing-authority")
+public class SigningAuthorityProperties {
+
+    /**
+     * Age after which cached powers are reloaded on the next check. Changes made through other nodes are not
+     * announced to this one, so this is how long a revoked or expired power can still be served after the change.
+     */
+    private Duration maxAge = Duration.ofSeconds(5);
+}
@@ -0,0 +1,31 @@
+package com.catalis.core.kycb.core.services.power.v1;
+
+import com.catalis.core.kycb.interfaces.dtos.power.v1.SigningAuthorityCheckDTO;
+import com.catalis.core.kycb.interfaces.dtos.power.v1.SigningAuthorityResultDTO;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Service interface for checking whether attorneys may sign on behalf of a party.
+ */
+public interface SigningAuthorityService {
+    /**
+     * Checks whether an attorney may sign an amount on behalf of a party under the powers currently in force.
+     *
+     * @param partyId The ID of the represented party
+     * @param check   The attorney, amount and currency to check
+     * @return A Mono containing the decision and the power of attorney it was based on
+     */
+    Mono<SigningAuthorityResultDTO> check(Long partyId, SigningAuthorityCheckDTO check);
+
+    /**
+     * Checks several signers of the same party at once, reading the party's powers a single time.
+     *
+     * @param partyId The ID of the represented party
+     * @param checks  The attorneys, amounts and currencies to check
+     * @return A Flux of decisions, in the order of the checks
+     */
+    Flux<SigningAuthorityResultDTO> checkAll(Long partyId, List<SigningAuthorityCheckDTO> checks);
+}
@@ -0,0 +1,98 @@
+package com.catalis.core.kycb.core.services.power.v1;
+
+import com.catalis.core.kycb.interfaces.dtos.power.v1.SigningAuthorityCheckDTO;
+import com.catalis.core.kycb.interfaces.dtos.power.v1.SigningAuthorityResultDTO;
+import com.catalis.core.kycb.interfaces.enums.power.v1.SigningAuthorityDecisionEnum;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Implementation of the signing authority service.
+ * <p>
+ * A power of attorney covers an operation when it has passed bastanteo, is in force, and either has no financial
+ * limit or has a limit in the operation's currency that the amount does not exceed. Amounts in other currencies are
+ * not converted. Among the covering powers the most permissive one decides: sole signature over joint signature,
+ * and the fewest required signatures among joint ones.
+ */
+@Service
+public class SigningAuthorityServiceImpl implements SigningAuthorityService {
+
+    @Autowired
+    private SigningAuthorityIndex signingAuthorityIndex;
+
+    @Override
+    public Mono<SigningAuthorityResultDTO> check(Long partyId, SigningAuthorityCheckDTO check) {
+        return signingAuthorityIndex.getPowers(partyId)
+                .map(powers -> evaluate(partyId, powers, check, LocalDateTime.now()));
+    }
+
+    @Override
+    public Flux<SigningAuthorityResultDTO> checkAll(Long partyId, List<SigningAuthorityCheckDTO> checks) {
+        if (checks.isEmpty()) {
+            return Flux.empty();
+        }
+        return signingAuthorityIndex.getPowers(partyId)
+                .flatMapMany(powers -> {
+                    LocalDateTime now = LocalDateTime.now();
+                    return Flux.fromIterable(checks)
+                            .map(check -> evaluate(partyId, powers, check, now));
+                });
+    }
+
+    static SigningAuthorityResultDTO evaluate(Long partyId, SigningPowers powers,
+                                              SigningAuthorityCheckDTO check, LocalDateTime at) {
+        BigDecimal amount = check.getAmount();
+        String currency = SigningPowers.normalizeCurrency(check.getCurrency());
+
+        SigningAuthorityDecisionEnum decision = SigningAuthorityDecisionEnum.NO_VALID_POWER;
+        SigningPower decisive = null;
+        for (SigningPower power : powers.getPowers(check.getAttorneyId())) {
+            if (!power.isInForce(at)) {
+                continue;
+            }
+            SigningAuthorityDecisionEnum outcome = outcome(power, amount, currency);
+            if (outcome.ordinal() < decision.ordinal()
+                    || (outcome == decision && decisive != null
+                    && power.requiredSignatures() < decisive.requiredSignatures())) {
+                decision = outcome;
+                decisive = power;
+                if (decision == SigningAuthorityDecisionEnum.AUTHORIZED) {
+                    break;
+                }
+            }
+        }
+
+        boolean covered = decision == SigningAuthorityDecisionEnum.AUTHORIZED
+                || decision == SigningAuthorityDecisionEnum.JOINT_SIGNATURE_REQUIRED;
+        return SigningAuthorityResultDTO.builder()
+                .partyId(partyId)
+                .attorneyId(check.getAttorneyId())
+                .amount(amount)
+                .currency(currency)
+                .decision(decision)
+                .authorized(decision == SigningAuthorityDecisionEnum.AUTHORIZED)
+                .requiredSignatures(covered ? decisive.requiredSignatures() : null)
+                .powerOfAttorneyId(decisive == null ? null : decisive.powerOfAttorneyId())
+                .build();
+    }
+
+    private static SigningAuthorityDecisionEnum outcome(SigningPower power, BigDecimal amount, String currency) {
+        if (power.financialLimit() != null) {
+            if (power.currency() != null && !power.currency().equals(currency)) {
+                return SigningAuthorityDecisionEnum.CURRENCY_MISMATCH;
+            }
+            if (amount == null || amount.compareTo(power.financialLimit()) > 0) {
+                return SigningAuthorityDecisionEnum.LIMIT_EXCEEDED;
+            }
+        }
+        return power.requiredSignatures() > 1
+                ? SigningAuthorityDecisionEnum.JOINT_SIGNATURE_REQUIRED
+                : SigningAuthorityDecisionEnum.AUTHORIZED;
+    }
+}
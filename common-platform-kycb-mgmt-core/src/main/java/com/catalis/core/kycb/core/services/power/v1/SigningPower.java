@@ -0,0 +1,29 @@
+package com.catalis.core.kycb.core.services.power.v1;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Signing-relevant terms of one power of attorney that has passed bastanteo.
+ *
+ * @param powerOfAttorneyId  The ID of the power of attorney
+ * @param effectiveDate      When the power takes effect, or {@code null} if immediately
+ * @param expiryDate         When the power lapses, or {@code null} if it does not
+ * @param financialLimit     The maximum amount per operation, or {@code null} if unlimited
+ * @param currency           The upper-case currency of the limit, or {@code null} if any currency
+ * @param requiredSignatures Number of signatures needed, including the attorney's
+ */
+public record SigningPower(
+        Long powerOfAttorneyId,
+        LocalDateTime effectiveDate,
+        LocalDateTime expiryDate,
+        BigDecimal financialLimit,
+        String currency,
+        int requiredSignatures
+) {
+
+    public boolean isInForce(LocalDateTime at) {
+        return (effectiveDate == null || !effectiveDate.isAfter(at))
+                && (expiryDate == null || expiryDate.isAfter(at));
+    }
+}
@@ -0,0 +1,77 @@
+package com.catalis.core.kycb.core.services.power.v1;
+
+import com.catalis.core.kycb.models.entities.power.v1.PowerOfAttorney;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Immutable view of a party's usable powers of attorney, grouped by attorney.
+ * <p>
+ * Powers without a completed bastanteo are dropped when the view is built. Effective and expiry dates are kept and
+ * checked at evaluation time, so a cached view stays correct as powers come into force or lapse.
+ */
+public final class SigningPowers {
+
+    static final SigningPowers EMPTY = new SigningPowers(Map.of());
+
+    private static final int JOINT_SIGNATURES_DEFAULT = 2;
+    private static final SigningPower[] NONE = new SigningPower[0];
+
+    private final Map<Long, SigningPower[]> powersByAttorney;
+
+    private SigningPowers(Map<Long, SigningPower[]> powersByAttorney) {
+        this.powersByAttorney = powersByAttorney;
+    }
+
+    public static SigningPowers of(List<PowerOfAttorney> powers) {
+        Map<Long, List<SigningPower>> grouped = new HashMap<>();
+        for (PowerOfAttorney power : powers) {
+            if (power.getAttorneyId() == null || !Boolean.TRUE.equals(power.getIsBastanteoCompleted())) {
+                continue;
+            }
+            grouped.computeIfAbsent(power.getAttorneyId(), id -> new ArrayList<>()).add(toSigningPower(power));
+        }
+        if (grouped.isEmpty()) {
+            return EMPTY;
+        }
+        Map<Long, SigningPower[]> byAttorney = new HashMap<>(grouped.size() * 2);
+        grouped.forEach((attorneyId, list) -> byAttorney.put(attorneyId, list.toArray(NONE)));
+        return new SigningPowers(byAttorney);
+    }
+
+    /**
+     * @return The attorney's usable powers, or an empty array if there are none
+     */
+    public SigningPower[] getPowers(Long attorneyId) {
+        SigningPower[] powers = powersByAttorney.get(attorneyId);
+        return powers == null ? NONE : powers;
+    }
+
+    public int attorneyCount() {
+        return powersByAttorney.size();
+    }
+
+    private static SigningPower toSigningPower(PowerOfAttorney power) {
+        int requiredSignatures = 1;
+        if (Boolean.TRUE.equals(power.getJointSignatureRequired())) {
+            Integer count = power.getJointSignatureCount();
+            requiredSignatures = count == null || count < JOINT_SIGNATURES_DEFAULT ? JOINT_SIGNATURES_DEFAULT : count;
+        }
+        return new SigningPower(
+                power.getPowerOfAttorneyId(),
+                power.getEffectiveDate(),
+                power.getExpiryDate(),
+                power.getFinancialLimit(),
+                normalizeCurrency(power.getCurrency()),
+                requiredSignatures
+        );
+    }
+
+    static String normalizeCurrency(String currency) {
+        return currency == null || currency.isBlank() ? null : currency.trim().toUpperCase(Locale.ROOT);
+    }
+}
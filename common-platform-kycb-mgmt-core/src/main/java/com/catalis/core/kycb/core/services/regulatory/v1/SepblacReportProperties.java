@@ -0,0 +1,42 @@
+package com.catalis.core.kycb.core.services.regulatory.v1;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration of SEPBLAC report generation.
+ */
+@Data
+@ConfigurationProperties(prefix = "kycb.regulatory.sepblac")
+public class SepblacReportProperties {
+
+    /**
+     * Directory report files are written to.
+     */
+    private String outputDirectory = "/var/lib/kycb/reports";
+
+    /**
+     * Authority recorded on every generated report.
+     */
+    private String regulatoryAuthority = "SEPBLAC";
+
+    /**
+     * Maximum number of cases in one report file; the remaining cases go into the next report.
+     */
+    private int maxCases = 500_000;
+
+    /**
+     * Number of reported cases recorded per statement once the file is complete.
+     */
+    private int recordChunkSize = 5000;
+
+    /**
+     * Size in bytes of the write buffer in front of the report file.
+     */
+    private int writeBufferSize = 1 << 16;
+
+    /**
+     * Number of finished jobs kept for progress queries.
+     */
+    private int retainedJobs = 20;
+}
@@ -0,0 +1,34 @@
+package com.catalis.core.kycb.core.services.regulatory.v1;
+
+import com.catalis.core.kycb.interfaces.dtos.regulatory.v1.SepblacReportJobDTO;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Service interface for generating SEPBLAC report files from the compliance cases flagged for reporting.
+ */
+public interface SepblacReportService {
+
+    /**
+     * Starts a background job writing every flagged case without a SEPBLAC report to a new report file and
+     * recording a draft regulatory report per case. Only one job runs at a time.
+     *
+     * @return A Mono containing the job as started, or the job already running
+     */
+    Mono<SepblacReportJobDTO> startJob();
+
+    /**
+     * Gets the progress of a job.
+     *
+     * @param jobId The ID of the job
+     * @return A Mono containing the job, or empty if unknown or no longer retained
+     */
+    Mono<SepblacReportJobDTO> getJob(String jobId);
+
+    /**
+     * Lists running and recently finished jobs, newest first.
+     *
+     * @return A Flux of jobs
+     */
+    Flux<SepblacReportJobDTO> listJobs();
+}
@@ -0,0 +1,271 @@
+package com.catalis.core.kycb.core.services.regulatory.v1;
+
+import com.catalis.core.kycb.interfaces.dtos.regulatory.v1.SepblacReportJobDTO;
+import com.catalis.core.kycb.interfaces.enums.report.v1.SepblacReportJobStatusEnum;
+import com.catalis.core.kycb.models.repositories.regulatory.v1.RegulatoryReportingRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import javax.xml.stream.XMLStreamException;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Implementation of the SEPBLAC report service.
+ * <p>
+ * The cases, their actions, their party's AML matches and party data are read through one ordered cursor and
+ * written row by row to a {@code .part} file, so memory is bounded by the write buffer and the list of reported case
+ * IDs rather than by the report. Once the file is complete the draft regulatory reports are recorded in one
+ * transaction, in chunks of one statement each, and only after that commits is the file renamed into place. A run
+ * that fails before the commit leaves neither a file nor records, so the next run reports the same cases again.
+ * <p>
+ * The recording transaction holds an advisory lock shared by all nodes and skips cases that already have a report.
+ * If another node reported some of the cases in the meantime, the transaction is rolled back and the file dropped,
+ * so a case is never delivered in two files.
+ */
+@Slf4j
+@Service
+public class SepblacReportServiceImpl implements SepblacReportService {
+
+    private static final DateTimeFormatter REFERENCE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+
+    @Autowired
+    private RegulatoryReportingRepository regulatoryReportingRepository;
+
+    @Autowired
+    private SepblacReportProperties properties;
+
+    @Autowired
+    private TransactionalOperator transactionalOperator;
+
+    private final Map<String, ReportJob> jobs = new ConcurrentHashMap<>();
+
+    @Override
+    public Mono<SepblacReportJobDTO> startJob() {
+        return Mono.fromCallable(() -> {
+            synchronized (jobs) {
+                ReportJob running = jobs.values().stream()
+                        .filter(job -> job.status == SepblacReportJobStatusEnum.RUNNING)
+                        .findFirst()
+                        .orElse(null);
+                if (running != null) {
+                    return running.toDTO();
+                }
+                LocalDateTime generatedAt = LocalDateTime.now();
+                String reference = "SEPBLAC-" + REFERENCE_FORMAT.format(generatedAt);
+                ReportJob job = new ReportJob(UUID.randomUUID().toString(), reference, reference + ".xml");
+                jobs.put(job.jobId, job);
+                evictFinishedJobs();
+                job.disposable = run(job, generatedAt).subscribe();
+                return job.toDTO();
+            }
+        });
+    }
+
+    @Override
+    public Mono<SepblacReportJobDTO> getJob(String jobId) {
+        return Mono.justOrEmpty(jobs.get(jobId))
+                .map(ReportJob::toDTO);
+    }
+
+    @Override
+    public Flux<SepblacReportJobDTO> listJobs() {
+        return Flux.fromStream(jobs.values().stream()
+                        .sorted(Comparator.comparing((ReportJob job) -> job.startedAt).reversed()))
+                .map(ReportJob::toDTO);
+    }
+
+    @PreDestroy
+    public void stop() {
+        jobs.values().forEach(job -> job.finish(SepblacReportJobStatusEnum.CANCELLED, "Shutdown"));
+    }
+
+    private Mono<Void> run(ReportJob job, LocalDateTime generatedAt) {
+        Path directory = Paths.get(properties.getOutputDirectory()).toAbsolutePath().normalize();
+        Path file = directory.resolve(job.fileName);
+        Path partial = directory.resolve(job.fileName + ".part");
+        List<Long> caseIds = new ArrayList<>();
+        AtomicBoolean recorded = new AtomicBoolean();
+        return Mono.using(
+                        () -> {
+                            Files.createDirectories(directory);
+                            return new SepblacReportWriter(new BufferedOutputStream(
+                                    Files.newOutputStream(partial), properties.getWriteBufferSize()),
+                                    job.reference, generatedAt);
+                        },
+                        writer -> regulatoryReportingRepository.streamSepblacReport(properties.getMaxCases())
+                                .publishOn(Schedulers.boundedElastic())
+                                .handle((row, sink) -> {
+                                    try {
+                                        if (writer.write(row) != null) {
+                                            caseIds.add(row.complianceCaseId());
+                                            job.reportedCases.incrementAndGet();
+                                        }
+                                    } catch (XMLStreamException e) {
+                                        sink.error(e);
+                                    }
+                                })
+                                .then(Mono.fromCallable(() -> {
+                                    // Closed here so the file is complete before it is moved; the cleanup is a no-op
+                                    long cases = writer.finish();
+                                    writer.close();
+                                    return cases;
+                                })),
+                        this::closeQuietly)
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(cases -> {
+                    if (cases == 0) {
+                        // Nothing to report; no empty file is left behind
+                        return Mono.fromCallable(() -> {
+                                    Files.delete(partial);
+                                    return 0L;
+                                })
+                                .subscribeOn(Schedulers.boundedElastic());
+                    }
+                    return record(job, caseIds, generatedAt)
+                            .doOnSuccess(ignored -> recorded.set(true))
+                            .then(Mono.fromCallable(() -> {
+                                        Files.move(partial, file, StandardCopyOption.REPLACE_EXISTING,
+                                                StandardCopyOption.ATOMIC_MOVE);
+                                        return Files.size(file);
+                                    })
+                                    .subscribeOn(Schedulers.boundedElastic()));
+                })
+                .doOnNext(job.fileSizeBytes::set)
+                .doOnSuccess(ignored -> {
+                    job.finish(SepblacReportJobStatusEnum.COMPLETED, null);
+                    log.info("SEPBLAC report {} completed: {} cases, {} bytes written to {}",
+                            job.reference, job.reportedCases.get(), job.fileSizeBytes.get(), file);
+                })
+                .onErrorResume(e -> {
+                    if (recorded.get()) {
+                        // The cases are recorded as reported, so the file is their only copy
+                        log.error("SEPBLAC report {} was recorded but could not be moved into place; deliver {} "
+                                + "manually", job.reference, partial, e);
+                        job.finish(SepblacReportJobStatusEnum.FAILED, "Report recorded but left at " + partial
+                                + ": " + e.getMessage());
+                        return Mono.empty();
+                    }
+                    log.error("SEPBLAC report {} failed", job.reference, e);
+                    deleteQuietly(partial);
+                    job.finish(SepblacReportJobStatusEnum.FAILED, e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<Void> record(ReportJob job, List<Long> caseIds, LocalDateTime createdAt) {
+        int chunkSize = properties.getRecordChunkSize();
+        String contentSummary = "Included in SEPBLAC report file " + job.fileName;
+        return regulatoryReportingRepository.lockSepblacReporting()
+                .thenMany(Flux.range(0, (caseIds.size() + chunkSize - 1) / chunkSize))
+                .concatMap(chunk -> {
+                    int from = chunk * chunkSize;
+                    int to = Math.min(from + chunkSize, caseIds.size());
+                    String[] references = new String[to - from];
+                    for (int i = 0; i < references.length; i++) {
+                        references[i] = SepblacReportWriter.caseReportReference(job.reference, from + i + 1L);
+                    }
+                    return regulatoryReportingRepository.recordSepblacReports(
+                            caseIds.subList(from, to).toArray(Long[]::new), references,
+                            properties.getRegulatoryAuthority(), contentSummary, createdAt);
+                })
+                .reduce(0, Integer::sum)
+                .flatMap(inserted -> inserted < caseIds.size()
+                        ? Mono.error(new IllegalStateException((caseIds.size() - inserted)
+                                + " cases were reported concurrently by another run; report discarded"))
+                        : Mono.<Void>empty())
+                .as(transactionalOperator::transactional);
+    }
+
+    private void closeQuietly(SepblacReportWriter writer) {
+        try {
+            writer.close();
+        } catch (IOException e) {
+            log.warn("Failed to close SEPBLAC report writer", e);
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete partial SEPBLAC report {}", path, e);
+        }
+    }
+
+    private void evictFinishedJobs() {
+        List<ReportJob> finished = jobs.values().stream()
+                .filter(job -> job.status != SepblacReportJobStatusEnum.RUNNING)
+                .sorted(Comparator.comparing((ReportJob job) -> job.startedAt).reversed())
+                .toList();
+        for (int i = properties.getRetainedJobs(); i < finished.size(); i++) {
+            jobs.remove(finished.get(i).jobId);
+        }
+    }
+
+    private static final class ReportJob {
+        private final String jobId;
+        private final String reference;
+        private final String fileName;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final AtomicLong reportedCases = new AtomicLong();
+        private final AtomicLong fileSizeBytes = new AtomicLong();
+        private volatile SepblacReportJobStatusEnum status = SepblacReportJobStatusEnum.RUNNING;
+        private volatile LocalDateTime finishedAt;
+        private volatile String errorMessage;
+        private volatile Disposable disposable;
+
+        private ReportJob(String jobId, String reference, String fileName) {
+            this.jobId = jobId;
+            this.reference = reference;
+            this.fileName = fileName;
+        }
+
+        private synchronized void finish(SepblacReportJobStatusEnum finalStatus, String message) {
+            if (status != SepblacReportJobStatusEnum.RUNNING) {
+                return;
+            }
+            status = finalStatus;
+            errorMessage = message;
+            finishedAt = LocalDateTime.now();
+            if (finalStatus == SepblacReportJobStatusEnum.CANCELLED && disposable != null) {
+                disposable.dispose();
+            }
+        }
+
+        private SepblacReportJobDTO toDTO() {
+            return SepblacReportJobDTO.builder()
+                    .jobId(jobId)
+                    .status(status.name())
+                    .reportReference(reference)
+                    .fileName(fileName)
+                    .reportedCases(reportedCases.get())
+                    .fileSizeBytes(fileSizeBytes.get())
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .errorMessage(errorMessage)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.catalis.core.kycb.core.services.regulatory.v1;
+
+import com.catalis.core.kycb.models.repositories.regulatory.v1.SepblacReportRow;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+
+/**
+ * Incremental StAX writer for SEPBLAC report files.
+ * <p>
+ * Rows are consumed in the order of the report cursor and each element is written as soon as its row arrives, so
+ * only the ID of the case being written is held in memory. Layout:
+ * <pre>
+ * SepblacReport @reference @generatedAt
+ *   Case @id @reference @reportReference @type @status @priority @opened @resolved
+ *     Summary, ResolutionNotes
+ *     Party @id @riskLevel @riskScore @registrationNumber @legalForm
+ *     Actions/Action @type @status @dueDate @completed (Description, Result)
+ *     Matches/Match @listType @listSource @score @resolutionStatus (MatchedName)
+ *   Trailer @cases
+ * </pre>
+ * Null values are omitted.
+ */
+final class SepblacReportWriter implements Closeable {
+
+    private static final XMLOutputFactory FACTORY = XMLOutputFactory.newFactory();
+
+    private final OutputStream output;
+    private final XMLStreamWriter writer;
+    private final String reference;
+    private Long currentCaseId;
+    private int currentGroup = SepblacReportRow.CASE;
+    private long cases;
+
+    /**
+     * Opens the report document.
+     *
+     * @param output      The stream to write to, closed with the writer
+     * @param reference   The reference of the report
+     * @param generatedAt The generation time of the report
+     * @throws XMLStreamException If the document cannot be started
+     */
+    SepblacReportWriter(OutputStream output, String reference, LocalDateTime generatedAt) throws XMLStreamException {
+        this.output = output;
+        this.reference = reference;
+        this.writer = FACTORY.createXMLStreamWriter(output, "UTF-8");
+        writer.writeStartDocument("UTF-8", "1.0");
+        writer.writeStartElement("SepblacReport");
+        attribute("reference", reference);
+        attribute("generatedAt", generatedAt);
+    }
+
+    /**
+     * Builds the report reference of the case at a position of a report.
+     *
+     * @param reference The reference of the report
+     * @param position  The 1-based position of the case in the report
+     * @return The report reference of the case
+     */
+    static String caseReportReference(String reference, long position) {
+        return reference + "-" + String.format("%06d", position);
+    }
+
+    /**
+     * Writes one row of the report cursor.
+     *
+     * @param row The row
+     * @return The report reference given to the case if the row opened a case, or null
+     * @throws XMLStreamException If the row cannot be written
+     */
+    String write(SepblacReportRow row) throws XMLStreamException {
+        int kind = row.rowKind();
+        if (kind == SepblacReportRow.CASE) {
+            endCase();
+            cases++;
+            currentCaseId = row.complianceCaseId();
+            String caseReportReference = caseReportReference(reference, cases);
+            writeCase(row, caseReportReference);
+            return caseReportReference;
+        }
+        if (!row.complianceCaseId().equals(currentCaseId)) {
+            throw new IllegalStateException("Report row of case " + row.complianceCaseId()
+                    + " arrived outside its case");
+        }
+        if (kind != currentGroup) {
+            endGroup();
+            writer.writeStartElement(kind == SepblacReportRow.ACTION ? "Actions" : "Matches");
+            currentGroup = kind;
+        }
+        if (kind == SepblacReportRow.ACTION) {
+            writeAction(row);
+        } else {
+            writeMatch(row);
+        }
+        return null;
+    }
+
+    /**
+     * Closes the last case and the document and flushes it.
+     *
+     * @return The number of cases written
+     * @throws XMLStreamException If the document cannot be completed
+     */
+    long finish() throws XMLStreamException {
+        endCase();
+        writer.writeEmptyElement("Trailer");
+        attribute("cases", cases);
+        writer.writeEndElement();
+        writer.writeEndDocument();
+        writer.flush();
+        return cases;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            writer.close();
+        } catch (XMLStreamException e) {
+            throw new IOException(e);
+        } finally {
+            output.close();
+        }
+    }
+
+    private void writeCase(SepblacReportRow row, String caseReportReference) throws XMLStreamException {
+        writer.writeStartElement("Case");
+        attribute("id", row.complianceCaseId());
+        attribute("reference", row.caseReference());
+        attribute("reportReference", caseReportReference);
+        attribute("type", row.caseType());
+        attribute("status", row.caseStatus());
+        attribute("priority", row.casePriority());
+        attribute("opened", row.caseDate());
+        attribute("resolved", row.resolutionDate());
+        element("Summary", row.caseSummary());
+        element("ResolutionNotes", row.resolutionNotes());
+        writer.writeEmptyElement("Party");
+        attribute("id", row.partyId());
+        attribute("riskLevel", row.riskLevel());
+        attribute("riskScore", row.riskScore());
+        attribute("registrationNumber", row.registrationNumber());
+        attribute("legalForm", row.legalFormCode());
+    }
+
+    private void writeAction(SepblacReportRow row) throws XMLStreamException {
+        writer.writeStartElement("Action");
+        attribute("type", row.actionType());
+        attribute("status", row.actionStatus());
+        attribute("dueDate", row.actionDueDate());
+        attribute("completed", row.actionCompletionDate());
+        element("Description", row.actionDescription());
+        element("Result", row.actionResult());
+        writer.writeEndElement();
+    }
+
+    private void writeMatch(SepblacReportRow row) throws XMLStreamException {
+        writer.writeStartElement("Match");
+        attribute("listType", row.listType());
+        attribute("listSource", row.listSource());
+        attribute("score", row.matchScore() == null ? null : row.matchScore().toPlainString());
+        attribute("resolutionStatus", row.matchResolutionStatus());
+        element("MatchedName", row.matchedName());
+        writer.writeEndElement();
+    }
+
+    private void endGroup() throws XMLStreamException {
+        if (currentGroup != SepblacReportRow.CASE) {
+            writer.writeEndElement();
+            currentGroup = SepblacReportRow.CASE;
+        }
+    }
+
+    private void endCase() throws XMLStreamException {
+        if (currentCaseId != null) {
+            endGroup();
+            writer.writeEndElement();
+            currentCaseId = null;
+        }
+    }
+
+    private void attribute(String name, Object value) throws XMLStreamException {
+        if (value != null) {
+            writer.writeAttribute(name, value.toString());
+        }
+    }
+
+    private void element(String name, String text) throws XMLStreamException {
+        if (text != null) {
+            writer.writeStartElement(name);
+            writer.writeCharacters(text);
+            writer.writeEndElement();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.catalis.core.kycb.core.services.review.v1;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the periodic review scheduler.
+ */
+@Data
+@ConfigurationProperties(prefix = "kycb.review.periodic")
+public class PeriodicReviewProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Delay before the first poll after startup.
+     */
+    private Duration initialDelay = Duration.ofSeconds(30);
+
+    /**
+     * Time between polls for due reviews.
+     */
+    private Duration pollInterval = Duration.ofMinutes(1);
+
+    /**
+     * Maximum number of rows claimed per transaction.
+     */
+    private int batchSize = 200;
+
+    /**
+     * Maximum number of batches claimed per source in one poll, so a large backlog is spread over several polls.
+     */
+    private int maxBatchesPerPoll = 50;
+
+    /**
+     * Time given to analysts to complete a review case opened by the scheduler.
+     */
+    private Duration caseDueIn = Duration.ofDays(30);
+}
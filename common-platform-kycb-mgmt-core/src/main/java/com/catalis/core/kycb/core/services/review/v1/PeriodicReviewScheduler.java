@@ -0,0 +1,71 @@
+package com.catalis.core.kycb.core.services.review.v1;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Polls for due periodic reviews on every node.
+ * <p>
+ * Nodes need no coordination: each batch is claimed with {@code FOR UPDATE SKIP LOCKED}, so concurrent pollers take
+ * disjoint rows. Each poll drains every source in batches until a short batch shows the backlog is empty, or the
+ * per-poll batch limit is reached.
+ */
+@Slf4j
+@Component
+public class PeriodicReviewScheduler {
+
+    @Autowired
+    private ReviewClaimService reviewClaimService;
+
+    @Autowired
+    private PeriodicReviewProperties properties;
+
+    private Disposable poller;
+
+    @PostConstruct
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        poller = Flux.interval(properties.getInitialDelay(), properties.getPollInterval())
+                .onBackpressureDrop()
+                .concatMap(tick -> runOnce()
+                        .onErrorResume(e -> {
+                            log.error("Periodic review poll failed", e);
+                            return Mono.just(0);
+                        }), 1)
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (poller != null) {
+            poller.dispose();
+        }
+    }
+
+    /**
+     * Drains due reviews of every source once.
+     *
+     * @return A Mono containing the total number of rows claimed
+     */
+    public Mono<Integer> runOnce() {
+        return Flux.fromArray(ReviewSourceEnum.values())
+                .concatMap(this::drain)
+                .reduce(0, Integer::sum);
+    }
+
+    private Mono<Integer> drain(ReviewSourceEnum source) {
+        int batchSize = properties.getBatchSize();
+        return Mono.defer(() -> reviewClaimService.claimBatch(source))
+                .repeat(Math.max(0, properties.getMaxBatchesPerPoll() - 1))
+                .takeUntil(claimed -> claimed < batchSize)
+                .reduce(0, Integer::sum);
+    }
+}
@@ -0,0 +1,17 @@
+package com.catalis.core.kycb.core.services.review.v1;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Service interface for claiming due periodic reviews and opening compliance cases for them.
+ */
+public interface ReviewClaimService {
+    /**
+     * Claims one batch of due reviews of a source and opens a review case for each claimed party that has no open
+     * review case yet, in a single transaction. Rows claimed by another node in the meantime are skipped.
+     *
+     * @param source The records to claim from
+     * @return A Mono containing the number of rows claimed
+     */
+    Mono<Integer> claimBatch(ReviewSourceEnum source);
+}
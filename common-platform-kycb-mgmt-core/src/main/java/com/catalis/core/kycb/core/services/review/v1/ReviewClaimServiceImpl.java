@@ -0,0 +1,222 @@
+package com.catalis.core.kycb.core.services.review.v1;
+
+import com.catalis.core.kycb.core.events.AfterCommit;
+import com.catalis.core.kycb.core.events.industry.v1.IndustryRiskReviewDueEvent;
+import com.catalis.core.kycb.core.metrics.BusinessMetrics;
+import com.catalis.core.kycb.core.services.compliance.v1.CaseAutoAssigner;
+import com.catalis.core.kycb.interfaces.enums.compliance.v1.CasePriorityEnum;
+import com.catalis.core.kycb.interfaces.enums.compliance.v1.CaseStatusEnum;
+import com.catalis.core.kycb.interfaces.enums.compliance.v1.CaseTypeEnum;
+import com.catalis.core.kycb.interfaces.enums.risk.v1.RiskLevelEnum;
+import com.catalis.core.kycb.models.entities.compliance.v1.ComplianceCase;
+import com.catalis.core.kycb.models.repositories.compliance.v1.ComplianceCaseRepository;
+import com.catalis.core.kycb.models.repositories.industry.v1.IndustryRiskRepository;
+import com.catalis.core.kycb.models.repositories.kyb.v1.KybVerificationRepository;
+import com.catalis.core.kycb.models.repositories.kyc.v1.KycVerificationRepository;
+import com.catalis.core.kycb.models.repositories.risk.v1.RiskAssessmentRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of the review claim service.
+ * <p>
+ * A row is claimed by stamping {@code review_claimed_at}; it becomes due again only once its review date moves past
+ * that stamp, which happens when the review is completed and a new date is set. The claim and the cases it opens
+ * commit together, so a node that fails mid-batch leaves its rows to be claimed again. Industry risks have no party
+ * to open a case for and are announced with an {@link IndustryRiskReviewDueEvent} instead, once the claim commits.
+ */
+@Slf4j
+@Service
+@Transactional
+public class ReviewClaimServiceImpl implements ReviewClaimService {
+
+    static final String METRIC_CLAIMED = "kycb.review.claimed";
+    static final String METRIC_CASES_OPENED = "kycb.review.cases.opened";
+    static final String METRIC_LAG = "kycb.review.lag";
+    static final String METRIC_BATCH = "kycb.review.batch";
+
+    private static final String TAG_SOURCE = "source";
+    private static final DateTimeFormatter REFERENCE_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+
+    @Autowired
+    private KycVerificationRepository kycVerificationRepository;
+
+    @Autowired
+    private KybVerificationRepository kybVerificationRepository;
+
+    @Autowired
+    private RiskAssessmentRepository riskAssessmentRepository;
+
+    @Autowired
+    private IndustryRiskRepository industryRiskRepository;
+
+    @Autowired
+    private ComplianceCaseRepository complianceCaseRepository;
+
+    @Autowired
+    private CaseAutoAssigner caseAutoAssigner;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PeriodicReviewProperties properties;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Override
+    public Mono<Integer> claimBatch(ReviewSourceEnum source) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            LocalDateTime now = LocalDateTime.now();
+            return claim(source, now, properties.getBatchSize())
+                    .collectList()
+                    .flatMap(claims -> {
+                        recordClaims(source, claims, now);
+                        return openCases(source, claims, now)
+                                .then(announceIndustryRisks(claims))
+                                .thenReturn(claims.size());
+                    })
+                    .doOnNext(claimed -> sample.stop(meterRegistry.timer(METRIC_BATCH, TAG_SOURCE, source.name())));
+        });
+    }
+
+    private Flux<DueReview> claim(ReviewSourceEnum source, LocalDateTime now, int limit) {
+        return switch (source) {
+            case KYC_VERIFICATION -> kycVerificationRepository.claimDueForReview(now, limit)
+                    .map(row -> new DueReview(row.getKycVerificationId(), row.getPartyId(),
+                            row.getRiskLevel(), row.getNextReviewDate(), null));
+            case KYB_VERIFICATION -> kybVerificationRepository.claimDueForReview(now, limit)
+                    .map(row -> new DueReview(row.getKybVerificationId(), row.getPartyId(),
+                            row.getRiskLevel(), row.getNextReviewDate(), null));
+            case RISK_ASSESSMENT -> riskAssessmentRepository.claimDueForReview(now, limit)
+                    .map(row -> new DueReview(row.getRiskAssessmentId(), row.getPartyId(),
+                            row.getRiskLevel(), row.getNextAssessmentDate(), null));
+            case INDUSTRY_RISK -> industryRiskRepository.claimDueForReview(now, limit)
+                    .map(row -> new DueReview(row.getIndustryRiskId(), null,
+                            row.getInherentRiskLevel(), row.getNextAssessmentDate(), row.getActivityCode()));
+        };
+    }
+
+    private Mono<Void> announceIndustryRisks(List<DueReview> claims) {
+        List<IndustryRiskReviewDueEvent> events = claims.stream()
+                .filter(claim -> claim.activityCode() != null)
+                .map(claim -> new IndustryRiskReviewDueEvent(claim.sourceId(), claim.activityCode()))
+                .toList();
+        if (events.isEmpty()) {
+            return Mono.empty();
+        }
+        return AfterCommit.run(() -> events.forEach(eventPublisher::publishEvent));
+    }
+
+    private Mono<Void> openCases(ReviewSourceEnum source, List<DueReview> claims, LocalDateTime now) {
+        // One case per party, even if several of its rows fell due together
+        Map<Long, DueReview> byParty = new LinkedHashMap<>();
+        for (DueReview claim : claims) {
+            if (claim.partyId() != null) {
+                byParty.putIfAbsent(claim.partyId(), claim);
+            }
+        }
+        if (byParty.isEmpty()) {
+            return Mono.empty();
+        }
+        return complianceCaseRepository.findPartyIdsWithOpenCase(byParty.keySet(), CaseTypeEnum.KYC_REVIEW)
+                .collect(Collectors.toSet())
+                .flatMap(partiesWithOpenCase -> {
+                    List<ComplianceCase> cases = newCases(source, byParty, partiesWithOpenCase, now);
+                    if (cases.isEmpty()) {
+                        return Mono.empty();
+                    }
+                    return complianceCaseRepository.saveAll(cases)
+                            .collectList()
+                            .flatMap(saved -> caseAutoAssigner.assignAll(saved).thenReturn((long) saved.size()))
+                            .doOnNext(opened -> {
+                                meterRegistry.counter(METRIC_CASES_OPENED, TAG_SOURCE, source.name()).increment(opened);
+                                BusinessMetrics.casesOpened(meterRegistry, CaseTypeEnum.KYC_REVIEW,
+                                        BusinessMetrics.SOURCE_PERIODIC_REVIEW, opened);
+                            })
+                            .then();
+                });
+    }
+
+    private List<ComplianceCase> newCases(ReviewSourceEnum source, Map<Long, DueReview> byParty,
+                                          Set<Long> partiesWithOpenCase, LocalDateTime now) {
+        List<ComplianceCase> cases = new ArrayList<>(byParty.size());
+        for (DueReview claim : byParty.values()) {
+            if (partiesWithOpenCase.contains(claim.partyId())) {
+                continue;
+            }
+            cases.add(ComplianceCase.builder()
+                    .partyId(claim.partyId())
+                    .caseType(CaseTypeEnum.KYC_REVIEW)
+                    .caseStatus(CaseStatusEnum.OPEN)
+                    .casePriority(toPriority(claim.riskLevel()))
+                    .caseReference(caseReference(source, claim))
+                    .caseSummary(caseSummary(source, claim))
+                    .dueDate(now.plus(properties.getCaseDueIn()))
+                    .reportToSepblacRequired(false)
+                    .build());
+        }
+        return cases;
+    }
+
+    private void recordClaims(ReviewSourceEnum source, List<DueReview> claims, LocalDateTime now) {
+        if (claims.isEmpty()) {
+            return;
+        }
+        meterRegistry.counter(METRIC_CLAIMED, TAG_SOURCE, source.name()).increment(claims.size());
+        Timer lag = meterRegistry.timer(METRIC_LAG, TAG_SOURCE, source.name());
+        for (DueReview claim : claims) {
+            if (claim.dueDate() != null) {
+                lag.record(Duration.between(claim.dueDate(), now));
+            }
+        }
+        log.info("Claimed {} due {} reviews", claims.size(), source);
+    }
+
+    static CasePriorityEnum toPriority(RiskLevelEnum riskLevel) {
+        if (riskLevel == null) {
+            return CasePriorityEnum.LOW;
+        }
+        return switch (riskLevel) {
+            case EXTREME -> CasePriorityEnum.CRITICAL;
+            case HIGH -> CasePriorityEnum.HIGH;
+            case MEDIUM -> CasePriorityEnum.MEDIUM;
+            case LOW -> CasePriorityEnum.LOW;
+        };
+    }
+
+    private static String caseReference(ReviewSourceEnum source, DueReview claim) {
+        String dueDate = claim.dueDate() == null ? "" : claim.dueDate().format(REFERENCE_DATE);
+        return "PR-" + source.name() + "-" + claim.sourceId() + "-" + dueDate;
+    }
+
+    private static String caseSummary(ReviewSourceEnum source, DueReview claim) {
+        return "Periodic review of " + source.name() + " " + claim.sourceId() + " due on " + claim.dueDate();
+    }
+
+    /**
+     * @param activityCode The activity code of a claimed industry risk; null for the other sources
+     */
+    private record DueReview(Long sourceId, Long partyId, RiskLevelEnum riskLevel, LocalDateTime dueDate,
+                             String activityCode) {
+    }
+}
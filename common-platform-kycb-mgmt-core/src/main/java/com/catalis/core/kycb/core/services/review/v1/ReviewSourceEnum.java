@@ -0,0 +1,11 @@
+package com.catalis.core.kycb.core.services.review.v1;
+
+/**
+ * Records whose review dates drive periodic review obligations.
+ */
+public enum ReviewSourceEnum {
+    KYC_VERIFICATION,
+    KYB_VERIFICATION,
+    RISK_ASSESSMENT,
+    INDUSTRY_RISK
+}
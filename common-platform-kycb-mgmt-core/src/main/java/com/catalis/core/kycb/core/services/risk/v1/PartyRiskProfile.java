@@ -0,0 +1,19 @@
+package com.catalis.core.kycb.core.services.risk.v1;
+
+import java.util.Set;
+
+/**
+ * Risk-relevant view of a party, reduced to the factor bit set evaluated by the {@link RiskDecisionTable}.
+ *
+ * @param partyId       The party ID
+ * @param features      Bit set of detected {@link com.catalis.core.kycb.interfaces.enums.risk.v1.RiskFactorEnum} ordinals
+ * @param activityCodes Economic activity codes whose industry risk contributed to the profile
+ * @param countryCodes  Countries of the party's locations and anticipated activity
+ */
+public record PartyRiskProfile(
+        Long partyId,
+        long features,
+        Set<String> activityCodes,
+        Set<String> countryCodes
+) {
+}
@@ -3,11 +3,15 @@ package com.catalis.core.kycb.core.services.risk.v1;
 import com.catalis.common.core.filters.FilterRequest;
 import com.catalis.common.core.filters.FilterUtils;
 import com.catalis.common.core.queries.PaginationResponse;
+import com.catalis.core.kycb.core.events.AfterCommit;
+import com.catalis.core.kycb.core.events.party.v1.PartyDataChangedEvent;
+import com.catalis.core.kycb.core.events.party.v1.PartyDataTypeEnum;
 import com.catalis.core.kycb.core.mappers.risk.v1.RiskAssessmentMapper;
 import com.catalis.core.kycb.interfaces.dtos.risk.v1.RiskAssessmentDTO;
 import com.catalis.core.kycb.models.entities.risk.v1.RiskAssessment;
 import com.catalis.core.kycb.models.repositories.risk.v1.RiskAssessmentRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
@@ -25,6 +29,9 @@ public class RiskAssessmentServiceImpl implements RiskAssessmentService {
     @Autowired
     private RiskAssessmentMapper mapper;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Override
     public Mono<PaginationResponse<RiskAssessmentDTO>> findAll(FilterRequest<RiskAssessmentDTO> filterRequest) {
         return FilterUtils.createFilter(
@@ -38,7 +45,8 @@ public class RiskAssessmentServiceImpl implements RiskAssessmentService {
     public Mono<RiskAssessmentDTO> create(RiskAssessmentDTO dto) {
         RiskAssessment entity = mapper.toEntity(dto);
         return repository.save(entity)
-                .map(mapper::toDTO);
+                .map(mapper::toDTO)
+                .flatMap(saved -> publishChange(saved.getPartyId()).thenReturn(saved));
     }
 
     @Override
@@ -57,11 +65,22 @@ public class RiskAssessmentServiceImpl implements RiskAssessmentService {
                     updatedEntity.setDateCreated(existingEntity.getDateCreated());
                     return repository.save(updatedEntity);
                 })
-                .map(mapper::toDTO);
+                .map(mapper::toDTO)
+                .flatMap(saved -> publishChange(saved.getPartyId()).thenReturn(saved));
     }
 
     @Override
     public Mono<Void> delete(Long riskAssessmentId) {
-        return repository.deleteById(riskAssessmentId);
+        return repository.findById(riskAssessmentId)
+                .flatMap(existingEntity -> repository.deleteById(riskAssessmentId)
+                        .then(publishChange(existingEntity.getPartyId())));
+    }
+
+    /**
+     * Announces the change once it is committed, so that listeners reloading the party read the new rows.
+     */
+    private Mono<Void> publishChange(Long partyId) {
+        return AfterCommit.run(() -> eventPublisher.publishEvent(
+                new PartyDataChangedEvent(partyId, PartyDataTypeEnum.RISK_ASSESSMENT)));
     }
 }
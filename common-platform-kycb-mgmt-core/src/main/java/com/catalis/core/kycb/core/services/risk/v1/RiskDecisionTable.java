@@ -0,0 +1,154 @@
+package com.catalis.core.kycb.core.services.risk.v1;
+
+import com.catalis.core.kycb.interfaces.enums.risk.v1.RiskFactorEnum;
+import com.catalis.core.kycb.interfaces.enums.risk.v1.RiskLevelEnum;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
+/**
+ * Scoring rules compiled into parallel primitive arrays.
+ * <p>
+ * A party is described by a bit set of {@link RiskFactorEnum} ordinals. Evaluating the table is a single pass over the
+ * rule masks with one AND and one compare per rule: no reflection, no boxing and no allocation. The result is the bit
+ * set of fired rows, from which the score and the factor breakdown are derived.
+ */
+public final class RiskDecisionTable {
+
+    private static final RiskLevelEnum[] LEVELS = RiskLevelEnum.values();
+
+    private final String[] names;
+    private final long[] masks;
+    private final int[] scores;
+    private final int[] thresholds;
+    private final int maxScore;
+
+    private RiskDecisionTable(String[] names, long[] masks, int[] scores, int[] thresholds, int maxScore) {
+        this.names = names;
+        this.masks = masks;
+        this.scores = scores;
+        this.thresholds = thresholds;
+        this.maxScore = maxScore;
+    }
+
+    /**
+     * Compiles the configured rules.
+     *
+     * @param properties The scoring configuration
+     * @return The compiled decision table
+     * @throws IllegalStateException If the configuration cannot be compiled
+     */
+    public static RiskDecisionTable compile(RiskScoringProperties properties) {
+        List<RiskScoringProperties.Rule> rules = properties.getRules();
+        if (rules.size() > Long.SIZE) {
+            throw new IllegalStateException("At most " + Long.SIZE + " risk scoring rules are supported, got " + rules.size());
+        }
+        if (RiskFactorEnum.values().length > Long.SIZE) {
+            throw new IllegalStateException("Risk factors do not fit in a 64-bit mask");
+        }
+        String[] names = new String[rules.size()];
+        long[] masks = new long[rules.size()];
+        int[] scores = new int[rules.size()];
+        for (int i = 0; i < rules.size(); i++) {
+            RiskScoringProperties.Rule rule = rules.get(i);
+            if (rule.getFactors() == null || rule.getFactors().isEmpty()) {
+                throw new IllegalStateException("Risk scoring rule '" + rule.getName() + "' has no factors");
+            }
+            names[i] = rule.getName();
+            masks[i] = mask(rule.getFactors());
+            scores[i] = rule.getScore();
+        }
+        int[] thresholds = {
+                Integer.MIN_VALUE,
+                properties.getMediumThreshold(),
+                properties.getHighThreshold(),
+                properties.getExtremeThreshold()
+        };
+        return new RiskDecisionTable(names, masks, scores, thresholds, properties.getMaxScore());
+    }
+
+    /**
+     * Builds the factor bit set for a collection of factors.
+     */
+    public static long mask(Iterable<RiskFactorEnum> factors) {
+        long mask = 0L;
+        for (RiskFactorEnum factor : factors) {
+            mask |= bit(factor);
+        }
+        return mask;
+    }
+
+    public static long bit(RiskFactorEnum factor) {
+        return 1L << factor.ordinal();
+    }
+
+    /**
+     * Evaluates the table.
+     *
+     * @param features The factor bit set of the party
+     * @return The bit set of fired rule rows
+     */
+    public long evaluate(long features) {
+        long fired = 0L;
+        for (int i = 0; i < masks.length; i++) {
+            long mask = masks[i];
+            if ((features & mask) == mask) {
+                fired |= 1L << i;
+            }
+        }
+        return fired;
+    }
+
+    /**
+     * Sums the scores of the fired rows, bounded by the configured maximum.
+     */
+    public int score(long fired) {
+        int score = 0;
+        long remaining = fired;
+        while (remaining != 0L) {
+            int row = Long.numberOfTrailingZeros(remaining);
+            score += scores[row];
+            remaining &= remaining - 1;
+        }
+        return Math.max(0, Math.min(score, maxScore));
+    }
+
+    public RiskLevelEnum level(int score) {
+        for (int i = thresholds.length - 1; i > 0; i--) {
+            if (score >= thresholds[i]) {
+                return LEVELS[i];
+            }
+        }
+        return LEVELS[0];
+    }
+
+    public int size() {
+        return masks.length;
+    }
+
+    public String ruleName(int row) {
+        return names[row];
+    }
+
+    public int ruleScore(int row) {
+        return scores[row];
+    }
+
+    public List<RiskFactorEnum> ruleFactors(int row) {
+        return factors(masks[row]);
+    }
+
+    /**
+     * Expands a factor bit set into its factors, in declaration order.
+     */
+    public static List<RiskFactorEnum> factors(long features) {
+        EnumSet<RiskFactorEnum> factors = EnumSet.noneOf(RiskFactorEnum.class);
+        for (RiskFactorEnum factor : RiskFactorEnum.values()) {
+            if ((features & bit(factor)) != 0L) {
+                factors.add(factor);
+            }
+        }
+        return new ArrayList<>(factors);
+    }
+}
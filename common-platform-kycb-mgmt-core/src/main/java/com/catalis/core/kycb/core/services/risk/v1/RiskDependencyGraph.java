@@ -0,0 +1,54 @@
+package com.catalis.core.kycb.core.services.risk.v1;
+
+import com.catalis.core.kycb.core.events.party.v1.PartyDataTypeEnum;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory record of the parties the risk engine has assessed, and of the party data their assessments read.
+ * <p>
+ * The record is rebuilt lazily: a party enters it the first time it is scored after startup.
+ */
+@Component
+public class RiskDependencyGraph {
+
+    /**
+     * Party data read by the risk engine. A change to any of these can move a party's score, including the first row
+     * of a kind the party did not have before.
+     */
+    public static final Set<PartyDataTypeEnum> SCORING_INPUTS = Collections.unmodifiableSet(EnumSet.of(
+            PartyDataTypeEnum.BUSINESS_LOCATION,
+            PartyDataTypeEnum.BUSINESS_PROFILE,
+            PartyDataTypeEnum.ECONOMIC_ACTIVITY,
+            PartyDataTypeEnum.EXPECTED_ACTIVITY,
+            PartyDataTypeEnum.SANCTIONS_QUESTIONNAIRE,
+            PartyDataTypeEnum.UBO
+    ));
+
+    private final Map<Long, LocalDateTime> assessedAtByParty = new ConcurrentHashMap<>();
+
+    /**
+     * Records that a party was assessed, replacing its previous assessment time.
+     */
+    public void record(PartyRiskProfile profile, LocalDateTime assessedAt) {
+        assessedAtByParty.put(profile.partyId(), assessedAt);
+    }
+
+    /**
+     * Whether a change of the given kind can affect the party's recorded assessment. Events do not say whether rows
+     * were added or removed, so any scoring input counts, whether or not the party had rows of that kind.
+     */
+    public boolean isAffectedBy(Long partyId, PartyDataTypeEnum type) {
+        return assessedAtByParty.containsKey(partyId) && SCORING_INPUTS.contains(type);
+    }
+
+    public int size() {
+        return assessedAtByParty.size();
+    }
+}
@@ -0,0 +1,31 @@
+package com.catalis.core.kycb.core.services.risk.v1;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration of incremental risk recomputation after party data changes.
+ */
+@Data
+@ConfigurationProperties(prefix = "kycb.risk.recompute")
+public class RiskRecomputeProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Quiet period after the last change to a party before it is re-scored.
+     */
+    private Duration debounce = Duration.ofSeconds(2);
+
+    /**
+     * Upper bound on how long a continuous burst of changes can postpone a party's re-scoring.
+     */
+    private Duration maxDelay = Duration.ofSeconds(10);
+
+    /**
+     * Maximum number of parties re-scored concurrently.
+     */
+    private int concurrency = 8;
+}
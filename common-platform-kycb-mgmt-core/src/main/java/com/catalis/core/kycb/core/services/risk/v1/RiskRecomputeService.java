@@ -0,0 +1,27 @@
+package com.catalis.core.kycb.core.services.risk.v1;
+
+import com.catalis.core.kycb.core.events.party.v1.PartyDataChangedEvent;
+
+/**
+ * Service interface for keeping engine risk assessments fresh as party data changes.
+ */
+public interface RiskRecomputeService {
+    /**
+     * Handles a party data mutation, scheduling a re-score if the party's last assessment depends on the changed data.
+     *
+     * @param event The change notification
+     */
+    void onPartyDataChanged(PartyDataChangedEvent event);
+
+    /**
+     * Schedules a debounced re-score of a party. Requests arriving within the debounce window are coalesced.
+     *
+     * @param partyId The ID of the party to re-score
+     */
+    void requestRecompute(Long partyId);
+
+    /**
+     * @return The number of parties waiting for their debounce window to elapse
+     */
+    int getPendingCount();
+}
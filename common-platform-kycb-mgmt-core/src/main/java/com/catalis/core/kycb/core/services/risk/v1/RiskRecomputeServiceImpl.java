@@ -0,0 +1,130 @@
+package com.catalis.core.kycb.core.services.risk.v1;
+
+import com.catalis.core.kycb.core.events.party.v1.PartyDataChangedEvent;
+import com.catalis.core.kycb.models.repositories.risk.v1.RiskAssessmentRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Implementation of the incremental risk recompute service.
+ * <p>
+ * Each party has at most one pending timer. A change restarts the party's debounce window, but never past
+ * {@code maxDelay} from the first change of the burst, so a steady trickle of edits cannot starve the re-score. Due
+ * parties are fed to a single pipeline that re-scores them with bounded concurrency.
+ */
+@Slf4j
+@Service
+public class RiskRecomputeServiceImpl implements RiskRecomputeService {
+
+    @Autowired
+    private RiskScoringService riskScoringService;
+
+    @Autowired
+    private RiskDependencyGraph riskDependencyGraph;
+
+    @Autowired
+    private RiskAssessmentRepository riskAssessmentRepository;
+
+    @Autowired
+    private RiskRecomputeProperties properties;
+
+    private final ConcurrentHashMap<Long, PendingRecompute> pending = new ConcurrentHashMap<>();
+    private final AtomicLong generations = new AtomicLong();
+    private final Sinks.Many<Long> dueParties = Sinks.many().unicast().onBackpressureBuffer();
+    private Disposable pipeline;
+
+    @PostConstruct
+    public void start() {
+        pipeline = dueParties.asFlux()
+                .flatMap(partyId -> riskScoringService.assess(partyId)
+                        .doOnNext(result -> log.debug("Re-scored party {}: {} ({})",
+                                partyId, result.getRiskScore(), result.getRiskLevel()))
+                        .onErrorResume(e -> {
+                            log.error("Failed to re-score party {}", partyId, e);
+                            return Mono.empty();
+                        }), properties.getConcurrency())
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        pending.values().forEach(entry -> entry.timer().dispose());
+        pending.clear();
+        if (pipeline != null) {
+            pipeline.dispose();
+        }
+    }
+
+    @Override
+    @EventListener
+    public void onPartyDataChanged(PartyDataChangedEvent event) {
+        if (!properties.isEnabled() || event.partyId() == null
+                || !RiskDependencyGraph.SCORING_INPUTS.contains(event.type())) {
+            return;
+        }
+        if (riskDependencyGraph.isAffectedBy(event.partyId(), event.type())) {
+            requestRecompute(event.partyId());
+            return;
+        }
+        // Not scored since startup: only parties that already carry a rating are kept fresh
+        riskAssessmentRepository.findFirstByPartyIdOrderByAssessmentDateDesc(event.partyId())
+                .subscribe(
+                        previous -> requestRecompute(event.partyId()),
+                        e -> log.error("Failed to look up risk assessment of party {}", event.partyId(), e)
+                );
+    }
+
+    @Override
+    public void requestRecompute(Long partyId) {
+        pending.compute(partyId, (id, current) -> {
+            long now = System.nanoTime();
+            long firstRequested = current == null ? now : current.firstRequestedNanos();
+            long remaining = properties.getMaxDelay().toNanos() - (now - firstRequested);
+            if (current != null) {
+                if (remaining <= 0L) {
+                    // Burst has hit the ceiling; let the armed timer fire
+                    return current;
+                }
+                current.timer().dispose();
+            }
+            long delay = Math.max(0L, Math.min(properties.getDebounce().toNanos(), remaining));
+            long generation = generations.incrementAndGet();
+            Disposable timer = Mono.delay(Duration.ofNanos(delay))
+                    .subscribe(tick -> fire(id, generation));
+            return new PendingRecompute(firstRequested, generation, timer);
+        });
+    }
+
+    @Override
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    private void fire(Long partyId, long generation) {
+        boolean[] due = new boolean[1];
+        pending.computeIfPresent(partyId, (id, current) -> {
+            if (current.generation() != generation) {
+                return current;
+            }
+            due[0] = true;
+            return null;
+        });
+        if (due[0]) {
+            dueParties.emitNext(partyId, Sinks.EmitFailureHandler.busyLooping(Duration.ofMillis(100)));
+        }
+    }
+
+    private record PendingRecompute(long firstRequestedNanos, long generation, Disposable timer) {
+    }
+}
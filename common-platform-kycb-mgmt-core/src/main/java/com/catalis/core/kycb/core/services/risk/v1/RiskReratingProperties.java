@@ -0,0 +1,29 @@
+package com.catalis.core.kycb.core.services.risk.v1;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration of bulk re-rating jobs triggered by industry risk changes.
+ */
+@Data
+@ConfigurationProperties(prefix = "kycb.risk.rerating")
+public class RiskReratingProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Number of party IDs fetched per keyset page.
+     */
+    private int chunkSize = 500;
+
+    /**
+     * Maximum number of parties re-scored concurrently within a job.
+     */
+    private int concurrency = 16;
+
+    /**
+     * Number of finished jobs kept for progress queries.
+     */
+    private int retainedJobs = 50;
+}
@@ -0,0 +1,43 @@
+package com.catalis.core.kycb.core.services.risk.v1;
+
+import com.catalis.core.kycb.core.events.industry.v1.IndustryRiskChangedEvent;
+import com.catalis.core.kycb.interfaces.dtos.risk.v1.RiskReratingJobDTO;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Service interface for re-rating every party that carries an economic activity code.
+ */
+public interface RiskReratingService {
+    /**
+     * Starts a background job re-scoring all parties with the given activity code. A job already running for the same
+     * code is superseded.
+     *
+     * @param activityCode The activity code
+     * @param trigger      What caused the job, for the progress report
+     * @return A Mono containing the job as started
+     */
+    Mono<RiskReratingJobDTO> startJob(String activityCode, String trigger);
+
+    /**
+     * Gets the progress of a job.
+     *
+     * @param jobId The ID of the job
+     * @return A Mono containing the job, or empty if unknown or no longer retained
+     */
+    Mono<RiskReratingJobDTO> getJob(String jobId);
+
+    /**
+     * Lists running and recently finished jobs, newest first.
+     *
+     * @return A Flux of jobs
+     */
+    Flux<RiskReratingJobDTO> listJobs();
+
+    /**
+     * Starts a re-rating job for the activity code of a changed industry risk.
+     *
+     * @param event The change notification
+     */
+    void onIndustryRiskChanged(IndustryRiskChangedEvent event);
+}
@@ -0,0 +1,186 @@
+package com.catalis.core.kycb.core.services.risk.v1;
+
+import com.catalis.core.kycb.core.events.industry.v1.IndustryRiskChangedEvent;
+import com.catalis.core.kycb.interfaces.dtos.risk.v1.RiskReratingJobDTO;
+import com.catalis.core.kycb.interfaces.enums.risk.v1.RiskReratingJobStatusEnum;
+import com.catalis.core.kycb.models.repositories.economic.v1.EconomicActivityRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Implementation of the risk re-rating service.
+ * <p>
+ * Affected parties are resolved with keyset pages over the {@code (activity_code, party_id)} index, so a job never
+ * holds a long-lived cursor and memory stays bounded by one page regardless of portfolio size. Pages are processed
+ * one after another; parties within a page are re-scored with bounded concurrency.
+ */
+@Slf4j
+@Service
+public class RiskReratingServiceImpl implements RiskReratingService {
+
+    @Autowired
+    private EconomicActivityRepository economicActivityRepository;
+
+    @Autowired
+    private RiskScoringService riskScoringService;
+
+    @Autowired
+    private RiskReratingProperties properties;
+
+    private final Map<String, ReratingJob> jobs = new ConcurrentHashMap<>();
+    private final Map<String, ReratingJob> runningByActivityCode = new ConcurrentHashMap<>();
+
+    @Override
+    @EventListener
+    public void onIndustryRiskChanged(IndustryRiskChangedEvent event) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        // Published once the change is committed, so the job scores parties against the new row
+        startJob(event.activityCode(), "industry-risk:" + event.industryRiskId())
+                .subscribe(
+                        job -> log.info("Started re-rating job {} for activity code {}", job.getJobId(),
+                                job.getActivityCode()),
+                        e -> log.error("Failed to start re-rating job for activity code {}", event.activityCode(), e));
+    }
+
+    @Override
+    public Mono<RiskReratingJobDTO> startJob(String activityCode, String trigger) {
+        return Mono.fromCallable(() -> {
+            ReratingJob job = new ReratingJob(UUID.randomUUID().toString(), activityCode, trigger);
+            jobs.put(job.jobId, job);
+            ReratingJob superseded = runningByActivityCode.put(activityCode, job);
+            if (superseded != null) {
+                superseded.finish(RiskReratingJobStatusEnum.SUPERSEDED, null);
+            }
+            evictFinishedJobs();
+            job.disposable = run(job).subscribe();
+            return job.toDTO();
+        });
+    }
+
+    @Override
+    public Mono<RiskReratingJobDTO> getJob(String jobId) {
+        return Mono.justOrEmpty(jobs.get(jobId))
+                .map(ReratingJob::toDTO);
+    }
+
+    @Override
+    public Flux<RiskReratingJobDTO> listJobs() {
+        return Flux.fromStream(jobs.values().stream()
+                        .sorted(Comparator.comparing((ReratingJob job) -> job.startedAt).reversed()))
+                .map(ReratingJob::toDTO);
+    }
+
+    @PreDestroy
+    public void stop() {
+        runningByActivityCode.values().forEach(job -> job.finish(RiskReratingJobStatusEnum.SUPERSEDED, "Shutdown"));
+    }
+
+    private Mono<Void> run(ReratingJob job) {
+        return economicActivityRepository.countPartiesByActivityCode(job.activityCode)
+                .doOnNext(job.totalParties::set)
+                .thenMany(fetchPage(job.activityCode, 0L)
+                        .expand(page -> page.size() < properties.getChunkSize()
+                                ? Mono.empty()
+                                : fetchPage(job.activityCode, page.get(page.size() - 1))))
+                .concatMap(page -> Flux.fromIterable(page)
+                        .flatMap(partyId -> riskScoringService.assess(partyId)
+                                .doOnNext(result -> job.processedParties.incrementAndGet())
+                                .onErrorResume(e -> {
+                                    log.warn("Re-rating job {} failed to score party {}", job.jobId, partyId, e);
+                                    job.failedParties.incrementAndGet();
+                                    return Mono.empty();
+                                }), properties.getConcurrency())
+                        .then())
+                .then()
+                .doOnSuccess(ignored -> {
+                    job.finish(RiskReratingJobStatusEnum.COMPLETED, null);
+                    log.info("Re-rating job {} for activity code {} completed: {} parties re-scored, {} failed",
+                            job.jobId, job.activityCode, job.processedParties.get(), job.failedParties.get());
+                })
+                .onErrorResume(e -> {
+                    log.error("Re-rating job {} for activity code {} failed", job.jobId, job.activityCode, e);
+                    job.finish(RiskReratingJobStatusEnum.FAILED, e.getMessage());
+                    return Mono.empty();
+                })
+                .doFinally(signal -> runningByActivityCode.remove(job.activityCode, job));
+    }
+
+    private Mono<List<Long>> fetchPage(String activityCode, Long afterPartyId) {
+        return economicActivityRepository.findPartyIdsByActivityCodeAfter(activityCode, afterPartyId, properties.getChunkSize())
+                .collectList()
+                .filter(page -> !page.isEmpty());
+    }
+
+    private void evictFinishedJobs() {
+        List<ReratingJob> finished = jobs.values().stream()
+                .filter(job -> job.status != RiskReratingJobStatusEnum.RUNNING)
+                .sorted(Comparator.comparing((ReratingJob job) -> job.startedAt).reversed())
+                .toList();
+        for (int i = properties.getRetainedJobs(); i < finished.size(); i++) {
+            jobs.remove(finished.get(i).jobId);
+        }
+    }
+
+    private static final class ReratingJob {
+        private final String jobId;
+        private final String activityCode;
+        private final String trigger;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final AtomicLong totalParties = new AtomicLong();
+        private final AtomicLong processedParties = new AtomicLong();
+        private final AtomicLong failedParties = new AtomicLong();
+        private volatile RiskReratingJobStatusEnum status = RiskReratingJobStatusEnum.RUNNING;
+        private volatile LocalDateTime finishedAt;
+        private volatile String errorMessage;
+        private volatile Disposable disposable;
+
+        private ReratingJob(String jobId, String activityCode, String trigger) {
+            this.jobId = jobId;
+            this.activityCode = activityCode;
+            this.trigger = trigger;
+        }
+
+        private synchronized void finish(RiskReratingJobStatusEnum finalStatus, String message) {
+            if (status != RiskReratingJobStatusEnum.RUNNING) {
+                return;
+            }
+            status = finalStatus;
+            errorMessage = message;
+            finishedAt = LocalDateTime.now();
+            if (finalStatus == RiskReratingJobStatusEnum.SUPERSEDED && disposable != null) {
+                disposable.dispose();
+            }
+        }
+
+        private RiskReratingJobDTO toDTO() {
+            return RiskReratingJobDTO.builder()
+                    .jobId(jobId)
+                    .activityCode(activityCode)
+                    .trigger(trigger)
+                    .status(status.name())
+                    .totalParties(totalParties.get())
+                    .processedParties(processedParties.get())
+                    .failedParties(failedParties.get())
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .errorMessage(errorMessage)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.catalis.core.kycb.core.services.risk.v1;
+
+import com.catalis.core.kycb.interfaces.enums.risk.v1.RiskFactorEnum;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.catalis.core.kycb.interfaces.enums.risk.v1.RiskFactorEnum.*;
+
+/**
+ * Configuration of the risk scoring engine: scoring rules, level thresholds and country lists.
+ * <p>
+ * A rule fires when a party presents all of its factors, so single-factor rules act as weights and multi-factor rules
+ * as aggravating combinations. Rules are compiled into a {@link RiskDecisionTable} at startup.
+ */
+@Data
+@ConfigurationProperties(prefix = "kycb.risk.scoring")
+public class RiskScoringProperties {
+
+    private List<Rule> rules = defaultRules();
+
+    /**
+     * Minimum score for the MEDIUM risk level.
+     */
+    private int mediumThreshold = 25;
+
+    /**
+     * Minimum score for the HIGH risk level.
+     */
+    private int highThreshold = 50;
+
+    /**
+     * Minimum score for the EXTREME risk level.
+     */
+    private int extremeThreshold = 80;
+
+    /**
+     * Upper bound of the reported score.
+     */
+    private int maxScore = 100;
+
+    /**
+     * ISO 3166 alpha-2 code of the country considered domestic.
+     */
+    private String domesticCountry = "ES";
+
+    /**
+     * ISO 3166 alpha-2 codes of high-risk jurisdictions (FATF call for action and increased monitoring lists).
+     */
+    private Set<String> highRiskCountries = new LinkedHashSet<>(List.of(
+            "KP", "IR", "MM", "DZ", "AO", "BG", "BF", "CM", "CD", "HT", "KE", "LA", "LB", "MC", "MZ", "NA",
+            "NG", "NP", "SS", "SY", "TZ", "VE", "VN", "YE"
+    ));
+
+    /**
+     * Months until the next periodic assessment, per resulting risk level.
+     */
+    private int lowReviewMonths = 36;
+    private int mediumReviewMonths = 24;
+    private int highReviewMonths = 12;
+    private int extremeReviewMonths = 6;
+
+    /**
+     * Maximum number of parties scored concurrently by bulk operations.
+     */
+    private int concurrency = 32;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Rule {
+        private String name;
+        private List<RiskFactorEnum> factors = new ArrayList<>();
+        private int score;
+    }
+
+    private static List<Rule> defaultRules() {
+        List<Rule> rules = new ArrayList<>();
+        rules.add(new Rule("industry-medium-risk", List.of(INDUSTRY_MEDIUM_RISK), 10));
+        rules.add(new Rule("industry-high-risk", List.of(INDUSTRY_HIGH_RISK), 25));
+        rules.add(new Rule("industry-listed-high-risk", List.of(INDUSTRY_LISTED_HIGH_RISK), 20));
+        rules.add(new Rule("industry-requires-edd", List.of(INDUSTRY_REQUIRES_EDD), 10));
+        rules.add(new Rule("high-risk-activity", List.of(HIGH_RISK_ACTIVITY), 15));
+        rules.add(new Rule("complex-structure", List.of(COMPLEX_STRUCTURE), 10));
+        rules.add(new Rule("high-risk-country", List.of(HIGH_RISK_COUNTRY), 25));
+        rules.add(new Rule("foreign-location", List.of(FOREIGN_LOCATION), 5));
+        rules.add(new Rule("cash-intensive", List.of(CASH_INTENSIVE), 15));
+        rules.add(new Rule("tax-haven-transactions", List.of(TAX_HAVEN_TRANSACTIONS), 20));
+        rules.add(new Rule("high-value-activity", List.of(HIGH_VALUE_ACTIVITY), 10));
+        rules.add(new Rule("no-ubo-identified", List.of(NO_UBO_IDENTIFIED), 20));
+        rules.add(new Rule("indirect-ownership", List.of(INDIRECT_OWNERSHIP), 5));
+        rules.add(new Rule("unverified-ubo", List.of(UNVERIFIED_UBO), 10));
+        rules.add(new Rule("activity-outside-eu", List.of(ACTIVITY_OUTSIDE_EU), 5));
+        rules.add(new Rule("subject-to-sanctions", List.of(SUBJECT_TO_SANCTIONS), 60));
+        rules.add(new Rule("sanctioned-country-presence", List.of(SANCTIONED_COUNTRY_PRESENCE), 40));
+        rules.add(new Rule("sanctioned-dealings", List.of(SANCTIONED_DEALINGS), 40));
+        rules.add(new Rule("cash-in-high-risk-country", List.of(CASH_INTENSIVE, HIGH_RISK_COUNTRY), 15));
+        rules.add(new Rule("tax-haven-layered-ownership", List.of(TAX_HAVEN_TRANSACTIONS, INDIRECT_OWNERSHIP), 15));
+        return rules;
+    }
+}
@@ -0,0 +1,35 @@
+package com.catalis.core.kycb.core.services.risk.v1;
+
+import com.catalis.core.kycb.interfaces.dtos.risk.v1.RiskScoringResultDTO;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Service interface for computing party risk scores with the rule-based risk engine.
+ */
+public interface RiskScoringService {
+    /**
+     * Scores a party from its industry, locations, expected activity, UBO structure and sanctions questionnaire,
+     * and records the result as a new risk assessment.
+     *
+     * @param partyId The ID of the party to score
+     * @return A Mono containing the scoring result with its factor breakdown and persisted assessment
+     */
+    Mono<RiskScoringResultDTO> assess(Long partyId);
+
+    /**
+     * Scores several parties with bounded concurrency.
+     *
+     * @param partyIds The IDs of the parties to score
+     * @return A Flux of scoring results, in completion order
+     */
+    Flux<RiskScoringResultDTO> assessAll(Flux<Long> partyIds);
+
+    /**
+     * Loads the risk-relevant inputs of a party without scoring or persisting anything.
+     *
+     * @param partyId The ID of the party
+     * @return A Mono containing the party's risk profile
+     */
+    Mono<PartyRiskProfile> loadProfile(Long partyId);
+}
@@ -0,0 +1,337 @@
+package com.catalis.core.kycb.core.services.risk.v1;
+
+import com.catalis.core.kycb.core.events.party.v1.PartyDataChangedEvent;
+import com.catalis.core.kycb.core.events.party.v1.PartyDataTypeEnum;
+import com.catalis.core.kycb.core.mappers.risk.v1.RiskAssessmentMapper;
+import com.catalis.core.kycb.interfaces.dtos.risk.v1.RiskRuleScoreDTO;
+import com.catalis.core.kycb.interfaces.dtos.risk.v1.RiskScoringResultDTO;
+import com.catalis.core.kycb.interfaces.enums.assessment.v1.AssessmentTypeEnum;
+import com.catalis.core.kycb.interfaces.enums.ownership.v1.OwnershipTypeEnum;
+import com.catalis.core.kycb.interfaces.enums.risk.v1.RiskCategoryEnum;
+import com.catalis.core.kycb.interfaces.enums.risk.v1.RiskLevelEnum;
+import com.catalis.core.kycb.models.entities.business.v1.BusinessProfile;
+import com.catalis.core.kycb.models.entities.economic.v1.EconomicActivity;
+import com.catalis.core.kycb.models.entities.expected.v1.ExpectedActivity;
+import com.catalis.core.kycb.models.entities.industry.v1.IndustryRisk;
+import com.catalis.core.kycb.models.entities.location.v1.BusinessLocation;
+import com.catalis.core.kycb.models.entities.ownership.v1.Ubo;
+import com.catalis.core.kycb.models.entities.risk.v1.RiskAssessment;
+import com.catalis.core.kycb.models.entities.sanctions.v1.SanctionsQuestionnaire;
+import com.catalis.core.kycb.models.repositories.business.v1.BusinessProfileRepository;
+import com.catalis.core.kycb.models.repositories.economic.v1.EconomicActivityRepository;
+import com.catalis.core.kycb.models.repositories.expected.v1.ExpectedActivityRepository;
+import com.catalis.core.kycb.models.repositories.industry.v1.IndustryRiskRepository;
+import com.catalis.core.kycb.models.repositories.location.v1.BusinessLocationRepository;
+import com.catalis.core.kycb.models.repositories.ownership.v1.UboRepository;
+import com.catalis.core.kycb.models.repositories.risk.v1.RiskAssessmentRepository;
+import com.catalis.core.kycb.models.repositories.sanctions.v1.SanctionsQuestionnaireRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import static com.catalis.core.kycb.core.services.risk.v1.RiskDecisionTable.bit;
+import static com.catalis.core.kycb.interfaces.enums.risk.v1.RiskFactorEnum.*;
+
+/**
+ * Implementation of the risk scoring service.
+ * <p>
+ * Loading a party's inputs is I/O bound and runs as one concurrent fan-out over the input tables; scoring itself is a
+ * pass over the compiled {@link RiskDecisionTable} and costs a few nanoseconds per party.
+ */
+@Slf4j
+@Service
+public class RiskScoringServiceImpl implements RiskScoringService {
+
+    static final String ASSESSMENT_AGENT = "risk-engine";
+
+    @Autowired
+    private EconomicActivityRepository economicActivityRepository;
+
+    @Autowired
+    private IndustryRiskRepository industryRiskRepository;
+
+    @Autowired
+    private BusinessLocationRepository businessLocationRepository;
+
+    @Autowired
+    private ExpectedActivityRepository expectedActivityRepository;
+
+    @Autowired
+    private UboRepository uboRepository;
+
+    @Autowired
+    private SanctionsQuestionnaireRepository sanctionsQuestionnaireRepository;
+
+    @Autowired
+    private BusinessProfileRepository businessProfileRepository;
+
+    @Autowired
+    private RiskAssessmentRepository riskAssessmentRepository;
+
+    @Autowired
+    private RiskAssessmentMapper riskAssessmentMapper;
+
+    @Autowired
+    private RiskScoringProperties properties;
+
+    @Autowired
+    private RiskDependencyGraph riskDependencyGraph;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private volatile RiskDecisionTable decisionTable;
+
+    @PostConstruct
+    public void compileDecisionTable() {
+        decisionTable = RiskDecisionTable.compile(properties);
+        log.info("Compiled risk decision table with {} rules", decisionTable.size());
+    }
+
+    @Override
+    public Mono<RiskScoringResultDTO> assess(Long partyId) {
+        return loadProfile(partyId)
+                .flatMap(this::score);
+    }
+
+    @Override
+    public Flux<RiskScoringResultDTO> assessAll(Flux<Long> partyIds) {
+        return partyIds.flatMap(this::assess, properties.getConcurrency());
+    }
+
+    @Override
+    public Mono<PartyRiskProfile> loadProfile(Long partyId) {
+        Mono<ActivityInputs> activityInputs = economicActivityRepository.findByPartyId(partyId)
+                .collectList()
+                .flatMap(activities -> Flux.fromIterable(activityCodes(activities))
+                        .flatMap(industryRiskRepository::findFirstByActivityCodeOrderByAssessmentDateDesc)
+                        .collectList()
+                        .map(industryRisks -> new ActivityInputs(activities, industryRisks)));
+
+        return Mono.zip(
+                activityInputs,
+                businessLocationRepository.findByPartyId(partyId).collectList(),
+                expectedActivityRepository.findByPartyId(partyId).collectList(),
+                uboRepository.findByPartyId(partyId).collectList(),
+                sanctionsQuestionnaireRepository.findFirstByPartyIdOrderByQuestionnaireDateDesc(partyId)
+                        .map(Optional::of)
+                        .defaultIfEmpty(Optional.empty()),
+                businessProfileRepository.findFirstByPartyIdOrderByDateCreatedDesc(partyId)
+                        .map(Optional::of)
+                        .defaultIfEmpty(Optional.empty())
+        ).map(inputs -> buildProfile(
+                partyId,
+                inputs.getT1(),
+                inputs.getT2(),
+                inputs.getT3(),
+                inputs.getT4(),
+                inputs.getT5(),
+                inputs.getT6()
+        ));
+    }
+
+    private Mono<RiskScoringResultDTO> score(PartyRiskProfile profile) {
+        RiskDecisionTable table = decisionTable;
+        long fired = table.evaluate(profile.features());
+        int score = table.score(fired);
+        RiskLevelEnum level = table.level(score);
+        List<RiskRuleScoreDTO> ruleScores = ruleScores(table, fired);
+        LocalDateTime now = LocalDateTime.now();
+
+        return riskAssessmentRepository.findFirstByPartyIdOrderByAssessmentDateDesc(profile.partyId())
+                .hasElement()
+                .flatMap(previouslyAssessed -> riskAssessmentRepository.save(RiskAssessment.builder()
+                        .partyId(profile.partyId())
+                        .assessmentType(previouslyAssessed ? AssessmentTypeEnum.EVENT_DRIVEN : AssessmentTypeEnum.INITIAL)
+                        .assessmentDate(now)
+                        .riskCategory(RiskCategoryEnum.CUSTOMER)
+                        .riskScore(score)
+                        .riskLevel(level)
+                        .riskFactors(ruleScores.stream()
+                                .map(ruleScore -> ruleScore.getRule() + ":" + ruleScore.getScore())
+                                .collect(Collectors.joining(", ")))
+                        .assessmentNotes("Detected factors: " + RiskDecisionTable.factors(profile.features()))
+                        .assessmentAgent(ASSESSMENT_AGENT)
+                        .nextAssessmentDate(now.plusMonths(reviewMonths(level)))
+                        .build()))
+                .doOnNext(assessment -> {
+                    riskDependencyGraph.record(profile, assessment.getAssessmentDate());
+                    eventPublisher.publishEvent(
+                            new PartyDataChangedEvent(profile.partyId(), PartyDataTypeEnum.RISK_ASSESSMENT));
+                })
+                .map(assessment -> RiskScoringResultDTO.builder()
+                        .partyId(profile.partyId())
+                        .riskScore(score)
+                        .riskLevel(level.name())
+                        .detectedFactors(RiskDecisionTable.factors(profile.features()))
+                        .ruleScores(ruleScores)
+                        .riskAssessment(riskAssessmentMapper.toDTO(assessment))
+                        .build());
+    }
+
+    private List<RiskRuleScoreDTO> ruleScores(RiskDecisionTable table, long fired) {
+        List<RiskRuleScoreDTO> ruleScores = new ArrayList<>(Long.bitCount(fired));
+        long remaining = fired;
+        while (remaining != 0L) {
+            int row = Long.numberOfTrailingZeros(remaining);
+            ruleScores.add(RiskRuleScoreDTO.builder()
+                    .rule(table.ruleName(row))
+                    .factors(table.ruleFactors(row))
+                    .score(table.ruleScore(row))
+                    .build());
+            remaining &= remaining - 1;
+        }
+        return ruleScores;
+    }
+
+    private int reviewMonths(RiskLevelEnum level) {
+        return switch (level) {
+            case LOW -> properties.getLowReviewMonths();
+            case MEDIUM -> properties.getMediumReviewMonths();
+            case HIGH -> properties.getHighReviewMonths();
+            case EXTREME -> properties.getExtremeReviewMonths();
+        };
+    }
+
+    private PartyRiskProfile buildProfile(Long partyId,
+                                          ActivityInputs activityInputs,
+                                          List<BusinessLocation> locations,
+                                          List<ExpectedActivity> expectedActivities,
+                                          List<Ubo> ubos,
+                                          Optional<SanctionsQuestionnaire> questionnaire,
+                                          Optional<BusinessProfile> businessProfile) {
+        long features = 0L;
+
+        for (EconomicActivity activity : activityInputs.activities()) {
+            if (Boolean.TRUE.equals(activity.getHighRiskActivity())) {
+                features |= bit(HIGH_RISK_ACTIVITY);
+            }
+        }
+        for (IndustryRisk industryRisk : activityInputs.industryRisks()) {
+            RiskLevelEnum inherentRiskLevel = industryRisk.getInherentRiskLevel();
+            if (inherentRiskLevel == RiskLevelEnum.HIGH || inherentRiskLevel == RiskLevelEnum.EXTREME) {
+                features |= bit(INDUSTRY_HIGH_RISK);
+            } else if (inherentRiskLevel == RiskLevelEnum.MEDIUM) {
+                features |= bit(INDUSTRY_MEDIUM_RISK);
+            }
+            if (Boolean.TRUE.equals(industryRisk.getSepblacHighRisk())
+                    || Boolean.TRUE.equals(industryRisk.getEuHighRisk())
+                    || Boolean.TRUE.equals(industryRisk.getFatfHighRisk())) {
+                features |= bit(INDUSTRY_LISTED_HIGH_RISK);
+            }
+            if (Boolean.TRUE.equals(industryRisk.getRequiresEdd())) {
+                features |= bit(INDUSTRY_REQUIRES_EDD);
+            }
+            if (Boolean.TRUE.equals(industryRisk.getCashIntensive())) {
+                features |= bit(CASH_INTENSIVE);
+            }
+            if (Boolean.TRUE.equals(industryRisk.getComplexStructures())) {
+                features |= bit(COMPLEX_STRUCTURE);
+            }
+        }
+
+        Set<String> countries = new TreeSet<>();
+        for (BusinessLocation location : locations) {
+            if (location.getCountryIsoCode() != null && !location.getCountryIsoCode().isBlank()) {
+                countries.add(location.getCountryIsoCode().trim().toUpperCase(Locale.ROOT));
+            }
+        }
+        for (ExpectedActivity expectedActivity : expectedActivities) {
+            if (Boolean.TRUE.equals(expectedActivity.getCashIntensive())) {
+                features |= bit(CASH_INTENSIVE);
+            }
+            if (Boolean.TRUE.equals(expectedActivity.getTaxHavenTransactions())) {
+                features |= bit(TAX_HAVEN_TRANSACTIONS);
+            }
+            if (Boolean.TRUE.equals(expectedActivity.getIsHighValue())) {
+                features |= bit(HIGH_VALUE_ACTIVITY);
+            }
+            countries.addAll(parseCountryCodes(expectedActivity.getAnticipatedCountries()));
+        }
+        for (String country : countries) {
+            if (properties.getHighRiskCountries().contains(country)) {
+                features |= bit(HIGH_RISK_COUNTRY);
+            }
+            if (!country.equalsIgnoreCase(properties.getDomesticCountry())) {
+                features |= bit(FOREIGN_LOCATION);
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Ubo> activeUbos = ubos.stream()
+                .filter(ubo -> ubo.getEndDate() == null || ubo.getEndDate().isAfter(now))
+                .toList();
+        if (businessProfile.isPresent() && activeUbos.isEmpty()) {
+            features |= bit(NO_UBO_IDENTIFIED);
+        }
+        for (Ubo ubo : activeUbos) {
+            if (ubo.getOwnershipType() == OwnershipTypeEnum.INDIRECT) {
+                features |= bit(INDIRECT_OWNERSHIP);
+            }
+            if (!Boolean.TRUE.equals(ubo.getIsVerified())) {
+                features |= bit(UNVERIFIED_UBO);
+            }
+        }
+
+        if (questionnaire.isPresent()) {
+            SanctionsQuestionnaire answers = questionnaire.get();
+            if (Boolean.TRUE.equals(answers.getActivityOutsideEu())) {
+                features |= bit(ACTIVITY_OUTSIDE_EU);
+            }
+            if (Boolean.TRUE.equals(answers.getEconomicSanctions())) {
+                features |= bit(SUBJECT_TO_SANCTIONS);
+            }
+            if (Boolean.TRUE.equals(answers.getResidentCountriesSanctions())) {
+                features |= bit(SANCTIONED_COUNTRY_PRESENCE);
+            }
+            if (Boolean.TRUE.equals(answers.getInvolvedSanctions())) {
+                features |= bit(SANCTIONED_DEALINGS);
+            }
+        }
+
+        return new PartyRiskProfile(partyId, features, activityCodes(activityInputs.activities()), countries);
+    }
+
+    private static Set<String> activityCodes(List<EconomicActivity> activities) {
+        Set<String> codes = new LinkedHashSet<>();
+        for (EconomicActivity activity : activities) {
+            if (activity.getActivityCode() != null) {
+                codes.add(activity.getActivityCode());
+            }
+        }
+        return codes;
+    }
+
+    /**
+     * Extracts ISO alpha-2 codes from a free-form country list such as {@code "FR, PT;MA"}.
+     */
+    static Set<String> parseCountryCodes(String countries) {
+        Set<String> codes = new TreeSet<>();
+        if (countries == null) {
+            return codes;
+        }
+        for (String token : countries.split("[^A-Za-z]+")) {
+            if (token.length() == 2) {
+                codes.add(token.toUpperCase(Locale.ROOT));
+            }
+        }
+        return codes;
+    }
+
+    private record ActivityInputs(List<EconomicActivity> activities, List<IndustryRisk> industryRisks) {
+    }
+}
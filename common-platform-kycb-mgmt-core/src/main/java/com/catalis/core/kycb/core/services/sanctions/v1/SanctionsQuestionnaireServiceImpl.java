@@ -1,11 +1,15 @@
 package com.catalis.core.kycb.core.services.sanctions.v1;
 
+import com.catalis.core.kycb.core.events.AfterCommit;
+import com.catalis.core.kycb.core.events.party.v1.PartyDataChangedEvent;
+import com.catalis.core.kycb.core.events.party.v1.PartyDataTypeEnum;
 import com.catalis.core.kycb.core.mappers.sanctions.v1.SanctionsQuestionnaireMapper;
 import com.catalis.core.kycb.interfaces.dtos.sanctions.v1.SanctionsQuestionnaireDTO;
 import com.catalis.core.kycb.models.entities.sanctions.v1.SanctionsQuestionnaire;
 import com.catalis.core.kycb.models.repositories.sanctions.v1.SanctionsQuestionnaireRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Flux;
@@ -27,6 +31,9 @@ public class SanctionsQuestionnaireServiceImpl implements SanctionsQuestionnaire
     @Autowired
     private SanctionsQuestionnaireMapper mapper;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Override
     public Mono<SanctionsQuestionnaireDTO> create(SanctionsQuestionnaireDTO sanctionsQuestionnaireDTO) {
         log.debug("Creating sanctions questionnaire for party ID: {}", sanctionsQuestionnaireDTO.getPartyId());
@@ -35,7 +42,8 @@ public class SanctionsQuestionnaireServiceImpl implements SanctionsQuestionnaire
         sanctionsQuestionnaire.setQuestionnaireDate(LocalDateTime.now());
 
         return sanctionsQuestionnaireRepository.save(sanctionsQuestionnaire)
-                .map(mapper::toDTO);
+                .map(mapper::toDTO)
+                .flatMap(saved -> publishChange(saved.getPartyId()).thenReturn(saved));
     }
 
     @Override
@@ -76,13 +84,24 @@ public class SanctionsQuestionnaireServiceImpl implements SanctionsQuestionnaire
 
                     return sanctionsQuestionnaireRepository.save(updatedEntity);
                 })
-                .map(mapper::toDTO);
+                .map(mapper::toDTO)
+                .flatMap(saved -> publishChange(saved.getPartyId()).thenReturn(saved));
     }
 
     @Override
     public Mono<Void> delete(Long sanctionsQuestionnaireId) {
         log.debug("Deleting sanctions questionnaire with ID: {}", sanctionsQuestionnaireId);
 
-        return sanctionsQuestionnaireRepository.deleteById(sanctionsQuestionnaireId);
+        return sanctionsQuestionnaireRepository.findById(sanctionsQuestionnaireId)
+                .flatMap(existingEntity -> sanctionsQuestionnaireRepository.deleteById(sanctionsQuestionnaireId)
+                        .then(publishChange(existingEntity.getPartyId())));
+    }
+
+    /**
+     * Announces the change once it is committed, so that listeners reloading the party read the new rows.
+     */
+    private Mono<Void> publishChange(Long partyId) {
+        return AfterCommit.run(() -> eventPublisher.publishEvent(
+                new PartyDataChangedEvent(partyId, PartyDataTypeEnum.SANCTIONS_QUESTIONNAIRE)));
     }
 }
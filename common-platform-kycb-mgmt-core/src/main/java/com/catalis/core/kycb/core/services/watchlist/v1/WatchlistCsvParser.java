@@ -0,0 +1,115 @@
+package com.catalis.core.kycb.core.services.watchlist.v1;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Incremental parser for CSV watchlists laid out as {@code id,name[,type[,program,...]]}, which is the column order
+ * of the OFAC {@code sdn.csv} file.
+ * <p>
+ * The input is consumed in fixed-size chunks through an RFC 4180 state machine, so quoted fields may contain commas,
+ * escaped quotes and line breaks, and no line or file is ever materialised as a whole. The OFAC null marker
+ * {@code -0-} is mapped to {@code null}.
+ */
+final class WatchlistCsvParser {
+
+    private static final int CHUNK_SIZE = 64 * 1024;
+    private static final String OFAC_NULL = "-0-";
+
+    private WatchlistCsvParser() {
+    }
+
+    /**
+     * Parses the CSV input.
+     *
+     * @param reader    The character stream to parse
+     * @param headerRow Whether the first record is a header to be skipped
+     * @param sink      Receiver of one call per data record
+     * @return The number of data records read
+     * @throws IOException If the input cannot be read
+     */
+    static long parse(Reader reader, boolean headerRow, WatchlistRecordSink sink) throws IOException {
+        char[] chunk = new char[CHUNK_SIZE];
+        List<String> fields = new ArrayList<>(8);
+        StringBuilder field = new StringBuilder(64);
+        boolean inQuotes = false;
+        boolean quotePending = false;
+        boolean recordStarted = false;
+        boolean skipNext = headerRow;
+        long records = 0;
+
+        int read;
+        while ((read = reader.read(chunk)) != -1) {
+            for (int i = 0; i < read; i++) {
+                char c = chunk[i];
+                if (inQuotes) {
+                    if (quotePending) {
+                        quotePending = false;
+                        if (c == '"') {
+                            field.append('"');
+                            continue;
+                        }
+                        inQuotes = false;
+                    } else {
+                        if (c == '"') {
+                            quotePending = true;
+                        } else {
+                            field.append(c);
+                        }
+                        continue;
+                    }
+                }
+                if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                    recordStarted = true;
+                } else if (c == '\n' || c == '\r') {
+                    if (recordStarted || !field.isEmpty()) {
+                        fields.add(field.toString());
+                        if (skipNext) {
+                            skipNext = false;
+                        } else {
+                            emit(fields, sink);
+                            records++;
+                        }
+                    }
+                    fields.clear();
+                    field.setLength(0);
+                    recordStarted = false;
+                } else if (c == '"' && field.isEmpty()) {
+                    inQuotes = true;
+                    recordStarted = true;
+                } else {
+                    field.append(c);
+                }
+            }
+        }
+        if (recordStarted || !field.isEmpty()) {
+            fields.add(field.toString());
+            if (!skipNext) {
+                emit(fields, sink);
+                records++;
+            }
+        }
+        return records;
+    }
+
+    private static void emit(List<String> fields, WatchlistRecordSink sink) {
+        sink.accept(
+                value(fields, 0),
+                value(fields, 1),
+                value(fields, 2),
+                value(fields, 3)
+        );
+    }
+
+    private static String value(List<String> fields, int index) {
+        if (index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() || OFAC_NULL.equals(value) ? null : value;
+    }
+}
@@ -0,0 +1,21 @@
+package com.catalis.core.kycb.core.services.watchlist.v1;
+
+/**
+ * A single name entry of a watchlist snapshot.
+ * <p>
+ * Entities with several aliases produce one entry per alias sharing the same {@code entryId}.
+ *
+ * @param entryId        Identifier of the listed subject in the source list
+ * @param name           Name as published in the source list
+ * @param normalizedName Upper-case, transliterated, whitespace-collapsed name used for matching
+ * @param entityType     Subject type as published (person, entity, vessel...), may be null
+ * @param program        Sanctions programme or regulation, may be null
+ */
+public record WatchlistEntry(
+        String entryId,
+        String name,
+        String normalizedName,
+        String entityType,
+        String program
+) {
+}
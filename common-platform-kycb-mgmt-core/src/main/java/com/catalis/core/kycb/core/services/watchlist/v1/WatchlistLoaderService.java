@@ -0,0 +1,43 @@
+package com.catalis.core.kycb.core.services.watchlist.v1;
+
+import com.catalis.core.kycb.interfaces.dtos.watchlist.v1.WatchlistLoadRequestDTO;
+import com.catalis.core.kycb.interfaces.dtos.watchlist.v1.WatchlistSnapshotDTO;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Service interface for ingesting sanctions and PEP list files into versioned in-memory snapshots.
+ */
+public interface WatchlistLoaderService {
+    /**
+     * Streams a list file from the watchlist directory, normalizes its names and publishes it as the next
+     * snapshot version of its list source.
+     *
+     * @param request The file to load and the list it belongs to
+     * @return A Mono containing the summary and ingestion metrics of the new snapshot
+     */
+    Mono<WatchlistSnapshotDTO> load(WatchlistLoadRequestDTO request);
+
+    /**
+     * Retrieves the summary of the current snapshot of a list source.
+     *
+     * @param listSource The list source identifier
+     * @return A Mono containing the snapshot summary if the list has been loaded, otherwise an empty mono
+     */
+    Mono<WatchlistSnapshotDTO> getSnapshot(String listSource);
+
+    /**
+     * Retrieves the summaries of the current snapshots of all loaded list sources.
+     *
+     * @return A Flux of snapshot summaries
+     */
+    Flux<WatchlistSnapshotDTO> listSnapshots();
+
+    /**
+     * Retrieves the current snapshot of a list source, including its entries.
+     *
+     * @param listSource The list source identifier
+     * @return A Mono containing the snapshot if the list has been loaded, otherwise an empty mono
+     */
+    Mono<WatchlistSnapshot> findSnapshot(String listSource);
+}
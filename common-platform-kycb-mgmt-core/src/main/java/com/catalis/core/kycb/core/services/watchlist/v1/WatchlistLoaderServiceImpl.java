@@ -0,0 +1,164 @@
+package com.catalis.core.kycb.core.services.watchlist.v1;
+
+import com.catalis.core.kycb.interfaces.dtos.watchlist.v1.WatchlistLoadRequestDTO;
+import com.catalis.core.kycb.interfaces.dtos.watchlist.v1.WatchlistSnapshotDTO;
+import com.catalis.core.kycb.interfaces.enums.watchlist.v1.WatchlistFormatEnum;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import javax.xml.stream.XMLStreamException;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Implementation of the watchlist loader service.
+ * <p>
+ * Files are read through a {@link FileChannel} and parsed incrementally (chunked CSV state machine or StAX), so memory
+ * use is bounded by the resulting entries rather than by the file size. Each name is normalized exactly once, at load
+ * time, and the finished snapshot replaces the previous version of its list atomically.
+ */
+@Slf4j
+@Service
+public class WatchlistLoaderServiceImpl implements WatchlistLoaderService {
+
+    @Autowired
+    private WatchlistProperties properties;
+
+    private final ConcurrentMap<String, WatchlistSnapshot> snapshots = new ConcurrentHashMap<>();
+
+    @Override
+    public Mono<WatchlistSnapshotDTO> load(WatchlistLoadRequestDTO request) {
+        return Mono.fromCallable(() -> loadSnapshot(request))
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(WatchlistSnapshot::getSummary);
+    }
+
+    @Override
+    public Mono<WatchlistSnapshotDTO> getSnapshot(String listSource) {
+        return findSnapshot(listSource)
+                .map(WatchlistSnapshot::getSummary);
+    }
+
+    @Override
+    public Flux<WatchlistSnapshotDTO> listSnapshots() {
+        return Flux.fromIterable(snapshots.values())
+                .map(WatchlistSnapshot::getSummary);
+    }
+
+    @Override
+    public Mono<WatchlistSnapshot> findSnapshot(String listSource) {
+        return Mono.justOrEmpty(snapshots.get(listSource));
+    }
+
+    private WatchlistSnapshot loadSnapshot(WatchlistLoadRequestDTO request) throws IOException, XMLStreamException {
+        Path file = resolve(request.getFileName());
+        long start = System.nanoTime();
+        EntryCollector collector = new EntryCollector();
+        long records;
+        long bytesRead;
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+             Reader reader = Channels.newReader(
+                     channel,
+                     StandardCharsets.UTF_8.newDecoder()
+                             .onMalformedInput(CodingErrorAction.REPLACE)
+                             .onUnmappableCharacter(CodingErrorAction.REPLACE),
+                     properties.getReadBufferSize())) {
+            bytesRead = channel.size();
+            records = request.getFormat() == WatchlistFormatEnum.XML
+                    ? WatchlistXmlParser.parse(reader, collector)
+                    : WatchlistCsvParser.parse(reader, Boolean.TRUE.equals(request.getHeaderRow()), collector);
+        }
+
+        WatchlistEntry[] entries = collector.entries.toArray(new WatchlistEntry[0]);
+        long totalNanos = System.nanoTime() - start;
+        long parseNanos = Math.max(0, totalNanos - collector.normalizeNanos);
+        double seconds = Math.max(totalNanos, 1) / 1_000_000_000d;
+
+        WatchlistSnapshot snapshot = snapshots.compute(request.getListSource(), (listSource, previous) ->
+                new WatchlistSnapshot(
+                        WatchlistSnapshotDTO.builder()
+                                .listSource(listSource)
+                                .listType(request.getListType())
+                                .version(previous == null ? 1L : previous.getVersion() + 1)
+                                .fileName(request.getFileName())
+                                .format(request.getFormat())
+                                .loadedAt(LocalDateTime.now())
+                                .entryCount((long) entries.length)
+                                .recordCount(records)
+                                .skippedRecordCount(collector.skipped)
+                                .bytesRead(bytesRead)
+                                .parseMillis(TimeUnit.NANOSECONDS.toMillis(parseNanos))
+                                .normalizeMillis(TimeUnit.NANOSECONDS.toMillis(collector.normalizeNanos))
+                                .totalMillis(TimeUnit.NANOSECONDS.toMillis(totalNanos))
+                                .megabytesPerSecond(bytesRead / (1024d * 1024d) / seconds)
+                                .entriesPerSecond(entries.length / seconds)
+                                .build(),
+                        entries
+                ));
+
+        log.info("Loaded watchlist {} version {}: {} entries from {} records ({} bytes) in {} ms",
+                snapshot.getListSource(), snapshot.getVersion(), entries.length, records, bytesRead,
+                snapshot.getSummary().getTotalMillis());
+        return snapshot;
+    }
+
+    private Path resolve(String fileName) {
+        Path baseDirectory = Paths.get(properties.getBaseDirectory()).toAbsolutePath().normalize();
+        Path file = baseDirectory.resolve(fileName).normalize();
+        if (!file.startsWith(baseDirectory)) {
+            throw new IllegalArgumentException("Watchlist file must be located in " + baseDirectory);
+        }
+        return file;
+    }
+
+    /**
+     * Accumulates parsed names, normalizing each once and sharing repeated type and programme strings.
+     */
+    private static final class EntryCollector implements WatchlistRecordSink {
+
+        private final List<WatchlistEntry> entries = new ArrayList<>(1 << 16);
+        private final Map<String, String> sharedValues = new HashMap<>();
+        private long normalizeNanos;
+        private long skipped;
+
+        @Override
+        public void accept(String entryId, String name, String entityType, String program) {
+            long start = System.nanoTime();
+            String normalizedName = WatchlistNameNormalizer.normalize(name);
+            normalizeNanos += System.nanoTime() - start;
+            if (normalizedName.isEmpty()) {
+                skipped++;
+                return;
+            }
+            entries.add(new WatchlistEntry(entryId, name, normalizedName, share(entityType), share(program)));
+        }
+
+        private String share(String value) {
+            if (value == null) {
+                return null;
+            }
+            String existing = sharedValues.putIfAbsent(value, value);
+            return existing != null ? existing : value;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.catalis.core.kycb.core.services.watchlist.v1;
+
+import java.text.Normalizer;
+
+/**
+ * Normalizes watchlist names into the canonical form used for matching.
+ * <p>
+ * The canonical form is upper-case ASCII where possible: diacritics are stripped, common Latin ligatures and the
+ * Cyrillic alphabet are transliterated, apostrophes are dropped and any run of punctuation or whitespace collapses
+ * into a single space. Letters of other scripts are kept (upper-cased) rather than discarded. Pure ASCII input,
+ * which is the bulk of every list, never goes through {@link Normalizer}.
+ */
+public final class WatchlistNameNormalizer {
+
+    private static final int CYRILLIC_BASE = 0x0410;
+
+    /**
+     * Transliteration of U+0410..U+042F; the lower-case block U+0430..U+044F uses the same table.
+     */
+    private static final String[] CYRILLIC = {
+            "A", "B", "V", "G", "D", "E", "ZH", "Z", "I", "Y", "K", "L", "M", "N", "O", "P",
+            "R", "S", "T", "U", "F", "KH", "TS", "CH", "SH", "SHCH", "", "Y", "", "E", "YU", "YA"
+    };
+
+    private WatchlistNameNormalizer() {
+    }
+
+    /**
+     * Normalizes a name.
+     *
+     * @param name The name as published in the list
+     * @return The canonical form, or an empty string if the name has no letters or digits
+     */
+    public static String normalize(String name) {
+        if (name == null || name.isEmpty()) {
+            return "";
+        }
+        StringBuilder out = new StringBuilder(name.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c < 0x80) {
+                if (isAsciiLetterOrDigit(c)) {
+                    pendingSpace = appendAscii(out, c, pendingSpace);
+                } else if (c != '\'') {
+                    pendingSpace = true;
+                }
+                continue;
+            }
+            String transliterated = transliterate(c);
+            if (transliterated == null) {
+                if (Character.isLetterOrDigit(c)) {
+                    if (pendingSpace && !out.isEmpty()) {
+                        out.append(' ');
+                    }
+                    out.append(Character.toUpperCase(c));
+                    pendingSpace = false;
+                } else if (Character.getType(c) != Character.NON_SPACING_MARK && c != '’') {
+                    pendingSpace = true;
+                }
+                continue;
+            }
+            for (int j = 0; j < transliterated.length(); j++) {
+                pendingSpace = appendAscii(out, transliterated.charAt(j), pendingSpace);
+            }
+        }
+        return out.toString();
+    }
+
+    private static boolean appendAscii(StringBuilder out, char c, boolean pendingSpace) {
+        if (pendingSpace && !out.isEmpty()) {
+            out.append(' ');
+        }
+        out.append(c >= 'a' && c <= 'z' ? (char) (c - 32) : c);
+        return false;
+    }
+
+    private static boolean isAsciiLetterOrDigit(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9');
+    }
+
+    /**
+     * Returns the ASCII transliteration of a non-ASCII character, or {@code null} if it has none.
+     */
+    private static String transliterate(char c) {
+        if (c >= CYRILLIC_BASE && c <= 0x044F) {
+            return CYRILLIC[(c - CYRILLIC_BASE) % CYRILLIC.length];
+        }
+        switch (c) {
+            case 'ß':
+                return "SS";
+            case 'Æ':
+            case 'æ':
+                return "AE";
+            case 'Œ':
+            case 'œ':
+                return "OE";
+            case 'Ø':
+            case 'ø':
+                return "O";
+            case 'Ł':
+            case 'ł':
+                return "L";
+            case 'Đ':
+            case 'đ':
+                return "D";
+            case 'Þ':
+            case 'þ':
+                return "TH";
+            case 'ı':
+                return "I";
+            case 'Ё':
+            case 'ё':
+                return "E";
+            case 'Є':
+            case 'є':
+                return "YE";
+            case 'І':
+            case 'і':
+                return "I";
+            case 'Ї':
+            case 'ї':
+                return "YI";
+            case 'Ґ':
+            case 'ґ':
+                return "G";
+            default:
+                break;
+        }
+        String decomposed = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFKD);
+        StringBuilder ascii = null;
+        for (int i = 0; i < decomposed.length(); i++) {
+            char d = decomposed.charAt(i);
+            if (d < 0x80 && isAsciiLetterOrDigit(d)) {
+                if (ascii == null) {
+                    ascii = new StringBuilder(decomposed.length());
+                }
+                ascii.append(d);
+            }
+        }
+        return ascii == null ? null : ascii.toString();
+    }
+}
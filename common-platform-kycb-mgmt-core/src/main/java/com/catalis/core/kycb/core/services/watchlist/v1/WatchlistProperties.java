@@ -0,0 +1,22 @@
+package com.catalis.core.kycb.core.services.watchlist.v1;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration of the watchlist file loader.
+ */
+@Data
+@ConfigurationProperties(prefix = "kycb.watchlist")
+public class WatchlistProperties {
+
+    /**
+     * Directory list files are read from. Requested file names are resolved against it and may not escape it.
+     */
+    private String baseDirectory = "/var/lib/kycb/watchlists";
+
+    /**
+     * Size in bytes of the read buffer used when streaming list files.
+     */
+    private int readBufferSize = 1 << 20;
+}
@@ -0,0 +1,10 @@
+package com.catalis.core.kycb.core.services.watchlist.v1;
+
+/**
+ * Receives the name records emitted by the watchlist parsers, one call per name.
+ */
+@FunctionalInterface
+interface WatchlistRecordSink {
+
+    void accept(String entryId, String name, String entityType, String program);
+}
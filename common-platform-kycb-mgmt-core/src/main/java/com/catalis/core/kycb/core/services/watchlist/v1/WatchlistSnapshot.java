@@ -0,0 +1,51 @@
+package com.catalis.core.kycb.core.services.watchlist.v1;
+
+import com.catalis.core.kycb.interfaces.dtos.watchlist.v1.WatchlistSnapshotDTO;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Immutable, versioned view of a watchlist as produced by one load.
+ * <p>
+ * Snapshots are swapped atomically by the loader, so readers never observe a partially loaded list.
+ */
+public final class WatchlistSnapshot {
+
+    private final WatchlistSnapshotDTO summary;
+    private final WatchlistEntry[] entries;
+
+    WatchlistSnapshot(WatchlistSnapshotDTO summary, WatchlistEntry[] entries) {
+        this.summary = summary;
+        this.entries = entries;
+    }
+
+    public String getListSource() {
+        return summary.getListSource();
+    }
+
+    public long getVersion() {
+        return summary.getVersion();
+    }
+
+    public int size() {
+        return entries.length;
+    }
+
+    public WatchlistEntry get(int index) {
+        return entries[index];
+    }
+
+    public Stream<WatchlistEntry> stream() {
+        return Arrays.stream(entries);
+    }
+
+    public List<WatchlistEntry> getEntries() {
+        return List.of(entries);
+    }
+
+    public WatchlistSnapshotDTO getSummary() {
+        return summary;
+    }
+}
@@ -0,0 +1,185 @@
+package com.catalis.core.kycb.core.services.watchlist.v1;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Incremental StAX parser for XML watchlists.
+ * <p>
+ * Two layouts are recognised in the same pass: the EU consolidated financial sanctions list
+ * ({@code sanctionEntity/nameAlias@wholeName}) and the OFAC SDN list ({@code sdnEntry} with {@code firstName},
+ * {@code lastName} and {@code akaList/aka}). Only the subject currently being read is held in memory. DTDs and
+ * external entities are disabled.
+ */
+final class WatchlistXmlParser {
+
+    private static final XMLInputFactory FACTORY = createFactory();
+
+    private WatchlistXmlParser() {
+    }
+
+    /**
+     * Parses the XML input.
+     *
+     * @param input The character stream to parse
+     * @param sink  Receiver of one call per name (primary name and aliases)
+     * @return The number of listed subjects read
+     * @throws XMLStreamException If the document is not well-formed
+     */
+    static long parse(Reader input, WatchlistRecordSink sink) throws XMLStreamException {
+        XMLStreamReader reader = FACTORY.createXMLStreamReader(input);
+        try {
+            return parse(reader, sink);
+        } finally {
+            reader.close();
+        }
+    }
+
+    private static long parse(XMLStreamReader reader, WatchlistRecordSink sink) throws XMLStreamException {
+        long subjects = 0;
+        List<String> names = new ArrayList<>();
+        String entryId = null;
+        String entityType = null;
+        String program = null;
+        String firstName = null;
+        String lastName = null;
+        String akaFirstName = null;
+        String akaLastName = null;
+        boolean inSubject = false;
+        boolean inAka = false;
+        int depth = 0;
+        int subjectDepth = 0;
+
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+                switch (reader.getLocalName()) {
+                    case "sanctionEntity":
+                    case "sdnEntry":
+                        inSubject = true;
+                        subjectDepth = depth;
+                        names.clear();
+                        entryId = reader.getAttributeValue(null, "logicalId");
+                        entityType = null;
+                        program = null;
+                        firstName = null;
+                        lastName = null;
+                        break;
+                    case "subjectType":
+                        if (inSubject) {
+                            entityType = reader.getAttributeValue(null, "code");
+                        }
+                        break;
+                    case "regulation":
+                        if (inSubject && program == null) {
+                            program = reader.getAttributeValue(null, "programme");
+                        }
+                        break;
+                    case "nameAlias":
+                        if (inSubject) {
+                            addName(names, reader.getAttributeValue(null, "wholeName"));
+                        }
+                        break;
+                    case "aka":
+                        inAka = true;
+                        akaFirstName = null;
+                        akaLastName = null;
+                        break;
+                    case "uid":
+                        String uid = reader.getElementText();
+                        // idList, addressList and akaList entries have uids of their own
+                        if (inSubject && depth == subjectDepth + 1) {
+                            entryId = uid.trim();
+                        }
+                        break;
+                    case "firstName":
+                        if (inAka) {
+                            akaFirstName = reader.getElementText();
+                        } else if (inSubject) {
+                            firstName = reader.getElementText();
+                        }
+                        break;
+                    case "lastName":
+                        if (inAka) {
+                            akaLastName = reader.getElementText();
+                        } else if (inSubject) {
+                            lastName = reader.getElementText();
+                        }
+                        break;
+                    case "sdnType":
+                        if (inSubject) {
+                            entityType = reader.getElementText().trim();
+                        }
+                        break;
+                    case "program":
+                        String value = reader.getElementText().trim();
+                        if (inSubject && program == null) {
+                            program = value;
+                        }
+                        break;
+                    default:
+                        break;
+                }
+                // getElementText consumes the element's end
+                if (reader.getEventType() == XMLStreamConstants.END_ELEMENT) {
+                    depth--;
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+                switch (reader.getLocalName()) {
+                    case "aka":
+                        inAka = false;
+                        addName(names, fullName(akaFirstName, akaLastName));
+                        break;
+                    case "sdnEntry":
+                        names.add(0, fullName(firstName, lastName));
+                        // fall through
+                    case "sanctionEntity":
+                        for (String name : names) {
+                            if (name != null) {
+                                sink.accept(entryId, name, entityType, program);
+                            }
+                        }
+                        subjects++;
+                        inSubject = false;
+                        break;
+                    default:
+                        break;
+                }
+            }
+        }
+        return subjects;
+    }
+
+    private static void addName(List<String> names, String name) {
+        if (name != null && !name.isBlank()) {
+            names.add(name.trim());
+        }
+    }
+
+    private static String fullName(String firstName, String lastName) {
+        boolean hasFirst = firstName != null && !firstName.isBlank();
+        boolean hasLast = lastName != null && !lastName.isBlank();
+        if (hasFirst && hasLast) {
+            return firstName.trim() + " " + lastName.trim();
+        }
+        if (hasLast) {
+            return lastName.trim();
+        }
+        return hasFirst ? firstName.trim() : null;
+    }
+
+    private static XMLInputFactory createFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+}
@@ -0,0 +1,36 @@
+package com.catalis.core.kycb.core.startup;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+
+/**
+ * Decides which of the application's beans stay eager when {@code spring.main.lazy-initialization} is on.
+ * <p>
+ * Beans with a {@code @PostConstruct} method start work of their own at startup (pollers and monitors, queue depth
+ * gauges, indexes and caches loaded ahead of the first request), so they are still created during startup. Every
+ * other bean, controllers, services, repositories and mappers included, is created on first use. Beans outside the
+ * application's packages follow Spring Boot's own rules.
+ */
+@Component
+public class EagerInitializationFilter implements LazyInitializationExcludeFilter {
+
+    private static final String APPLICATION_PACKAGE = "com.catalis.core.kycb.";
+
+    @Override
+    public boolean isExcluded(String beanName, BeanDefinition beanDefinition, Class<?> beanType) {
+        if (beanType == null || !beanType.getName().startsWith(APPLICATION_PACKAGE)) {
+            return false;
+        }
+        for (Method method : ReflectionUtils.getUniqueDeclaredMethods(beanType)) {
+            if (method.isAnnotationPresent(PostConstruct.class)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,93 @@
+package com.catalis.core.kycb.core.startup;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aot.AotDetector;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Records the time to ready of each start in a CSV file and logs it with the median, minimum and maximum of every
+ * recorded start of the same configuration, so that AOT processing, a class-data sharing archive and lazy
+ * initialization can be compared over repeated cold starts.
+ * <p>
+ * The time to ready runs from JVM start, so it includes class loading before {@code main}, which is what the
+ * class-data sharing archive shortens.
+ */
+@Slf4j
+@Component
+public class StartupBenchmark {
+
+    static final String HEADER = "timestamp,configuration,time_to_ready_ms,context_ready_ms";
+
+    private static final String SHARED_ARCHIVE_FLAG = "-XX:SharedArchiveFile";
+
+    @Autowired
+    private StartupBenchmarkProperties properties;
+
+    @Autowired
+    private Environment environment;
+
+    @EventListener
+    public void onApplicationReady(ApplicationReadyEvent event) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long timeToReady = ManagementFactory.getRuntimeMXBean().getUptime();
+        long contextReady = event.getTimeTaken() == null ? -1 : event.getTimeTaken().toMillis();
+        try {
+            report(record(Path.of(properties.getResultsFile()), configuration(), timeToReady, contextReady));
+        } catch (IOException e) {
+            log.error("Could not record the startup benchmark run in {}", properties.getResultsFile(), e);
+        }
+        if (properties.isExitWhenReady()) {
+            System.exit(SpringApplication.exit(event.getApplicationContext()));
+        }
+    }
+
+    String configuration() {
+        boolean sharedArchive = ManagementFactory.getRuntimeMXBean().getInputArguments().stream()
+                .anyMatch(argument -> argument.startsWith(SHARED_ARCHIVE_FLAG));
+        return "aot=" + AotDetector.useGeneratedArtifacts()
+                + " cds=" + sharedArchive
+                + " lazy=" + environment.getProperty("spring.main.lazy-initialization", Boolean.class, false);
+    }
+
+    /**
+     * Appends one run to the results file, creating it with a header if needed, and compares it with every run of
+     * the same configuration in the file.
+     */
+    static StartupBenchmarkResult record(Path file, String configuration, long timeToReady, long contextReady)
+            throws IOException {
+        if (Files.notExists(file)) {
+            Files.write(file, List.of(HEADER));
+        }
+        Files.write(file, List.of(Instant.now() + "," + configuration + "," + timeToReady + "," + contextReady),
+                StandardOpenOption.APPEND);
+        long[] timesToReady = Files.readAllLines(file).stream()
+                .skip(1)
+                .map(line -> line.split(","))
+                .filter(columns -> columns.length == 4 && columns[1].equals(configuration))
+                .mapToLong(columns -> Long.parseLong(columns[2]))
+                .toArray();
+        return StartupBenchmarkResult.of(configuration, timeToReady, contextReady, timesToReady);
+    }
+
+    private static void report(StartupBenchmarkResult result) {
+        log.info("Startup benchmark [{}]: ready {} ms after JVM start, {} ms after run; {} runs of this "
+                        + "configuration: median {} ms, min {} ms, max {} ms",
+                result.configuration(), result.timeToReadyMillis(), result.contextReadyMillis(), result.runs(),
+                result.medianMillis(), result.minMillis(), result.maxMillis());
+    }
+}
@@ -0,0 +1,27 @@
+package com.catalis.core.kycb.core.startup;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration of the startup benchmark that records the time to ready of each start.
+ */
+@Data
+@ConfigurationProperties(prefix = "kycb.startup.benchmark")
+public class StartupBenchmarkProperties {
+
+    /**
+     * Whether each start records its time to ready in the results file and logs it against the previous runs.
+     */
+    private boolean enabled = false;
+
+    /**
+     * CSV file the runs are appended to; runs are compared per configuration (AOT, CDS, lazy initialization).
+     */
+    private String resultsFile = "startup-benchmark.csv";
+
+    /**
+     * Whether the application shuts down once the run is recorded, so that repeated starts can be scripted.
+     */
+    private boolean exitWhenReady = true;
+}
@@ -0,0 +1,38 @@
+package com.catalis.core.kycb.core.startup;
+
+import java.util.Arrays;
+
+/**
+ * One recorded start, compared with every recorded start of the same configuration.
+ *
+ * @param timeToReadyMillis  Time from JVM start to the application being ready to serve
+ * @param contextReadyMillis Time from {@code SpringApplication.run} to the application being ready to serve
+ * @param runs               Number of recorded starts of this configuration, this one included
+ */
+public record StartupBenchmarkResult(
+        String configuration,
+        long timeToReadyMillis,
+        long contextReadyMillis,
+        int runs,
+        long medianMillis,
+        long minMillis,
+        long maxMillis
+) {
+
+    /**
+     * @param timesToReady The time to ready of every recorded start of this configuration; sorted in place
+     */
+    static StartupBenchmarkResult of(String configuration, long timeToReadyMillis, long contextReadyMillis,
+                                     long[] timesToReady) {
+        Arrays.sort(timesToReady);
+        int runs = timesToReady.length;
+        return new StartupBenchmarkResult(
+                configuration,
+                timeToReadyMillis,
+                contextReadyMillis,
+                runs,
+                runs == 0 ? 0 : timesToReady[(runs - 1) / 2],
+                runs == 0 ? 0 : timesToReady[0],
+                runs == 0 ? 0 : timesToReady[runs - 1]);
+    }
+}
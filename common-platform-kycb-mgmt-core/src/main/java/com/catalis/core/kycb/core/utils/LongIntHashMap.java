@@ -0,0 +1,134 @@
+package com.catalis.core.kycb.core.utils;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash map from primitive {@code long} keys to primitive {@code int} values.
+ * <p>
+ * Avoids boxing both sides, which matters when indexing millions of entity IDs: a {@code HashMap<Long, Integer>}
+ * costs roughly 80 bytes per entry against 24 here at the default load factor. {@link Long#MIN_VALUE} is reserved as
+ * the empty-slot marker and cannot be used as a key. Not thread-safe.
+ */
+public final class LongIntHashMap {
+
+    private static final long EMPTY = Long.MIN_VALUE;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private final int missingValue;
+    private long[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+    private int resizeThreshold;
+
+    /**
+     * @param expectedSize Number of entries to size the table for
+     * @param missingValue Value returned by {@link #get(long)} for absent keys
+     */
+    public LongIntHashMap(int expectedSize, int missingValue) {
+        this.missingValue = missingValue;
+        int capacity = Integer.highestOneBit(Math.max(4, (int) Math.ceil(expectedSize / LOAD_FACTOR)) - 1) << 1;
+        allocate(capacity);
+    }
+
+    public int get(long key) {
+        checkKey(key);
+        int slot = slot(key);
+        while (true) {
+            long existing = keys[slot];
+            if (existing == key) {
+                return values[slot];
+            }
+            if (existing == EMPTY) {
+                return missingValue;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    public boolean containsKey(long key) {
+        checkKey(key);
+        int slot = slot(key);
+        while (true) {
+            long existing = keys[slot];
+            if (existing == key) {
+                return true;
+            }
+            if (existing == EMPTY) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /**
+     * @return The previous value for the key, or the missing value if there was none
+     */
+    public int put(long key, int value) {
+        checkKey(key);
+        int slot = slot(key);
+        while (true) {
+            long existing = keys[slot];
+            if (existing == key) {
+                int previous = values[slot];
+                values[slot] = value;
+                return previous;
+            }
+            if (existing == EMPTY) {
+                keys[slot] = key;
+                values[slot] = value;
+                if (++size > resizeThreshold) {
+                    rehash(keys.length << 1);
+                }
+                return missingValue;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /**
+     * Returns the value for the key, first inserting {@code value} if the key is absent.
+     */
+    public int putIfAbsent(long key, int value) {
+        if (containsKey(key)) {
+            return get(key);
+        }
+        put(key, value);
+        return value;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private int slot(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+        values = new int[capacity];
+        mask = capacity - 1;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                put(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private static void checkKey(long key) {
+        if (key == EMPTY) {
+            throw new IllegalArgumentException("Long.MIN_VALUE is reserved and cannot be used as a key");
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.catalis.core.kycb.core.utils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hashed timer wheel that tracks one deadline per key.
+ * <p>
+ * Time is divided into ticks, and a deadline is stored in the slot of its tick modulo the wheel size. Scheduling is
+ * constant time, and advancing visits only the slots of the ticks that passed, so the cost of firing does not
+ * depend on how many deadlines are pending. Deadlines further away than one rotation stay in their slot until the
+ * rotation in which they are due.
+ * <p>
+ * Rescheduling a key replaces its deadline; the entry left in the old slot is skipped when that slot is visited.
+ * Deadlines are in milliseconds on any clock the caller advances monotonically. Not thread-safe.
+ *
+ * @param <K> The key type
+ */
+public final class TimerWheel<K> {
+
+    private final long tickMillis;
+    private final List<List<Entry<K>>> slots;
+    private final int mask;
+    private final Map<K, Long> deadlines = new HashMap<>();
+    private long currentTick;
+
+    /**
+     * @param tickMillis Resolution of the wheel; deadlines fire up to one tick late
+     * @param wheelSize  Number of slots, rounded up to a power of two
+     * @param startMillis Time of the first tick
+     */
+    public TimerWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("Tick and wheel size must be positive");
+        }
+        this.tickMillis = tickMillis;
+        int size = Integer.highestOneBit(Math.max(1, wheelSize - 1)) << 1;
+        this.slots = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            slots.add(new ArrayList<>());
+        }
+        this.mask = size - 1;
+        this.currentTick = Math.floorDiv(startMillis, tickMillis);
+    }
+
+    /**
+     * Sets the deadline of a key. A deadline that has already passed fires on the next {@link #advance}.
+     *
+     * @return Whether the deadline was added or changed
+     */
+    public boolean schedule(K key, long deadlineMillis) {
+        Long previous = deadlines.put(key, deadlineMillis);
+        if (previous != null && previous == deadlineMillis) {
+            return false;
+        }
+        long tick = Math.max(Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis), currentTick);
+        slots.get((int) (tick & mask)).add(new Entry<>(key, deadlineMillis, tick));
+        return true;
+    }
+
+    /**
+     * Removes the deadline of a key.
+     *
+     * @return Whether the key had a deadline
+     */
+    public boolean cancel(K key) {
+        return deadlines.remove(key) != null;
+    }
+
+    /**
+     * Moves the wheel to the given time.
+     *
+     * @return The keys whose deadline is at or before {@code nowMillis}, in no particular order
+     */
+    public List<K> advance(long nowMillis) {
+        long targetTick = Math.floorDiv(nowMillis, tickMillis);
+        List<K> expired = new ArrayList<>();
+        if (targetTick < currentTick) {
+            return expired;
+        }
+        long ticks = Math.min(targetTick - currentTick + 1, slots.size());
+        for (long i = 0; i < ticks; i++) {
+            Iterator<Entry<K>> entries = slots.get((int) ((currentTick + i) & mask)).iterator();
+            while (entries.hasNext()) {
+                Entry<K> entry = entries.next();
+                Long deadline = deadlines.get(entry.key());
+                if (deadline == null || deadline != entry.deadlineMillis()) {
+                    // Cancelled or rescheduled
+                    entries.remove();
+                } else if (entry.tick() <= targetTick) {
+                    entries.remove();
+                    deadlines.remove(entry.key());
+                    expired.add(entry.key());
+                }
+            }
+        }
+        currentTick = targetTick + 1;
+        return expired;
+    }
+
+    public boolean contains(K key) {
+        return deadlines.containsKey(key);
+    }
+
+    /**
+     * @return The number of keys with a pending deadline
+     */
+    public int size() {
+        return deadlines.size();
+    }
+
+    private record Entry<K>(K key, long deadlineMillis, long tick) {
+    }
+}
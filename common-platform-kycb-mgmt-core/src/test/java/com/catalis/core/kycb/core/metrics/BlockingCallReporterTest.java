@@ -0,0 +1,72 @@
+package com.catalis.core.kycb.core.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.blockhound.BlockingMethod;
+import reactor.blockhound.BlockingOperationError;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.lang.reflect.Modifier;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class BlockingCallReporterTest {
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private BlockingCallProperties properties = new BlockingCallProperties();
+
+    @InjectMocks
+    private BlockingCallReporter blockingCallReporter;
+
+    @Test
+    void testReportCountsEveryCallByMethodAndThread() {
+        // Arrange
+        BlockingMethod sleep = new BlockingMethod("java/lang/Thread", "sleep", Modifier.STATIC);
+
+        // Act
+        blockingCallReporter.report(sleep);
+        blockingCallReporter.report(sleep);
+
+        // Assert
+        assertEquals(2.0, meterRegistry.counter(BlockingCallReporter.METRIC_BLOCKING_CALLS,
+                BlockingCallReporter.TAG_METHOD, "java.lang.Thread.sleep",
+                BlockingCallReporter.TAG_THREAD, "main").count());
+    }
+
+    @Test
+    void testReportingDisabledByDefault() {
+        // Act
+        blockingCallReporter.start();
+
+        // Assert
+        verifyNoInteractions(meterRegistry);
+    }
+
+    @Test
+    void testTestSuiteFailsBlockingCallsOnNonBlockingThreads() {
+        // Act & Assert: BlockHound is installed for every test by blockhound-junit-platform
+        StepVerifier.create(Mono.fromCallable(() -> {
+                            Thread.sleep(1);
+                            return 1;
+                        })
+                        .subscribeOn(Schedulers.parallel()))
+                .expectError(BlockingOperationError.class)
+                .verify();
+        StepVerifier.create(Mono.fromCallable(UUID::randomUUID).subscribeOn(Schedulers.parallel()))
+                .expectNextCount(1)
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,221 @@
+package com.catalis.core.kycb.core.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.contextpropagation.ObservationThreadLocalAccessor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class MethodMetricsPostProcessorTest {
+
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    @Mock
+    private ObjectProvider<MethodMetricsProperties> propertiesProvider;
+
+    @Mock
+    private ObjectProvider<ObservationRegistry> observationRegistryProvider;
+
+    @Mock
+    private ObjectProvider<MethodTracingProperties> tracingPropertiesProvider;
+
+    @InjectMocks
+    private MethodMetricsPostProcessor postProcessor;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MethodMetricsProperties properties = new MethodMetricsProperties();
+    private final MethodTracingProperties tracingProperties = new MethodTracingProperties();
+
+    private SampleServiceImpl service;
+
+    @Test
+    void testMonoOutcomes() {
+        // Arrange
+        wrapService();
+
+        // Act & Assert
+        StepVerifier.create(service.findById(1L)).expectNext("1").verifyComplete();
+        StepVerifier.create(service.findById(2L)).expectNext("2").verifyComplete();
+        StepVerifier.create(service.findById(null)).verifyComplete();
+        StepVerifier.create(service.delete(1L)).verifyComplete();
+        StepVerifier.create(service.fail()).expectError(IllegalStateException.class).verify();
+        assertEquals(2L, timer("findById", MethodMetricsInterceptor.OUTCOME_FOUND).count());
+        assertEquals(1L, timer("findById", MethodMetricsInterceptor.OUTCOME_NOT_FOUND).count());
+        assertEquals(1L, timer("delete", MethodMetricsInterceptor.OUTCOME_FOUND).count());
+        assertEquals(1L, timer("fail", MethodMetricsInterceptor.OUTCOME_ERROR).count());
+        assertNull(meterRegistry.find(MethodMetricsPostProcessor.METRIC_INVOCATIONS)
+                .tags(MethodMetricsPostProcessor.TAG_METHOD, "delete",
+                        MethodMetricsPostProcessor.TAG_OUTCOME, MethodMetricsInterceptor.OUTCOME_NOT_FOUND)
+                .timer());
+    }
+
+    @Test
+    void testFluxIsTimedOnSubscriptionNotAssembly() {
+        // Arrange
+        wrapService();
+
+        // Act
+        Flux<Long> unsubscribed = service.findAll(3);
+
+        // Assert
+        assertNull(meterRegistry.find(MethodMetricsPostProcessor.METRIC_INVOCATIONS).timer());
+        StepVerifier.create(unsubscribed).expectNext(0L, 1L, 2L).verifyComplete();
+        StepVerifier.create(service.findAll(0)).verifyComplete();
+        assertEquals(1L, timer("findAll", MethodMetricsInterceptor.OUTCOME_FOUND).count());
+        assertEquals(1L, timer("findAll", MethodMetricsInterceptor.OUTCOME_NOT_FOUND).count());
+    }
+
+    @Test
+    void testSynchronousExceptionIsRecordedAsError() {
+        // Arrange
+        wrapService();
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> service.validate(null));
+        assertEquals(1L, timer("validate", MethodMetricsInterceptor.OUTCOME_ERROR).count());
+    }
+
+    @Test
+    void testDisabledLeavesBeanUnwrapped() {
+        // Arrange
+        properties.setEnabled(false);
+        tracingProperties.setMethodSpansEnabled(false);
+        when(tracingPropertiesProvider.getIfAvailable(any())).thenReturn(tracingProperties);
+        when(propertiesProvider.getIfAvailable(any())).thenReturn(properties);
+        SampleServiceImpl bean = new SampleServiceImpl();
+
+        // Act & Assert
+        assertSame(bean, postProcessor.postProcessAfterInitialization(bean, "sampleService"));
+        verifyNoInteractions(meterRegistryProvider, observationRegistryProvider);
+    }
+
+    @Test
+    void testBeansOutsideTheApplicationAreNotWrapped() {
+        // Arrange
+        Object bean = new StringBuilder();
+
+        // Act & Assert
+        assertSame(bean, postProcessor.postProcessAfterInitialization(bean, "builder"));
+        verifyNoInteractions(propertiesProvider, meterRegistryProvider, tracingPropertiesProvider);
+    }
+
+    @Test
+    void testReactiveCallIsObservedAsChildOfSubscriberObservation() {
+        // Arrange
+        List<Observation.Context> started = new ArrayList<>();
+        ObservationRegistry observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(new ObservationHandler<>() {
+            @Override
+            public void onStart(Observation.Context context) {
+                started.add(context);
+            }
+
+            @Override
+            public boolean supportsContext(Observation.Context context) {
+                return true;
+            }
+        });
+        when(observationRegistryProvider.getIfAvailable()).thenReturn(observationRegistry);
+        wrapService();
+        Observation request = Observation.start("http.server.requests", observationRegistry);
+
+        // Act & Assert: the wrapped publisher sees the method's observation in its context
+        StepVerifier.create(service.currentObservation()
+                        .contextWrite(context -> context.put(ObservationThreadLocalAccessor.KEY, request)))
+                .assertNext(current -> assertNotSame(request, current))
+                .verifyComplete();
+        request.stop();
+        assertEquals(2, started.size());
+        Observation.Context method = started.get(1);
+        assertEquals(MethodObservationInterceptor.OBSERVATION_NAME, method.getName());
+        assertEquals("SampleServiceImpl.currentObservation", method.getContextualName());
+        assertSame(request, method.getParentObservation());
+        assertEquals("sample", method.getLowCardinalityKeyValue(MethodMetricsPostProcessor.TAG_RESOURCE).getValue());
+        assertEquals(1L, timer("currentObservation", MethodMetricsInterceptor.OUTCOME_FOUND).count());
+    }
+
+    @Test
+    void testResourceName() {
+        // Act & Assert
+        assertEquals("sample", MethodMetricsPostProcessor.resourceName(SampleServiceImpl.class, "ServiceImpl"));
+        assertEquals("kyc_verification",
+                MethodMetricsPostProcessor.resourceName(KycVerificationRepository.class, "Repository"));
+        assertEquals("repository", MethodMetricsPostProcessor.resourceName(Repository.class, "Repository"));
+    }
+
+    private void wrapService() {
+        when(tracingPropertiesProvider.getIfAvailable(any())).thenReturn(tracingProperties);
+        when(propertiesProvider.getIfAvailable(any())).thenReturn(properties);
+        when(meterRegistryProvider.getIfAvailable()).thenReturn(meterRegistry);
+        Object wrapped = postProcessor.postProcessAfterInitialization(new SampleServiceImpl(), "sampleService");
+        assertTrue(AopUtils.isAopProxy(wrapped));
+        service = (SampleServiceImpl) wrapped;
+    }
+
+    private Timer timer(String method, String outcome) {
+        return meterRegistry.get(MethodMetricsPostProcessor.METRIC_INVOCATIONS)
+                .tags(MethodMetricsPostProcessor.TAG_LAYER, MethodMetricsPostProcessor.LAYER_SERVICE,
+                        MethodMetricsPostProcessor.TAG_RESOURCE, "sample",
+                        MethodMetricsPostProcessor.TAG_METHOD, method,
+                        MethodMetricsPostProcessor.TAG_OUTCOME, outcome)
+                .timer();
+    }
+
+    interface Repository {
+    }
+
+    interface KycVerificationRepository {
+    }
+
+    public static class SampleServiceImpl {
+
+        public Mono<String> findById(Long id) {
+            return Mono.justOrEmpty(id).map(String::valueOf);
+        }
+
+        public Flux<Long> findAll(int count) {
+            return Flux.range(0, count).map(Integer::longValue);
+        }
+
+        public Mono<Void> delete(Long id) {
+            return Mono.empty();
+        }
+
+        public Mono<Object> currentObservation() {
+            return Mono.deferContextual(context -> Mono.justOrEmpty(
+                    context.getOrEmpty(ObservationThreadLocalAccessor.KEY)));
+        }
+
+        public Mono<String> fail() {
+            return Mono.error(new IllegalStateException("failed"));
+        }
+
+        public String validate(String value) {
+            if (value == null) {
+                throw new IllegalArgumentException("value is required");
+            }
+            return value;
+        }
+    }
+}
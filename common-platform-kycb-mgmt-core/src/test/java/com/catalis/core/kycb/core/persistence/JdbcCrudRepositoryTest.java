@@ -0,0 +1,139 @@
+package com.catalis.core.kycb.core.persistence;
+
+import com.catalis.core.kycb.interfaces.enums.action.v1.ActionStatusEnum;
+import com.catalis.core.kycb.interfaces.enums.action.v1.ActionTypeEnum;
+import com.catalis.core.kycb.models.entities.compliance.v1.ComplianceAction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.mapping.R2dbcMappingContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.SqlParameterValue;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JdbcCrudRepositoryTest {
+
+    private RecordingJdbcTemplate jdbcTemplate;
+    private JdbcCrudRepository<ComplianceAction> repository;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new RecordingJdbcTemplate();
+        repository = new JdbcCrudRepository<>(
+                new R2dbcMappingContext().getRequiredPersistentEntity(ComplianceAction.class),
+                jdbcTemplate, Schedulers.immediate());
+    }
+
+    @Test
+    void testSaveInsertsNewEntityWithAuditDatesAndUntypedEnums() {
+        // Arrange
+        jdbcTemplate.result = 7L;
+        ComplianceAction action = ComplianceAction.builder()
+                .complianceCaseId(3L)
+                .actionType(ActionTypeEnum.values()[0])
+                .actionStatus(ActionStatusEnum.values()[0])
+                .build();
+
+        // Act & Assert
+        StepVerifier.create(repository.save(action))
+                .assertNext(saved -> {
+                    assertEquals(7L, saved.getComplianceActionId());
+                    assertNotNull(saved.getDateCreated());
+                    assertEquals(saved.getDateCreated(), saved.getDateUpdated());
+                })
+                .verifyComplete();
+        String sql = jdbcTemplate.statements.get(0);
+        assertTrue(sql.startsWith("INSERT INTO compliance_action ("));
+        assertTrue(sql.endsWith(") RETURNING compliance_action_id"));
+        assertFalse(sql.contains("compliance_action_id,"));
+        SqlParameterValue actionType = Arrays.stream(jdbcTemplate.arguments.get(0))
+                .filter(SqlParameterValue.class::isInstance)
+                .map(SqlParameterValue.class::cast)
+                .filter(value -> ActionTypeEnum.values()[0].name().equals(value.getValue()))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(Types.OTHER, actionType.getSqlType());
+    }
+
+    @Test
+    void testSaveUpdatesExistingEntityAndFailsWhenRowIsMissing() {
+        // Arrange
+        ComplianceAction action = ComplianceAction.builder().complianceActionId(9L).result("done").build();
+
+        // Act & Assert
+        StepVerifier.create(repository.save(action))
+                .expectError(TransientDataAccessResourceException.class)
+                .verify();
+        String sql = jdbcTemplate.statements.get(0);
+        assertTrue(sql.startsWith("UPDATE compliance_action SET "));
+        assertTrue(sql.endsWith(" WHERE compliance_action_id = ?"));
+        Object[] arguments = jdbcTemplate.arguments.get(0);
+        assertEquals(9L, arguments[arguments.length - 1]);
+        assertNull(action.getDateCreated());
+        assertNotNull(action.getDateUpdated());
+    }
+
+    @Test
+    void testFindAllByPageableMapsSortToColumns() {
+        // Act & Assert
+        StepVerifier.create(repository.findAllBy(PageRequest.of(2, 20, Sort.by(Sort.Direction.DESC, "dueDate"))))
+                .verifyComplete();
+        assertTrue(jdbcTemplate.statements.get(0).endsWith(" FROM compliance_action ORDER BY due_date DESC "
+                + "LIMIT 20 OFFSET 40"));
+    }
+
+    @Test
+    void testFindAllByIdBindsTypedArray() {
+        // Act & Assert
+        StepVerifier.create(repository.findAllById(List.of(1L, 2L))).verifyComplete();
+        assertTrue(jdbcTemplate.statements.get(0).endsWith(" WHERE compliance_action_id = ANY(?)"));
+        assertArrayEquals(new Long[]{1L, 2L}, (Long[]) jdbcTemplate.arguments.get(0)[0]);
+        StepVerifier.create(repository.findAllById(List.of())).verifyComplete();
+        assertEquals(1, jdbcTemplate.statements.size());
+    }
+
+    /**
+     * Records statements instead of running them; updates match no row and queries return no rows.
+     */
+    private static class RecordingJdbcTemplate extends JdbcTemplate {
+
+        private final List<String> statements = new ArrayList<>();
+        private final List<Object[]> arguments = new ArrayList<>();
+        private Object result;
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T queryForObject(String sql, Class<T> requiredType, Object... args) {
+            record(sql, args);
+            return (T) result;
+        }
+
+        @Override
+        public int update(String sql, Object... args) {
+            record(sql, args);
+            return 0;
+        }
+
+        @Override
+        public <T> List<T> query(String sql, RowMapper<T> rowMapper, Object... args) {
+            record(sql, args);
+            return List.of();
+        }
+
+        private void record(String sql, Object[] args) {
+            statements.add(sql);
+            arguments.add(args);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.catalis.core.kycb.core.persistence;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class OnlineMigrationRunnerTest {
+
+    private static final String NAME = "aml_match_score";
+
+    @Mock
+    private DatabaseClient databaseClient;
+
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
+    @Spy
+    private OnlineMigrationProperties properties = new OnlineMigrationProperties();
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private OnlineMigrationRunner onlineMigrationRunner;
+
+    // Stubs the database steps and leaves the phase logic real
+    private OnlineMigrationRunner runner;
+
+    private final OnlineMigrationProperties.Migration migration = migration();
+
+    @BeforeEach
+    void setUp() {
+        properties.setChunkDelay(Duration.ZERO);
+        runner = spy(onlineMigrationRunner);
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        doReturn(Mono.empty()).when(runner).execute(anyList());
+    }
+
+    @Test
+    void testRunResumesBackfillFromLastKey() {
+        // Arrange
+        doReturn(Mono.just(state(OnlineMigrationStatusEnum.PREPARED, 2_000, 3_000)),
+                Mono.just(state(OnlineMigrationStatusEnum.BACKFILLED, 3_000, 3_000)))
+                .when(runner).state(NAME);
+        doReturn(Mono.just(3_000L)).when(runner).backfillChunk(eq(NAME), any(), eq(2_000L), eq(3_000L), any());
+        doReturn(Mono.just(0L)).when(runner).countMismatches(any());
+        doReturn(Mono.just(1L)).when(runner)
+                .updateStatus(NAME, OnlineMigrationStatusEnum.PREPARED, OnlineMigrationStatusEnum.BACKFILLED);
+
+        // Act & Assert
+        StepVerifier.create(runner.run(migration))
+                .expectNext(OnlineMigrationStatusEnum.BACKFILLED)
+                .verifyComplete();
+
+        verify(runner, times(1)).backfillChunk(eq(NAME), any(), anyLong(), anyLong(), any());
+        verify(runner, never()).recordPrepared(any(), any());
+    }
+
+    @Test
+    void testRunStopsWhenVerificationFindsMismatches() {
+        // Arrange
+        doReturn(Mono.just(state(OnlineMigrationStatusEnum.PREPARED, 3_000, 3_000))).when(runner).state(NAME);
+        doReturn(Mono.just(3L)).when(runner).countMismatches(any());
+
+        // Act & Assert
+        StepVerifier.create(runner.run(migration))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        verify(runner, never()).updateStatus(any(), any(), any());
+    }
+
+    @Test
+    void testRunRetriesCutoverThatCannotGetItsLock() {
+        // Arrange
+        properties.setAutoCutover(true);
+        List<String> cutover = new OnlineMigrationStatements(migration).cutover();
+        doReturn(Mono.just(state(OnlineMigrationStatusEnum.BACKFILLED, 3_000, 3_000)),
+                Mono.just(state(OnlineMigrationStatusEnum.COMPLETED, 3_000, 3_000)))
+                .when(runner).state(NAME);
+        doReturn(Mono.just(1L)).when(runner)
+                .updateStatus(NAME, OnlineMigrationStatusEnum.BACKFILLED, OnlineMigrationStatusEnum.COMPLETED);
+        doReturn(Mono.error(new CannotAcquireLockException("lock timeout")), Mono.empty())
+                .when(runner).execute(cutover);
+
+        // Act & Assert
+        StepVerifier.withVirtualTime(() -> runner.run(migration))
+                .thenAwait(Duration.ofSeconds(10))
+                .expectNext(OnlineMigrationStatusEnum.COMPLETED)
+                .verifyComplete();
+
+        verify(runner, times(2)).execute(cutover);
+    }
+
+    @Test
+    void testCutoverSkippedWhenAnotherNodeCompletedIt() {
+        // Arrange
+        properties.setAutoCutover(true);
+        doReturn(Mono.just(state(OnlineMigrationStatusEnum.BACKFILLED, 3_000, 3_000)),
+                Mono.just(state(OnlineMigrationStatusEnum.COMPLETED, 3_000, 3_000)))
+                .when(runner).state(NAME);
+        doReturn(Mono.just(0L)).when(runner)
+                .updateStatus(NAME, OnlineMigrationStatusEnum.BACKFILLED, OnlineMigrationStatusEnum.COMPLETED);
+
+        // Act & Assert
+        StepVerifier.create(runner.run(migration))
+                .expectNext(OnlineMigrationStatusEnum.COMPLETED)
+                .verifyComplete();
+
+        verify(runner, never()).execute(new OnlineMigrationStatements(migration).cutover());
+    }
+
+    private static OnlineMigrationRunner.State state(OnlineMigrationStatusEnum status, long lastKey, long maxKey) {
+        return new OnlineMigrationRunner.State(status, lastKey, maxKey);
+    }
+
+    private static OnlineMigrationProperties.Migration migration() {
+        OnlineMigrationProperties.Migration migration = new OnlineMigrationProperties.Migration();
+        migration.setName(NAME);
+        migration.setTable("aml_match");
+        migration.setKeyColumn("aml_match_id");
+        migration.setColumn("match_score");
+        migration.setType("NUMERIC(5,2)");
+        migration.setExpression("round(match_score, 2)");
+        migration.setNotNull(true);
+        return migration;
+    }
+}
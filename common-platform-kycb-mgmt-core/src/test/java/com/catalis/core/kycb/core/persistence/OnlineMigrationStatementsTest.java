@@ -0,0 +1,75 @@
+package com.catalis.core.kycb.core.persistence;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OnlineMigrationStatementsTest {
+
+    @Test
+    void testPrepareAddsShadowColumnAndTrigger() {
+        // Arrange
+        OnlineMigrationStatements statements = new OnlineMigrationStatements(migration(false));
+
+        // Act
+        List<String> prepare = statements.prepare();
+
+        // Assert
+        assertEquals("ALTER TABLE aml_match ADD COLUMN IF NOT EXISTS match_score_online NUMERIC(5,2)",
+                prepare.get(0));
+        assertTrue(prepare.get(1).contains("NEW.match_score_online = (SELECT (round(match_score, 2)) "
+                + "FROM (SELECT (NEW).*) AS new_row)"));
+        assertEquals("CREATE TRIGGER online_migration_aml_match_score BEFORE INSERT OR UPDATE ON aml_match "
+                + "FOR EACH ROW EXECUTE FUNCTION online_migration_aml_match_score()", prepare.get(3));
+        assertEquals("UPDATE aml_match SET match_score_online = (round(match_score, 2)) "
+                + "WHERE aml_match_id > :from AND aml_match_id <= :to", statements.backfillChunk());
+        assertEquals("SET LOCAL lock_timeout = '2000ms'", OnlineMigrationStatements.lockTimeout(Duration.ofSeconds(2)));
+    }
+
+    @Test
+    void testCutoverSwapsColumnsAndSetsNotNullFromValidatedCheck() {
+        // Arrange
+        OnlineMigrationStatements statements = new OnlineMigrationStatements(migration(true));
+
+        // Act
+        List<String> cutover = statements.cutover();
+
+        // Assert
+        assertTrue(statements.addNotNull().get(0).endsWith("CHECK (match_score_online IS NOT NULL) NOT VALID"));
+        assertEquals(List.of("ALTER TABLE aml_match VALIDATE CONSTRAINT online_migration_aml_match_score_not_null"),
+                statements.validateNotNull());
+        assertEquals(List.of(
+                "DROP TRIGGER IF EXISTS online_migration_aml_match_score ON aml_match",
+                "DROP FUNCTION IF EXISTS online_migration_aml_match_score()",
+                "ALTER TABLE aml_match ALTER COLUMN match_score_online SET NOT NULL",
+                "ALTER TABLE aml_match DROP CONSTRAINT IF EXISTS online_migration_aml_match_score_not_null",
+                "ALTER TABLE aml_match DROP COLUMN match_score",
+                "ALTER TABLE aml_match RENAME COLUMN match_score_online TO match_score"), cutover);
+        assertTrue(new OnlineMigrationStatements(migration(false)).addNotNull().isEmpty());
+    }
+
+    @Test
+    void testRejectsInvalidIdentifiers() {
+        // Arrange
+        OnlineMigrationProperties.Migration migration = migration(false);
+        migration.setTable("aml_match; DROP TABLE aml_screening");
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new OnlineMigrationStatements(migration));
+    }
+
+    private static OnlineMigrationProperties.Migration migration(boolean notNull) {
+        OnlineMigrationProperties.Migration migration = new OnlineMigrationProperties.Migration();
+        migration.setName("aml_match_score");
+        migration.setTable("aml_match");
+        migration.setKeyColumn("aml_match_id");
+        migration.setColumn("match_score");
+        migration.setType("NUMERIC(5,2)");
+        migration.setExpression("round(match_score, 2)");
+        migration.setNotNull(notNull);
+        return migration;
+    }
+}
@@ -0,0 +1,71 @@
+package com.catalis.core.kycb.core.persistence;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PartitionMaintenanceTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 10, 19);
+
+    @Test
+    void testUpperBoundIsParsedFromPartitionBound() {
+        // Act & Assert
+        assertEquals(LocalDateTime.of(2026, 11, 1, 0, 0),
+                PartitionMaintenance.upperBound("FOR VALUES FROM (MINVALUE) TO ('2026-11-01 00:00:00')"));
+        assertEquals(LocalDateTime.of(2027, 1, 1, 0, 0),
+                PartitionMaintenance.upperBound("FOR VALUES FROM ('2026-12-01 00:00:00') TO ('2027-01-01 00:00:00')"));
+        assertNull(PartitionMaintenance.upperBound("FOR VALUES FROM ('2026-12-01 00:00:00') TO (MAXVALUE)"));
+    }
+
+    @Test
+    void testMonthsToCreateFillFromNewestPartitionToMonthsAhead() {
+        // Arrange
+        List<PartitionMaintenance.Partition> partitions = List.of(
+                partition("aml_screening_history", LocalDateTime.of(2026, 9, 1, 0, 0)),
+                partition("aml_screening_p2026_09", LocalDateTime.of(2026, 10, 1, 0, 0)));
+
+        // Act
+        List<LocalDate> months = PartitionMaintenance.monthsToCreate(partitions, TODAY, 3);
+
+        // Assert
+        assertEquals(List.of(
+                LocalDate.of(2026, 10, 1),
+                LocalDate.of(2026, 11, 1),
+                LocalDate.of(2026, 12, 1),
+                LocalDate.of(2027, 1, 1)), months);
+    }
+
+    @Test
+    void testMonthsToCreateSkipsCoveredAndUnpartitionedTables() {
+        // Arrange
+        List<PartitionMaintenance.Partition> partitions = List.of(
+                partition("aml_match_p2027_01", LocalDateTime.of(2027, 2, 1, 0, 0)));
+
+        // Act & Assert
+        assertTrue(PartitionMaintenance.monthsToCreate(partitions, TODAY, 3).isEmpty());
+        assertTrue(PartitionMaintenance.monthsToCreate(List.of(), TODAY, 3).isEmpty());
+    }
+
+    @Test
+    void testPartitionsToArchiveEndBeforeRetainedMonths() {
+        // Arrange
+        PartitionMaintenance.Partition history = partition("aml_match_history", LocalDateTime.of(2024, 10, 1, 0, 0));
+        PartitionMaintenance.Partition retained = partition("aml_match_p2024_10", LocalDateTime.of(2024, 11, 1, 0, 0));
+
+        // Act
+        List<PartitionMaintenance.Partition> archived =
+                PartitionMaintenance.partitionsToArchive(List.of(history, retained), TODAY, 24);
+
+        // Assert
+        assertEquals(List.of(history), archived);
+    }
+
+    private static PartitionMaintenance.Partition partition(String name, LocalDateTime upperBound) {
+        return new PartitionMaintenance.Partition(name, upperBound);
+    }
+}
@@ -0,0 +1,55 @@
+package com.catalis.core.kycb.core.persistence;
+
+import org.flywaydb.core.api.MigrationVersion;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.env.Environment;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class SchemaVersionCheckTest {
+
+    @Mock
+    private DatabaseClient databaseClient;
+
+    @Mock
+    private Environment environment;
+
+    @Spy
+    private MigrationProperties properties = new MigrationProperties();
+
+    @InjectMocks
+    private SchemaVersionCheck schemaVersionCheck;
+
+    @Test
+    void testLatestVersionComparesVersionsNumerically() {
+        // Act
+        MigrationVersion latest = SchemaVersionCheck.latestVersion(List.of(
+                "V9__Add_Review_Claim_Columns.sql",
+                "V17__Create_Transaction_Check_Indexes.sql",
+                "V10_1__Patch.sql",
+                "R__Refresh_Views.sql"));
+
+        // Assert
+        assertEquals(MigrationVersion.fromVersion("17"), latest);
+        assertEquals(MigrationVersion.EMPTY, SchemaVersionCheck.latestVersion(List.of()));
+    }
+
+    @Test
+    void testSkippedWhenMigrationsAreAppliedOnStartup() {
+        // Act
+        schemaVersionCheck.verify();
+
+        // Assert
+        verifyNoInteractions(databaseClient, environment);
+    }
+}
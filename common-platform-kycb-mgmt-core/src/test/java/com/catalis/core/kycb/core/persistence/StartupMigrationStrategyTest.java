@@ -0,0 +1,46 @@
+package com.catalis.core.kycb.core.persistence;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class StartupMigrationStrategyTest {
+
+    @Mock
+    private Flyway flyway;
+
+    @Spy
+    private MigrationProperties properties = new MigrationProperties();
+
+    @InjectMocks
+    private StartupMigrationStrategy startupMigrationStrategy;
+
+    @Test
+    void testMigratesOnStartupByDefault() {
+        // Act
+        startupMigrationStrategy.migrate(flyway);
+
+        // Assert
+        verify(flyway).migrate();
+    }
+
+    @Test
+    void testLeavesMigrationsToTheMigrateCommand() {
+        // Arrange
+        properties.setApplyOnStartup(false);
+
+        // Act
+        startupMigrationStrategy.migrate(flyway);
+
+        // Assert
+        verifyNoInteractions(flyway);
+    }
+}
@@ -3,21 +3,33 @@ package com.catalis.core.kycb.core.services.aml.v1;
 import com.catalis.common.core.filters.FilterRequest;
 import com.catalis.common.core.filters.FilterUtils;
 import com.catalis.common.core.queries.PaginationResponse;
+import com.catalis.core.kycb.core.events.party.v1.PartyDataChangedEvent;
+import com.catalis.core.kycb.core.events.party.v1.PartyDataTypeEnum;
 import com.catalis.core.kycb.core.mappers.aml.v1.AmlMatchMapper;
+import com.catalis.core.kycb.core.metrics.BusinessMetrics;
 import com.catalis.core.kycb.interfaces.dtos.aml.v1.AmlMatchDTO;
+import com.catalis.core.kycb.interfaces.enums.aml.v1.ListTypeEnum;
+import com.catalis.core.kycb.interfaces.enums.resolution.v1.ResolutionStatusEnum;
 import com.catalis.core.kycb.models.entities.aml.v1.AmlMatch;
+import com.catalis.core.kycb.models.entities.aml.v1.AmlScreening;
 import com.catalis.core.kycb.models.repositories.aml.v1.AmlMatchRepository;
+import com.catalis.core.kycb.models.repositories.aml.v1.AmlScreeningRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.time.LocalDateTime;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -33,6 +45,15 @@ public class AmlMatchServiceImplTest {
     @Mock
     private FilterUtils filterUtils;
 
+    @Mock
+    private AmlScreeningRepository amlScreeningRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private AmlMatchServiceImpl amlMatchService;
 
@@ -66,6 +87,32 @@ public class AmlMatchServiceImplTest {
         verify(mapper).toEntity(amlMatchDTO);
         verify(repository).save(amlMatch);
         verify(mapper).toDTO(amlMatch);
+        verifyNoInteractions(amlScreeningRepository, eventPublisher);
+        assertEquals(0, meterRegistry.find(BusinessMetrics.MATCHES_RESOLVED).counters().size());
+    }
+
+    @Test
+    void testCreateConfirmedPepMatchPublishesPartyChange() {
+        // Arrange
+        AmlScreening screening = new AmlScreening();
+        screening.setAmlScreeningId(2L);
+        screening.setPartyId(3L);
+        amlMatch.setAmlScreeningId(2L);
+        amlMatch.setListType(ListTypeEnum.PEP);
+        amlMatch.setResolutionStatus(ResolutionStatusEnum.CONFIRMED_HIT);
+        when(mapper.toEntity(any(AmlMatchDTO.class))).thenReturn(amlMatch);
+        when(repository.save(any(AmlMatch.class))).thenReturn(Mono.just(amlMatch));
+        when(amlScreeningRepository.findById(2L)).thenReturn(Mono.just(screening));
+        when(mapper.toDTO(any(AmlMatch.class))).thenReturn(amlMatchDTO);
+
+        // Act & Assert
+        StepVerifier.create(amlMatchService.create(amlMatchDTO))
+                .expectNext(amlMatchDTO)
+                .verifyComplete();
+
+        verify(eventPublisher).publishEvent(new PartyDataChangedEvent(3L, PartyDataTypeEnum.AML_MATCH));
+        assertEquals(1.0, meterRegistry.counter(BusinessMetrics.MATCHES_RESOLVED,
+                BusinessMetrics.TAG_RESOLUTION, "CONFIRMED_HIT").count());
     }
 
     @Test
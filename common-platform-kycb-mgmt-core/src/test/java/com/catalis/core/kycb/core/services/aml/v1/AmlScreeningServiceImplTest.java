@@ -3,21 +3,31 @@ package com.catalis.core.kycb.core.services.aml.v1;
 import com.catalis.common.core.filters.FilterRequest;
 import com.catalis.common.core.filters.FilterUtils;
 import com.catalis.common.core.queries.PaginationResponse;
+import com.catalis.core.kycb.core.events.party.v1.PartyDataChangedEvent;
+import com.catalis.core.kycb.core.events.party.v1.PartyDataTypeEnum;
 import com.catalis.core.kycb.core.mappers.aml.v1.AmlScreeningMapper;
+import com.catalis.core.kycb.core.metrics.BusinessMetrics;
 import com.catalis.core.kycb.interfaces.dtos.aml.v1.AmlScreeningDTO;
+import com.catalis.core.kycb.interfaces.enums.screening.v1.ScreeningResultEnum;
 import com.catalis.core.kycb.models.entities.aml.v1.AmlScreening;
 import com.catalis.core.kycb.models.repositories.aml.v1.AmlScreeningRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.time.LocalDateTime;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -33,18 +43,26 @@ public class AmlScreeningServiceImplTest {
     @Mock
     private FilterUtils filterUtils;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private AmlScreeningServiceImpl amlScreeningService;
 
     private AmlScreeningDTO amlScreeningDTO;
     private AmlScreening amlScreening;
     private final Long AML_SCREENING_ID = 1L;
+    private final Long PARTY_ID = 100L;
 
     @BeforeEach
     void setUp() {
         // Initialize test data
         amlScreeningDTO = new AmlScreeningDTO();
         amlScreeningDTO.setAmlScreeningId(AML_SCREENING_ID);
+        amlScreeningDTO.setPartyId(PARTY_ID);
         
         amlScreening = new AmlScreening();
         amlScreening.setAmlScreeningId(AML_SCREENING_ID);
@@ -54,6 +72,7 @@ public class AmlScreeningServiceImplTest {
     @Test
     void testCreate() {
         // Arrange
+        amlScreening.setScreeningResult(ScreeningResultEnum.CLEAR);
         when(mapper.toEntity(any(AmlScreeningDTO.class))).thenReturn(amlScreening);
         when(repository.save(any(AmlScreening.class))).thenReturn(Mono.just(amlScreening));
         when(mapper.toDTO(any(AmlScreening.class))).thenReturn(amlScreeningDTO);
@@ -66,6 +85,11 @@ public class AmlScreeningServiceImplTest {
         verify(mapper).toEntity(amlScreeningDTO);
         verify(repository).save(amlScreening);
         verify(mapper).toDTO(amlScreening);
+        verify(eventPublisher).publishEvent(
+                new PartyDataChangedEvent(amlScreeningDTO.getPartyId(), PartyDataTypeEnum.AML_SCREENING));
+        assertNotNull(amlScreening.getScreeningDate());
+        assertEquals(1.0, meterRegistry.counter(BusinessMetrics.SCREENINGS_CREATED,
+                BusinessMetrics.TAG_RESULT, "CLEAR").count());
     }
 
     @Test
@@ -105,6 +129,7 @@ public class AmlScreeningServiceImplTest {
     @Test
     void testDelete() {
         // Arrange
+        when(repository.findById(AML_SCREENING_ID)).thenReturn(Mono.just(amlScreening));
         when(repository.deleteById(AML_SCREENING_ID)).thenReturn(Mono.empty());
 
         // Act & Assert
@@ -112,5 +137,7 @@ public class AmlScreeningServiceImplTest {
                 .verifyComplete();
 
         verify(repository).deleteById(AML_SCREENING_ID);
+        verify(eventPublisher).publishEvent(
+                new PartyDataChangedEvent(amlScreening.getPartyId(), PartyDataTypeEnum.AML_SCREENING));
     }
 }
\ No newline at end of file
@@ -3,6 +3,8 @@ package com.catalis.core.kycb.core.services.business.v1;
 import com.catalis.common.core.filters.FilterRequest;
 import com.catalis.common.core.filters.FilterUtils;
 import com.catalis.common.core.queries.PaginationResponse;
+import com.catalis.core.kycb.core.events.party.v1.PartyDataChangedEvent;
+import com.catalis.core.kycb.core.events.party.v1.PartyDataTypeEnum;
 import com.catalis.core.kycb.core.mappers.business.v1.BusinessProfileMapper;
 import com.catalis.core.kycb.interfaces.dtos.business.v1.BusinessProfileDTO;
 import com.catalis.core.kycb.models.entities.business.v1.BusinessProfile;
@@ -13,6 +15,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -33,6 +36,9 @@ public class BusinessProfileServiceImplTest {
     @Mock
     private FilterUtils filterUtils;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private BusinessProfileServiceImpl businessProfileService;
 
@@ -69,6 +75,7 @@ public class BusinessProfileServiceImplTest {
         verify(mapper).toEntity(businessProfileDTO);
         verify(repository).save(businessProfile);
         verify(mapper).toDTO(businessProfile);
+        verify(eventPublisher).publishEvent(new PartyDataChangedEvent(PARTY_ID, PartyDataTypeEnum.BUSINESS_PROFILE));
     }
 
     @Test
@@ -128,6 +135,7 @@ public class BusinessProfileServiceImplTest {
     @Test
     void testDelete() {
         // Arrange
+        when(repository.findById(BUSINESS_PROFILE_ID)).thenReturn(Mono.just(businessProfile));
         when(repository.deleteById(BUSINESS_PROFILE_ID)).thenReturn(Mono.empty());
 
         // Act & Assert
@@ -135,5 +143,6 @@ public class BusinessProfileServiceImplTest {
                 .verifyComplete();
 
         verify(repository).deleteById(BUSINESS_PROFILE_ID);
+        verify(eventPublisher).publishEvent(new PartyDataChangedEvent(PARTY_ID, PartyDataTypeEnum.BUSINESS_PROFILE));
     }
 }
\ No newline at end of file
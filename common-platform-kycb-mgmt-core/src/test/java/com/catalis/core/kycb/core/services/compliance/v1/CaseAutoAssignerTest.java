@@ -0,0 +1,100 @@
+package com.catalis.core.kycb.core.services.compliance.v1;
+
+import com.catalis.core.kycb.interfaces.enums.compliance.v1.CasePriorityEnum;
+import com.catalis.core.kycb.interfaces.enums.compliance.v1.CaseStatusEnum;
+import com.catalis.core.kycb.interfaces.enums.compliance.v1.CaseTypeEnum;
+import com.catalis.core.kycb.models.entities.compliance.v1.ComplianceCase;
+import com.catalis.core.kycb.models.repositories.compliance.v1.ComplianceCaseRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CaseAutoAssignerTest {
+
+    @Mock
+    private ComplianceCaseRepository repository;
+
+    @Mock
+    private CaseWorkloadIndex workloadIndex;
+
+    @Spy
+    private CaseAssignmentProperties properties = new CaseAssignmentProperties();
+
+    @InjectMocks
+    private CaseAutoAssigner caseAutoAssigner;
+
+    private static ComplianceCase complianceCase(Long caseId, CaseStatusEnum status, String assignedTo) {
+        ComplianceCase complianceCase = new ComplianceCase();
+        complianceCase.setComplianceCaseId(caseId);
+        complianceCase.setCaseType(CaseTypeEnum.AML_ALERT);
+        complianceCase.setCasePriority(CasePriorityEnum.HIGH);
+        complianceCase.setCaseStatus(status);
+        complianceCase.setAssignedTo(assignedTo);
+        return complianceCase;
+    }
+
+    @Test
+    void testAssignAllReservesOpenUnassignedCasesAndReleasesLostOnes() {
+        // Arrange
+        List<ComplianceCase> cases = List.of(
+                complianceCase(1L, CaseStatusEnum.OPEN, null),
+                complianceCase(2L, CaseStatusEnum.OPEN, "analyst-9"),
+                complianceCase(3L, CaseStatusEnum.OPEN, null)
+        );
+        when(workloadIndex.reserve(CaseTypeEnum.AML_ALERT, CasePriorityEnum.HIGH))
+                .thenReturn("analyst-1", "analyst-2");
+        // Case 3 was claimed from the queue in the meantime
+        when(repository.assignAllIfUnassigned(any(), any(), any()))
+                .thenReturn(Flux.just(complianceCase(1L, CaseStatusEnum.OPEN, "analyst-1")));
+
+        // Act & Assert
+        StepVerifier.create(caseAutoAssigner.assignAll(cases))
+                .expectNext(1L)
+                .verifyComplete();
+
+        verify(repository).assignAllIfUnassigned(aryEq(new Long[]{1L, 3L}),
+                aryEq(new String[]{"analyst-1", "analyst-2"}), any());
+        verify(workloadIndex).release("analyst-2");
+        verify(workloadIndex, never()).release("analyst-1");
+    }
+
+    @Test
+    void testAssignAllReleasesReservationsWhenUpdateFails() {
+        // Arrange
+        when(workloadIndex.reserve(CaseTypeEnum.AML_ALERT, CasePriorityEnum.HIGH)).thenReturn("analyst-1");
+        when(repository.assignAllIfUnassigned(any(), any(), any()))
+                .thenReturn(Flux.error(new IllegalStateException("connection lost")));
+
+        // Act & Assert
+        StepVerifier.create(caseAutoAssigner.assignAll(List.of(complianceCase(1L, CaseStatusEnum.OPEN, null))))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        verify(workloadIndex).release("analyst-1");
+    }
+
+    @Test
+    void testAssignAllDisabled() {
+        // Arrange
+        properties.setAutoAssign(false);
+
+        // Act & Assert
+        StepVerifier.create(caseAutoAssigner.assignAll(List.of(complianceCase(1L, CaseStatusEnum.OPEN, null))))
+                .expectNext(0L)
+                .verifyComplete();
+
+        verifyNoInteractions(workloadIndex, repository);
+    }
+}
@@ -0,0 +1,140 @@
+package com.catalis.core.kycb.core.services.compliance.v1;
+
+import com.catalis.core.kycb.core.events.compliance.v1.ComplianceCaseAssignmentChangedEvent;
+import com.catalis.core.kycb.core.mappers.compliance.v1.ComplianceCaseMapper;
+import com.catalis.core.kycb.interfaces.dtos.compliance.v1.ComplianceCaseDTO;
+import com.catalis.core.kycb.interfaces.enums.compliance.v1.CasePriorityEnum;
+import com.catalis.core.kycb.models.entities.compliance.v1.ComplianceCase;
+import com.catalis.core.kycb.models.repositories.compliance.v1.CaseQueueDepth;
+import com.catalis.core.kycb.models.repositories.compliance.v1.ComplianceCaseRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CaseQueueServiceImplTest {
+
+    @Mock
+    private ComplianceCaseRepository repository;
+
+    @Mock
+    private ComplianceCaseMapper mapper;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private CaseQueueProperties properties = new CaseQueueProperties();
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private CaseQueueServiceImpl caseQueueService;
+
+    private final String ANALYST = "analyst-1";
+
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        now = LocalDateTime.now();
+    }
+
+    private ComplianceCase complianceCase(Long caseId, CasePriorityEnum priority, LocalDateTime dueDate) {
+        ComplianceCase complianceCase = new ComplianceCase();
+        complianceCase.setComplianceCaseId(caseId);
+        complianceCase.setCasePriority(priority);
+        complianceCase.setDueDate(dueDate);
+        complianceCase.setAssignedTo(ANALYST);
+        return complianceCase;
+    }
+
+    private void stubMapper() {
+        when(mapper.toDTO(any(ComplianceCase.class))).thenAnswer(invocation -> {
+            ComplianceCase entity = invocation.getArgument(0);
+            ComplianceCaseDTO dto = new ComplianceCaseDTO();
+            dto.setComplianceCaseId(entity.getComplianceCaseId());
+            dto.setAssignedTo(entity.getAssignedTo());
+            return dto;
+        });
+    }
+
+    @Test
+    void testClaimReturnsClaimedCasesInQueueOrder() {
+        // Arrange
+        stubMapper();
+        when(repository.claimQueueHead(eq(ANALYST), any(LocalDateTime.class), eq(4))).thenReturn(Flux.just(
+                complianceCase(1L, CasePriorityEnum.MEDIUM, now.plusDays(1)),
+                complianceCase(2L, null, now),
+                complianceCase(3L, CasePriorityEnum.CRITICAL, null),
+                complianceCase(4L, CasePriorityEnum.CRITICAL, now.plusDays(2))
+        ));
+
+        // Act & Assert
+        StepVerifier.create(caseQueueService.claim(ANALYST, 4).map(ComplianceCaseDTO::getComplianceCaseId))
+                .expectNext(4L, 3L, 1L, 2L)
+                .verifyComplete();
+
+        assertEquals(4.0, meterRegistry.counter(CaseQueueServiceImpl.METRIC_CLAIMED).count());
+        verify(eventPublisher).publishEvent(new ComplianceCaseAssignmentChangedEvent(3L, null, true, ANALYST, true));
+        verify(eventPublisher, times(4)).publishEvent(any(ComplianceCaseAssignmentChangedEvent.class));
+    }
+
+    @Test
+    void testClaimCapsLimit() {
+        // Arrange
+        properties.setMaxClaimSize(10);
+        when(repository.claimQueueHead(anyString(), any(LocalDateTime.class), anyInt())).thenReturn(Flux.empty());
+
+        // Act & Assert
+        StepVerifier.create(caseQueueService.claim(ANALYST, 1000))
+                .verifyComplete();
+        StepVerifier.create(caseQueueService.claim(ANALYST, 0))
+                .verifyComplete();
+
+        verify(repository).claimQueueHead(eq(ANALYST), any(LocalDateTime.class), eq(10));
+        verify(repository).claimQueueHead(eq(ANALYST), any(LocalDateTime.class), eq(1));
+    }
+
+    @Test
+    void testClaimRequiresAnalyst() {
+        // Act & Assert
+        StepVerifier.create(caseQueueService.claim(" ", 5))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void testDepthOrdersByPriority() {
+        // Arrange
+        when(repository.countQueueDepthByPriority()).thenReturn(Flux.just(
+                new CaseQueueDepth("LOW", 7L),
+                new CaseQueueDepth(null, 2L),
+                new CaseQueueDepth("CRITICAL", 1L),
+                new CaseQueueDepth("HIGH", 3L)
+        ));
+
+        // Act & Assert
+        StepVerifier.create(caseQueueService.depth().map(depth -> depth.getCasePriority() + "=" + depth.getDepth()))
+                .expectNext("CRITICAL=1", "HIGH=3", "LOW=7", "NONE=2")
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,123 @@
+package com.catalis.core.kycb.core.services.compliance.v1;
+
+import com.catalis.core.kycb.core.events.compliance.v1.ComplianceCaseAssignmentChangedEvent;
+import com.catalis.core.kycb.interfaces.dtos.compliance.v1.AnalystWorkloadDTO;
+import com.catalis.core.kycb.interfaces.enums.compliance.v1.CasePriorityEnum;
+import com.catalis.core.kycb.interfaces.enums.compliance.v1.CaseTypeEnum;
+import com.catalis.core.kycb.models.repositories.compliance.v1.ComplianceCaseRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CaseWorkloadIndexTest {
+
+    @Mock
+    private ComplianceCaseRepository repository;
+
+    @Spy
+    private CaseAssignmentProperties properties = new CaseAssignmentProperties();
+
+    @InjectMocks
+    private CaseWorkloadIndex workloadIndex;
+
+    @BeforeEach
+    void setUp() {
+        properties.setAnalysts(List.of(
+                analyst("generalist", EnumSet.noneOf(CaseTypeEnum.class), EnumSet.noneOf(CasePriorityEnum.class), 0),
+                analyst("aml-senior", EnumSet.of(CaseTypeEnum.AML_ALERT, CaseTypeEnum.SUSPICIOUS_ACTIVITY),
+                        EnumSet.of(CasePriorityEnum.HIGH, CasePriorityEnum.CRITICAL), 2),
+                analyst("aml-junior", EnumSet.of(CaseTypeEnum.AML_ALERT),
+                        EnumSet.noneOf(CasePriorityEnum.class), 0)
+        ));
+    }
+
+    private static CaseAssignmentProperties.Analyst analyst(String id, EnumSet<CaseTypeEnum> caseTypes,
+                                                            EnumSet<CasePriorityEnum> priorities, int maxOpenCases) {
+        CaseAssignmentProperties.Analyst analyst = new CaseAssignmentProperties.Analyst();
+        analyst.setId(id);
+        analyst.setCaseTypes(caseTypes);
+        analyst.setPriorities(priorities);
+        analyst.setMaxOpenCases(maxOpenCases);
+        return analyst;
+    }
+
+    private Integer openCases(String analyst) {
+        return workloadIndex.snapshot().stream()
+                .filter(workload -> workload.getAnalyst().equals(analyst))
+                .map(AnalystWorkloadDTO::getOpenCases)
+                .findFirst()
+                .orElse(0);
+    }
+
+    @Test
+    void testReserveWaitsForFirstRebuild() {
+        // Arrange
+        workloadIndex.loadRoster();
+
+        // Act & Assert
+        assertNull(workloadIndex.reserve(CaseTypeEnum.KYC_REVIEW, CasePriorityEnum.LOW));
+    }
+
+    @Test
+    void testReservePicksLeastLoadedEligibleAnalyst() {
+        // Arrange
+        workloadIndex.loadRoster();
+        workloadIndex.reset(Map.of("generalist", 5L, "aml-senior", 1L, "aml-junior", 3L));
+
+        // Act & Assert
+        assertEquals("aml-senior", workloadIndex.reserve(CaseTypeEnum.AML_ALERT, CasePriorityEnum.CRITICAL));
+        // aml-senior is now at its limit of 2
+        assertEquals("aml-junior", workloadIndex.reserve(CaseTypeEnum.AML_ALERT, CasePriorityEnum.CRITICAL));
+        assertEquals("aml-junior", workloadIndex.reserve(CaseTypeEnum.AML_ALERT, CasePriorityEnum.LOW));
+        assertEquals("generalist", workloadIndex.reserve(CaseTypeEnum.KYC_REVIEW, CasePriorityEnum.HIGH));
+        assertEquals("generalist", workloadIndex.reserve(null, null));
+        assertEquals(2, openCases("aml-senior"));
+        assertEquals(5, openCases("aml-junior"));
+        assertEquals(7, openCases("generalist"));
+    }
+
+    @Test
+    void testReserveReturnsNullWhenNoEligibleAnalystHasCapacity() {
+        // Arrange
+        properties.setAnalysts(List.of(analyst("only", EnumSet.noneOf(CaseTypeEnum.class),
+                EnumSet.noneOf(CasePriorityEnum.class), 1)));
+        workloadIndex.loadRoster();
+        workloadIndex.reset(Map.of());
+
+        // Act & Assert
+        assertEquals("only", workloadIndex.reserve(CaseTypeEnum.KYC_REVIEW, CasePriorityEnum.LOW));
+        assertNull(workloadIndex.reserve(CaseTypeEnum.KYC_REVIEW, CasePriorityEnum.LOW));
+        workloadIndex.release("only");
+        assertEquals("only", workloadIndex.reserve(CaseTypeEnum.KYC_REVIEW, CasePriorityEnum.LOW));
+    }
+
+    @Test
+    void testEventsMoveOpenCasesBetweenAnalysts() {
+        // Arrange
+        workloadIndex.loadRoster();
+        workloadIndex.reset(Map.of("generalist", 1L, "aml-junior", 1L, "outsider", 1L));
+
+        // Act
+        workloadIndex.onAssignmentChanged(
+                new ComplianceCaseAssignmentChangedEvent(1L, "generalist", true, "aml-junior", true));
+        workloadIndex.onAssignmentChanged(
+                new ComplianceCaseAssignmentChangedEvent(2L, "outsider", true, "outsider", false));
+
+        // Assert
+        assertEquals(0, openCases("generalist"));
+        assertEquals(2, openCases("aml-junior"));
+        assertTrue(workloadIndex.snapshot().stream().noneMatch(workload -> workload.getAnalyst().equals("outsider")));
+        assertEquals("generalist", workloadIndex.reserve(CaseTypeEnum.AML_ALERT, CasePriorityEnum.LOW));
+    }
+}
@@ -3,21 +3,31 @@ package com.catalis.core.kycb.core.services.compliance.v1;
 import com.catalis.common.core.filters.FilterRequest;
 import com.catalis.common.core.filters.FilterUtils;
 import com.catalis.common.core.queries.PaginationResponse;
+import com.catalis.core.kycb.core.events.compliance.v1.ComplianceCaseAssignmentChangedEvent;
 import com.catalis.core.kycb.core.mappers.compliance.v1.ComplianceCaseMapper;
+import com.catalis.core.kycb.core.metrics.BusinessMetrics;
 import com.catalis.core.kycb.interfaces.dtos.compliance.v1.ComplianceCaseDTO;
+import com.catalis.core.kycb.interfaces.enums.compliance.v1.CasePriorityEnum;
+import com.catalis.core.kycb.interfaces.enums.compliance.v1.CaseStatusEnum;
+import com.catalis.core.kycb.interfaces.enums.compliance.v1.CaseTypeEnum;
 import com.catalis.core.kycb.models.entities.compliance.v1.ComplianceCase;
 import com.catalis.core.kycb.models.repositories.compliance.v1.ComplianceCaseRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.time.LocalDateTime;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -33,6 +43,18 @@ public class ComplianceCaseServiceImplTest {
     @Mock
     private FilterUtils filterUtils;
 
+    @Mock
+    private CaseWorkloadIndex workloadIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private CaseAssignmentProperties assignmentProperties = new CaseAssignmentProperties();
+
     @InjectMocks
     private ComplianceCaseServiceImpl complianceCaseService;
 
@@ -69,6 +91,62 @@ public class ComplianceCaseServiceImplTest {
         verify(mapper).toEntity(complianceCaseDTO);
         verify(repository).save(complianceCase);
         verify(mapper).toDTO(complianceCase);
+        verifyNoInteractions(eventPublisher);
+        assertEquals(1.0, meterRegistry.counter(BusinessMetrics.CASES_OPENED, BusinessMetrics.TAG_TYPE, "none",
+                BusinessMetrics.TAG_SOURCE, BusinessMetrics.SOURCE_API).count());
+    }
+
+    @Test
+    void testCreateAssignsLeastLoadedAnalyst() {
+        // Arrange
+        complianceCase.setCaseType(CaseTypeEnum.AML_ALERT);
+        complianceCase.setCasePriority(CasePriorityEnum.HIGH);
+        when(mapper.toEntity(any(ComplianceCaseDTO.class))).thenReturn(complianceCase);
+        when(workloadIndex.reserve(CaseTypeEnum.AML_ALERT, CasePriorityEnum.HIGH)).thenReturn("analyst-1");
+        when(repository.save(any(ComplianceCase.class))).thenReturn(Mono.just(complianceCase));
+        when(mapper.toDTO(any(ComplianceCase.class))).thenReturn(complianceCaseDTO);
+
+        // Act & Assert
+        StepVerifier.create(complianceCaseService.create(complianceCaseDTO))
+                .expectNext(complianceCaseDTO)
+                .verifyComplete();
+
+        assertEquals("analyst-1", complianceCase.getAssignedTo());
+        // Counted by the index when reserved
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void testCreateReleasesAnalystWhenSaveFails() {
+        // Arrange
+        when(mapper.toEntity(any(ComplianceCaseDTO.class))).thenReturn(complianceCase);
+        when(workloadIndex.reserve(any(), any())).thenReturn("analyst-1");
+        when(repository.save(any(ComplianceCase.class))).thenReturn(Mono.error(new IllegalStateException("down")));
+
+        // Act & Assert
+        StepVerifier.create(complianceCaseService.create(complianceCaseDTO))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        verify(workloadIndex).release("analyst-1");
+    }
+
+    @Test
+    void testCreateKeepsExplicitAssignee() {
+        // Arrange
+        complianceCase.setAssignedTo("analyst-2");
+        when(mapper.toEntity(any(ComplianceCaseDTO.class))).thenReturn(complianceCase);
+        when(repository.save(any(ComplianceCase.class))).thenReturn(Mono.just(complianceCase));
+        when(mapper.toDTO(any(ComplianceCase.class))).thenReturn(complianceCaseDTO);
+
+        // Act & Assert
+        StepVerifier.create(complianceCaseService.create(complianceCaseDTO))
+                .expectNext(complianceCaseDTO)
+                .verifyComplete();
+
+        verify(workloadIndex, never()).reserve(any(), any());
+        verify(eventPublisher).publishEvent(
+                new ComplianceCaseAssignmentChangedEvent(COMPLIANCE_CASE_ID, null, false, "analyst-2", true));
     }
 
     @Test
@@ -123,11 +201,41 @@ public class ComplianceCaseServiceImplTest {
         verify(mapper).toEntity(complianceCaseDTO);
         verify(repository).save(any(ComplianceCase.class));
         verify(mapper).toDTO(any(ComplianceCase.class));
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void testUpdatePublishesClosure() {
+        // Arrange
+        ComplianceCase existingCase = new ComplianceCase();
+        existingCase.setComplianceCaseId(COMPLIANCE_CASE_ID);
+        existingCase.setAssignedTo("analyst-1");
+        existingCase.setCaseStatus(CaseStatusEnum.IN_REVIEW);
+
+        ComplianceCase closedCase = new ComplianceCase();
+        closedCase.setComplianceCaseId(COMPLIANCE_CASE_ID);
+        closedCase.setAssignedTo("analyst-1");
+        closedCase.setCaseStatus(CaseStatusEnum.CLOSED);
+
+        when(repository.findById(COMPLIANCE_CASE_ID)).thenReturn(Mono.just(existingCase));
+        when(mapper.toEntity(complianceCaseDTO)).thenReturn(closedCase);
+        when(repository.save(any(ComplianceCase.class))).thenReturn(Mono.just(closedCase));
+        when(mapper.toDTO(any(ComplianceCase.class))).thenReturn(complianceCaseDTO);
+
+        // Act & Assert
+        StepVerifier.create(complianceCaseService.update(COMPLIANCE_CASE_ID, complianceCaseDTO))
+                .expectNext(complianceCaseDTO)
+                .verifyComplete();
+
+        verify(eventPublisher).publishEvent(
+                new ComplianceCaseAssignmentChangedEvent(COMPLIANCE_CASE_ID, "analyst-1", true, "analyst-1", false));
     }
 
     @Test
     void testDelete() {
         // Arrange
+        complianceCase.setAssignedTo("analyst-1");
+        when(repository.findById(COMPLIANCE_CASE_ID)).thenReturn(Mono.just(complianceCase));
         when(repository.deleteById(COMPLIANCE_CASE_ID)).thenReturn(Mono.empty());
 
         // Act & Assert
@@ -135,5 +243,7 @@ public class ComplianceCaseServiceImplTest {
                 .verifyComplete();
 
         verify(repository).deleteById(COMPLIANCE_CASE_ID);
+        verify(eventPublisher).publishEvent(
+                new ComplianceCaseAssignmentChangedEvent(COMPLIANCE_CASE_ID, "analyst-1", true, null, false));
     }
 }
\ No newline at end of file
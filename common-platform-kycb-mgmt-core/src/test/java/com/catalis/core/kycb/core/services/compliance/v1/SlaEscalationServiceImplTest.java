@@ -0,0 +1,103 @@
+package com.catalis.core.kycb.core.services.compliance.v1;
+
+import com.catalis.core.kycb.core.events.compliance.v1.ComplianceCaseEscalatedEvent;
+import com.catalis.core.kycb.core.events.compliance.v1.ComplianceSlaBreachedEvent;
+import com.catalis.core.kycb.core.events.compliance.v1.SlaTargetTypeEnum;
+import com.catalis.core.kycb.interfaces.enums.compliance.v1.CasePriorityEnum;
+import com.catalis.core.kycb.models.entities.compliance.v1.ComplianceCase;
+import com.catalis.core.kycb.models.repositories.compliance.v1.ComplianceActionRepository;
+import com.catalis.core.kycb.models.repositories.compliance.v1.ComplianceCaseRepository;
+import com.catalis.core.kycb.models.repositories.compliance.v1.SlaBreach;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class SlaEscalationServiceImplTest {
+
+    @Mock
+    private ComplianceCaseRepository complianceCaseRepository;
+
+    @Mock
+    private ComplianceActionRepository complianceActionRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private SlaEscalationServiceImpl slaEscalationService;
+
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        now = LocalDateTime.now();
+    }
+
+    @Test
+    void testBreachEscalatesEachCaseOnce() {
+        // Arrange
+        when(complianceCaseRepository.markSlaBreached(any(), eq(now))).thenReturn(Flux.just(
+                new SlaBreach(10L, 10L, now.minusSeconds(1), now.minusDays(5))));
+        when(complianceActionRepository.markSlaBreached(any(), eq(now))).thenReturn(Flux.just(
+                new SlaBreach(100L, 10L, now.minusSeconds(2), now.minusDays(1)),
+                new SlaBreach(101L, 20L, now.minusSeconds(3), now.minusDays(2))));
+        ComplianceCase escalated = new ComplianceCase();
+        escalated.setComplianceCaseId(20L);
+        escalated.setCasePriority(CasePriorityEnum.HIGH);
+        escalated.setAssignedTo("analyst-1");
+        when(complianceCaseRepository.escalatePriority(any(), eq(now))).thenReturn(Flux.just(escalated));
+
+        // Act & Assert
+        StepVerifier.create(slaEscalationService.breach(List.of(10L, 11L), List.of(100L, 101L), now))
+                .expectNext(3)
+                .verifyComplete();
+
+        ArgumentCaptor<Long[]> caseIds = ArgumentCaptor.forClass(Long[].class);
+        verify(complianceCaseRepository).escalatePriority(caseIds.capture(), eq(now));
+        assertArrayEquals(new Long[]{10L, 20L}, caseIds.getValue());
+        verify(eventPublisher).publishEvent(new ComplianceSlaBreachedEvent(
+                SlaTargetTypeEnum.ACTION, 101L, 20L, now.minusSeconds(3), now));
+        verify(eventPublisher, times(3)).publishEvent(any(ComplianceSlaBreachedEvent.class));
+        verify(eventPublisher).publishEvent(new ComplianceCaseEscalatedEvent(20L, CasePriorityEnum.HIGH, "analyst-1"));
+        assertEquals(1.0, meterRegistry.counter(SlaEscalationServiceImpl.METRIC_BREACHES, "target", "CASE").count());
+        assertEquals(2.0, meterRegistry.counter(SlaEscalationServiceImpl.METRIC_BREACHES, "target", "ACTION").count());
+        assertEquals(2L, meterRegistry.get(SlaEscalationServiceImpl.METRIC_TIME_TO_BREACH).tag("target", "ACTION")
+                .timer().count());
+    }
+
+    @Test
+    void testBreachSkipsRowsAlreadyHandled() {
+        // Arrange
+        when(complianceActionRepository.markSlaBreached(any(), eq(now))).thenReturn(Flux.empty());
+
+        // Act & Assert
+        StepVerifier.create(slaEscalationService.breach(List.of(), List.of(100L), now))
+                .expectNext(0)
+                .verifyComplete();
+
+        verify(complianceCaseRepository, never()).markSlaBreached(any(), any());
+        verify(complianceCaseRepository, never()).escalatePriority(any(), any());
+        verifyNoInteractions(eventPublisher);
+    }
+}
@@ -3,6 +3,8 @@ package com.catalis.core.kycb.core.services.corporate.v1;
 import com.catalis.common.core.filters.FilterRequest;
 import com.catalis.common.core.filters.FilterUtils;
 import com.catalis.common.core.queries.PaginationResponse;
+import com.catalis.core.kycb.core.events.party.v1.PartyDataChangedEvent;
+import com.catalis.core.kycb.core.events.party.v1.PartyDataTypeEnum;
 import com.catalis.core.kycb.core.mappers.corporate.v1.CorporateStructureMapper;
 import com.catalis.core.kycb.interfaces.dtos.corporate.v1.CorporateStructureDTO;
 import com.catalis.core.kycb.interfaces.enums.corporate.v1.RelationshipTypeEnum;
@@ -14,6 +16,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -34,6 +37,9 @@ public class CorporateStructureServiceImplTest {
     @Mock
     private FilterUtils filterUtils;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private CorporateStructureServiceImpl corporateStructureService;
 
@@ -223,6 +229,7 @@ public class CorporateStructureServiceImplTest {
     @Test
     void testDelete() {
         // Arrange
+        when(repository.findById(CORPORATE_STRUCTURE_ID)).thenReturn(Mono.just(corporateStructure));
         when(repository.deleteById(CORPORATE_STRUCTURE_ID)).thenReturn(Mono.empty());
 
         // Act & Assert
@@ -230,5 +237,6 @@ public class CorporateStructureServiceImplTest {
                 .verifyComplete();
 
         verify(repository).deleteById(CORPORATE_STRUCTURE_ID);
+        verify(eventPublisher).publishEvent(new PartyDataChangedEvent(PARTY_ID, PartyDataTypeEnum.CORPORATE_STRUCTURE));
     }
 }
@@ -0,0 +1,142 @@
+package com.catalis.core.kycb.core.services.document.v1;
+
+import com.catalis.core.kycb.core.metrics.BusinessMetrics;
+import com.catalis.core.kycb.core.services.compliance.v1.CaseAutoAssigner;
+import com.catalis.core.kycb.models.entities.compliance.v1.ComplianceCase;
+import com.catalis.core.kycb.models.repositories.compliance.v1.ComplianceActionRepository;
+import com.catalis.core.kycb.models.repositories.compliance.v1.ComplianceCaseRepository;
+import com.catalis.core.kycb.models.repositories.document.v1.ExpiringDocument;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class DocumentExpiryServiceImplTest {
+
+    @Mock
+    private ComplianceCaseRepository complianceCaseRepository;
+
+    @Mock
+    private ComplianceActionRepository complianceActionRepository;
+
+    @Mock
+    private CaseAutoAssigner caseAutoAssigner;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private DocumentExpiryServiceImpl documentExpiryService;
+
+    private final Long OPEN_CASE_PARTY_ID = 100L;
+    private final Long NEW_CASE_PARTY_ID = 101L;
+    private final Long OPEN_CASE_ID = 1000L;
+    private final Long NEW_CASE_ID = 1001L;
+
+    private LocalDateTime expiry;
+
+    @BeforeEach
+    void setUp() {
+        expiry = LocalDateTime.now().plusDays(10);
+    }
+
+    private static ComplianceCase complianceCase(Long caseId, Long partyId) {
+        ComplianceCase complianceCase = new ComplianceCase();
+        complianceCase.setComplianceCaseId(caseId);
+        complianceCase.setPartyId(partyId);
+        return complianceCase;
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testRaiseActionsReusesOpenCasesAndOpensMissingOnes() {
+        // Arrange
+        List<ExpiringDocument> documents = List.of(
+                new ExpiringDocument(1L, OPEN_CASE_PARTY_ID, "DEED_OF_INCORPORATION", expiry),
+                new ExpiringDocument(2L, NEW_CASE_PARTY_ID, "BYLAWS", expiry.plusDays(1)),
+                new ExpiringDocument(3L, OPEN_CASE_PARTY_ID, "TAX_ID", expiry.minusDays(20))
+        );
+        when(complianceCaseRepository.findOpenDocumentExpiryCases(anyCollection()))
+                .thenReturn(Flux.just(complianceCase(OPEN_CASE_ID, OPEN_CASE_PARTY_ID)));
+        when(complianceCaseRepository.insertOpenDocumentExpiryCases(any(), any(), anyString(), any()))
+                .thenReturn(Flux.just(complianceCase(NEW_CASE_ID, NEW_CASE_PARTY_ID)));
+        when(caseAutoAssigner.assignAll(anyList())).thenReturn(Mono.just(1L));
+        when(complianceActionRepository.insertDocumentRequests(any(), any(), any(), any(), anyString(), any()))
+                .thenReturn(Mono.just(3));
+
+        // Act & Assert
+        StepVerifier.create(documentExpiryService.raiseActions(ExpiringDocumentSourceEnum.CORPORATE_DOCUMENT, documents))
+                .expectNext(3)
+                .verifyComplete();
+
+        ArgumentCaptor<Collection<String>> references = ArgumentCaptor.forClass(Collection.class);
+        verify(complianceCaseRepository).findOpenDocumentExpiryCases(references.capture());
+        assertEquals(List.of("DOC-EXPIRY-100", "DOC-EXPIRY-101"), List.copyOf(references.getValue()));
+        verify(complianceCaseRepository).insertOpenDocumentExpiryCases(
+                aryEq(new Long[]{NEW_CASE_PARTY_ID}), aryEq(new LocalDateTime[]{expiry.plusDays(1)}), anyString(), any());
+
+        ArgumentCaptor<Long[]> caseIds = ArgumentCaptor.forClass(Long[].class);
+        ArgumentCaptor<String[]> sourceReferences = ArgumentCaptor.forClass(String[].class);
+        verify(complianceActionRepository).insertDocumentRequests(caseIds.capture(), any(), any(),
+                sourceReferences.capture(), eq(DocumentExpiryServiceImpl.ACTION_AGENT), any());
+        assertArrayEquals(new Long[]{OPEN_CASE_ID, NEW_CASE_ID, OPEN_CASE_ID}, caseIds.getValue());
+        assertEquals("CORPORATE_DOCUMENT:1:" + expiry, sourceReferences.getValue()[0]);
+        assertEquals(1.0, meterRegistry.counter(BusinessMetrics.CASES_OPENED, BusinessMetrics.TAG_TYPE, "KYC_REVIEW",
+                BusinessMetrics.TAG_SOURCE, BusinessMetrics.SOURCE_DOCUMENT_EXPIRY).count());
+    }
+
+    @Test
+    void testRaiseActionsPicksUpCaseOpenedConcurrently() {
+        // Arrange
+        List<ExpiringDocument> documents = List.of(new ExpiringDocument(5L, NEW_CASE_PARTY_ID, "GENERAL", expiry));
+        when(complianceCaseRepository.findOpenDocumentExpiryCases(anyCollection()))
+                .thenReturn(Flux.empty())
+                .thenReturn(Flux.just(complianceCase(NEW_CASE_ID, NEW_CASE_PARTY_ID)));
+        when(complianceCaseRepository.insertOpenDocumentExpiryCases(any(), any(), anyString(), any()))
+                .thenReturn(Flux.empty());
+        when(caseAutoAssigner.assignAll(anyList())).thenReturn(Mono.just(0L));
+        when(complianceActionRepository.insertDocumentRequests(any(), any(), any(), any(), anyString(), any()))
+                .thenReturn(Mono.just(1));
+
+        // Act & Assert
+        StepVerifier.create(documentExpiryService.raiseActions(ExpiringDocumentSourceEnum.POWER_OF_ATTORNEY, documents))
+                .expectNext(1)
+                .verifyComplete();
+
+        verify(complianceCaseRepository, times(2)).findOpenDocumentExpiryCases(anyCollection());
+        verify(complianceActionRepository).insertDocumentRequests(aryEq(new Long[]{NEW_CASE_ID}), any(), any(), any(),
+                anyString(), any());
+        assertEquals(0, meterRegistry.find(BusinessMetrics.CASES_OPENED).counters().size());
+    }
+
+    @Test
+    void testRaiseActionsWithoutParties() {
+        // Arrange
+        List<ExpiringDocument> documents = List.of(new ExpiringDocument(9L, null, "DNI", expiry));
+
+        // Act & Assert
+        StepVerifier.create(documentExpiryService.raiseActions(ExpiringDocumentSourceEnum.IDENTITY_DOCUMENT, documents))
+                .expectNext(0)
+                .verifyComplete();
+
+        verifyNoInteractions(complianceCaseRepository, complianceActionRepository);
+    }
+}
@@ -3,6 +3,8 @@ package com.catalis.core.kycb.core.services.economic.v1;
 import com.catalis.common.core.filters.FilterRequest;
 import com.catalis.common.core.filters.FilterUtils;
 import com.catalis.common.core.queries.PaginationResponse;
+import com.catalis.core.kycb.core.events.party.v1.PartyDataChangedEvent;
+import com.catalis.core.kycb.core.events.party.v1.PartyDataTypeEnum;
 import com.catalis.core.kycb.core.mappers.economic.v1.EconomicActivityMapper;
 import com.catalis.core.kycb.interfaces.dtos.economic.v1.EconomicActivityDTO;
 import com.catalis.core.kycb.models.entities.economic.v1.EconomicActivity;
@@ -13,6 +15,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -33,6 +36,9 @@ public class EconomicActivityServiceImplTest {
     @Mock
     private FilterUtils filterUtils;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private EconomicActivityServiceImpl economicActivityService;
 
@@ -261,6 +267,7 @@ public class EconomicActivityServiceImplTest {
     @Test
     void testDelete() {
         // Arrange
+        when(repository.findById(ECONOMIC_ACTIVITY_ID)).thenReturn(Mono.just(economicActivity));
         when(repository.deleteById(ECONOMIC_ACTIVITY_ID)).thenReturn(Mono.empty());
 
         // Act & Assert
@@ -268,5 +275,6 @@ public class EconomicActivityServiceImplTest {
                 .verifyComplete();
 
         verify(repository).deleteById(ECONOMIC_ACTIVITY_ID);
+        verify(eventPublisher).publishEvent(new PartyDataChangedEvent(economicActivity.getPartyId(), PartyDataTypeEnum.ECONOMIC_ACTIVITY));
     }
 }
\ No newline at end of file
@@ -0,0 +1,228 @@
+package com.catalis.core.kycb.core.services.edd.v1;
+
+import com.catalis.core.kycb.core.events.industry.v1.IndustryRiskChangedEvent;
+import com.catalis.core.kycb.core.events.party.v1.PartyDataChangedEvent;
+import com.catalis.core.kycb.core.events.party.v1.PartyDataTypeEnum;
+import com.catalis.core.kycb.core.mappers.edd.v1.EnhancedDueDiligenceMapper;
+import com.catalis.core.kycb.interfaces.dtos.edd.v1.EnhancedDueDiligenceDTO;
+import com.catalis.core.kycb.interfaces.enums.edd.v1.EddReasonEnum;
+import com.catalis.core.kycb.interfaces.enums.edd.v1.EddStatusEnum;
+import com.catalis.core.kycb.models.entities.edd.v1.EnhancedDueDiligence;
+import com.catalis.core.kycb.models.entities.industry.v1.IndustryRisk;
+import com.catalis.core.kycb.models.repositories.economic.v1.EconomicActivityRepository;
+import com.catalis.core.kycb.models.repositories.edd.v1.EnhancedDueDiligenceRepository;
+import com.catalis.core.kycb.models.repositories.industry.v1.IndustryRiskRepository;
+import com.catalis.core.kycb.models.repositories.kyc.v1.KycVerificationRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class EddTriggerServiceImplTest {
+
+    @Mock
+    private EnhancedDueDiligenceRepository enhancedDueDiligenceRepository;
+
+    @Mock
+    private KycVerificationRepository kycVerificationRepository;
+
+    @Mock
+    private EconomicActivityRepository economicActivityRepository;
+
+    @Mock
+    private IndustryRiskRepository industryRiskRepository;
+
+    @Mock
+    private EnhancedDueDiligenceMapper mapper;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private EddTriggerProperties properties = new EddTriggerProperties();
+
+    @InjectMocks
+    private EddTriggerServiceImpl eddTriggerService;
+
+    private final String ACTIVITY_CODE = "6419";
+
+    @BeforeEach
+    void setUp() {
+        properties.setChunkSize(2);
+    }
+
+    @Test
+    void testEvaluateRunsOneStatementPerChunk() {
+        // Arrange
+        EnhancedDueDiligence pep = edd(100L, 11L, EddReasonEnum.PEP);
+        EnhancedDueDiligenceDTO pepDTO = new EnhancedDueDiligenceDTO();
+        when(enhancedDueDiligenceRepository.createTriggered(aryEq(new Long[]{1L, 2L}),
+                any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(Flux.just(pep));
+        when(enhancedDueDiligenceRepository.createTriggered(aryEq(new Long[]{3L}),
+                any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(Flux.empty());
+        when(mapper.toDTO(pep)).thenReturn(pepDTO);
+
+        // Act & Assert
+        StepVerifier.create(eddTriggerService.evaluate(List.of(1L, 2L, 2L, 3L)))
+                .expectNext(pepDTO)
+                .verifyComplete();
+        verify(enhancedDueDiligenceRepository, times(2)).createTriggered(any(), any(), any());
+        assertEquals(1.0, meterRegistry.counter(EddTriggerServiceImpl.METRIC_TRIGGERED, "reason", "PEP").count());
+    }
+
+    @Test
+    void testEvaluateRejectsMoreThanSyncLimit() {
+        // Arrange
+        properties.setMaxSyncParties(2);
+
+        // Act & Assert
+        StepVerifier.create(eddTriggerService.evaluate(List.of(1L, 2L, 3L)))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+        verifyNoInteractions(enhancedDueDiligenceRepository);
+    }
+
+    @Test
+    void testEvaluateHoldsBackTriggersOfRecentlyClosedEdds() {
+        // Arrange
+        properties.setClosedCooldown(Duration.ofDays(30));
+        ArgumentCaptor<LocalDateTime> createdAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> closedSince = ArgumentCaptor.forClass(LocalDateTime.class);
+        when(enhancedDueDiligenceRepository.createTriggered(aryEq(new Long[]{1L}),
+                createdAt.capture(), closedSince.capture()))
+                .thenReturn(Flux.empty());
+
+        // Act & Assert
+        StepVerifier.create(eddTriggerService.evaluate(List.of(1L)))
+                .verifyComplete();
+        assertEquals(createdAt.getValue().minusDays(30), closedSince.getValue());
+    }
+
+    @Test
+    void testBackfillPagesPartiesWithKeyset() {
+        // Arrange
+        when(kycVerificationRepository.countParties()).thenReturn(Mono.just(3L));
+        when(kycVerificationRepository.findPartyIdsAfter(0L, 2)).thenReturn(Flux.just(10L, 20L));
+        when(kycVerificationRepository.findPartyIdsAfter(20L, 2)).thenReturn(Flux.just(30L));
+        when(enhancedDueDiligenceRepository.createTriggered(aryEq(new Long[]{10L, 20L}),
+                any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(Flux.just(
+                        edd(100L, 11L, EddReasonEnum.HIGH_RISK),
+                        edd(101L, 21L, EddReasonEnum.SANCTIONS)));
+        when(enhancedDueDiligenceRepository.createTriggered(aryEq(new Long[]{30L}),
+                any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(Flux.empty());
+
+        // Act
+        String jobId = eddTriggerService.startBackfill().block().getJobId();
+
+        // Assert
+        StepVerifier.create(eddTriggerService.getJob(jobId))
+                .assertNext(job -> {
+                    assertEquals("COMPLETED", job.getStatus());
+                    assertEquals(3L, job.getTotalParties());
+                    assertEquals(3L, job.getEvaluatedParties());
+                    assertEquals(2L, job.getCreatedEdds());
+                    assertNotNull(job.getFinishedAt());
+                })
+                .verifyComplete();
+        verify(kycVerificationRepository, never()).findPartyIdsAfter(30L, 2);
+    }
+
+    @Test
+    void testIndustryRiskRequiringEddEvaluatesItsParties() {
+        // Arrange
+        IndustryRisk latest = new IndustryRisk();
+        latest.setRequiresEdd(true);
+        when(industryRiskRepository.findFirstByActivityCodeOrderByAssessmentDateDesc(ACTIVITY_CODE))
+                .thenReturn(Mono.just(latest));
+        when(economicActivityRepository.findPartyIdsByActivityCodeAfter(ACTIVITY_CODE, 0L, 2))
+                .thenReturn(Flux.just(10L));
+        when(enhancedDueDiligenceRepository.createTriggered(aryEq(new Long[]{10L}),
+                any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(Flux.just(edd(100L, 11L, EddReasonEnum.HIGH_RISK)));
+
+        // Act
+        eddTriggerService.onIndustryRiskChanged(new IndustryRiskChangedEvent(1L, ACTIVITY_CODE));
+
+        // Assert
+        // The latest industry risk is only read once the change has had time to commit
+        verify(industryRiskRepository, never()).findFirstByActivityCodeOrderByAssessmentDateDesc(ACTIVITY_CODE);
+        verify(enhancedDueDiligenceRepository, timeout(2000))
+                .createTriggered(aryEq(new Long[]{10L}), any(LocalDateTime.class), any(LocalDateTime.class));
+    }
+
+    @Test
+    void testIndustryRiskNotRequiringEddIsIgnored() {
+        // Arrange
+        IndustryRisk latest = new IndustryRisk();
+        latest.setRequiresEdd(false);
+        when(industryRiskRepository.findFirstByActivityCodeOrderByAssessmentDateDesc(ACTIVITY_CODE))
+                .thenReturn(Mono.just(latest));
+
+        // Act
+        eddTriggerService.onIndustryRiskChanged(new IndustryRiskChangedEvent(1L, ACTIVITY_CODE));
+
+        // Assert
+        verify(industryRiskRepository, timeout(2000)).findFirstByActivityCodeOrderByAssessmentDateDesc(ACTIVITY_CODE);
+        verify(economicActivityRepository, after(100).never())
+                .findPartyIdsByActivityCodeAfter(any(), anyLong(), anyInt());
+        verifyNoInteractions(enhancedDueDiligenceRepository);
+    }
+
+    @Test
+    void testPartyChangesAreBatched() {
+        // Arrange
+        properties.setBatchSize(2);
+        properties.setBatchWindow(Duration.ofMinutes(1));
+        when(enhancedDueDiligenceRepository.createTriggered(aryEq(new Long[]{1L, 2L}),
+                any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(Flux.empty());
+        eddTriggerService.start();
+
+        try {
+            // Act
+            eddTriggerService.onPartyDataChanged(new PartyDataChangedEvent(9L, PartyDataTypeEnum.UBO));
+            eddTriggerService.onPartyDataChanged(new PartyDataChangedEvent(1L, PartyDataTypeEnum.KYC_VERIFICATION));
+            eddTriggerService.onPartyDataChanged(new PartyDataChangedEvent(2L, PartyDataTypeEnum.AML_MATCH));
+
+            // Assert
+            verify(enhancedDueDiligenceRepository, timeout(1000))
+                    .createTriggered(aryEq(new Long[]{1L, 2L}), any(LocalDateTime.class), any(LocalDateTime.class));
+        } finally {
+            eddTriggerService.stop();
+        }
+    }
+
+    private EnhancedDueDiligence edd(Long eddId, Long kycVerificationId, EddReasonEnum reason) {
+        EnhancedDueDiligence edd = new EnhancedDueDiligence();
+        edd.setEddId(eddId);
+        edd.setKycVerificationId(kycVerificationId);
+        edd.setEddReason(reason);
+        edd.setEddStatus(EddStatusEnum.PENDING);
+        return edd;
+    }
+}
@@ -3,6 +3,8 @@ package com.catalis.core.kycb.core.services.expected.v1;
 import com.catalis.common.core.filters.FilterRequest;
 import com.catalis.common.core.filters.FilterUtils;
 import com.catalis.common.core.queries.PaginationResponse;
+import com.catalis.core.kycb.core.events.party.v1.PartyDataChangedEvent;
+import com.catalis.core.kycb.core.events.party.v1.PartyDataTypeEnum;
 import com.catalis.core.kycb.core.mappers.expected.v1.ExpectedActivityMapper;
 import com.catalis.core.kycb.interfaces.dtos.expected.v1.ExpectedActivityDTO;
 import com.catalis.core.kycb.models.entities.expected.v1.ExpectedActivity;
@@ -13,6 +15,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -34,6 +37,9 @@ public class ExpectedActivityServiceImplTest {
     @Mock
     private FilterUtils filterUtils;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ExpectedActivityServiceImpl expectedActivityService;
 
@@ -172,6 +178,7 @@ public class ExpectedActivityServiceImplTest {
     @Test
     void testDelete() {
         // Arrange
+        when(repository.findById(EXPECTED_ACTIVITY_ID)).thenReturn(Mono.just(expectedActivity));
         when(repository.deleteById(EXPECTED_ACTIVITY_ID)).thenReturn(Mono.empty());
 
         // Act & Assert
@@ -179,5 +186,6 @@ public class ExpectedActivityServiceImplTest {
                 .verifyComplete();
 
         verify(repository).deleteById(EXPECTED_ACTIVITY_ID);
+        verify(eventPublisher).publishEvent(new PartyDataChangedEvent(expectedActivity.getPartyId(), PartyDataTypeEnum.EXPECTED_ACTIVITY));
     }
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package com.catalis.core.kycb.core.services.industry.v1;
 import com.catalis.common.core.filters.FilterRequest;
 import com.catalis.common.core.filters.FilterUtils;
 import com.catalis.common.core.queries.PaginationResponse;
+import com.catalis.core.kycb.core.events.industry.v1.IndustryRiskChangedEvent;
 import com.catalis.core.kycb.core.mappers.industry.v1.IndustryRiskMapper;
 import com.catalis.core.kycb.interfaces.dtos.industry.v1.IndustryRiskDTO;
 import com.catalis.core.kycb.interfaces.enums.risk.v1.RiskLevelEnum;
@@ -14,6 +15,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -34,6 +36,9 @@ public class IndustryRiskServiceImplTest {
     @Mock
     private FilterUtils filterUtils;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private IndustryRiskServiceImpl industryRiskService;
 
@@ -199,11 +204,42 @@ public class IndustryRiskServiceImplTest {
         // Verify that the creation date is preserved
         verify(repository).save(argThat(risk -> 
             risk.getDateCreated() != null && risk.getDateCreated().equals(creationDate)));
+
+        // Verify that raising the inherent risk level triggers re-rating of the activity code
+        verify(eventPublisher).publishEvent(new IndustryRiskChangedEvent(INDUSTRY_RISK_ID, ACTIVITY_CODE));
+    }
+
+    @Test
+    void testUpdateWithoutRiskChangeDoesNotTriggerRerating() {
+        // Arrange
+        IndustryRisk existingRisk = new IndustryRisk();
+        existingRisk.setIndustryRiskId(INDUSTRY_RISK_ID);
+        existingRisk.setActivityCode(ACTIVITY_CODE);
+        existingRisk.setIndustryName(INDUSTRY_NAME);
+        existingRisk.setInherentRiskLevel(RiskLevelEnum.LOW);
+
+        IndustryRisk updatedRisk = new IndustryRisk();
+        updatedRisk.setActivityCode(ACTIVITY_CODE);
+        updatedRisk.setIndustryName("Renamed industry");
+        updatedRisk.setInherentRiskLevel(RiskLevelEnum.LOW);
+
+        when(repository.findById(INDUSTRY_RISK_ID)).thenReturn(Mono.just(existingRisk));
+        when(mapper.toEntity(industryRiskDTO)).thenReturn(updatedRisk);
+        when(repository.save(any(IndustryRisk.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(mapper.toDTO(any(IndustryRisk.class))).thenReturn(industryRiskDTO);
+
+        // Act & Assert
+        StepVerifier.create(industryRiskService.update(INDUSTRY_RISK_ID, industryRiskDTO))
+                .expectNext(industryRiskDTO)
+                .verifyComplete();
+
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
     void testDelete() {
         // Arrange
+        when(repository.findById(INDUSTRY_RISK_ID)).thenReturn(Mono.just(industryRisk));
         when(repository.deleteById(INDUSTRY_RISK_ID)).thenReturn(Mono.empty());
 
         // Act & Assert
@@ -211,5 +247,6 @@ public class IndustryRiskServiceImplTest {
                 .verifyComplete();
 
         verify(repository).deleteById(INDUSTRY_RISK_ID);
+        verify(eventPublisher).publishEvent(new IndustryRiskChangedEvent(INDUSTRY_RISK_ID, ACTIVITY_CODE));
     }
 }
\ No newline at end of file
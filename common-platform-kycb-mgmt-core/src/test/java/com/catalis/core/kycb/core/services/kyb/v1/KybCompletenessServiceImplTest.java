@@ -0,0 +1,137 @@
+package com.catalis.core.kycb.core.services.kyb.v1;
+
+import com.catalis.core.kycb.interfaces.dtos.kyb.v1.KybCompletenessDTO;
+import com.catalis.core.kycb.models.repositories.business.v1.BusinessProfileCoverage;
+import com.catalis.core.kycb.models.repositories.business.v1.BusinessProfileRepository;
+import com.catalis.core.kycb.models.repositories.corporate.v1.CorporateStructureCoverage;
+import com.catalis.core.kycb.models.repositories.corporate.v1.CorporateStructureRepository;
+import com.catalis.core.kycb.models.repositories.document.v1.CorporateDocumentCoverage;
+import com.catalis.core.kycb.models.repositories.document.v1.CorporateDocumentRepository;
+import com.catalis.core.kycb.models.repositories.kyb.v1.KybVerificationRepository;
+import com.catalis.core.kycb.models.repositories.ownership.v1.UboCoverage;
+import com.catalis.core.kycb.models.repositories.ownership.v1.UboRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class KybCompletenessServiceImplTest {
+
+    @Mock
+    private CorporateDocumentRepository corporateDocumentRepository;
+
+    @Mock
+    private CorporateStructureRepository corporateStructureRepository;
+
+    @Mock
+    private UboRepository uboRepository;
+
+    @Mock
+    private BusinessProfileRepository businessProfileRepository;
+
+    @Mock
+    private KybVerificationRepository kybVerificationRepository;
+
+    @Spy
+    private KybCompletenessProperties properties = new KybCompletenessProperties();
+
+    @InjectMocks
+    private KybCompletenessServiceImpl kybCompletenessService;
+
+    private final Long COMPLETE_PARTY_ID = 100L;
+    private final Long PARTIAL_PARTY_ID = 101L;
+    private final Long EMPTY_PARTY_ID = 102L;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testEvaluateReadsEachTableOnceAndWritesInBulk() {
+        // Arrange
+        properties.setChunkSize(10);
+        when(corporateDocumentRepository.summarizeCoverage(any(), any(LocalDateTime.class))).thenReturn(Flux.just(
+                new CorporateDocumentCoverage(COMPLETE_PARTY_ID, true, true, true, true),
+                new CorporateDocumentCoverage(PARTIAL_PARTY_ID, false, true, false, false)));
+        when(corporateStructureRepository.summarizeCoverage(any(), any(LocalDateTime.class))).thenReturn(Flux.just(
+                new CorporateStructureCoverage(COMPLETE_PARTY_ID, 2L, 2L)));
+        when(uboRepository.summarizeCoverage(any(), any(LocalDateTime.class))).thenReturn(Flux.just(
+                new UboCoverage(COMPLETE_PARTY_ID, 1L, 1L),
+                new UboCoverage(PARTIAL_PARTY_ID, 2L, 1L)));
+        when(businessProfileRepository.summarizeCoverage(any())).thenReturn(Flux.just(
+                new BusinessProfileCoverage(COMPLETE_PARTY_ID, true, true, true),
+                new BusinessProfileCoverage(PARTIAL_PARTY_ID, true, true, false)));
+        when(kybVerificationRepository.applyCompleteness(any(), any(), any(), any(), any(), any(), any(), any(), any()))
+                .thenReturn(Mono.just(2));
+
+        // Act & Assert
+        StepVerifier.create(kybCompletenessService.evaluate(
+                        List.of(COMPLETE_PARTY_ID, PARTIAL_PARTY_ID, EMPTY_PARTY_ID, COMPLETE_PARTY_ID)))
+                .assertNext(dto -> {
+                    assertEquals(COMPLETE_PARTY_ID, dto.getPartyId());
+                    assertEquals("VERIFIED", dto.getVerificationStatus());
+                })
+                .assertNext(dto -> {
+                    assertEquals(KybCompletenessDTO.builder()
+                            .partyId(PARTIAL_PARTY_ID)
+                            .mercantileRegistryVerified(false)
+                            .deedOfIncorporationVerified(true)
+                            .businessStructureVerified(false)
+                            .uboVerified(false)
+                            .taxIdVerified(false)
+                            .operatingLicenseVerified(false)
+                            .verificationStatus("IN_PROGRESS")
+                            .build(), dto);
+                })
+                .assertNext(dto -> assertEquals("PENDING", dto.getVerificationStatus()))
+                .verifyComplete();
+
+        ArgumentCaptor<Long[]> partyIds = ArgumentCaptor.forClass(Long[].class);
+        ArgumentCaptor<String[]> statuses = ArgumentCaptor.forClass(String[].class);
+        verify(kybVerificationRepository).applyCompleteness(partyIds.capture(), any(), any(), any(), any(), any(),
+                any(), statuses.capture(), any());
+        assertArrayEquals(new Long[]{COMPLETE_PARTY_ID, PARTIAL_PARTY_ID, EMPTY_PARTY_ID}, partyIds.getValue());
+        assertArrayEquals(new String[]{"VERIFIED", "IN_PROGRESS", "PENDING"}, statuses.getValue());
+        verify(corporateDocumentRepository, times(1)).summarizeCoverage(any(), any(LocalDateTime.class));
+        verify(businessProfileRepository, times(1)).summarizeCoverage(any());
+    }
+
+    @Test
+    void testEvaluateRejectsOversizedRequests() {
+        // Arrange
+        properties.setMaxSyncParties(2);
+
+        // Act & Assert
+        StepVerifier.create(kybCompletenessService.evaluate(List.of(1L, 2L, 3L)))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verifyNoInteractions(kybVerificationRepository);
+    }
+
+    @Test
+    void testUnverifiedStructureLinkBlocksBusinessStructure() {
+        // Act
+        KybCompleteness completeness = KybCompleteness.of(COMPLETE_PARTY_ID,
+                new CorporateDocumentCoverage(COMPLETE_PARTY_ID, true, true, true, true),
+                new CorporateStructureCoverage(COMPLETE_PARTY_ID, 3L, 2L),
+                new UboCoverage(COMPLETE_PARTY_ID, 1L, 1L),
+                new BusinessProfileCoverage(COMPLETE_PARTY_ID, true, false, false));
+
+        // Assert
+        assertFalse(completeness.businessStructure());
+        assertTrue(completeness.operatingLicense());
+        assertEquals("IN_PROGRESS", completeness.status().name());
+    }
+}
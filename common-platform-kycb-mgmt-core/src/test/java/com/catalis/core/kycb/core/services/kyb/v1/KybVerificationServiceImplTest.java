@@ -3,6 +3,8 @@ package com.catalis.core.kycb.core.services.kyb.v1;
 import com.catalis.common.core.filters.FilterRequest;
 import com.catalis.common.core.filters.FilterUtils;
 import com.catalis.common.core.queries.PaginationResponse;
+import com.catalis.core.kycb.core.events.party.v1.PartyDataChangedEvent;
+import com.catalis.core.kycb.core.events.party.v1.PartyDataTypeEnum;
 import com.catalis.core.kycb.core.mappers.kyb.v1.KybVerificationMapper;
 import com.catalis.core.kycb.interfaces.dtos.kyb.v1.KybVerificationDTO;
 import com.catalis.core.kycb.interfaces.enums.risk.v1.RiskLevelEnum;
@@ -15,6 +17,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -35,6 +38,9 @@ public class KybVerificationServiceImplTest {
     @Mock
     private FilterUtils filterUtils;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private KybVerificationServiceImpl kybVerificationService;
 
@@ -95,6 +101,8 @@ public class KybVerificationServiceImplTest {
         verify(mapper).toEntity(kybVerificationDTO);
         verify(repository).save(kybVerification);
         verify(mapper).toDTO(kybVerification);
+        verify(eventPublisher).publishEvent(
+                new PartyDataChangedEvent(kybVerificationDTO.getPartyId(), PartyDataTypeEnum.KYB_VERIFICATION));
     }
 
     @Test
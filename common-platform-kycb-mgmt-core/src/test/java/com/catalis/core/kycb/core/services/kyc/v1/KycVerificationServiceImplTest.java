@@ -3,6 +3,8 @@ package com.catalis.core.kycb.core.services.kyc.v1;
 import com.catalis.common.core.filters.FilterRequest;
 import com.catalis.common.core.filters.FilterUtils;
 import com.catalis.common.core.queries.PaginationResponse;
+import com.catalis.core.kycb.core.events.party.v1.PartyDataChangedEvent;
+import com.catalis.core.kycb.core.events.party.v1.PartyDataTypeEnum;
 import com.catalis.core.kycb.core.mappers.kyc.v1.KycVerificationMapper;
 import com.catalis.core.kycb.interfaces.dtos.kyc.v1.KycVerificationDTO;
 import com.catalis.core.kycb.models.entities.kyc.v1.KycVerification;
@@ -13,6 +15,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -33,6 +36,9 @@ public class KycVerificationServiceImplTest {
     @Mock
     private FilterUtils filterUtils;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private KycVerificationServiceImpl kycVerificationService;
 
@@ -66,6 +72,8 @@ public class KycVerificationServiceImplTest {
         verify(mapper).toEntity(kycVerificationDTO);
         verify(repository).save(kycVerification);
         verify(mapper).toDTO(kycVerification);
+        verify(eventPublisher).publishEvent(
+                new PartyDataChangedEvent(kycVerificationDTO.getPartyId(), PartyDataTypeEnum.KYC_VERIFICATION));
     }
 
     @Test
@@ -105,6 +113,7 @@ public class KycVerificationServiceImplTest {
     @Test
     void testDelete() {
         // Arrange
+        when(repository.findById(KYC_VERIFICATION_ID)).thenReturn(Mono.just(kycVerification));
         when(repository.deleteById(KYC_VERIFICATION_ID)).thenReturn(Mono.empty());
 
         // Act & Assert
@@ -112,5 +121,7 @@ public class KycVerificationServiceImplTest {
                 .verifyComplete();
 
         verify(repository).deleteById(KYC_VERIFICATION_ID);
+        verify(eventPublisher).publishEvent(
+                new PartyDataChangedEvent(kycVerification.getPartyId(), PartyDataTypeEnum.KYC_VERIFICATION));
     }
 }
\ No newline at end of file
@@ -3,6 +3,8 @@ package com.catalis.core.kycb.core.services.location.v1;
 import com.catalis.common.core.filters.FilterRequest;
 import com.catalis.common.core.filters.FilterUtils;
 import com.catalis.common.core.queries.PaginationResponse;
+import com.catalis.core.kycb.core.events.party.v1.PartyDataChangedEvent;
+import com.catalis.core.kycb.core.events.party.v1.PartyDataTypeEnum;
 import com.catalis.core.kycb.core.mappers.location.v1.BusinessLocationMapper;
 import com.catalis.core.kycb.interfaces.dtos.location.v1.BusinessLocationDTO;
 import com.catalis.core.kycb.models.entities.location.v1.BusinessLocation;
@@ -13,6 +15,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -33,6 +36,9 @@ public class BusinessLocationServiceImplTest {
     @Mock
     private FilterUtils filterUtils;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private BusinessLocationServiceImpl businessLocationService;
 
@@ -291,6 +297,7 @@ public class BusinessLocationServiceImplTest {
     @Test
     void testDelete() {
         // Arrange
+        when(repository.findById(BUSINESS_LOCATION_ID)).thenReturn(Mono.just(businessLocation));
         when(repository.deleteById(BUSINESS_LOCATION_ID)).thenReturn(Mono.empty());
 
         // Act & Assert
@@ -298,5 +305,6 @@ public class BusinessLocationServiceImplTest {
                 .verifyComplete();
 
         verify(repository).deleteById(BUSINESS_LOCATION_ID);
+        verify(eventPublisher).publishEvent(new PartyDataChangedEvent(businessLocation.getPartyId(), PartyDataTypeEnum.BUSINESS_LOCATION));
     }
 }
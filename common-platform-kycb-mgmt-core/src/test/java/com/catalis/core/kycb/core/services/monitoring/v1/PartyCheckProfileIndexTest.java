@@ -0,0 +1,74 @@
+package com.catalis.core.kycb.core.services.monitoring.v1;
+
+import com.catalis.core.kycb.core.events.party.v1.PartyDataChangedEvent;
+import com.catalis.core.kycb.core.events.party.v1.PartyDataTypeEnum;
+import com.catalis.core.kycb.models.repositories.kyc.v1.KycVerificationRepository;
+import com.catalis.core.kycb.models.repositories.kyc.v1.PartyCheckProfileRow;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static com.catalis.core.kycb.interfaces.enums.monitoring.v1.TransactionCheckReasonEnum.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class PartyCheckProfileIndexTest {
+
+    @Mock
+    private KycVerificationRepository repository;
+
+    @Spy
+    private TransactionCheckProperties properties = new TransactionCheckProperties();
+
+    @InjectMocks
+    private PartyCheckProfileIndex partyCheckProfileIndex;
+
+    private final Long PARTY_ID = 1L;
+
+    @Test
+    void testCheckAfterCommittedChangeUsesRecompiledProfile() {
+        // Arrange
+        when(repository.findCheckProfiles(any(Long[].class)))
+                .thenReturn(Flux.just(row(null)), Flux.just(row(true)));
+        partyCheckProfileIndex.getProfile(PARTY_ID).block();
+
+        // Act
+        partyCheckProfileIndex.onPartyDataChanged(new PartyDataChangedEvent(PARTY_ID, PartyDataTypeEnum.AML_MATCH));
+
+        // Assert
+        StepVerifier.create(partyCheckProfileIndex.getProfile(PARTY_ID))
+                .assertNext(profile -> assertEquals(PartyCheckProfile.bit(CONFIRMED_PEP),
+                        profile.evaluate(0L, -1, false)))
+                .verifyComplete();
+        verify(repository, times(2)).findCheckProfiles(any(Long[].class));
+    }
+
+    @Test
+    void testExpiredProfileIsRecompiledBeforeTheCheck() {
+        // Arrange
+        properties.setMaxAge(Duration.ZERO);
+        when(repository.findCheckProfiles(any(Long[].class))).thenReturn(Flux.just(row(null)), Flux.just(row(true)));
+
+        // Act
+        partyCheckProfileIndex.getProfile(PARTY_ID).block();
+        PartyCheckProfile profile = partyCheckProfileIndex.getProfile(PARTY_ID).block();
+
+        // Assert
+        assertEquals(PartyCheckProfile.bit(CONFIRMED_PEP), profile.evaluate(0L, -1, false));
+        verify(repository, times(2)).findCheckProfiles(any(Long[].class));
+    }
+
+    private PartyCheckProfileRow row(Boolean confirmedPep) {
+        return new PartyCheckProfileRow(PARTY_ID, "VERIFIED", "LOW", null, "CLEAR", confirmedPep, false, 0L,
+                null, null, false);
+    }
+}
@@ -0,0 +1,178 @@
+package com.catalis.core.kycb.core.services.monitoring.v1;
+
+import com.catalis.core.kycb.interfaces.dtos.monitoring.v1.TransactionDTO;
+import com.catalis.core.kycb.interfaces.enums.monitoring.v1.TransactionCheckDecisionEnum;
+import com.catalis.core.kycb.models.repositories.kyc.v1.PartyCheckProfileRow;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static com.catalis.core.kycb.interfaces.enums.monitoring.v1.TransactionCheckReasonEnum.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TransactionCheckServiceImplTest {
+
+    @Mock
+    private PartyCheckProfileIndex partyCheckProfileIndex;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private TransactionCheckServiceImpl transactionCheckService;
+
+    private final TransactionCheckProperties properties = new TransactionCheckProperties();
+    private final Long PARTY_ID = 1L;
+
+    @BeforeEach
+    void setUp() {
+        transactionCheckService.start();
+    }
+
+    @Test
+    void testVerifiedPartyWithinExpectedActivityIsAllowed() {
+        // Arrange
+        stubProfile(row("VERIFIED", "LOW", null, "CLEAR", 1L, "5000", "FR, PT", false));
+
+        // Act & Assert
+        StepVerifier.create(transactionCheckService.check(transaction("4000", "FR", false)))
+                .assertNext(result -> {
+                    assertEquals("T1", result.getTransactionId());
+                    assertEquals(PARTY_ID, result.getPartyId());
+                    assertEquals(TransactionCheckDecisionEnum.ALLOW, result.getDecision());
+                    assertTrue(result.getReasons().isEmpty());
+                    assertNotNull(result.getProfileCompiledAt());
+                })
+                .verifyComplete();
+        assertEquals(1L, meterRegistry.timer(TransactionCheckServiceImpl.METRIC_CHECK).count());
+    }
+
+    @Test
+    void testBlockingReasonsComeBeforeReviewReasons() {
+        // Arrange
+        stubProfile(row("VERIFIED", "LOW", null, "POSITIVE_HIT", 1L, "5000", "FR", false));
+
+        // Act & Assert
+        StepVerifier.create(transactionCheckService.check(transaction("6000", "MA", false)))
+                .assertNext(result -> {
+                    assertEquals(TransactionCheckDecisionEnum.BLOCK, result.getDecision());
+                    assertEquals(List.of(SCREENING_POSITIVE_HIT, UNANTICIPATED_COUNTRY, AMOUNT_ABOVE_REVIEW_LIMIT),
+                            result.getReasons());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void testAmountLimitsScaleWithExpectedVolumeAndRiskLevel() {
+        // Arrange: the assessed HIGH risk level supersedes the verification's LOW and halves both limits
+        stubProfile(row("VERIFIED", "LOW", "HIGH", "CLEAR", 1L, "5000", null, false));
+
+        // Act & Assert
+        StepVerifier.create(transactionCheckService.check(transaction("2500", null, false)))
+                .assertNext(result -> assertEquals(TransactionCheckDecisionEnum.ALLOW, result.getDecision()))
+                .verifyComplete();
+        StepVerifier.create(transactionCheckService.check(transaction("-2600", null, false)))
+                .assertNext(result -> assertEquals(List.of(AMOUNT_ABOVE_REVIEW_LIMIT), result.getReasons()))
+                .verifyComplete();
+        StepVerifier.create(transactionCheckService.check(transaction("12500.01", null, false)))
+                .assertNext(result -> {
+                    assertEquals(TransactionCheckDecisionEnum.BLOCK, result.getDecision());
+                    assertEquals(List.of(AMOUNT_ABOVE_BLOCK_LIMIT), result.getReasons());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void testPartyWithoutKycOrExpectedActivity() {
+        // Arrange
+        stubProfile(row(null, null, null, null, 0L, null, null, null));
+
+        // Act & Assert: countries are not checked without expected activity, but blocked countries always are
+        StepVerifier.create(transactionCheckService.check(transaction("20000", "MA", true)))
+                .assertNext(result -> {
+                    assertEquals(TransactionCheckDecisionEnum.BLOCK, result.getDecision());
+                    assertEquals(List.of(KYC_MISSING, AMOUNT_ABOVE_REVIEW_LIMIT, UNEXPECTED_CASH),
+                            result.getReasons());
+                })
+                .verifyComplete();
+        StepVerifier.create(transactionCheckService.check(transaction("10", "kp", false)))
+                .assertNext(result -> assertEquals(List.of(KYC_MISSING, BLOCKED_COUNTRY), result.getReasons()))
+                .verifyComplete();
+    }
+
+    @Test
+    void testPendingKycAndExtremeRiskAreSentToReview() {
+        // Arrange
+        stubProfile(row("IN_PROGRESS", "EXTREME", null, "REVIEW_REQUIRED", 1L, null, null, true));
+
+        // Act & Assert: the domestic country never needs to be anticipated
+        StepVerifier.create(transactionCheckService.check(transaction("9000", "ES", true)))
+                .assertNext(result -> {
+                    assertEquals(TransactionCheckDecisionEnum.REVIEW, result.getDecision());
+                    assertEquals(List.of(KYC_NOT_VERIFIED, SCREENING_REVIEW_REQUIRED, EXTREME_RISK),
+                            result.getReasons());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void testConfirmedPepAndSanctionsExposureAreSentToReview() {
+        // Arrange: neither is reflected in a risk assessment yet
+        stubProfile(new PartyCheckProfileRow(PARTY_ID, "VERIFIED", "LOW", null, "CLEAR", true, true, 1L,
+                new BigDecimal("5000"), null, false));
+
+        // Act & Assert
+        StepVerifier.create(transactionCheckService.check(transaction("100", null, false)))
+                .assertNext(result -> {
+                    assertEquals(TransactionCheckDecisionEnum.REVIEW, result.getDecision());
+                    assertEquals(List.of(CONFIRMED_PEP, SANCTIONS_EXPOSURE), result.getReasons());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void testTransactionWithoutAmountIsRejected() {
+        // Act & Assert
+        StepVerifier.create(transactionCheckService.check(TransactionDTO.builder().partyId(PARTY_ID).build()))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+        verifyNoInteractions(partyCheckProfileIndex);
+    }
+
+    private void stubProfile(PartyCheckProfileRow row) {
+        when(partyCheckProfileIndex.getProfile(PARTY_ID))
+                .thenReturn(Mono.just(PartyCheckProfile.compile(row, properties)));
+    }
+
+    private PartyCheckProfileRow row(String status, String kycRiskLevel, String assessedRiskLevel,
+                                     String screeningResult, Long expectedActivities, String monthlyVolume,
+                                     String countries, Boolean cashIntensive) {
+        return new PartyCheckProfileRow(PARTY_ID, status, kycRiskLevel, assessedRiskLevel, screeningResult, null,
+                null, expectedActivities, monthlyVolume == null ? null : new BigDecimal(monthlyVolume), countries,
+                cashIntensive);
+    }
+
+    private TransactionDTO transaction(String amount, String country, boolean cash) {
+        return TransactionDTO.builder()
+                .transactionId("T1")
+                .partyId(PARTY_ID)
+                .amount(new BigDecimal(amount))
+                .currencyIsoCode("EUR")
+                .countryIsoCode(country)
+                .cash(cash)
+                .build();
+    }
+}
@@ -0,0 +1,268 @@
+package com.catalis.core.kycb.core.services.monitoring.v1;
+
+import com.catalis.core.kycb.core.events.party.v1.PartyDataChangedEvent;
+import com.catalis.core.kycb.core.events.party.v1.PartyDataTypeEnum;
+import com.catalis.core.kycb.core.services.compliance.v1.CaseAutoAssigner;
+import com.catalis.core.kycb.interfaces.dtos.monitoring.v1.TransactionDTO;
+import com.catalis.core.kycb.models.entities.compliance.v1.ComplianceCase;
+import com.catalis.core.kycb.models.repositories.compliance.v1.ComplianceCaseRepository;
+import com.catalis.core.kycb.models.repositories.expected.v1.ExpectedActivityProfile;
+import com.catalis.core.kycb.models.repositories.expected.v1.ExpectedActivityRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TransactionMonitoringServiceImplTest {
+
+    @Mock
+    private ExpectedActivityRepository expectedActivityRepository;
+
+    @Mock
+    private ComplianceCaseRepository complianceCaseRepository;
+
+    @Mock
+    private CaseAutoAssigner caseAutoAssigner;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private TransactionMonitoringProperties properties = new TransactionMonitoringProperties();
+
+    @InjectMocks
+    private TransactionMonitoringServiceImpl transactionMonitoringService;
+
+    private final Long PARTY_ID = 1L;
+    private final LocalDateTime BOOKED = LocalDateTime.of(2024, 5, 10, 12, 0);
+
+    @BeforeEach
+    void setUp() {
+        transactionMonitoringService.start();
+    }
+
+    @Test
+    void testMonthlyVolumeDeviationOpensOneCase() {
+        // Arrange
+        when(expectedActivityRepository.findProfiles(aryEq(new Long[]{PARTY_ID})))
+                .thenReturn(Flux.just(profile("1000", null, null, "FR", false)));
+        when(complianceCaseRepository.insertOpenTransactionMonitoringCases(any(), any(), any(), any(), any(), any()))
+                .thenReturn(Flux.just(openedCase("TXM-1-MONTHLY_VOLUME")));
+        when(caseAutoAssigner.assignAll(anyList())).thenReturn(Mono.just(1L));
+
+        // Act & Assert
+        StepVerifier.create(transactionMonitoringService.ingest(Flux.just(
+                        transaction("T1", "600", "ES", false, BOOKED),
+                        transaction("T2", "700", "ES", false, BOOKED.plusDays(1)),
+                        transaction("T3", "100", "ES", false, BOOKED.plusDays(2)))))
+                .assertNext(result -> {
+                    assertEquals(3L, result.getReceivedTransactions());
+                    assertEquals(3L, result.getAcceptedTransactions());
+                    assertEquals(0L, result.getRejectedTransactions());
+                    assertEquals(1L, result.getDeviations());
+                    assertEquals(1L, result.getCasesOpened());
+                })
+                .verifyComplete();
+        verify(complianceCaseRepository).insertOpenTransactionMonitoringCases(
+                aryEq(new Long[]{PARTY_ID}), aryEq(new String[]{"TXM-1-MONTHLY_VOLUME"}), aryEq(new String[]{"HIGH"}),
+                aryEq(new String[]{"30-day volume 1300.00 exceeds expected monthly volume 1000.00"}),
+                any(LocalDateTime.class), any(LocalDateTime.class));
+        assertEquals(1.0, meterRegistry.counter(TransactionMonitoringServiceImpl.METRIC_DEVIATIONS,
+                "deviation", "MONTHLY_VOLUME").count());
+    }
+
+    @Test
+    void testUnanticipatedCountryAndCashOpenCases() {
+        // Arrange
+        when(expectedActivityRepository.findProfiles(aryEq(new Long[]{PARTY_ID})))
+                .thenReturn(Flux.just(profile(null, null, null, "FR, PT", false)));
+        when(complianceCaseRepository.insertOpenTransactionMonitoringCases(any(), any(), any(), any(), any(), any()))
+                .thenReturn(Flux.empty());
+        when(caseAutoAssigner.assignAll(anyList())).thenReturn(Mono.just(0L));
+
+        // Act & Assert
+        StepVerifier.create(transactionMonitoringService.ingest(Flux.just(
+                        transaction("T1", "100", "FR", false, BOOKED),
+                        transaction("T2", "100", "ES", false, BOOKED),
+                        transaction("T3", "100", "IR", false, BOOKED),
+                        transaction("T4", "100", "RU", false, BOOKED),
+                        transaction("T5", "500", null, true, BOOKED),
+                        transaction("T6", "15000", null, true, BOOKED))))
+                .assertNext(result -> {
+                    assertEquals(6L, result.getAcceptedTransactions());
+                    assertEquals(2L, result.getDeviations());
+                })
+                .verifyComplete();
+        verify(complianceCaseRepository).insertOpenTransactionMonitoringCases(
+                aryEq(new Long[]{PARTY_ID, PARTY_ID}),
+                aryEq(new String[]{"TXM-1-UNEXPECTED_COUNTRY", "TXM-1-UNEXPECTED_CASH"}),
+                aryEq(new String[]{"HIGH", "HIGH"}), any(), any(LocalDateTime.class), any(LocalDateTime.class));
+    }
+
+    @Test
+    void testWindowsSlideAndLateTransactionsAreRejected() {
+        // Arrange
+        when(expectedActivityRepository.findProfiles(aryEq(new Long[]{PARTY_ID})))
+                .thenReturn(Flux.just(profile("1000", "1500", null, null, false)));
+        when(complianceCaseRepository.insertOpenTransactionMonitoringCases(any(), any(), any(), any(), any(), any()))
+                .thenReturn(Flux.empty());
+        when(caseAutoAssigner.assignAll(anyList())).thenReturn(Mono.just(0L));
+
+        // Act & Assert
+        StepVerifier.create(transactionMonitoringService.ingest(Flux.just(
+                        transaction("T1", "1000", null, false, BOOKED),
+                        transaction("T2", "1000", null, false, BOOKED.plusDays(31)),
+                        transaction("T3", "1", null, false, BOOKED.minusDays(400)))))
+                .assertNext(result -> {
+                    assertEquals(2L, result.getAcceptedTransactions());
+                    assertEquals(1L, result.getRejectedTransactions());
+                    assertEquals(1L, result.getDeviations());
+                })
+                .verifyComplete();
+        verify(complianceCaseRepository).insertOpenTransactionMonitoringCases(
+                aryEq(new Long[]{PARTY_ID}), aryEq(new String[]{"TXM-1-ANNUAL_VOLUME"}), any(), any(),
+                any(LocalDateTime.class), any(LocalDateTime.class));
+    }
+
+    @Test
+    void testPartiesWithoutProfileAreNotEvaluatedAndProfilesAreLoadedOnce() {
+        // Arrange
+        properties.setBatchSize(1);
+        when(expectedActivityRepository.findProfiles(aryEq(new Long[]{PARTY_ID}))).thenReturn(Flux.empty());
+
+        // Act & Assert
+        StepVerifier.create(transactionMonitoringService.ingest(Flux.just(
+                        transaction("T1", "1000000", "IR", true, BOOKED),
+                        transaction("T2", "1000000", "IR", true, BOOKED),
+                        TransactionDTO.builder().transactionId("T3").amount(BigDecimal.TEN).build())))
+                .assertNext(result -> {
+                    assertEquals(3L, result.getReceivedTransactions());
+                    assertEquals(2L, result.getAcceptedTransactions());
+                    assertEquals(1L, result.getRejectedTransactions());
+                    assertEquals(0L, result.getDeviations());
+                })
+                .verifyComplete();
+        verify(expectedActivityRepository, times(1)).findProfiles(any());
+        verifyNoInteractions(complianceCaseRepository);
+    }
+
+    @Test
+    void testExpectedActivityChangeReloadsProfile() {
+        // Arrange
+        properties.setBatchSize(1);
+        when(expectedActivityRepository.findProfiles(aryEq(new Long[]{PARTY_ID})))
+                .thenReturn(Flux.empty())
+                .thenReturn(Flux.just(profile(null, null, null, null, true)));
+
+        // Act
+        transactionMonitoringService.ingest(Flux.just(transaction("T1", "10", null, false, BOOKED))).block();
+        transactionMonitoringService.onPartyDataChanged(new PartyDataChangedEvent(PARTY_ID, PartyDataTypeEnum.UBO));
+        transactionMonitoringService.ingest(Flux.just(transaction("T2", "10", null, false, BOOKED))).block();
+        transactionMonitoringService.onPartyDataChanged(
+                new PartyDataChangedEvent(PARTY_ID, PartyDataTypeEnum.EXPECTED_ACTIVITY));
+        transactionMonitoringService.ingest(Flux.just(transaction("T3", "10", null, false, BOOKED))).block();
+
+        // Assert
+        verify(expectedActivityRepository, times(2)).findProfiles(any());
+    }
+
+    @Test
+    void testFailedIngestionIsTakenOutOfTheWindowsBeforeReplay() {
+        // Arrange
+        properties.setBatchSize(1);
+        when(expectedActivityRepository.findProfiles(aryEq(new Long[]{PARTY_ID})))
+                .thenReturn(Flux.just(profile("1000", null, null, null, false)));
+        StepVerifier.create(transactionMonitoringService.ingest(Flux.concat(
+                        Flux.just(transaction("T1", "600", null, false, BOOKED)),
+                        Flux.error(new IllegalStateException("truncated file")))))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        // Act & Assert
+        // Counting T1 twice would take the 30-day volume to 1500 and over the expected 1000
+        StepVerifier.create(transactionMonitoringService.ingest(Flux.just(
+                        transaction("T1", "600", null, false, BOOKED),
+                        transaction("T2", "300", null, false, BOOKED.plusDays(1)))))
+                .assertNext(result -> {
+                    assertEquals(2L, result.getAcceptedTransactions());
+                    assertEquals(0L, result.getDeviations());
+                })
+                .verifyComplete();
+        verifyNoInteractions(complianceCaseRepository);
+    }
+
+    @Test
+    void testDeviationOfFailedIngestionIsRaisedAgainOnReplay() {
+        // Arrange
+        when(expectedActivityRepository.findProfiles(aryEq(new Long[]{PARTY_ID})))
+                .thenReturn(Flux.just(profile("1000", null, null, null, false)));
+        when(complianceCaseRepository.insertOpenTransactionMonitoringCases(any(), any(), any(), any(), any(), any()))
+                .thenReturn(Flux.error(new IllegalStateException("connection lost")))
+                .thenReturn(Flux.just(openedCase("TXM-1-MONTHLY_VOLUME")));
+        when(caseAutoAssigner.assignAll(anyList())).thenReturn(Mono.just(1L));
+        StepVerifier.create(transactionMonitoringService.ingest(Flux.just(
+                        transaction("T1", "600", null, false, BOOKED),
+                        transaction("T2", "700", null, false, BOOKED.plusDays(1)))))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        // Act & Assert
+        StepVerifier.create(transactionMonitoringService.ingest(Flux.just(
+                        transaction("T1", "600", null, false, BOOKED),
+                        transaction("T2", "700", null, false, BOOKED.plusDays(1)))))
+                .assertNext(result -> {
+                    assertEquals(1L, result.getDeviations());
+                    assertEquals(1L, result.getCasesOpened());
+                })
+                .verifyComplete();
+        verify(complianceCaseRepository, times(2)).insertOpenTransactionMonitoringCases(
+                aryEq(new Long[]{PARTY_ID}), aryEq(new String[]{"TXM-1-MONTHLY_VOLUME"}), aryEq(new String[]{"HIGH"}),
+                aryEq(new String[]{"30-day volume 1300.00 exceeds expected monthly volume 1000.00"}),
+                any(LocalDateTime.class), any(LocalDateTime.class));
+    }
+
+    private ExpectedActivityProfile profile(String monthly, String annual, Long count, String countries,
+                                            boolean cashIntensive) {
+        return new ExpectedActivityProfile(PARTY_ID, monthly == null ? null : new BigDecimal(monthly),
+                annual == null ? null : new BigDecimal(annual), count, countries, cashIntensive);
+    }
+
+    private TransactionDTO transaction(String transactionId, String amount, String country, boolean cash,
+                                       LocalDateTime bookingDate) {
+        return TransactionDTO.builder()
+                .transactionId(transactionId)
+                .partyId(PARTY_ID)
+                .amount(new BigDecimal(amount))
+                .currencyIsoCode("EUR")
+                .countryIsoCode(country)
+                .cash(cash)
+                .bookingDate(bookingDate)
+                .build();
+    }
+
+    private ComplianceCase openedCase(String caseReference) {
+        ComplianceCase complianceCase = new ComplianceCase();
+        complianceCase.setComplianceCaseId(100L);
+        complianceCase.setPartyId(PARTY_ID);
+        complianceCase.setCaseReference(caseReference);
+        return complianceCase;
+    }
+}
@@ -0,0 +1,123 @@
+package com.catalis.core.kycb.core.services.ownership.v1;
+
+import com.catalis.core.kycb.interfaces.dtos.ownership.v1.OwnershipNetworkNodeDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class OwnershipNetworkServiceImplTest {
+
+    @Mock
+    private OwnershipGraphIndex ownershipGraphIndex;
+
+    @Spy
+    private OwnershipProperties properties = new OwnershipProperties();
+
+    @InjectMocks
+    private OwnershipNetworkServiceImpl ownershipNetworkService;
+
+    private final long TARGET_ID = 1L;
+    private final long HOLDING_ID = 2L;
+    private final long SISTER_ID = 3L;
+    private final long UNRELATED_ID = 4L;
+    private final long PERSON_X_ID = 900L;
+    private final long PERSON_Y_ID = 901L;
+    private final long PERSON_Z_ID = 902L;
+
+    @BeforeEach
+    void setUp() {
+        // Target is owned by the holding and X; the holding by X and Y; the sister entity by Y; the unrelated one by Z
+        Map<Long, OwnerEdges> owners = new LinkedHashMap<>();
+        owners.put(TARGET_ID, new OwnerEdges(new long[]{HOLDING_ID}, new double[]{0.6}, new long[]{PERSON_X_ID}, new double[]{0.1}));
+        owners.put(HOLDING_ID, new OwnerEdges(new long[0], new double[0], new long[]{PERSON_X_ID, PERSON_Y_ID}, new double[]{0.5, 0.5}));
+        owners.put(SISTER_ID, new OwnerEdges(new long[0], new double[0], new long[]{PERSON_Y_ID}, new double[]{1.0}));
+        owners.put(UNRELATED_ID, new OwnerEdges(new long[0], new double[0], new long[]{PERSON_Z_ID}, new double[]{1.0}));
+
+        when(ownershipGraphIndex.ensureLoaded()).thenReturn(Mono.empty());
+        when(ownershipGraphIndex.getVersion()).thenReturn(1L);
+        when(ownershipGraphIndex.size()).thenReturn(owners.size());
+        doAnswer(invocation -> {
+            BiConsumer<Long, OwnerEdges> action = invocation.getArgument(0);
+            owners.forEach(action);
+            return null;
+        }).when(ownershipGraphIndex).forEach(any());
+    }
+
+    private static List<Long> ids(List<OwnershipNetworkNodeDTO> nodes) {
+        return nodes.stream().map(OwnershipNetworkNodeDTO::getNodeId).sorted().toList();
+    }
+
+    @Test
+    void testGetConnectedComponent() {
+        // Act & Assert
+        StepVerifier.create(ownershipNetworkService.getConnectedComponent(TARGET_ID))
+                .assertNext(result -> {
+                    assertEquals(List.of(TARGET_ID, HOLDING_ID, SISTER_ID, PERSON_X_ID, PERSON_Y_ID), ids(result.getNodes()));
+                    assertFalse(result.getTruncated());
+                    assertNotNull(result.getGraphBuiltAt());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void testGetSharedOwnerParties() {
+        // Act & Assert
+        StepVerifier.create(ownershipNetworkService.getSharedOwnerParties(TARGET_ID))
+                .assertNext(result -> {
+                    assertEquals(List.of(HOLDING_ID, SISTER_ID), ids(result.getNodes()));
+                    OwnershipNetworkNodeDTO sister = result.getNodes().stream()
+                            .filter(node -> node.getNodeId() == SISTER_ID)
+                            .findFirst()
+                            .orElseThrow();
+                    assertEquals(List.of(PERSON_Y_ID), sister.getSharedNaturalPersonIds());
+                    assertEquals("LEGAL_ENTITY", sister.getNodeType());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void testGetNeighbourhood() {
+        // Act & Assert
+        StepVerifier.create(ownershipNetworkService.getNeighbourhood(TARGET_ID, 1))
+                .assertNext(result -> {
+                    assertEquals(List.of(TARGET_ID, HOLDING_ID, PERSON_X_ID), ids(result.getNodes()));
+                    assertEquals(0, result.getNodes().get(0).getDistance());
+                    assertTrue(result.getNodes().stream().skip(1).allMatch(node -> node.getDistance() == 1));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void testUnknownPartyIsIsolated() {
+        // Act & Assert
+        StepVerifier.create(ownershipNetworkService.getConnectedComponent(42L))
+                .assertNext(result -> assertEquals(List.of(42L), ids(result.getNodes())))
+                .verifyComplete();
+    }
+
+    @Test
+    void testGraphIsCompactedOncePerVersion() {
+        // Act
+        ownershipNetworkService.getConnectedComponent(TARGET_ID).block();
+        ownershipNetworkService.getNeighbourhood(TARGET_ID, 2).block();
+
+        // Assert
+        verify(ownershipGraphIndex, times(1)).forEach(any());
+    }
+}
@@ -0,0 +1,140 @@
+package com.catalis.core.kycb.core.services.ownership.v1;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class UboDerivationServiceImplTest {
+
+    @Mock
+    private OwnershipGraphIndex ownershipGraphIndex;
+
+    @Spy
+    private OwnershipProperties properties = new OwnershipProperties();
+
+    @InjectMocks
+    private UboDerivationServiceImpl uboDerivationService;
+
+    private final long TARGET_ID = 1L;
+    private final long HOLDING_A_ID = 2L;
+    private final long HOLDING_B_ID = 3L;
+    private final long PERSON_X_ID = 900L;
+    private final long PERSON_Y_ID = 901L;
+
+    @BeforeEach
+    void setUp() {
+        when(ownershipGraphIndex.ensureLoaded()).thenReturn(Mono.empty());
+    }
+
+    private static OwnerEdges edges(long[] parents, double[] parentFractions, long[] persons, double[] personFractions) {
+        return new OwnerEdges(parents, parentFractions, persons, personFractions);
+    }
+
+    @Test
+    void testDeriveSumsProductsOverPaths() {
+        // Arrange
+        // X owns 10% of the target directly, 50% of A (which owns 60%) and 80% of B (which owns 40%)
+        when(ownershipGraphIndex.getOwners(TARGET_ID)).thenReturn(edges(
+                new long[]{HOLDING_A_ID, HOLDING_B_ID}, new double[]{0.6, 0.4},
+                new long[]{PERSON_X_ID}, new double[]{0.1}));
+        when(ownershipGraphIndex.getOwners(HOLDING_A_ID)).thenReturn(edges(
+                new long[0], new double[0],
+                new long[]{PERSON_X_ID, PERSON_Y_ID}, new double[]{0.5, 0.5}));
+        when(ownershipGraphIndex.getOwners(HOLDING_B_ID)).thenReturn(edges(
+                new long[0], new double[0],
+                new long[]{PERSON_X_ID}, new double[]{0.8}));
+
+        // Act & Assert
+        StepVerifier.create(uboDerivationService.deriveUbos(TARGET_ID, null))
+                .assertNext(result -> {
+                    assertEquals(new BigDecimal("25"), result.getThresholdPercentage());
+                    assertEquals(3, result.getEntitiesTraversed());
+                    assertTrue(result.getCycles().isEmpty());
+                    assertFalse(result.getDepthLimitReached());
+                    // X: 10 + 60*50% + 40*80% = 72; Y: 60*50% = 30
+                    assertEquals(2, result.getDerivedUbos().size());
+                    assertEquals(PERSON_X_ID, result.getDerivedUbos().get(0).getNaturalPersonId());
+                    assertEquals(new BigDecimal("72.0000"), result.getDerivedUbos().get(0).getEffectiveOwnershipPercentage());
+                    assertEquals(new BigDecimal("10.0000"), result.getDerivedUbos().get(0).getDirectOwnershipPercentage());
+                    assertEquals(new BigDecimal("62.0000"), result.getDerivedUbos().get(0).getIndirectOwnershipPercentage());
+                    assertEquals(3, result.getDerivedUbos().get(0).getPathCount());
+                    assertEquals(1, result.getDerivedUbos().get(0).getMaxChainLength());
+                    assertEquals(new BigDecimal("30.0000"), result.getDerivedUbos().get(1).getEffectiveOwnershipPercentage());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void testDeriveAppliesThreshold() {
+        // Arrange
+        when(ownershipGraphIndex.getOwners(TARGET_ID)).thenReturn(edges(
+                new long[0], new double[0],
+                new long[]{PERSON_X_ID, PERSON_Y_ID}, new double[]{0.3, 0.2}));
+
+        // Act & Assert
+        StepVerifier.create(uboDerivationService.deriveUbos(TARGET_ID, new BigDecimal("25")))
+                .assertNext(result -> {
+                    assertEquals(1, result.getDerivedUbos().size());
+                    assertEquals(PERSON_X_ID, result.getDerivedUbos().get(0).getNaturalPersonId());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void testDeriveDetectsCycles() {
+        // Arrange
+        // Target is owned by A, A by B, and B holds back 30% of A
+        when(ownershipGraphIndex.getOwners(TARGET_ID)).thenReturn(edges(
+                new long[]{HOLDING_A_ID}, new double[]{1.0},
+                new long[0], new double[0]));
+        when(ownershipGraphIndex.getOwners(HOLDING_A_ID)).thenReturn(edges(
+                new long[]{HOLDING_B_ID}, new double[]{0.7},
+                new long[]{PERSON_Y_ID}, new double[]{0.3}));
+        when(ownershipGraphIndex.getOwners(HOLDING_B_ID)).thenReturn(edges(
+                new long[]{HOLDING_A_ID}, new double[]{0.3},
+                new long[]{PERSON_X_ID}, new double[]{0.7}));
+
+        // Act & Assert
+        StepVerifier.create(uboDerivationService.deriveUbos(TARGET_ID, BigDecimal.ZERO))
+                .assertNext(result -> {
+                    assertEquals(List.of(List.of(HOLDING_A_ID, HOLDING_B_ID, HOLDING_A_ID)), result.getCycles());
+                    assertEquals(new BigDecimal("49.0000"), result.getDerivedUbos().get(0).getEffectiveOwnershipPercentage());
+                    assertEquals(PERSON_X_ID, result.getDerivedUbos().get(0).getNaturalPersonId());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void testDeriveStopsAtMaxDepth() {
+        // Arrange
+        properties.setMaxDepth(1);
+        when(ownershipGraphIndex.getOwners(TARGET_ID)).thenReturn(edges(
+                new long[]{HOLDING_A_ID}, new double[]{1.0},
+                new long[0], new double[0]));
+        when(ownershipGraphIndex.getOwners(HOLDING_A_ID)).thenReturn(edges(
+                new long[]{HOLDING_B_ID}, new double[]{1.0},
+                new long[0], new double[0]));
+
+        // Act & Assert
+        StepVerifier.create(uboDerivationService.deriveUbos(TARGET_ID, null))
+                .assertNext(result -> {
+                    assertTrue(result.getDepthLimitReached());
+                    assertTrue(result.getDerivedUbos().isEmpty());
+                })
+                .verifyComplete();
+        verify(ownershipGraphIndex, never()).getOwners(HOLDING_B_ID);
+    }
+}
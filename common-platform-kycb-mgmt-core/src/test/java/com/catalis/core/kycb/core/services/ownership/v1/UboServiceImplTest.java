@@ -3,6 +3,8 @@ package com.catalis.core.kycb.core.services.ownership.v1;
 import com.catalis.common.core.filters.FilterRequest;
 import com.catalis.common.core.filters.FilterUtils;
 import com.catalis.common.core.queries.PaginationResponse;
+import com.catalis.core.kycb.core.events.party.v1.PartyDataChangedEvent;
+import com.catalis.core.kycb.core.events.party.v1.PartyDataTypeEnum;
 import com.catalis.core.kycb.core.mappers.ownership.v1.UboMapper;
 import com.catalis.core.kycb.interfaces.dtos.ownership.v1.UboDTO;
 import com.catalis.core.kycb.models.entities.ownership.v1.Ubo;
@@ -13,6 +15,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -33,6 +36,9 @@ public class UboServiceImplTest {
     @Mock
     private FilterUtils filterUtils;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private UboServiceImpl uboService;
 
@@ -127,9 +133,35 @@ public class UboServiceImplTest {
         verify(mapper).toDTO(any(Ubo.class));
     }
 
+    @Test
+    void testUpdateMovedToAnotherPartyAnnouncesBothParties() {
+        // Arrange
+        Ubo existingUbo = new Ubo();
+        existingUbo.setUboId(UBO_ID);
+        existingUbo.setPartyId(10L);
+        existingUbo.setIsVerified(false);
+
+        Ubo updatedUbo = new Ubo();
+        updatedUbo.setPartyId(20L);
+
+        when(repository.findById(UBO_ID)).thenReturn(Mono.just(existingUbo));
+        when(mapper.toEntity(uboDTO)).thenReturn(updatedUbo);
+        when(repository.save(updatedUbo)).thenReturn(Mono.just(updatedUbo));
+        when(mapper.toDTO(updatedUbo)).thenReturn(uboDTO);
+
+        // Act & Assert
+        StepVerifier.create(uboService.update(UBO_ID, uboDTO))
+                .expectNext(uboDTO)
+                .verifyComplete();
+
+        verify(eventPublisher).publishEvent(new PartyDataChangedEvent(20L, PartyDataTypeEnum.UBO));
+        verify(eventPublisher).publishEvent(new PartyDataChangedEvent(10L, PartyDataTypeEnum.UBO));
+    }
+
     @Test
     void testDelete() {
         // Arrange
+        when(repository.findById(UBO_ID)).thenReturn(Mono.just(ubo));
         when(repository.deleteById(UBO_ID)).thenReturn(Mono.empty());
 
         // Act & Assert
@@ -137,5 +169,6 @@ public class UboServiceImplTest {
                 .verifyComplete();
 
         verify(repository).deleteById(UBO_ID);
+        verify(eventPublisher).publishEvent(new PartyDataChangedEvent(ubo.getPartyId(), PartyDataTypeEnum.UBO));
     }
 }
@@ -3,6 +3,8 @@ package com.catalis.core.kycb.core.services.power.v1;
 import com.catalis.common.core.filters.FilterRequest;
 import com.catalis.common.core.filters.FilterUtils;
 import com.catalis.common.core.queries.PaginationResponse;
+import com.catalis.core.kycb.core.events.party.v1.PartyDataChangedEvent;
+import com.catalis.core.kycb.core.events.party.v1.PartyDataTypeEnum;
 import com.catalis.core.kycb.core.mappers.power.v1.PowerOfAttorneyMapper;
 import com.catalis.core.kycb.interfaces.dtos.power.v1.PowerOfAttorneyDTO;
 import com.catalis.core.kycb.interfaces.enums.power.v1.PowerTypeEnum;
@@ -14,6 +16,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -35,6 +38,9 @@ public class PowerOfAttorneyServiceImplTest {
     @Mock
     private FilterUtils filterUtils;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private PowerOfAttorneyServiceImpl powerOfAttorneyService;
 
@@ -99,6 +105,7 @@ public class PowerOfAttorneyServiceImplTest {
         verify(mapper).toEntity(powerOfAttorneyDTO);
         verify(repository).save(powerOfAttorney);
         verify(mapper).toDTO(powerOfAttorney);
+        verify(eventPublisher).publishEvent(new PartyDataChangedEvent(PARTY_ID, PartyDataTypeEnum.POWER_OF_ATTORNEY));
     }
 
     @Test
@@ -163,6 +170,7 @@ public class PowerOfAttorneyServiceImplTest {
         // Verify that the creation date is preserved
         verify(repository).save(argThat(poa -> 
             poa.getDateCreated() != null && poa.getDateCreated().equals(creationDate)));
+        verify(eventPublisher).publishEvent(new PartyDataChangedEvent(PARTY_ID, PartyDataTypeEnum.POWER_OF_ATTORNEY));
     }
 
     @Test
@@ -237,6 +245,7 @@ public class PowerOfAttorneyServiceImplTest {
     @Test
     void testDelete() {
         // Arrange
+        when(repository.findById(POWER_OF_ATTORNEY_ID)).thenReturn(Mono.just(powerOfAttorney));
         when(repository.deleteById(POWER_OF_ATTORNEY_ID)).thenReturn(Mono.empty());
 
         // Act & Assert
@@ -244,5 +253,6 @@ public class PowerOfAttorneyServiceImplTest {
                 .verifyComplete();
 
         verify(repository).deleteById(POWER_OF_ATTORNEY_ID);
+        verify(eventPublisher).publishEvent(new PartyDataChangedEvent(PARTY_ID, PartyDataTypeEnum.POWER_OF_ATTORNEY));
     }
 }
\ No newline at end of file
@@ -0,0 +1,67 @@
+package com.catalis.core.kycb.core.services.power.v1;
+
+import com.catalis.core.kycb.core.events.party.v1.PartyDataChangedEvent;
+import com.catalis.core.kycb.core.events.party.v1.PartyDataTypeEnum;
+import com.catalis.core.kycb.models.entities.power.v1.PowerOfAttorney;
+import com.catalis.core.kycb.models.repositories.power.v1.PowerOfAttorneyRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class SigningAuthorityIndexTest {
+
+    @Mock
+    private PowerOfAttorneyRepository repository;
+
+    @Spy
+    private SigningAuthorityProperties properties = new SigningAuthorityProperties();
+
+    @InjectMocks
+    private SigningAuthorityIndex signingAuthorityIndex;
+
+    private final Long PARTY_ID = 1L;
+
+    @Test
+    void testCommittedChangeDropsCachedPowers() {
+        // Arrange
+        PowerOfAttorney power = new PowerOfAttorney();
+        power.setAttorneyId(10L);
+        power.setIsBastanteoCompleted(true);
+        when(repository.findByPartyId(PARTY_ID)).thenReturn(Flux.just(power), Flux.empty());
+        signingAuthorityIndex.getPowers(PARTY_ID).block();
+
+        // Act
+        signingAuthorityIndex.onPartyDataChanged(new PartyDataChangedEvent(PARTY_ID, PartyDataTypeEnum.POWER_OF_ATTORNEY));
+
+        // Assert
+        StepVerifier.create(signingAuthorityIndex.getPowers(PARTY_ID))
+                .assertNext(powers -> assertEquals(0, powers.attorneyCount()))
+                .verifyComplete();
+        verify(repository, times(2)).findByPartyId(PARTY_ID);
+    }
+
+    @Test
+    void testExpiredPowersAreReloaded() {
+        // Arrange
+        properties.setMaxAge(Duration.ZERO);
+        when(repository.findByPartyId(PARTY_ID)).thenReturn(Flux.empty());
+
+        // Act
+        signingAuthorityIndex.getPowers(PARTY_ID).block();
+        signingAuthorityIndex.getPowers(PARTY_ID).block();
+
+        // Assert
+        verify(repository, times(2)).findByPartyId(PARTY_ID);
+    }
+}
@@ -0,0 +1,135 @@
+package com.catalis.core.kycb.core.services.power.v1;
+
+import com.catalis.core.kycb.interfaces.dtos.power.v1.SigningAuthorityCheckDTO;
+import com.catalis.core.kycb.interfaces.enums.power.v1.PowerTypeEnum;
+import com.catalis.core.kycb.interfaces.enums.power.v1.SigningAuthorityDecisionEnum;
+import com.catalis.core.kycb.models.entities.power.v1.PowerOfAttorney;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class SigningAuthorityServiceImplTest {
+
+    @Mock
+    private SigningAuthorityIndex signingAuthorityIndex;
+
+    @InjectMocks
+    private SigningAuthorityServiceImpl signingAuthorityService;
+
+    private final Long PARTY_ID = 100L;
+    private final Long SOLE_ATTORNEY_ID = 200L;
+    private final Long JOINT_ATTORNEY_ID = 201L;
+    private final Long PENDING_ATTORNEY_ID = 202L;
+    private final Long EXPIRED_ATTORNEY_ID = 203L;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        List<PowerOfAttorney> powers = List.of(
+                // Sole signature up to 10,000 EUR, joint signature of two without limit
+                power(1L, SOLE_ATTORNEY_ID, new BigDecimal("10000.00"), "EUR", false, null, true, now.plusYears(1)),
+                power(2L, SOLE_ATTORNEY_ID, null, null, true, 2, true, now.plusYears(1)),
+                // Joint signature of three up to 50,000 EUR
+                power(3L, JOINT_ATTORNEY_ID, new BigDecimal("50000.00"), "eur", true, 3, true, null),
+                // Bastanteo not completed
+                power(4L, PENDING_ATTORNEY_ID, null, null, false, null, false, null),
+                // Lapsed yesterday
+                power(5L, EXPIRED_ATTORNEY_ID, null, null, false, null, true, now.minusDays(1))
+        );
+        when(signingAuthorityIndex.getPowers(PARTY_ID)).thenReturn(Mono.just(SigningPowers.of(powers)));
+    }
+
+    private static PowerOfAttorney power(Long id, Long attorneyId, BigDecimal limit, String currency,
+                                         boolean joint, Integer jointCount, boolean bastanteo,
+                                         LocalDateTime expiryDate) {
+        PowerOfAttorney power = new PowerOfAttorney();
+        power.setPowerOfAttorneyId(id);
+        power.setPartyId(100L);
+        power.setAttorneyId(attorneyId);
+        power.setPowerType(PowerTypeEnum.LIMITED);
+        power.setFinancialLimit(limit);
+        power.setCurrency(currency);
+        power.setJointSignatureRequired(joint);
+        power.setJointSignatureCount(jointCount);
+        power.setIsBastanteoCompleted(bastanteo);
+        power.setEffectiveDate(LocalDateTime.now().minusYears(1));
+        power.setExpiryDate(expiryDate);
+        return power;
+    }
+
+    private static SigningAuthorityCheckDTO check(Long attorneyId, String amount, String currency) {
+        return SigningAuthorityCheckDTO.builder()
+                .attorneyId(attorneyId)
+                .amount(new BigDecimal(amount))
+                .currency(currency)
+                .build();
+    }
+
+    @Test
+    void testCheckWithinSoleSignatureLimit() {
+        // Act & Assert
+        StepVerifier.create(signingAuthorityService.check(PARTY_ID, check(SOLE_ATTORNEY_ID, "5000", "EUR")))
+                .assertNext(result -> {
+                    assertEquals(SigningAuthorityDecisionEnum.AUTHORIZED, result.getDecision());
+                    assertTrue(result.getAuthorized());
+                    assertEquals(1, result.getRequiredSignatures());
+                    assertEquals(1L, result.getPowerOfAttorneyId());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void testCheckAboveSoleSignatureLimitFallsBackToJointPower() {
+        // Act & Assert
+        StepVerifier.create(signingAuthorityService.check(PARTY_ID, check(SOLE_ATTORNEY_ID, "25000", "EUR")))
+                .assertNext(result -> {
+                    assertEquals(SigningAuthorityDecisionEnum.JOINT_SIGNATURE_REQUIRED, result.getDecision());
+                    assertFalse(result.getAuthorized());
+                    assertEquals(2, result.getRequiredSignatures());
+                    assertEquals(2L, result.getPowerOfAttorneyId());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void testCheckAll() {
+        // Arrange
+        List<SigningAuthorityCheckDTO> checks = List.of(
+                check(JOINT_ATTORNEY_ID, "40000", "EUR"),
+                check(JOINT_ATTORNEY_ID, "60000", "EUR"),
+                check(JOINT_ATTORNEY_ID, "100", "USD"),
+                check(PENDING_ATTORNEY_ID, "100", "EUR"),
+                check(EXPIRED_ATTORNEY_ID, "100", "EUR")
+        );
+
+        // Act & Assert
+        StepVerifier.create(signingAuthorityService.checkAll(PARTY_ID, checks))
+                .assertNext(result -> {
+                    assertEquals(SigningAuthorityDecisionEnum.JOINT_SIGNATURE_REQUIRED, result.getDecision());
+                    assertEquals(3, result.getRequiredSignatures());
+                })
+                .assertNext(result -> assertEquals(SigningAuthorityDecisionEnum.LIMIT_EXCEEDED, result.getDecision()))
+                .assertNext(result -> assertEquals(SigningAuthorityDecisionEnum.CURRENCY_MISMATCH, result.getDecision()))
+                .assertNext(result -> {
+                    assertEquals(SigningAuthorityDecisionEnum.NO_VALID_POWER, result.getDecision());
+                    assertNull(result.getPowerOfAttorneyId());
+                })
+                .assertNext(result -> assertEquals(SigningAuthorityDecisionEnum.NO_VALID_POWER, result.getDecision()))
+                .verifyComplete();
+
+        verify(signingAuthorityIndex, times(1)).getPowers(PARTY_ID);
+    }
+}
@@ -0,0 +1,180 @@
+package com.catalis.core.kycb.core.services.regulatory.v1;
+
+import com.catalis.core.kycb.interfaces.dtos.regulatory.v1.SepblacReportJobDTO;
+import com.catalis.core.kycb.models.repositories.regulatory.v1.RegulatoryReportingRepository;
+import com.catalis.core.kycb.models.repositories.regulatory.v1.SepblacReportRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class SepblacReportServiceImplTest {
+
+    @Mock
+    private RegulatoryReportingRepository regulatoryReportingRepository;
+
+    @Spy
+    private SepblacReportProperties properties = new SepblacReportProperties();
+
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
+    @InjectMocks
+    private SepblacReportServiceImpl sepblacReportService;
+
+    @TempDir
+    Path reportDirectory;
+
+    private final LocalDateTime OPENED = LocalDateTime.of(2024, 3, 1, 9, 30);
+
+    @BeforeEach
+    void setUp() {
+        properties.setOutputDirectory(reportDirectory.toString());
+        properties.setRecordChunkSize(1);
+        properties.setWriteBufferSize(64);
+    }
+
+    @Test
+    void testJobWritesReportAndRecordsEachCase() throws IOException {
+        // Arrange
+        when(regulatoryReportingRepository.streamSepblacReport(properties.getMaxCases())).thenReturn(Flux.just(
+                caseRow(1L, "CASE-1", "Structured cash deposits"),
+                new SepblacReportRow(1L, SepblacReportRow.ACTION, 10L, 100L, null, null, null, null, null, null,
+                        null, null, null, null, null, null, "ESCALATION", "COMPLETED", "Escalated to MLRO", null,
+                        OPENED.plusDays(1), "Reported", null, null, null, null, null),
+                new SepblacReportRow(1L, SepblacReportRow.MATCH, 20L, 100L, null, null, null, null, null, null,
+                        null, null, null, null, null, null, null, null, null, null, null, null, "PEP", "EU",
+                        "Doe & Co", new BigDecimal("0.97"), "CONFIRMED_HIT"),
+                caseRow(2L, "CASE-2", null)));
+        stubRecording();
+        when(regulatoryReportingRepository.recordSepblacReports(any(), any(), any(), any(), any()))
+                .thenReturn(Mono.just(1));
+
+        // Act
+        SepblacReportJobDTO job = awaitFinished(sepblacReportService.startJob().block().getJobId());
+
+        // Assert
+        assertEquals("COMPLETED", job.getStatus());
+        assertEquals(2L, job.getReportedCases());
+        Path file = reportDirectory.resolve(job.getFileName());
+        assertTrue(Files.exists(file));
+        assertFalse(Files.exists(reportDirectory.resolve(job.getFileName() + ".part")));
+        assertEquals(Files.size(file), job.getFileSizeBytes());
+
+        String report = Files.readString(file, StandardCharsets.UTF_8);
+        assertTrue(report.contains("<SepblacReport reference=\"" + job.getReportReference() + "\""));
+        assertTrue(report.contains("<Case id=\"1\" reference=\"CASE-1\" reportReference=\""
+                + job.getReportReference() + "-000001\""));
+        assertTrue(report.contains("<Summary>Structured cash deposits</Summary>"));
+        assertTrue(report.contains("<Actions><Action type=\"ESCALATION\" status=\"COMPLETED\""));
+        assertTrue(report.contains("<MatchedName>Doe &amp; Co</MatchedName></Match></Matches></Case>"));
+        assertTrue(report.contains("<Case id=\"2\" reference=\"CASE-2\""));
+        assertTrue(report.contains("<Trailer cases=\"2\"/></SepblacReport>"));
+
+        verify(regulatoryReportingRepository).recordSepblacReports(aryEq(new Long[]{1L}),
+                aryEq(new String[]{job.getReportReference() + "-000001"}), eq("SEPBLAC"), any(), any());
+        verify(regulatoryReportingRepository).recordSepblacReports(aryEq(new Long[]{2L}),
+                aryEq(new String[]{job.getReportReference() + "-000002"}), eq("SEPBLAC"), any(), any());
+    }
+
+    @Test
+    void testJobWithoutCasesLeavesNoFile() throws IOException {
+        // Arrange
+        when(regulatoryReportingRepository.streamSepblacReport(properties.getMaxCases())).thenReturn(Flux.empty());
+
+        // Act
+        SepblacReportJobDTO job = awaitFinished(sepblacReportService.startJob().block().getJobId());
+
+        // Assert
+        assertEquals("COMPLETED", job.getStatus());
+        assertEquals(0L, job.getReportedCases());
+        try (var files = Files.list(reportDirectory)) {
+            assertEquals(0L, files.count());
+        }
+        verify(regulatoryReportingRepository, never()).recordSepblacReports(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void testFailedStreamRemovesPartialFile() throws IOException {
+        // Arrange
+        when(regulatoryReportingRepository.streamSepblacReport(properties.getMaxCases())).thenReturn(Flux.concat(
+                Flux.just(caseRow(1L, "CASE-1", null)),
+                Flux.error(new IllegalStateException("connection lost"))));
+
+        // Act
+        SepblacReportJobDTO job = awaitFinished(sepblacReportService.startJob().block().getJobId());
+
+        // Assert
+        assertEquals("FAILED", job.getStatus());
+        assertEquals("connection lost", job.getErrorMessage());
+        try (var files = Files.list(reportDirectory)) {
+            assertEquals(0L, files.count());
+        }
+        verify(regulatoryReportingRepository, never()).recordSepblacReports(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void testCasesReportedConcurrentlyDiscardTheReport() throws IOException {
+        // Arrange
+        when(regulatoryReportingRepository.streamSepblacReport(properties.getMaxCases())).thenReturn(Flux.just(
+                caseRow(1L, "CASE-1", null),
+                caseRow(2L, "CASE-2", null)));
+        stubRecording();
+        // Another node recorded case 2 while this report was being written
+        when(regulatoryReportingRepository.recordSepblacReports(any(), any(), any(), any(), any()))
+                .thenReturn(Mono.just(1), Mono.just(0));
+
+        // Act
+        SepblacReportJobDTO job = awaitFinished(sepblacReportService.startJob().block().getJobId());
+
+        // Assert
+        assertEquals("FAILED", job.getStatus());
+        assertTrue(job.getErrorMessage().contains("reported concurrently"));
+        try (var files = Files.list(reportDirectory)) {
+            assertEquals(0L, files.count());
+        }
+        verify(regulatoryReportingRepository).lockSepblacReporting();
+    }
+
+    private void stubRecording() {
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(regulatoryReportingRepository.lockSepblacReporting()).thenReturn(Mono.just(1));
+    }
+
+    private SepblacReportRow caseRow(Long caseId, String reference, String summary) {
+        return new SepblacReportRow(caseId, SepblacReportRow.CASE, 0L, 100L, "SUSPICIOUS_ACTIVITY", "CLOSED",
+                "HIGH", reference, summary, OPENED, null, null, "HIGH", 80, "B12345678", "SA",
+                null, null, null, null, null, null, null, null, null, null, null);
+    }
+
+    private SepblacReportJobDTO awaitFinished(String jobId) {
+        long deadline = System.currentTimeMillis() + 5000;
+        SepblacReportJobDTO job = sepblacReportService.getJob(jobId).block();
+        while ("RUNNING".equals(job.getStatus()) && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+            job = sepblacReportService.getJob(jobId).block();
+        }
+        return job;
+    }
+}
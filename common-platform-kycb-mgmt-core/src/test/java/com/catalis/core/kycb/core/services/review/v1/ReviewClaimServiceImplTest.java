@@ -0,0 +1,158 @@
+package com.catalis.core.kycb.core.services.review.v1;
+
+import com.catalis.core.kycb.core.events.industry.v1.IndustryRiskReviewDueEvent;
+import com.catalis.core.kycb.core.services.compliance.v1.CaseAutoAssigner;
+import com.catalis.core.kycb.interfaces.enums.compliance.v1.CasePriorityEnum;
+import com.catalis.core.kycb.interfaces.enums.compliance.v1.CaseStatusEnum;
+import com.catalis.core.kycb.interfaces.enums.compliance.v1.CaseTypeEnum;
+import com.catalis.core.kycb.interfaces.enums.risk.v1.RiskLevelEnum;
+import com.catalis.core.kycb.models.entities.compliance.v1.ComplianceCase;
+import com.catalis.core.kycb.models.entities.industry.v1.IndustryRisk;
+import com.catalis.core.kycb.models.entities.kyc.v1.KycVerification;
+import com.catalis.core.kycb.models.repositories.compliance.v1.ComplianceCaseRepository;
+import com.catalis.core.kycb.models.repositories.industry.v1.IndustryRiskRepository;
+import com.catalis.core.kycb.models.repositories.kyb.v1.KybVerificationRepository;
+import com.catalis.core.kycb.models.repositories.kyc.v1.KycVerificationRepository;
+import com.catalis.core.kycb.models.repositories.risk.v1.RiskAssessmentRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ReviewClaimServiceImplTest {
+
+    @Mock
+    private KycVerificationRepository kycVerificationRepository;
+
+    @Mock
+    private KybVerificationRepository kybVerificationRepository;
+
+    @Mock
+    private RiskAssessmentRepository riskAssessmentRepository;
+
+    @Mock
+    private IndustryRiskRepository industryRiskRepository;
+
+    @Mock
+    private ComplianceCaseRepository complianceCaseRepository;
+
+    @Mock
+    private CaseAutoAssigner caseAutoAssigner;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private PeriodicReviewProperties properties = new PeriodicReviewProperties();
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private ReviewClaimServiceImpl reviewClaimService;
+
+    private final Long HIGH_RISK_PARTY_ID = 100L;
+    private final Long REVIEWED_PARTY_ID = 101L;
+
+    private static KycVerification kycVerification(Long id, Long partyId, RiskLevelEnum riskLevel) {
+        KycVerification verification = new KycVerification();
+        verification.setKycVerificationId(id);
+        verification.setPartyId(partyId);
+        verification.setRiskLevel(riskLevel);
+        verification.setNextReviewDate(LocalDateTime.now().minusDays(3));
+        return verification;
+    }
+
+    @Test
+    void testClaimBatchOpensCasesForPartiesWithoutOpenCase() {
+        // Arrange
+        when(kycVerificationRepository.claimDueForReview(any(LocalDateTime.class), eq(200))).thenReturn(Flux.just(
+                kycVerification(1L, HIGH_RISK_PARTY_ID, RiskLevelEnum.HIGH),
+                kycVerification(2L, REVIEWED_PARTY_ID, RiskLevelEnum.LOW)
+        ));
+        when(complianceCaseRepository.findPartyIdsWithOpenCase(anyCollection(), eq(CaseTypeEnum.KYC_REVIEW)))
+                .thenReturn(Flux.just(REVIEWED_PARTY_ID));
+        when(complianceCaseRepository.saveAll(anyList()))
+                .thenAnswer(invocation -> Flux.fromIterable(invocation.<List<ComplianceCase>>getArgument(0)));
+        when(caseAutoAssigner.assignAll(anyList())).thenReturn(Mono.just(1L));
+
+        // Act & Assert
+        StepVerifier.create(reviewClaimService.claimBatch(ReviewSourceEnum.KYC_VERIFICATION))
+                .expectNext(2)
+                .verifyComplete();
+
+        verify(complianceCaseRepository).findPartyIdsWithOpenCase(
+                eq(Set.of(HIGH_RISK_PARTY_ID, REVIEWED_PARTY_ID)), eq(CaseTypeEnum.KYC_REVIEW));
+        verify(complianceCaseRepository).saveAll(argThat((List<ComplianceCase> cases) -> cases.size() == 1
+                && cases.get(0).getPartyId().equals(HIGH_RISK_PARTY_ID)
+                && cases.get(0).getCaseType() == CaseTypeEnum.KYC_REVIEW
+                && cases.get(0).getCaseStatus() == CaseStatusEnum.OPEN
+                && cases.get(0).getCasePriority() == CasePriorityEnum.HIGH
+                && cases.get(0).getDueDate() != null));
+        verify(caseAutoAssigner).assignAll(argThat((List<ComplianceCase> cases) -> cases.size() == 1));
+        assertEquals(2.0, meterRegistry.counter(ReviewClaimServiceImpl.METRIC_CLAIMED,
+                "source", "KYC_VERIFICATION").count());
+        assertEquals(1.0, meterRegistry.counter(ReviewClaimServiceImpl.METRIC_CASES_OPENED,
+                "source", "KYC_VERIFICATION").count());
+        assertEquals(2L, meterRegistry.timer(ReviewClaimServiceImpl.METRIC_LAG,
+                "source", "KYC_VERIFICATION").count());
+    }
+
+    @Test
+    void testClaimBatchAnnouncesDueIndustryRisks() {
+        // Arrange
+        IndustryRisk industryRisk = new IndustryRisk();
+        industryRisk.setIndustryRiskId(7L);
+        industryRisk.setActivityCode("6419");
+        industryRisk.setInherentRiskLevel(RiskLevelEnum.MEDIUM);
+        industryRisk.setNextAssessmentDate(LocalDateTime.now().minusDays(1));
+        when(industryRiskRepository.claimDueForReview(any(LocalDateTime.class), anyInt()))
+                .thenReturn(Flux.just(industryRisk));
+
+        // Act & Assert
+        StepVerifier.create(reviewClaimService.claimBatch(ReviewSourceEnum.INDUSTRY_RISK))
+                .expectNext(1)
+                .verifyComplete();
+
+        verify(eventPublisher).publishEvent(new IndustryRiskReviewDueEvent(7L, "6419"));
+        verifyNoInteractions(complianceCaseRepository);
+    }
+
+    @Test
+    void testClaimBatchWithNothingDue() {
+        // Arrange
+        when(riskAssessmentRepository.claimDueForReview(any(LocalDateTime.class), anyInt())).thenReturn(Flux.empty());
+
+        // Act & Assert
+        StepVerifier.create(reviewClaimService.claimBatch(ReviewSourceEnum.RISK_ASSESSMENT))
+                .expectNext(0)
+                .verifyComplete();
+
+        verifyNoInteractions(complianceCaseRepository);
+        assertEquals(1L, meterRegistry.timer(ReviewClaimServiceImpl.METRIC_BATCH,
+                "source", "RISK_ASSESSMENT").count());
+    }
+
+    @Test
+    void testToPriority() {
+        assertEquals(CasePriorityEnum.CRITICAL, ReviewClaimServiceImpl.toPriority(RiskLevelEnum.EXTREME));
+        assertEquals(CasePriorityEnum.LOW, ReviewClaimServiceImpl.toPriority(null));
+    }
+}
@@ -3,6 +3,8 @@ package com.catalis.core.kycb.core.services.risk.v1;
 import com.catalis.common.core.filters.FilterRequest;
 import com.catalis.common.core.filters.FilterUtils;
 import com.catalis.common.core.queries.PaginationResponse;
+import com.catalis.core.kycb.core.events.party.v1.PartyDataChangedEvent;
+import com.catalis.core.kycb.core.events.party.v1.PartyDataTypeEnum;
 import com.catalis.core.kycb.core.mappers.risk.v1.RiskAssessmentMapper;
 import com.catalis.core.kycb.interfaces.dtos.risk.v1.RiskAssessmentDTO;
 import com.catalis.core.kycb.interfaces.enums.assessment.v1.AssessmentTypeEnum;
@@ -16,6 +18,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -36,6 +39,9 @@ public class RiskAssessmentServiceImplTest {
     @Mock
     private FilterUtils filterUtils;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private RiskAssessmentServiceImpl riskAssessmentService;
 
@@ -90,6 +96,8 @@ public class RiskAssessmentServiceImplTest {
         verify(mapper).toEntity(riskAssessmentDTO);
         verify(repository).save(riskAssessment);
         verify(mapper).toDTO(riskAssessment);
+        verify(eventPublisher).publishEvent(
+                new PartyDataChangedEvent(riskAssessmentDTO.getPartyId(), PartyDataTypeEnum.RISK_ASSESSMENT));
     }
 
     @Test
@@ -167,6 +175,7 @@ public class RiskAssessmentServiceImplTest {
     @Test
     void testDelete() {
         // Arrange
+        when(repository.findById(RISK_ASSESSMENT_ID)).thenReturn(Mono.just(riskAssessment));
         when(repository.deleteById(RISK_ASSESSMENT_ID)).thenReturn(Mono.empty());
 
         // Act & Assert
@@ -174,5 +183,7 @@ public class RiskAssessmentServiceImplTest {
                 .verifyComplete();
 
         verify(repository).deleteById(RISK_ASSESSMENT_ID);
+        verify(eventPublisher).publishEvent(
+                new PartyDataChangedEvent(riskAssessment.getPartyId(), PartyDataTypeEnum.RISK_ASSESSMENT));
     }
 }
\ No newline at end of file
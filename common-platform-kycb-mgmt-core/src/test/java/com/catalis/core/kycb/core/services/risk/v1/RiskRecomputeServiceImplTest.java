@@ -0,0 +1,134 @@
+package com.catalis.core.kycb.core.services.risk.v1;
+
+import com.catalis.core.kycb.core.events.party.v1.PartyDataChangedEvent;
+import com.catalis.core.kycb.core.events.party.v1.PartyDataTypeEnum;
+import com.catalis.core.kycb.interfaces.dtos.risk.v1.RiskScoringResultDTO;
+import com.catalis.core.kycb.models.entities.risk.v1.RiskAssessment;
+import com.catalis.core.kycb.models.repositories.risk.v1.RiskAssessmentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class RiskRecomputeServiceImplTest {
+
+    @Mock
+    private RiskScoringService riskScoringService;
+
+    @Mock
+    private RiskAssessmentRepository riskAssessmentRepository;
+
+    @Spy
+    private RiskDependencyGraph riskDependencyGraph = new RiskDependencyGraph();
+
+    @Spy
+    private RiskRecomputeProperties properties = new RiskRecomputeProperties();
+
+    @InjectMocks
+    private RiskRecomputeServiceImpl riskRecomputeService;
+
+    private final Long PARTY_ID = 100L;
+
+    @BeforeEach
+    void setUp() {
+        properties.setDebounce(Duration.ofMillis(100));
+        properties.setMaxDelay(Duration.ofSeconds(5));
+        riskRecomputeService.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        riskRecomputeService.stop();
+    }
+
+    private void track(Long partyId) {
+        riskDependencyGraph.record(new PartyRiskProfile(partyId, 0L, Set.of("6419"), Set.of("ES")), LocalDateTime.now());
+    }
+
+    @Test
+    void testBurstOfChangesIsCoalesced() {
+        // Arrange
+        track(PARTY_ID);
+        when(riskScoringService.assess(PARTY_ID)).thenReturn(Mono.just(new RiskScoringResultDTO()));
+
+        // Act
+        riskRecomputeService.onPartyDataChanged(new PartyDataChangedEvent(PARTY_ID, PartyDataTypeEnum.UBO));
+        riskRecomputeService.onPartyDataChanged(new PartyDataChangedEvent(PARTY_ID, PartyDataTypeEnum.BUSINESS_LOCATION));
+        riskRecomputeService.onPartyDataChanged(new PartyDataChangedEvent(PARTY_ID, PartyDataTypeEnum.EXPECTED_ACTIVITY));
+
+        // Assert
+        assertEquals(1, riskRecomputeService.getPendingCount());
+        verify(riskScoringService, timeout(2000).times(1)).assess(PARTY_ID);
+        verify(riskScoringService, after(300).times(1)).assess(PARTY_ID);
+        assertEquals(0, riskRecomputeService.getPendingCount());
+        verifyNoInteractions(riskAssessmentRepository);
+    }
+
+    @Test
+    void testUntrackedPartyWithPriorAssessmentIsRecomputed() {
+        // Arrange
+        when(riskAssessmentRepository.findFirstByPartyIdOrderByAssessmentDateDesc(PARTY_ID))
+                .thenReturn(Mono.just(new RiskAssessment()));
+        when(riskScoringService.assess(PARTY_ID)).thenReturn(Mono.just(new RiskScoringResultDTO()));
+
+        // Act
+        riskRecomputeService.onPartyDataChanged(new PartyDataChangedEvent(PARTY_ID, PartyDataTypeEnum.ECONOMIC_ACTIVITY));
+
+        // Assert
+        verify(riskScoringService, timeout(2000)).assess(PARTY_ID);
+    }
+
+    @Test
+    void testUnratedPartyIsIgnored() {
+        // Arrange
+        when(riskAssessmentRepository.findFirstByPartyIdOrderByAssessmentDateDesc(PARTY_ID)).thenReturn(Mono.empty());
+
+        // Act
+        riskRecomputeService.onPartyDataChanged(new PartyDataChangedEvent(PARTY_ID, PartyDataTypeEnum.UBO));
+
+        // Assert
+        assertEquals(0, riskRecomputeService.getPendingCount());
+        verify(riskScoringService, after(300).never()).assess(PARTY_ID);
+    }
+
+    @Test
+    void testFailedRecomputeDoesNotStopPipeline() {
+        // Arrange
+        Long otherPartyId = 200L;
+        when(riskScoringService.assess(PARTY_ID)).thenReturn(Mono.error(new IllegalStateException("boom")));
+        when(riskScoringService.assess(otherPartyId)).thenReturn(Mono.just(new RiskScoringResultDTO()));
+
+        // Act
+        riskRecomputeService.requestRecompute(PARTY_ID);
+        riskRecomputeService.requestRecompute(otherPartyId);
+
+        // Assert
+        verify(riskScoringService, timeout(2000)).assess(PARTY_ID);
+        verify(riskScoringService, timeout(2000)).assess(otherPartyId);
+    }
+
+    @Test
+    void testDependencyGraphCoversSanctionsAnswersAndBusinessProfile() {
+        // Arrange
+        track(PARTY_ID);
+
+        // Act & Assert: both are read by the engine, the business profile through NO_UBO_IDENTIFIED
+        assertTrue(riskDependencyGraph.isAffectedBy(PARTY_ID, PartyDataTypeEnum.SANCTIONS_QUESTIONNAIRE));
+        assertTrue(riskDependencyGraph.isAffectedBy(PARTY_ID, PartyDataTypeEnum.BUSINESS_PROFILE));
+        assertFalse(riskDependencyGraph.isAffectedBy(PARTY_ID, PartyDataTypeEnum.POWER_OF_ATTORNEY));
+        assertFalse(riskDependencyGraph.isAffectedBy(PARTY_ID + 1, PartyDataTypeEnum.UBO));
+    }
+}
@@ -0,0 +1,123 @@
+package com.catalis.core.kycb.core.services.risk.v1;
+
+import com.catalis.core.kycb.core.events.industry.v1.IndustryRiskChangedEvent;
+import com.catalis.core.kycb.interfaces.dtos.risk.v1.RiskScoringResultDTO;
+import com.catalis.core.kycb.models.repositories.economic.v1.EconomicActivityRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class RiskReratingServiceImplTest {
+
+    @Mock
+    private EconomicActivityRepository economicActivityRepository;
+
+    @Mock
+    private RiskScoringService riskScoringService;
+
+    @Spy
+    private RiskReratingProperties properties = new RiskReratingProperties();
+
+    @InjectMocks
+    private RiskReratingServiceImpl riskReratingService;
+
+    private final String ACTIVITY_CODE = "6419";
+
+    @BeforeEach
+    void setUp() {
+        properties.setChunkSize(2);
+    }
+
+    @Test
+    void testStartJobProcessesAllPagesWithKeyset() {
+        // Arrange
+        when(economicActivityRepository.countPartiesByActivityCode(ACTIVITY_CODE)).thenReturn(Mono.just(3L));
+        when(economicActivityRepository.findPartyIdsByActivityCodeAfter(ACTIVITY_CODE, 0L, 2)).thenReturn(Flux.just(10L, 20L));
+        when(economicActivityRepository.findPartyIdsByActivityCodeAfter(ACTIVITY_CODE, 20L, 2)).thenReturn(Flux.just(30L));
+        when(riskScoringService.assess(anyLong())).thenReturn(Mono.just(new RiskScoringResultDTO()));
+
+        // Act
+        String jobId = riskReratingService.startJob(ACTIVITY_CODE, "manual").block().getJobId();
+
+        // Assert
+        StepVerifier.create(riskReratingService.getJob(jobId))
+                .assertNext(job -> {
+                    assertEquals("COMPLETED", job.getStatus());
+                    assertEquals(3L, job.getTotalParties());
+                    assertEquals(3L, job.getProcessedParties());
+                    assertEquals(0L, job.getFailedParties());
+                    assertNotNull(job.getFinishedAt());
+                })
+                .verifyComplete();
+        verify(riskScoringService).assess(10L);
+        verify(riskScoringService).assess(20L);
+        verify(riskScoringService).assess(30L);
+        verify(economicActivityRepository, never()).findPartyIdsByActivityCodeAfter(ACTIVITY_CODE, 30L, 2);
+    }
+
+    @Test
+    void testFailedPartyIsCountedAndJobContinues() {
+        // Arrange
+        when(economicActivityRepository.countPartiesByActivityCode(ACTIVITY_CODE)).thenReturn(Mono.just(2L));
+        when(economicActivityRepository.findPartyIdsByActivityCodeAfter(ACTIVITY_CODE, 0L, 2)).thenReturn(Flux.just(10L, 20L));
+        when(economicActivityRepository.findPartyIdsByActivityCodeAfter(ACTIVITY_CODE, 20L, 2)).thenReturn(Flux.empty());
+        when(riskScoringService.assess(10L)).thenReturn(Mono.error(new IllegalStateException("boom")));
+        when(riskScoringService.assess(20L)).thenReturn(Mono.just(new RiskScoringResultDTO()));
+
+        // Act & Assert
+        StepVerifier.create(riskReratingService.startJob(ACTIVITY_CODE, "manual"))
+                .assertNext(job -> {
+                    assertEquals("COMPLETED", job.getStatus());
+                    assertEquals(1L, job.getProcessedParties());
+                    assertEquals(1L, job.getFailedParties());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void testIndustryRiskChangeStartsJob() {
+        // Arrange
+        when(economicActivityRepository.countPartiesByActivityCode(ACTIVITY_CODE)).thenReturn(Mono.just(0L));
+        when(economicActivityRepository.findPartyIdsByActivityCodeAfter(ACTIVITY_CODE, 0L, 2)).thenReturn(Flux.empty());
+
+        // Act
+        riskReratingService.onIndustryRiskChanged(new IndustryRiskChangedEvent(1L, ACTIVITY_CODE));
+
+        // Assert
+        verify(economicActivityRepository, timeout(2000)).findPartyIdsByActivityCodeAfter(ACTIVITY_CODE, 0L, 2);
+        StepVerifier.create(riskReratingService.listJobs())
+                .assertNext(job -> {
+                    assertEquals(ACTIVITY_CODE, job.getActivityCode());
+                    assertEquals("industry-risk:1", job.getTrigger());
+                })
+                .verifyComplete();
+        verifyNoInteractions(riskScoringService);
+    }
+
+    @Test
+    void testDisabledIgnoresIndustryRiskChange() {
+        // Arrange
+        properties.setEnabled(false);
+
+        // Act
+        riskReratingService.onIndustryRiskChanged(new IndustryRiskChangedEvent(1L, ACTIVITY_CODE));
+
+        // Assert
+        StepVerifier.create(riskReratingService.listJobs())
+                .verifyComplete();
+        verifyNoInteractions(economicActivityRepository);
+    }
+}
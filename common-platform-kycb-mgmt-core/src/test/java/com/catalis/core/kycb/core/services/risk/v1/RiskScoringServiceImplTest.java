@@ -0,0 +1,201 @@
+package com.catalis.core.kycb.core.services.risk.v1;
+
+import com.catalis.core.kycb.core.events.party.v1.PartyDataChangedEvent;
+import com.catalis.core.kycb.core.events.party.v1.PartyDataTypeEnum;
+import com.catalis.core.kycb.core.mappers.risk.v1.RiskAssessmentMapper;
+import com.catalis.core.kycb.interfaces.dtos.risk.v1.RiskAssessmentDTO;
+import com.catalis.core.kycb.interfaces.enums.assessment.v1.AssessmentTypeEnum;
+import com.catalis.core.kycb.interfaces.enums.risk.v1.RiskFactorEnum;
+import com.catalis.core.kycb.interfaces.enums.risk.v1.RiskLevelEnum;
+import com.catalis.core.kycb.models.entities.business.v1.BusinessProfile;
+import com.catalis.core.kycb.models.entities.expected.v1.ExpectedActivity;
+import com.catalis.core.kycb.models.entities.location.v1.BusinessLocation;
+import com.catalis.core.kycb.models.entities.risk.v1.RiskAssessment;
+import com.catalis.core.kycb.models.repositories.business.v1.BusinessProfileRepository;
+import com.catalis.core.kycb.models.repositories.economic.v1.EconomicActivityRepository;
+import com.catalis.core.kycb.models.repositories.expected.v1.ExpectedActivityRepository;
+import com.catalis.core.kycb.models.repositories.industry.v1.IndustryRiskRepository;
+import com.catalis.core.kycb.models.repositories.location.v1.BusinessLocationRepository;
+import com.catalis.core.kycb.models.repositories.ownership.v1.UboRepository;
+import com.catalis.core.kycb.models.repositories.risk.v1.RiskAssessmentRepository;
+import com.catalis.core.kycb.models.repositories.sanctions.v1.SanctionsQuestionnaireRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class RiskScoringServiceImplTest {
+
+    @Mock
+    private EconomicActivityRepository economicActivityRepository;
+
+    @Mock
+    private IndustryRiskRepository industryRiskRepository;
+
+    @Mock
+    private BusinessLocationRepository businessLocationRepository;
+
+    @Mock
+    private ExpectedActivityRepository expectedActivityRepository;
+
+    @Mock
+    private UboRepository uboRepository;
+
+    @Mock
+    private SanctionsQuestionnaireRepository sanctionsQuestionnaireRepository;
+
+    @Mock
+    private BusinessProfileRepository businessProfileRepository;
+
+    @Mock
+    private RiskAssessmentRepository riskAssessmentRepository;
+
+    @Mock
+    private RiskAssessmentMapper riskAssessmentMapper;
+
+    @Mock
+    private RiskDependencyGraph riskDependencyGraph;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private RiskScoringProperties properties = new RiskScoringProperties();
+
+    @InjectMocks
+    private RiskScoringServiceImpl riskScoringService;
+
+    private final Long PARTY_ID = 100L;
+
+    @BeforeEach
+    void setUp() {
+        riskScoringService.compileDecisionTable();
+    }
+
+    private void stubInputs(List<BusinessLocation> locations,
+                            List<ExpectedActivity> expectedActivities,
+                            BusinessProfile businessProfile) {
+        when(economicActivityRepository.findByPartyId(PARTY_ID)).thenReturn(Flux.empty());
+        when(businessLocationRepository.findByPartyId(PARTY_ID)).thenReturn(Flux.fromIterable(locations));
+        when(expectedActivityRepository.findByPartyId(PARTY_ID)).thenReturn(Flux.fromIterable(expectedActivities));
+        when(uboRepository.findByPartyId(PARTY_ID)).thenReturn(Flux.empty());
+        when(sanctionsQuestionnaireRepository.findFirstByPartyIdOrderByQuestionnaireDateDesc(PARTY_ID)).thenReturn(Mono.empty());
+        when(businessProfileRepository.findFirstByPartyIdOrderByDateCreatedDesc(PARTY_ID))
+                .thenReturn(businessProfile == null ? Mono.empty() : Mono.just(businessProfile));
+        when(riskAssessmentRepository.save(any(RiskAssessment.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(riskAssessmentMapper.toDTO(any(RiskAssessment.class))).thenReturn(new RiskAssessmentDTO());
+    }
+
+    @Test
+    void testAssessScoresCombinedFactors() {
+        // Arrange
+        BusinessLocation location = new BusinessLocation();
+        location.setCountryIsoCode("ir");
+        ExpectedActivity expectedActivity = new ExpectedActivity();
+        expectedActivity.setCashIntensive(true);
+        stubInputs(List.of(location), List.of(expectedActivity), new BusinessProfile());
+        when(riskAssessmentRepository.findFirstByPartyIdOrderByAssessmentDateDesc(PARTY_ID)).thenReturn(Mono.just(new RiskAssessment()));
+
+        // Act & Assert
+        StepVerifier.create(riskScoringService.assess(PARTY_ID))
+                .assertNext(result -> {
+                    assertEquals(PARTY_ID, result.getPartyId());
+                    // cash 15 + country 25 + foreign 5 + no UBO 20 + cash-in-high-risk-country 15
+                    assertEquals(80, result.getRiskScore());
+                    assertEquals("EXTREME", result.getRiskLevel());
+                    assertEquals(List.of(RiskFactorEnum.HIGH_RISK_COUNTRY, RiskFactorEnum.FOREIGN_LOCATION,
+                            RiskFactorEnum.CASH_INTENSIVE, RiskFactorEnum.NO_UBO_IDENTIFIED), result.getDetectedFactors());
+                    assertTrue(result.getRuleScores().stream().anyMatch(score -> score.getRule().equals("cash-in-high-risk-country")));
+                })
+                .verifyComplete();
+
+        ArgumentCaptor<RiskAssessment> captor = ArgumentCaptor.forClass(RiskAssessment.class);
+        verify(riskAssessmentRepository).save(captor.capture());
+        RiskAssessment saved = captor.getValue();
+        assertEquals(AssessmentTypeEnum.EVENT_DRIVEN, saved.getAssessmentType());
+        assertEquals(RiskLevelEnum.EXTREME, saved.getRiskLevel());
+        assertEquals(RiskScoringServiceImpl.ASSESSMENT_AGENT, saved.getAssessmentAgent());
+        assertTrue(saved.getRiskFactors().contains("high-risk-country:25"));
+        verify(riskDependencyGraph).record(argThat(profile -> profile.partyId().equals(PARTY_ID)
+                && profile.countryCodes().contains("IR")), eq(saved.getAssessmentDate()));
+        verify(eventPublisher).publishEvent(new PartyDataChangedEvent(PARTY_ID, PartyDataTypeEnum.RISK_ASSESSMENT));
+        verifyNoInteractions(industryRiskRepository);
+    }
+
+    @Test
+    void testAssessDomesticPersonWithoutFactors() {
+        // Arrange
+        BusinessLocation location = new BusinessLocation();
+        location.setCountryIsoCode("ES");
+        stubInputs(List.of(location), List.of(), null);
+        when(riskAssessmentRepository.findFirstByPartyIdOrderByAssessmentDateDesc(PARTY_ID)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(riskScoringService.assess(PARTY_ID))
+                .assertNext(result -> {
+                    assertEquals(0, result.getRiskScore());
+                    assertEquals("LOW", result.getRiskLevel());
+                    assertTrue(result.getDetectedFactors().isEmpty());
+                    assertTrue(result.getRuleScores().isEmpty());
+                })
+                .verifyComplete();
+
+        ArgumentCaptor<RiskAssessment> captor = ArgumentCaptor.forClass(RiskAssessment.class);
+        verify(riskAssessmentRepository).save(captor.capture());
+        assertEquals(AssessmentTypeEnum.INITIAL, captor.getValue().getAssessmentType());
+    }
+
+    @Test
+    void testScoreIsClampedToMaxScore() {
+        // Arrange
+        RiskDecisionTable table = RiskDecisionTable.compile(properties);
+        long features = RiskDecisionTable.mask(List.of(RiskFactorEnum.SUBJECT_TO_SANCTIONS,
+                RiskFactorEnum.SANCTIONED_DEALINGS, RiskFactorEnum.SANCTIONED_COUNTRY_PRESENCE));
+
+        // Act
+        int score = table.score(table.evaluate(features));
+
+        // Assert
+        assertEquals(properties.getMaxScore(), score);
+        assertEquals(RiskLevelEnum.EXTREME, table.level(score));
+    }
+
+    @Test
+    void testCompileRejectsTooManyRules() {
+        // Arrange
+        RiskScoringProperties oversized = new RiskScoringProperties();
+        List<RiskScoringProperties.Rule> rules = new ArrayList<>();
+        for (int i = 0; i < 65; i++) {
+            rules.add(new RiskScoringProperties.Rule("rule-" + i, List.of(RiskFactorEnum.CASH_INTENSIVE), 1));
+        }
+        oversized.setRules(rules);
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> RiskDecisionTable.compile(oversized));
+    }
+
+    @Test
+    void testParseCountryCodes() {
+        assertEquals(List.of("FR", "MA", "PT"),
+                new ArrayList<>(RiskScoringServiceImpl.parseCountryCodes("fr, PT;MA / Portugal")));
+        assertTrue(RiskScoringServiceImpl.parseCountryCodes(null).isEmpty());
+    }
+}
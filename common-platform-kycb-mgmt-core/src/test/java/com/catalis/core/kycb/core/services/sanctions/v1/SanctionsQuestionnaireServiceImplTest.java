@@ -1,5 +1,7 @@
 package com.catalis.core.kycb.core.services.sanctions.v1;
 
+import com.catalis.core.kycb.core.events.party.v1.PartyDataChangedEvent;
+import com.catalis.core.kycb.core.events.party.v1.PartyDataTypeEnum;
 import com.catalis.core.kycb.core.mappers.sanctions.v1.SanctionsQuestionnaireMapper;
 import com.catalis.core.kycb.interfaces.dtos.sanctions.v1.SanctionsQuestionnaireDTO;
 import com.catalis.core.kycb.interfaces.enums.sanctions.v1.EntitySanctionsQuestionnaireTypeEnum;
@@ -11,6 +13,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
@@ -29,6 +32,9 @@ class SanctionsQuestionnaireServiceImplTest {
     @Mock
     private SanctionsQuestionnaireMapper mapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private SanctionsQuestionnaireServiceImpl service;
 
@@ -78,6 +84,8 @@ class SanctionsQuestionnaireServiceImplTest {
         verify(mapper).toEntity(any(SanctionsQuestionnaireDTO.class));
         verify(repository).save(any(SanctionsQuestionnaire.class));
         verify(mapper).toDTO(any(SanctionsQuestionnaire.class));
+        verify(eventPublisher).publishEvent(
+                new PartyDataChangedEvent(PARTY_ID, PartyDataTypeEnum.SANCTIONS_QUESTIONNAIRE));
     }
 
     @Test
@@ -147,6 +155,7 @@ class SanctionsQuestionnaireServiceImplTest {
     @Test
     void delete_ShouldDeleteSanctionsQuestionnaire() {
         // Arrange
+        when(repository.findById(QUESTIONNAIRE_ID)).thenReturn(Mono.just(entity));
         when(repository.deleteById(QUESTIONNAIRE_ID)).thenReturn(Mono.empty());
 
         // Act & Assert
@@ -154,5 +163,7 @@ class SanctionsQuestionnaireServiceImplTest {
                 .verifyComplete();
 
         verify(repository).deleteById(QUESTIONNAIRE_ID);
+        verify(eventPublisher).publishEvent(
+                new PartyDataChangedEvent(entity.getPartyId(), PartyDataTypeEnum.SANCTIONS_QUESTIONNAIRE));
     }
 }
@@ -0,0 +1,237 @@
+package com.catalis.core.kycb.core.services.watchlist.v1;
+
+import com.catalis.core.kycb.interfaces.dtos.watchlist.v1.WatchlistLoadRequestDTO;
+import com.catalis.core.kycb.interfaces.enums.aml.v1.ListTypeEnum;
+import com.catalis.core.kycb.interfaces.enums.watchlist.v1.WatchlistFormatEnum;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+public class WatchlistLoaderServiceImplTest {
+
+    @Spy
+    private WatchlistProperties properties = new WatchlistProperties();
+
+    @InjectMocks
+    private WatchlistLoaderServiceImpl watchlistLoaderService;
+
+    @TempDir
+    Path watchlistDirectory;
+
+    @BeforeEach
+    void setUp() {
+        properties.setBaseDirectory(watchlistDirectory.toString());
+        properties.setReadBufferSize(64);
+    }
+
+    @Test
+    void testLoadCsv() throws IOException {
+        // Arrange
+        Files.writeString(watchlistDirectory.resolve("sdn.csv"),
+                "ent_num,SDN_Name,SDN_Type,Program\n"
+                        + "36,\"AEROCARIBBEAN AIRLINES\",-0-,CUBA\n"
+                        + "173,\"ANGLO-CARIBBEAN CO., LTD.\",-0-,CUBA\r\n"
+                        + "306,\"BANCO NACIONAL DE CUBA\",-0-,CUBA\n"
+                        + "7157,\"AL-QADI, Yasin\",individual,SDGT\n"
+                        + "9999,\"\",-0-,SDGT",
+                StandardCharsets.UTF_8);
+
+        WatchlistLoadRequestDTO request = WatchlistLoadRequestDTO.builder()
+                .listSource("OFAC_SDN")
+                .listType(ListTypeEnum.SANCTIONS)
+                .fileName("sdn.csv")
+                .format(WatchlistFormatEnum.CSV)
+                .headerRow(true)
+                .build();
+
+        // Act & Assert
+        StepVerifier.create(watchlistLoaderService.load(request))
+                .assertNext(summary -> {
+                    assertEquals("OFAC_SDN", summary.getListSource());
+                    assertEquals(1L, summary.getVersion());
+                    assertEquals(5L, summary.getRecordCount());
+                    assertEquals(4L, summary.getEntryCount());
+                    assertEquals(1L, summary.getSkippedRecordCount());
+                    assertTrue(summary.getBytesRead() > 0);
+                })
+                .verifyComplete();
+
+        StepVerifier.create(watchlistLoaderService.findSnapshot("OFAC_SDN"))
+                .assertNext(snapshot -> {
+                    WatchlistEntry entry = snapshot.get(1);
+                    assertEquals("173", entry.entryId());
+                    assertEquals("ANGLO-CARIBBEAN CO., LTD.", entry.name());
+                    assertEquals("ANGLO CARIBBEAN CO LTD", entry.normalizedName());
+                    assertNull(entry.entityType());
+                    assertEquals("CUBA", entry.program());
+                    assertEquals("individual", snapshot.get(3).entityType());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void testLoadXmlEuConsolidatedList() throws IOException {
+        // Arrange
+        Files.writeString(watchlistDirectory.resolve("eu.xml"),
+                "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+                        + "<export xmlns=\"http://eu.europa.ec/fpi/fsd/export\">"
+                        + "<sanctionEntity logicalId=\"13\">"
+                        + "<regulation programme=\"IRQ\"/>"
+                        + "<subjectType code=\"person\"/>"
+                        + "<nameAlias wholeName=\"Saddam Hussein Al-Tikriti\"/>"
+                        + "<nameAlias wholeName=\"Абу Али\"/>"
+                        + "</sanctionEntity>"
+                        + "<sanctionEntity logicalId=\"14\">"
+                        + "<subjectType code=\"enterprise\"/>"
+                        + "<nameAlias wholeName=\"Société Générale d'Import\"/>"
+                        + "</sanctionEntity>"
+                        + "</export>",
+                StandardCharsets.UTF_8);
+
+        WatchlistLoadRequestDTO request = WatchlistLoadRequestDTO.builder()
+                .listSource("EU_CONSOLIDATED")
+                .listType(ListTypeEnum.SANCTIONS)
+                .fileName("eu.xml")
+                .format(WatchlistFormatEnum.XML)
+                .build();
+
+        // Act & Assert
+        StepVerifier.create(watchlistLoaderService.load(request))
+                .assertNext(summary -> {
+                    assertEquals(2L, summary.getRecordCount());
+                    assertEquals(3L, summary.getEntryCount());
+                })
+                .verifyComplete();
+
+        StepVerifier.create(watchlistLoaderService.findSnapshot("EU_CONSOLIDATED"))
+                .assertNext(snapshot -> {
+                    List<WatchlistEntry> entries = snapshot.getEntries();
+                    assertEquals("SADDAM HUSSEIN AL TIKRITI", entries.get(0).normalizedName());
+                    assertEquals("ABU ALI", entries.get(1).normalizedName());
+                    assertEquals("13", entries.get(1).entryId());
+                    assertEquals("IRQ", entries.get(1).program());
+                    assertEquals("SOCIETE GENERALE DIMPORT", entries.get(2).normalizedName());
+                    assertEquals("enterprise", entries.get(2).entityType());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void testLoadXmlOfacSdnList() throws IOException {
+        // Arrange
+        Files.writeString(watchlistDirectory.resolve("sdn.xml"),
+                "<sdnList><sdnEntry><uid>7157</uid><firstName>Yasin</firstName><lastName>AL-QADI</lastName>"
+                        + "<sdnType>Individual</sdnType><programList><program>SDGT</program></programList>"
+                        + "<akaList><aka><uid>1</uid><firstName>Yasin</firstName><lastName>KADI</lastName></aka></akaList>"
+                        + "</sdnEntry></sdnList>",
+                StandardCharsets.UTF_8);
+
+        WatchlistLoadRequestDTO request = WatchlistLoadRequestDTO.builder()
+                .listSource("OFAC_SDN")
+                .listType(ListTypeEnum.SANCTIONS)
+                .fileName("sdn.xml")
+                .format(WatchlistFormatEnum.XML)
+                .build();
+
+        // Act & Assert
+        StepVerifier.create(watchlistLoaderService.load(request)
+                        .then(watchlistLoaderService.findSnapshot("OFAC_SDN")))
+                .assertNext(snapshot -> {
+                    assertEquals(2, snapshot.size());
+                    assertEquals("7157", snapshot.get(0).entryId());
+                    assertEquals("YASIN AL QADI", snapshot.get(0).normalizedName());
+                    assertEquals("YASIN KADI", snapshot.get(1).normalizedName());
+                    assertEquals("7157", snapshot.get(1).entryId());
+                    assertEquals("SDGT", snapshot.get(1).program());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void testLoadXmlOfacSdnListIgnoresNestedUids() throws IOException {
+        // Arrange
+        Files.writeString(watchlistDirectory.resolve("sdn.xml"),
+                "<sdnList><sdnEntry><uid>306</uid><lastName>BANCO NACIONAL DE CUBA</lastName>"
+                        + "<idList><id><uid>4001</uid><idType>SWIFT/BIC</idType></id></idList>"
+                        + "<addressList><address><uid>199</uid><city>Havana</city></address></addressList>"
+                        + "<dateOfBirthList><dateOfBirthItem><uid>12</uid></dateOfBirthItem></dateOfBirthList>"
+                        + "</sdnEntry></sdnList>",
+                StandardCharsets.UTF_8);
+
+        WatchlistLoadRequestDTO request = WatchlistLoadRequestDTO.builder()
+                .listSource("OFAC_SDN")
+                .listType(ListTypeEnum.SANCTIONS)
+                .fileName("sdn.xml")
+                .format(WatchlistFormatEnum.XML)
+                .build();
+
+        // Act & Assert
+        StepVerifier.create(watchlistLoaderService.load(request)
+                        .then(watchlistLoaderService.findSnapshot("OFAC_SDN")))
+                .assertNext(snapshot -> {
+                    assertEquals(1, snapshot.size());
+                    assertEquals("306", snapshot.get(0).entryId());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void testReloadIncrementsVersion() throws IOException {
+        // Arrange
+        Files.writeString(watchlistDirectory.resolve("list.csv"), "1,John Doe\n", StandardCharsets.UTF_8);
+
+        WatchlistLoadRequestDTO request = WatchlistLoadRequestDTO.builder()
+                .listSource("INTERNAL")
+                .listType(ListTypeEnum.WATCHLIST)
+                .fileName("list.csv")
+                .format(WatchlistFormatEnum.CSV)
+                .build();
+
+        // Act & Assert
+        StepVerifier.create(watchlistLoaderService.load(request)
+                        .then(watchlistLoaderService.load(request)))
+                .assertNext(summary -> assertEquals(2L, summary.getVersion()))
+                .verifyComplete();
+
+        StepVerifier.create(watchlistLoaderService.listSnapshots())
+                .expectNextCount(1)
+                .verifyComplete();
+    }
+
+    @Test
+    void testLoadRejectsFilesOutsideBaseDirectory() {
+        // Arrange
+        WatchlistLoadRequestDTO request = WatchlistLoadRequestDTO.builder()
+                .listSource("OFAC_SDN")
+                .listType(ListTypeEnum.SANCTIONS)
+                .fileName("../../etc/passwd")
+                .format(WatchlistFormatEnum.CSV)
+                .build();
+
+        // Act & Assert
+        StepVerifier.create(watchlistLoaderService.load(request))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+    }
+
+    @Test
+    void testGetSnapshotNotLoaded() {
+        // Act & Assert
+        StepVerifier.create(watchlistLoaderService.getSnapshot("UNKNOWN"))
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,41 @@
+package com.catalis.core.kycb.core.startup;
+
+import jakarta.annotation.PostConstruct;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class EagerInitializationFilterTest {
+
+    private final EagerInitializationFilter filter = new EagerInitializationFilter();
+
+    @Test
+    void testBeansStartingWorkAtStartupStayEager() {
+        // Act & Assert
+        assertTrue(filter.isExcluded("monitor", new RootBeanDefinition(Monitor.class), Monitor.class));
+        assertTrue(filter.isExcluded("subMonitor", new RootBeanDefinition(SubMonitor.class), SubMonitor.class));
+    }
+
+    @Test
+    void testOtherBeansAreLazy() {
+        // Act & Assert
+        assertFalse(filter.isExcluded("service", new RootBeanDefinition(Service.class), Service.class));
+        assertFalse(filter.isExcluded("string", new RootBeanDefinition(String.class), String.class));
+        assertFalse(filter.isExcluded("unknown", new RootBeanDefinition(), null));
+    }
+
+    static class Monitor {
+
+        @PostConstruct
+        void start() {
+        }
+    }
+
+    static class SubMonitor extends Monitor {
+    }
+
+    static class Service {
+    }
+}
@@ -0,0 +1,37 @@
+package com.catalis.core.kycb.core.startup;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class StartupBenchmarkTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void testRecordAppendsRunsAndComparesThemPerConfiguration() throws Exception {
+        // Arrange
+        Path file = directory.resolve("startup-benchmark.csv");
+        StartupBenchmark.record(file, "aot=false cds=false lazy=false", 4000, 3500);
+        StartupBenchmark.record(file, "aot=true cds=true lazy=false", 1800, 1500);
+        StartupBenchmark.record(file, "aot=true cds=true lazy=false", 1600, 1300);
+
+        // Act
+        StartupBenchmarkResult result = StartupBenchmark.record(file, "aot=true cds=true lazy=false", 1700, 1400);
+
+        // Assert
+        assertEquals(1700, result.timeToReadyMillis());
+        assertEquals(1400, result.contextReadyMillis());
+        assertEquals(3, result.runs());
+        assertEquals(1700, result.medianMillis());
+        assertEquals(1600, result.minMillis());
+        assertEquals(1800, result.maxMillis());
+        assertEquals(5, Files.readAllLines(file).size());
+        assertEquals(StartupBenchmark.HEADER, Files.readAllLines(file).get(0));
+    }
+}
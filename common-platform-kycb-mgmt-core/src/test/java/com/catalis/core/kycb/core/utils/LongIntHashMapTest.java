@@ -0,0 +1,46 @@
+package com.catalis.core.kycb.core.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LongIntHashMapTest {
+
+    @Test
+    void testPutGetAndGrow() {
+        // Arrange
+        LongIntHashMap map = new LongIntHashMap(2, -1);
+
+        // Act
+        for (int i = 0; i < 10_000; i++) {
+            map.put(i * 7_919L - 5_000L, i);
+        }
+
+        // Assert
+        assertEquals(10_000, map.size());
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals(i, map.get(i * 7_919L - 5_000L));
+        }
+        assertEquals(-1, map.get(3L));
+        assertFalse(map.containsKey(3L));
+    }
+
+    @Test
+    void testPutReplacesAndPutIfAbsentKeeps() {
+        // Arrange
+        LongIntHashMap map = new LongIntHashMap(4, -1);
+
+        // Act & Assert
+        assertEquals(-1, map.put(42L, 1));
+        assertEquals(1, map.put(42L, 2));
+        assertEquals(2, map.putIfAbsent(42L, 3));
+        assertEquals(5, map.putIfAbsent(43L, 5));
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    void testReservedKeyIsRejected() {
+        LongIntHashMap map = new LongIntHashMap(4, -1);
+        assertThrows(IllegalArgumentException.class, () -> map.put(Long.MIN_VALUE, 1));
+    }
+}
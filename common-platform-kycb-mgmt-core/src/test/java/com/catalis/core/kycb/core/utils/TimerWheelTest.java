@@ -0,0 +1,73 @@
+package com.catalis.core.kycb.core.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TimerWheelTest {
+
+    @Test
+    void testFiresOnlyOnceDeadlinePassed() {
+        // Arrange
+        TimerWheel<String> wheel = new TimerWheel<>(100, 8, 0);
+        wheel.schedule("a", 250);
+        wheel.schedule("b", 300);
+
+        // Act & Assert
+        assertEquals(List.of(), wheel.advance(249));
+        assertEquals(List.of(), wheel.advance(299));
+        assertEquals(List.of("a", "b"), wheel.advance(300));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void testDeadlinesBeyondOneRotation() {
+        // Arrange
+        TimerWheel<String> wheel = new TimerWheel<>(100, 4, 0);
+        wheel.schedule("near", 150);
+        wheel.schedule("far", 150 + 4 * 100 * 3);
+
+        // Act & Assert
+        assertEquals(List.of("near"), wheel.advance(200));
+        assertEquals(List.of(), wheel.advance(1_000));
+        assertEquals(List.of("far"), wheel.advance(1_400));
+    }
+
+    @Test
+    void testCatchesUpAfterLongPause() {
+        // Arrange
+        TimerWheel<Integer> wheel = new TimerWheel<>(10, 16, 0);
+        for (int i = 0; i < 100; i++) {
+            wheel.schedule(i, i * 37L);
+        }
+
+        // Act
+        List<Integer> expired = wheel.advance(10_000);
+
+        // Assert
+        assertEquals(100, expired.size());
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void testRescheduleAndCancel() {
+        // Arrange
+        TimerWheel<String> wheel = new TimerWheel<>(100, 8, 0);
+        wheel.schedule("moved", 200);
+        wheel.schedule("cancelled", 200);
+        wheel.schedule("past", -5_000);
+
+        // Act
+        assertFalse(wheel.schedule("past", -5_000));
+        assertTrue(wheel.schedule("moved", 600));
+        assertTrue(wheel.cancel("cancelled"));
+
+        // Assert
+        assertEquals(List.of("past"), wheel.advance(300));
+        assertTrue(wheel.contains("moved"));
+        assertEquals(List.of("moved"), wheel.advance(600));
+        assertEquals(0, wheel.size());
+    }
+}
@@ -0,0 +1,37 @@
+package com.catalis.core.kycb.interfaces.dtos.compliance.v1;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for the open-case workload of one analyst.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnalystWorkloadDTO {
+    private String analyst;
+
+    /**
+     * Number of cases assigned to the analyst that are not closed.
+     */
+    private Integer openCases;
+
+    /**
+     * Open cases beyond which the analyst receives no new cases; null for no limit.
+     */
+    private Integer maxOpenCases;
+
+    /**
+     * Whether the analyst is configured to receive automatically assigned cases.
+     */
+    private Boolean rostered;
+
+    /**
+     * Whether the analyst can currently receive automatically assigned cases.
+     */
+    private Boolean available;
+}
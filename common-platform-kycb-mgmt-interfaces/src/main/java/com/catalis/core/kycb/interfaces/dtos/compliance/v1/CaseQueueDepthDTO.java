@@ -0,0 +1,22 @@
+package com.catalis.core.kycb.interfaces.dtos.compliance.v1;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for the number of queued compliance cases of one priority.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CaseQueueDepthDTO {
+    private String casePriority;
+
+    /**
+     * Number of unassigned cases of this priority that are not closed.
+     */
+    private Long depth;
+}
@@ -0,0 +1,31 @@
+package com.catalis.core.kycb.interfaces.dtos.edd.v1;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO reporting the progress of an EDD trigger backfill job.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EddTriggerJobDTO {
+    private String jobId;
+    private String status;
+    private Long totalParties;
+    private Long evaluatedParties;
+
+    /**
+     * Number of EDD records created by the job.
+     */
+    private Long createdEdds;
+
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String errorMessage;
+}
@@ -0,0 +1,30 @@
+package com.catalis.core.kycb.interfaces.dtos.kyb.v1;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for the KYB verification flags and status evaluated for a party from its documents, structure, UBOs and
+ * business profile.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class KybCompletenessDTO {
+    private Long partyId;
+    private Boolean mercantileRegistryVerified;
+    private Boolean deedOfIncorporationVerified;
+    private Boolean businessStructureVerified;
+    private Boolean uboVerified;
+    private Boolean taxIdVerified;
+    private Boolean operatingLicenseVerified;
+
+    /**
+     * VERIFIED when every flag is set, IN_PROGRESS when some are and PENDING when none are. A rejected KYB
+     * verification keeps its status.
+     */
+    private String verificationStatus;
+}
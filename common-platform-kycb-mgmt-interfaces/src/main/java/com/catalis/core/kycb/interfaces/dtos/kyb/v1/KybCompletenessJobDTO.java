@@ -0,0 +1,31 @@
+package com.catalis.core.kycb.interfaces.dtos.kyb.v1;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO reporting the progress of a bulk KYB completeness evaluation job.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class KybCompletenessJobDTO {
+    private String jobId;
+    private String status;
+    private Long totalParties;
+    private Long evaluatedParties;
+
+    /**
+     * Number of KYB verifications whose flags or status changed.
+     */
+    private Long updatedVerifications;
+
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String errorMessage;
+}
@@ -0,0 +1,34 @@
+package com.catalis.core.kycb.interfaces.dtos.monitoring.v1;
+
+import com.catalis.core.kycb.interfaces.enums.monitoring.v1.TransactionCheckDecisionEnum;
+import com.catalis.core.kycb.interfaces.enums.monitoring.v1.TransactionCheckReasonEnum;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO for the outcome of a pre-transaction check.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionCheckResultDTO {
+    private String transactionId;
+    private Long partyId;
+    private TransactionCheckDecisionEnum decision;
+
+    /**
+     * Every reason found, blocking reasons first; empty when the transaction is allowed.
+     */
+    private List<TransactionCheckReasonEnum> reasons;
+
+    /**
+     * When the party profile the check was answered from was read from the database.
+     */
+    private LocalDateTime profileCompiledAt;
+}
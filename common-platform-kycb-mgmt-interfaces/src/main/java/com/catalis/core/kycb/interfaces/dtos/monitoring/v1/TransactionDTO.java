@@ -0,0 +1,37 @@
+package com.catalis.core.kycb.interfaces.dtos.monitoring.v1;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * DTO of a booked transaction fed to transaction monitoring, one per NDJSON line.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionDTO {
+
+    private String transactionId;
+    private Long partyId;
+
+    /**
+     * Absolute amount of the transaction, in the currency of the party's expected activity.
+     */
+    private BigDecimal amount;
+
+    private String currencyIsoCode;
+
+    /**
+     * ISO 3166 alpha-2 code of the counterparty's country.
+     */
+    private String countryIsoCode;
+
+    private Boolean cash;
+    private LocalDateTime bookingDate;
+}
@@ -0,0 +1,29 @@
+package com.catalis.core.kycb.interfaces.dtos.monitoring.v1;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO summarising one transaction ingestion, over HTTP or from a dropped file.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionIngestionResultDTO {
+
+    private Long receivedTransactions;
+    private Long acceptedTransactions;
+
+    /**
+     * Transactions without party, amount or booking date, or booked before the monitored windows.
+     */
+    private Long rejectedTransactions;
+
+    private Long deviations;
+    private Long casesOpened;
+    private Long elapsedMillis;
+    private Double transactionsPerSecond;
+}
@@ -0,0 +1,44 @@
+package com.catalis.core.kycb.interfaces.dtos.ownership.v1;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO for a natural person's effective ownership of a legal entity, derived from the ownership graph.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DerivedUboDTO {
+    private Long naturalPersonId;
+
+    /**
+     * Sum over all ownership chains of the product of percentages along each chain.
+     */
+    private BigDecimal effectiveOwnershipPercentage;
+
+    /**
+     * Part of the effective ownership held directly in the entity.
+     */
+    private BigDecimal directOwnershipPercentage;
+
+    /**
+     * Part of the effective ownership held through intermediate entities.
+     */
+    private BigDecimal indirectOwnershipPercentage;
+
+    /**
+     * Number of distinct ownership chains from the person to the entity.
+     */
+    private Integer pathCount;
+
+    /**
+     * Number of intermediate entities on the longest chain.
+     */
+    private Integer maxChainLength;
+}
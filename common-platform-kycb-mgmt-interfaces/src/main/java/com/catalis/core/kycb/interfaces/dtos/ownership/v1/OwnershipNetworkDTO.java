@@ -0,0 +1,31 @@
+package com.catalis.core.kycb.interfaces.dtos.ownership.v1;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO for the result of an ownership network query.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OwnershipNetworkDTO {
+    private Long partyId;
+    private List<OwnershipNetworkNodeDTO> nodes;
+
+    /**
+     * Whether the result was cut at the configured result limit.
+     */
+    private Boolean truncated;
+
+    /**
+     * When the graph snapshot that answered the query was compacted.
+     */
+    private LocalDateTime graphBuiltAt;
+}
@@ -0,0 +1,34 @@
+package com.catalis.core.kycb.interfaces.dtos.ownership.v1;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for a party or natural person returned by an ownership network query.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OwnershipNetworkNodeDTO {
+    /**
+     * Party ID for legal entities, natural person ID for natural persons.
+     */
+    private Long nodeId;
+
+    private String nodeType;
+
+    /**
+     * Number of ownership edges from the queried party, for neighbourhood queries.
+     */
+    private Integer distance;
+
+    /**
+     * Natural persons owning both this entity and the queried party, for shared-owner queries.
+     */
+    private List<Long> sharedNaturalPersonIds;
+}
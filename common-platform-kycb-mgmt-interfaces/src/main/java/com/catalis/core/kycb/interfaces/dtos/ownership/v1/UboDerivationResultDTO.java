@@ -0,0 +1,42 @@
+package com.catalis.core.kycb.interfaces.dtos.ownership.v1;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * DTO for the beneficial owners derived for a legal entity.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UboDerivationResultDTO {
+    private Long partyId;
+    private BigDecimal thresholdPercentage;
+
+    /**
+     * Natural persons at or above the threshold, by descending effective ownership.
+     */
+    private List<DerivedUboDTO> derivedUbos;
+
+    /**
+     * Number of distinct legal entities visited, including the root.
+     */
+    private Integer entitiesTraversed;
+
+    /**
+     * Ownership cycles encountered, each as the chain of entity IDs that loops back to its first element.
+     * Cyclic edges are not followed, so shares circulating in a loop are not counted.
+     */
+    private List<List<Long>> cycles;
+
+    /**
+     * Whether some chains were cut at the configured maximum depth.
+     */
+    private Boolean depthLimitReached;
+}
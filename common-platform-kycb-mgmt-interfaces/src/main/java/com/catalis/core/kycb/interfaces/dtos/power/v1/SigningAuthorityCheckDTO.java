@@ -0,0 +1,25 @@
+package com.catalis.core.kycb.interfaces.dtos.power.v1;
+
+import com.catalis.annotations.ValidAmount;
+import com.catalis.annotations.ValidCurrencyCode;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO for a request to check whether an attorney may sign an amount on behalf of a party.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SigningAuthorityCheckDTO {
+    private Long attorneyId;
+    @ValidAmount
+    private BigDecimal amount;
+    @ValidCurrencyCode
+    private String currency;
+}
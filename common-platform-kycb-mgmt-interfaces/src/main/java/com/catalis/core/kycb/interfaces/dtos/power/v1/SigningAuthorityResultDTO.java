@@ -0,0 +1,39 @@
+package com.catalis.core.kycb.interfaces.dtos.power.v1;
+
+import com.catalis.core.kycb.interfaces.enums.power.v1.SigningAuthorityDecisionEnum;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO for the outcome of a signing-authority check.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SigningAuthorityResultDTO {
+    private Long partyId;
+    private Long attorneyId;
+    private BigDecimal amount;
+    private String currency;
+    private SigningAuthorityDecisionEnum decision;
+
+    /**
+     * Whether the attorney may sign alone.
+     */
+    private Boolean authorized;
+
+    /**
+     * Number of signatures, including the attorney's, needed under the most permissive matching power.
+     */
+    private Integer requiredSignatures;
+
+    /**
+     * The power of attorney that produced the decision, if any.
+     */
+    private Long powerOfAttorneyId;
+}
@@ -0,0 +1,32 @@
+package com.catalis.core.kycb.interfaces.dtos.regulatory.v1;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO reporting the progress of a SEPBLAC report generation job.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SepblacReportJobDTO {
+    private String jobId;
+    private String status;
+
+    /**
+     * Reference of the report file; each case in it is recorded with this reference and its position.
+     */
+    private String reportReference;
+
+    private String fileName;
+    private Long reportedCases;
+    private Long fileSizeBytes;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String errorMessage;
+}
@@ -0,0 +1,34 @@
+package com.catalis.core.kycb.interfaces.dtos.risk.v1;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO reporting the progress of a bulk risk re-rating job.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RiskReratingJobDTO {
+    private String jobId;
+
+    private String activityCode;
+
+    /**
+     * What started the job, e.g. an industry risk ID or a manual request.
+     */
+    private String trigger;
+
+    private String status;
+    private Long totalParties;
+    private Long processedParties;
+    private Long failedParties;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String errorMessage;
+}
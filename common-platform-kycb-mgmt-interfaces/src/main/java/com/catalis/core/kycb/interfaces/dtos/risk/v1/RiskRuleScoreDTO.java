@@ -0,0 +1,22 @@
+package com.catalis.core.kycb.interfaces.dtos.risk.v1;
+
+import com.catalis.core.kycb.interfaces.enums.risk.v1.RiskFactorEnum;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO describing a scoring rule that fired for a party and the points it contributed.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RiskRuleScoreDTO {
+    private String rule;
+    private List<RiskFactorEnum> factors;
+    private Integer score;
+}
@@ -0,0 +1,37 @@
+package com.catalis.core.kycb.interfaces.dtos.risk.v1;
+
+import com.catalis.core.kycb.interfaces.enums.risk.v1.RiskFactorEnum;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for the outcome of scoring a party with the risk engine.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RiskScoringResultDTO {
+    private Long partyId;
+    private Integer riskScore;
+    private String riskLevel;
+
+    /**
+     * Factors detected for the party, whether or not a rule scored them.
+     */
+    private List<RiskFactorEnum> detectedFactors;
+
+    /**
+     * Rules that fired, in decision table order.
+     */
+    private List<RiskRuleScoreDTO> ruleScores;
+
+    /**
+     * The risk assessment persisted for this scoring run.
+     */
+    private RiskAssessmentDTO riskAssessment;
+}
@@ -0,0 +1,43 @@
+package com.catalis.core.kycb.interfaces.dtos.watchlist.v1;
+
+import com.catalis.core.kycb.interfaces.enums.aml.v1.ListTypeEnum;
+import com.catalis.core.kycb.interfaces.enums.watchlist.v1.WatchlistFormatEnum;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO describing a watchlist file to be ingested from the local list directory.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WatchlistLoadRequestDTO {
+
+    /**
+     * Identifier of the list, e.g. EU_CONSOLIDATED or OFAC_SDN. Each load produces a new version of this list.
+     */
+    @NotBlank
+    private String listSource;
+
+    @NotNull
+    private ListTypeEnum listType;
+
+    /**
+     * File name relative to the configured watchlist base directory.
+     */
+    @NotBlank
+    private String fileName;
+
+    @NotNull
+    private WatchlistFormatEnum format;
+
+    /**
+     * Whether the first CSV record is a header row. Ignored for XML files.
+     */
+    private Boolean headerRow;
+}
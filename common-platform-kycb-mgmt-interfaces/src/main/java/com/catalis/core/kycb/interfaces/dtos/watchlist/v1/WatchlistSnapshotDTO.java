@@ -0,0 +1,50 @@
+package com.catalis.core.kycb.interfaces.dtos.watchlist.v1;
+
+import com.catalis.core.kycb.interfaces.enums.aml.v1.ListTypeEnum;
+import com.catalis.core.kycb.interfaces.enums.watchlist.v1.WatchlistFormatEnum;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO summarising a loaded watchlist snapshot together with its ingestion metrics.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WatchlistSnapshotDTO {
+
+    private String listSource;
+    private ListTypeEnum listType;
+    private Long version;
+    private String fileName;
+    private WatchlistFormatEnum format;
+    private LocalDateTime loadedAt;
+
+    private Long entryCount;
+    private Long recordCount;
+    private Long skippedRecordCount;
+    private Long bytesRead;
+
+    /**
+     * Time spent reading and parsing the file, excluding name normalization.
+     */
+    private Long parseMillis;
+
+    /**
+     * Time spent normalizing and transliterating names.
+     */
+    private Long normalizeMillis;
+
+    /**
+     * Wall-clock time of the whole load, including snapshot publication.
+     */
+    private Long totalMillis;
+
+    private Double megabytesPerSecond;
+    private Double entriesPerSecond;
+}
@@ -0,0 +1,11 @@
+package com.catalis.core.kycb.interfaces.enums.edd.v1;
+
+/**
+ * Enum representing the lifecycle of an EDD trigger backfill job.
+ */
+public enum EddTriggerJobStatusEnum {
+    RUNNING,
+    COMPLETED,
+    FAILED,
+    CANCELLED
+}
@@ -0,0 +1,10 @@
+package com.catalis.core.kycb.interfaces.enums.monitoring.v1;
+
+/**
+ * Enum representing the outcome of a pre-transaction check, declared from most to least permissive.
+ */
+public enum TransactionCheckDecisionEnum {
+    ALLOW,
+    REVIEW,
+    BLOCK
+}
@@ -0,0 +1,21 @@
+package com.catalis.core.kycb.interfaces.enums.monitoring.v1;
+
+/**
+ * Enum representing why a pre-transaction check did not allow a transaction. The first five reasons block the
+ * transaction, the others send it to review.
+ */
+public enum TransactionCheckReasonEnum {
+    KYC_MISSING,
+    KYC_REJECTED,
+    SCREENING_POSITIVE_HIT,
+    BLOCKED_COUNTRY,
+    AMOUNT_ABOVE_BLOCK_LIMIT,
+    KYC_NOT_VERIFIED,
+    SCREENING_REVIEW_REQUIRED,
+    EXTREME_RISK,
+    UNANTICIPATED_COUNTRY,
+    AMOUNT_ABOVE_REVIEW_LIMIT,
+    UNEXPECTED_CASH,
+    CONFIRMED_PEP,
+    SANCTIONS_EXPOSURE
+}
@@ -0,0 +1,9 @@
+package com.catalis.core.kycb.interfaces.enums.ownership.v1;
+
+/**
+ * Enum representing the kind of node in the ownership network.
+ */
+public enum OwnershipNodeTypeEnum {
+    LEGAL_ENTITY,
+    NATURAL_PERSON
+}
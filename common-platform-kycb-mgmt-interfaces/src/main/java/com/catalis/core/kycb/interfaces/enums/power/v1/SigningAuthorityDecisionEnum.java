@@ -0,0 +1,12 @@
+package com.catalis.core.kycb.interfaces.enums.power.v1;
+
+/**
+ * Enum representing the outcome of a signing-authority check, declared from most to least permissive.
+ */
+public enum SigningAuthorityDecisionEnum {
+    AUTHORIZED,
+    JOINT_SIGNATURE_REQUIRED,
+    LIMIT_EXCEEDED,
+    CURRENCY_MISMATCH,
+    NO_VALID_POWER
+}
@@ -0,0 +1,11 @@
+package com.catalis.core.kycb.interfaces.enums.report.v1;
+
+/**
+ * Enum representing the lifecycle of a SEPBLAC report generation job.
+ */
+public enum SepblacReportJobStatusEnum {
+    RUNNING,
+    COMPLETED,
+    FAILED,
+    CANCELLED
+}
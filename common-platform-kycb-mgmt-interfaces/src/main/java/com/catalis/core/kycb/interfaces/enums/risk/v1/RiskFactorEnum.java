@@ -0,0 +1,25 @@
+package com.catalis.core.kycb.interfaces.enums.risk.v1;
+
+/**
+ * Enum representing the party characteristics evaluated by the risk scoring engine.
+ */
+public enum RiskFactorEnum {
+    INDUSTRY_MEDIUM_RISK,
+    INDUSTRY_HIGH_RISK,
+    INDUSTRY_LISTED_HIGH_RISK,
+    INDUSTRY_REQUIRES_EDD,
+    HIGH_RISK_ACTIVITY,
+    COMPLEX_STRUCTURE,
+    HIGH_RISK_COUNTRY,
+    FOREIGN_LOCATION,
+    CASH_INTENSIVE,
+    TAX_HAVEN_TRANSACTIONS,
+    HIGH_VALUE_ACTIVITY,
+    NO_UBO_IDENTIFIED,
+    INDIRECT_OWNERSHIP,
+    UNVERIFIED_UBO,
+    ACTIVITY_OUTSIDE_EU,
+    SUBJECT_TO_SANCTIONS,
+    SANCTIONED_COUNTRY_PRESENCE,
+    SANCTIONED_DEALINGS
+}
@@ -0,0 +1,11 @@
+package com.catalis.core.kycb.interfaces.enums.risk.v1;
+
+/**
+ * Enum representing the lifecycle of a bulk risk re-rating job.
+ */
+public enum RiskReratingJobStatusEnum {
+    RUNNING,
+    COMPLETED,
+    FAILED,
+    SUPERSEDED
+}
@@ -0,0 +1,11 @@
+package com.catalis.core.kycb.interfaces.enums.verification.v1;
+
+/**
+ * Enum representing the lifecycle of a bulk KYB completeness evaluation job.
+ */
+public enum KybCompletenessJobStatusEnum {
+    RUNNING,
+    COMPLETED,
+    FAILED,
+    CANCELLED
+}
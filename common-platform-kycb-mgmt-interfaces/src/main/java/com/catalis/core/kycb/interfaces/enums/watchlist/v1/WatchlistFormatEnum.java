@@ -0,0 +1,9 @@
+package com.catalis.core.kycb.interfaces.enums.watchlist.v1;
+
+/**
+ * Enum representing the file formats supported by the watchlist loader.
+ */
+public enum WatchlistFormatEnum {
+    CSV,
+    XML
+}
@@ -24,6 +24,17 @@ public interface AmlMatchRepository extends BaseRepository<AmlMatch, Long> {
      */
     Flux<AmlMatch> findByAmlScreeningId(Long amlScreeningId);
 
+    /**
+     * Find AML matches by AML screening ID, reading only the partitions from the screening's creation onwards.
+     * Matches are always created after their screening, so passing its creation date returns the same matches as
+     * {@link #findByAmlScreeningId(Long)} while skipping the older monthly partitions of aml_match.
+     *
+     * @param amlScreeningId The ID of the AML screening
+     * @param createdSince The creation date of the AML screening
+     * @return A flux of AML matches
+     */
+    Flux<AmlMatch> findByAmlScreeningIdAndDateCreatedGreaterThanEqual(Long amlScreeningId, LocalDateTime createdSince);
+
     /**
      * Find AML matches by list type.
      *
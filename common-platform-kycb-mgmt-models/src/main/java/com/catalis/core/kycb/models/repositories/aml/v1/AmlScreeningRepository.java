@@ -57,6 +57,18 @@ public interface AmlScreeningRepository extends BaseRepository<AmlScreening, Lon
      */
     Flux<AmlScreening> findByScreeningDateBetween(LocalDateTime startDate, LocalDateTime endDate);
 
+    /**
+     * Find AML screenings of a party within a screening date range; only the monthly partitions of aml_screening
+     * overlapping the range are read.
+     *
+     * @param partyId The ID of the party
+     * @param startDate The start date
+     * @param endDate The end date
+     * @return A flux of AML screenings
+     */
+    Flux<AmlScreening> findByPartyIdAndScreeningDateBetween(Long partyId, LocalDateTime startDate,
+                                                            LocalDateTime endDate);
+
     /**
      * Find AML screenings that need to be rescreened.
      *
@@ -0,0 +1,12 @@
+package com.catalis.core.kycb.models.repositories.business.v1;
+
+/**
+ * Projection of the parts of a party's latest business profile that KYB completeness depends on.
+ *
+ * @param partyId      The ID of the party
+ * @param hasLegalForm Whether the profile states a legal form
+ * @param regulated    Whether the business is regulated
+ * @param hasRegulator Whether the profile names the regulatory authority
+ */
+public record BusinessProfileCoverage(Long partyId, Boolean hasLegalForm, Boolean regulated, Boolean hasRegulator) {
+}
@@ -2,6 +2,7 @@ package com.catalis.core.kycb.models.repositories.business.v1;
 
 import com.catalis.core.kycb.models.entities.business.v1.BusinessProfile;
 import com.catalis.core.kycb.models.repositories.BaseRepository;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -111,4 +112,19 @@ public interface BusinessProfileRepository extends BaseRepository<BusinessProfil
      * @return A mono with the latest business profile
      */
     Mono<BusinessProfile> findFirstByPartyIdOrderByDateCreatedDesc(Long partyId);
+
+    /**
+     * Summarize the latest business profile of each of the given parties.
+     *
+     * @param partyIds The IDs of the parties
+     * @return A flux with one coverage per party that has a business profile
+     */
+    @Query("SELECT DISTINCT ON (party_id) party_id, " +
+            "legal_form_code IS NOT NULL AS has_legal_form, " +
+            "COALESCE(is_regulated, FALSE) AS regulated, " +
+            "regulatory_authority IS NOT NULL AS has_regulator " +
+            "FROM business_profile " +
+            "WHERE party_id = ANY(CAST(:partyIds AS BIGINT[])) " +
+            "ORDER BY party_id, business_profile_id DESC")
+    Flux<BusinessProfileCoverage> summarizeCoverage(Long[] partyIds);
 }
@@ -0,0 +1,10 @@
+package com.catalis.core.kycb.models.repositories.compliance.v1;
+
+/**
+ * Projection of the number of open compliance cases assigned to one analyst.
+ *
+ * @param assignedTo The analyst
+ * @param openCases  The number of cases assigned to the analyst that are not closed
+ */
+public record AnalystOpenCases(String assignedTo, Long openCases) {
+}
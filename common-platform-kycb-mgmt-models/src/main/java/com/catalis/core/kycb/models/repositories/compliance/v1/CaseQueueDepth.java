@@ -0,0 +1,10 @@
+package com.catalis.core.kycb.models.repositories.compliance.v1;
+
+/**
+ * Projection of the number of queued compliance cases of one priority.
+ *
+ * @param casePriority The case priority
+ * @param depth        The number of unassigned, not closed cases with that priority
+ */
+public record CaseQueueDepth(String casePriority, Long depth) {
+}
@@ -4,6 +4,8 @@ import com.catalis.core.kycb.models.entities.compliance.v1.ComplianceAction;
 import com.catalis.core.kycb.interfaces.enums.action.v1.ActionStatusEnum;
 import com.catalis.core.kycb.interfaces.enums.action.v1.ActionTypeEnum;
 import com.catalis.core.kycb.models.repositories.BaseRepository;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -90,4 +92,56 @@ public interface ComplianceActionRepository extends BaseRepository<ComplianceAct
      * @return A mono with the latest compliance action
      */
     Mono<ComplianceAction> findFirstByComplianceCaseIdOrderByDateCreatedDesc(Long complianceCaseId);
-}
\ No newline at end of file
+
+    /**
+     * Insert pending document request actions in one statement. An action whose source reference already exists on
+     * its case is skipped, so repeated scans of the same documents do not duplicate actions.
+     *
+     * @param caseIds          The ID of each action's case
+     * @param descriptions     The description of each action
+     * @param dueDates         The due date of each action
+     * @param sourceReferences The reference of the record each action was raised for
+     * @param actionAgent      The agent recorded on every action
+     * @param createdAt        The creation time of every action
+     * @return A mono with the number of actions inserted
+     */
+    @Modifying
+    @Query("INSERT INTO compliance_action (compliance_case_id, action_type, action_status, action_description, " +
+            "action_agent, due_date, source_reference, date_created, date_updated) " +
+            "SELECT t.case_id, CAST('DOCUMENT_REQUEST' AS action_type), CAST('PENDING' AS action_status), " +
+            "t.description, :actionAgent, t.due_date, t.source_reference, :createdAt, :createdAt " +
+            "FROM unnest(CAST(:caseIds AS BIGINT[]), CAST(:descriptions AS TEXT[]), " +
+            "CAST(:dueDates AS TIMESTAMP[]), CAST(:sourceReferences AS TEXT[])) " +
+            "AS t(case_id, description, due_date, source_reference) " +
+            "ON CONFLICT (compliance_case_id, source_reference) WHERE source_reference IS NOT NULL DO NOTHING")
+    Mono<Integer> insertDocumentRequests(Long[] caseIds, String[] descriptions, LocalDateTime[] dueDates,
+                                         String[] sourceReferences, String actionAgent, LocalDateTime createdAt);
+
+    /**
+     * Find the due dates of open actions that have not breached their SLA and are due before a time.
+     *
+     * @param before The end of the window
+     * @return A flux of action due dates
+     */
+    @Query("SELECT compliance_action_id AS id, due_date FROM compliance_action " +
+            "WHERE due_date IS NOT NULL AND sla_breached_at IS NULL AND completion_date IS NULL " +
+            "AND action_status IN ('PENDING', 'IN_PROGRESS') " +
+            "AND due_date < :before")
+    Flux<SlaDeadline> findSlaDeadlinesBefore(LocalDateTime before);
+
+    /**
+     * Mark open actions whose due date has passed as having breached their SLA. Actions already marked, possibly
+     * concurrently by another node, are skipped and not returned.
+     *
+     * @param actionIds The IDs of the actions
+     * @param breachedAt The time of the breach
+     * @return A flux of the actions marked
+     */
+    @Query("UPDATE compliance_action SET sla_breached_at = :breachedAt " +
+            "WHERE compliance_action_id = ANY(CAST(:actionIds AS BIGINT[])) " +
+            "AND due_date IS NOT NULL AND sla_breached_at IS NULL AND completion_date IS NULL " +
+            "AND action_status IN ('PENDING', 'IN_PROGRESS') " +
+            "AND due_date <= :breachedAt " +
+            "RETURNING compliance_action_id AS id, compliance_case_id, due_date, date_created")
+    Flux<SlaBreach> markSlaBreached(Long[] actionIds, LocalDateTime breachedAt);
+}
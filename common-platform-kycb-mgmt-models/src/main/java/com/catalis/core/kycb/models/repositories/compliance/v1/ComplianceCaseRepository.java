@@ -5,11 +5,13 @@ import com.catalis.core.kycb.interfaces.enums.compliance.v1.CasePriorityEnum;
 import com.catalis.core.kycb.interfaces.enums.compliance.v1.CaseStatusEnum;
 import com.catalis.core.kycb.interfaces.enums.compliance.v1.CaseTypeEnum;
 import com.catalis.core.kycb.models.repositories.BaseRepository;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 
 /**
  * Repository for compliance case operations.
@@ -98,4 +100,201 @@ public interface ComplianceCaseRepository extends BaseRepository<ComplianceCase,
      * @return A mono with the latest compliance case
      */
     Mono<ComplianceCase> findFirstByPartyIdOrderByDateCreatedDesc(Long partyId);
-}
\ No newline at end of file
+
+    /**
+     * Find which of the given parties already have a case of a type that is not closed.
+     *
+     * @param partyIds The IDs of the parties
+     * @param caseTypeEnum The type of case
+     * @return A flux of the IDs of parties with an open case
+     */
+    @Query("SELECT DISTINCT party_id FROM compliance_case " +
+            "WHERE party_id IN (:partyIds) AND case_type = :caseTypeEnum AND case_status <> 'CLOSED'")
+    Flux<Long> findPartyIdsWithOpenCase(Collection<Long> partyIds, CaseTypeEnum caseTypeEnum);
+
+    /**
+     * Find the open document expiry cases with the given references.
+     *
+     * @param caseReferences The {@code DOC-EXPIRY-<partyId>} references of the cases
+     * @return A flux of open document expiry cases
+     */
+    @Query("SELECT * FROM compliance_case " +
+            "WHERE case_reference IN (:caseReferences) " +
+            "AND case_status <> 'CLOSED' AND case_reference LIKE 'DOC-EXPIRY-%'")
+    Flux<ComplianceCase> findOpenDocumentExpiryCases(Collection<String> caseReferences);
+
+    /**
+     * Open a document expiry case for each party in one statement. Parties that already have an open document
+     * expiry case, possibly opened concurrently by another node, are skipped and not returned.
+     *
+     * @param partyIds The IDs of the parties
+     * @param dueDates The due date of each party's case, positionally matching {@code partyIds}
+     * @param caseSummary The summary of the new cases
+     * @param createdAt The creation time of the new cases
+     * @return A flux of the cases opened
+     */
+    @Query("INSERT INTO compliance_case (party_id, case_type, case_status, case_priority, case_reference, " +
+            "case_summary, due_date, report_to_sepblac_required, date_created, date_updated) " +
+            "SELECT t.party_id, CAST('KYC_REVIEW' AS case_type), CAST('OPEN' AS case_status), " +
+            "CAST('MEDIUM' AS case_priority), 'DOC-EXPIRY-' || t.party_id, :caseSummary, t.due_date, FALSE, " +
+            ":createdAt, :createdAt " +
+            "FROM unnest(CAST(:partyIds AS BIGINT[]), CAST(:dueDates AS TIMESTAMP[])) AS t(party_id, due_date) " +
+            "ON CONFLICT (case_reference) WHERE case_status <> 'CLOSED' AND case_reference LIKE 'DOC-EXPIRY-%' " +
+            "DO NOTHING " +
+            "RETURNING *")
+    Flux<ComplianceCase> insertOpenDocumentExpiryCases(Long[] partyIds, LocalDateTime[] dueDates,
+                                                       String caseSummary, LocalDateTime createdAt);
+
+    /**
+     * Open a transaction monitoring case for each deviation in one statement. Deviations that already have an open
+     * case with the same reference, possibly opened concurrently by another node, are skipped and not returned.
+     *
+     * @param partyIds The IDs of the parties
+     * @param caseReferences The {@code TXM-<partyId>-<deviation>} reference of each case, positionally matching
+     *                       {@code partyIds}
+     * @param casePriorities The priority of each case, positionally matching {@code partyIds}
+     * @param caseSummaries The summary of each case, positionally matching {@code partyIds}
+     * @param dueDate The due date of the new cases
+     * @param createdAt The creation time of the new cases
+     * @return A flux of the cases opened
+     */
+    @Query("INSERT INTO compliance_case (party_id, case_type, case_status, case_priority, case_reference, " +
+            "case_summary, due_date, report_to_sepblac_required, date_created, date_updated) " +
+            "SELECT t.party_id, CAST('AML_ALERT' AS case_type), CAST('OPEN' AS case_status), " +
+            "CAST(t.case_priority AS case_priority), t.case_reference, t.case_summary, :dueDate, FALSE, " +
+            ":createdAt, :createdAt " +
+            "FROM unnest(CAST(:partyIds AS BIGINT[]), CAST(:caseReferences AS TEXT[]), " +
+            "CAST(:casePriorities AS TEXT[]), CAST(:caseSummaries AS TEXT[])) " +
+            "AS t(party_id, case_reference, case_priority, case_summary) " +
+            "ON CONFLICT (case_reference) WHERE case_status <> 'CLOSED' AND case_reference LIKE 'TXM-%' " +
+            "DO NOTHING " +
+            "RETURNING *")
+    Flux<ComplianceCase> insertOpenTransactionMonitoringCases(Long[] partyIds, String[] caseReferences,
+                                                              String[] casePriorities, String[] caseSummaries,
+                                                              LocalDateTime dueDate, LocalDateTime createdAt);
+
+    /**
+     * Find the head of the case queue: unassigned cases that are not closed, highest priority and earliest due
+     * date first.
+     *
+     * @param limit The maximum number of cases to return
+     * @return A flux of queued cases in queue order
+     */
+    @Query("SELECT * FROM compliance_case " +
+            "WHERE assigned_to IS NULL AND case_status <> 'CLOSED' " +
+            "ORDER BY case_priority DESC NULLS LAST, due_date ASC NULLS LAST, compliance_case_id " +
+            "LIMIT :limit")
+    Flux<ComplianceCase> findQueueHead(int limit);
+
+    /**
+     * Assign the next cases of the case queue to an analyst. Cases locked by a concurrent claim are skipped rather
+     * than waited for, so concurrent claims never block each other or return the same case.
+     *
+     * @param assignedTo The analyst claiming the cases
+     * @param claimedAt The time of the claim
+     * @param limit The maximum number of cases to claim
+     * @return A flux of the claimed cases, in no particular order
+     */
+    @Query("UPDATE compliance_case SET assigned_to = :assignedTo, date_updated = :claimedAt " +
+            "WHERE compliance_case_id IN (" +
+            "SELECT compliance_case_id FROM compliance_case " +
+            "WHERE assigned_to IS NULL AND case_status <> 'CLOSED' " +
+            "ORDER BY case_priority DESC NULLS LAST, due_date ASC NULLS LAST, compliance_case_id " +
+            "LIMIT :limit FOR UPDATE SKIP LOCKED) " +
+            "AND assigned_to IS NULL " +
+            "RETURNING *")
+    Flux<ComplianceCase> claimQueueHead(String assignedTo, LocalDateTime claimedAt, int limit);
+
+    /**
+     * Count the cases in the case queue per priority.
+     *
+     * @return A flux of queue depths, one per priority that has queued cases
+     */
+    @Query("SELECT CAST(case_priority AS TEXT) AS case_priority, COUNT(*) AS depth FROM compliance_case " +
+            "WHERE assigned_to IS NULL AND case_status <> 'CLOSED' " +
+            "GROUP BY case_priority")
+    Flux<CaseQueueDepth> countQueueDepthByPriority();
+
+    /**
+     * Assign a case to an analyst unless it has been assigned in the meantime.
+     *
+     * @param caseId The ID of the case
+     * @param assignedTo The analyst to assign the case to
+     * @param assignedAt The time of the assignment
+     * @return A mono with the assigned case, or empty if the case is missing, closed or already assigned
+     */
+    @Query("UPDATE compliance_case SET assigned_to = :assignedTo, date_updated = :assignedAt " +
+            "WHERE compliance_case_id = :caseId AND assigned_to IS NULL AND case_status <> 'CLOSED' " +
+            "RETURNING *")
+    Mono<ComplianceCase> assignIfUnassigned(Long caseId, String assignedTo, LocalDateTime assignedAt);
+
+    /**
+     * Assign many cases in one statement, each to its own analyst, skipping those assigned in the meantime.
+     *
+     * @param caseIds The IDs of the cases
+     * @param assignees The analyst to assign each case to, by position
+     * @param assignedAt The time of the assignment
+     * @return A flux of the assigned cases; cases missing, closed or already assigned are left out
+     */
+    @Query("UPDATE compliance_case c SET assigned_to = t.assigned_to, date_updated = :assignedAt " +
+            "FROM unnest(CAST(:caseIds AS BIGINT[]), CAST(:assignees AS TEXT[])) " +
+            "AS t(compliance_case_id, assigned_to) " +
+            "WHERE c.compliance_case_id = t.compliance_case_id AND c.assigned_to IS NULL " +
+            "AND c.case_status <> 'CLOSED' " +
+            "RETURNING c.*")
+    Flux<ComplianceCase> assignAllIfUnassigned(Long[] caseIds, String[] assignees, LocalDateTime assignedAt);
+
+    /**
+     * Count the cases that are not closed per assigned analyst.
+     *
+     * @return A flux of open case counts, one per analyst with open cases
+     */
+    @Query("SELECT assigned_to, COUNT(*) AS open_cases FROM compliance_case " +
+            "WHERE assigned_to IS NOT NULL AND case_status <> 'CLOSED' " +
+            "GROUP BY assigned_to")
+    Flux<AnalystOpenCases> countOpenCasesByAssignee();
+
+    /**
+     * Find the due dates of open cases that have not breached their SLA and are due before a time.
+     *
+     * @param before The end of the window
+     * @return A flux of case due dates
+     */
+    @Query("SELECT compliance_case_id AS id, due_date FROM compliance_case " +
+            "WHERE due_date IS NOT NULL AND sla_breached_at IS NULL AND case_status <> 'CLOSED' " +
+            "AND due_date < :before")
+    Flux<SlaDeadline> findSlaDeadlinesBefore(LocalDateTime before);
+
+    /**
+     * Mark open cases whose due date has passed as having breached their SLA. Cases already marked, possibly
+     * concurrently by another node, are skipped and not returned.
+     *
+     * @param caseIds The IDs of the cases
+     * @param breachedAt The time of the breach
+     * @return A flux of the cases marked
+     */
+    @Query("UPDATE compliance_case SET sla_breached_at = :breachedAt " +
+            "WHERE compliance_case_id = ANY(CAST(:caseIds AS BIGINT[])) " +
+            "AND due_date IS NOT NULL AND sla_breached_at IS NULL AND case_status <> 'CLOSED' " +
+            "AND due_date <= :breachedAt " +
+            "RETURNING compliance_case_id AS id, compliance_case_id, due_date, date_created")
+    Flux<SlaBreach> markSlaBreached(Long[] caseIds, LocalDateTime breachedAt);
+
+    /**
+     * Raise the priority of open cases by one level; cases without a priority become MEDIUM and CRITICAL cases are
+     * left as they are.
+     *
+     * @param caseIds The IDs of the cases
+     * @param updatedAt The time of the escalation
+     * @return A flux of the cases escalated
+     */
+    @Query("UPDATE compliance_case SET case_priority = CASE case_priority " +
+            "WHEN 'HIGH' THEN CAST('CRITICAL' AS case_priority) " +
+            "WHEN 'MEDIUM' THEN CAST('HIGH' AS case_priority) " +
+            "ELSE CAST('MEDIUM' AS case_priority) END, " +
+            "date_updated = :updatedAt " +
+            "WHERE compliance_case_id = ANY(CAST(:caseIds AS BIGINT[])) AND case_status <> 'CLOSED' " +
+            "AND (case_priority IS NULL OR case_priority <> 'CRITICAL') " +
+            "RETURNING *")
+    Flux<ComplianceCase> escalatePriority(Long[] caseIds, LocalDateTime updatedAt);
+}
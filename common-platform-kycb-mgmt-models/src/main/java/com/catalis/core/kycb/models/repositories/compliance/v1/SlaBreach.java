@@ -0,0 +1,14 @@
+package com.catalis.core.kycb.models.repositories.compliance.v1;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of a compliance case or action marked as having breached its SLA.
+ *
+ * @param id               The ID of the case or action
+ * @param complianceCaseId The ID of the case, or of the case the action belongs to
+ * @param dueDate          When the case or action was due
+ * @param dateCreated      When the case or action was created
+ */
+public record SlaBreach(Long id, Long complianceCaseId, LocalDateTime dueDate, LocalDateTime dateCreated) {
+}
@@ -0,0 +1,12 @@
+package com.catalis.core.kycb.models.repositories.compliance.v1;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of the due date of an open compliance case or action that has not breached its SLA yet.
+ *
+ * @param id      The ID of the case or action
+ * @param dueDate When the case or action is due
+ */
+public record SlaDeadline(Long id, LocalDateTime dueDate) {
+}
@@ -0,0 +1,11 @@
+package com.catalis.core.kycb.models.repositories.corporate.v1;
+
+/**
+ * Projection of how many of a party's current corporate structure links are verified.
+ *
+ * @param partyId       The ID of the party
+ * @param currentLinks  The number of links that have not ended
+ * @param verifiedLinks The number of those links that are verified
+ */
+public record CorporateStructureCoverage(Long partyId, Long currentLinks, Long verifiedLinks) {
+}
@@ -3,6 +3,7 @@ package com.catalis.core.kycb.models.repositories.corporate.v1;
 import com.catalis.core.kycb.models.entities.corporate.v1.CorporateStructure;
 import com.catalis.core.kycb.interfaces.enums.corporate.v1.RelationshipTypeEnum;
 import com.catalis.core.kycb.models.repositories.BaseRepository;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 
@@ -89,4 +90,17 @@ public interface CorporateStructureRepository extends BaseRepository<CorporateSt
      * @return A flux of corporate structures
      */
     Flux<CorporateStructure> findByParentEntityIdAndRelationshipType(Long parentEntityId, RelationshipTypeEnum relationshipTypeEnum);
+
+    /**
+     * Count the current and verified corporate structure links of each of the given parties.
+     *
+     * @param partyIds The IDs of the parties
+     * @param at The time links must not have ended by
+     * @return A flux with one coverage per party that has current links
+     */
+    @Query("SELECT party_id, COUNT(*) AS current_links, COUNT(*) FILTER (WHERE is_verified) AS verified_links " +
+            "FROM corporate_structure " +
+            "WHERE party_id = ANY(CAST(:partyIds AS BIGINT[])) AND (end_date IS NULL OR end_date > :at) " +
+            "GROUP BY party_id")
+    Flux<CorporateStructureCoverage> summarizeCoverage(Long[] partyIds, LocalDateTime at);
 }
@@ -0,0 +1,14 @@
+package com.catalis.core.kycb.models.repositories.document.v1;
+
+/**
+ * Projection of which verified, unexpired corporate documents a party has, for KYB completeness.
+ *
+ * @param partyId             The ID of the party
+ * @param mercantileRegistry  Whether a verified document carries a commercial registry entry
+ * @param deedOfIncorporation Whether the party has a verified deed of incorporation
+ * @param bylaws              Whether the party has verified bylaws
+ * @param taxId               Whether the party has a verified tax ID document
+ */
+public record CorporateDocumentCoverage(Long partyId, Boolean mercantileRegistry, Boolean deedOfIncorporation,
+                                        Boolean bylaws, Boolean taxId) {
+}
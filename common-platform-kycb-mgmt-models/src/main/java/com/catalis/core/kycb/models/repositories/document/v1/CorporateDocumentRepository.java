@@ -3,6 +3,7 @@ package com.catalis.core.kycb.models.repositories.document.v1;
 import com.catalis.core.kycb.models.entities.document.v1.CorporateDocument;
 import com.catalis.core.kycb.interfaces.enums.document.v1.DocumentTypeEnum;
 import com.catalis.core.kycb.models.repositories.BaseRepository;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 
@@ -54,4 +55,41 @@ public interface CorporateDocumentRepository extends BaseRepository<CorporateDoc
      * @return A flux of corporate documents
      */
     Flux<CorporateDocument> findByExpiryDateBefore(LocalDateTime expiryDate);
+
+    /**
+     * Find the next chunk of corporate documents expiring in a window, in (expiry date, ID) order.
+     *
+     * @param from      Exclusive lower bound of the expiry window
+     * @param to        Inclusive upper bound of the expiry window
+     * @param afterDate Expiry date of the last row of the previous chunk, or {@code from} for the first chunk
+     * @param afterId   ID of the last row of the previous chunk, or 0 for the first chunk
+     * @param limit     The maximum number of rows to return
+     * @return A flux of expiring documents
+     */
+    @Query("SELECT d.corporate_document_id AS document_id, d.party_id, " +
+            "CAST(d.document_type AS TEXT) AS document_type, d.expiry_date " +
+            "FROM corporate_document d " +
+            "WHERE d.expiry_date > :from AND d.expiry_date <= :to " +
+            "AND (d.expiry_date, d.corporate_document_id) > (:afterDate, :afterId) " +
+            "ORDER BY d.expiry_date, d.corporate_document_id LIMIT :limit")
+    Flux<ExpiringDocument> findExpiringAfter(LocalDateTime from, LocalDateTime to,
+                                             LocalDateTime afterDate, Long afterId, int limit);
+
+    /**
+     * Summarize which verified, unexpired corporate documents each of the given parties has.
+     *
+     * @param partyIds The IDs of the parties
+     * @param at The time documents must not have expired by
+     * @return A flux with one coverage per party that has corporate documents
+     */
+    @Query("SELECT party_id, " +
+            "bool_or(registry_entry IS NOT NULL AND commercial_registry IS NOT NULL) AS mercantile_registry, " +
+            "bool_or(document_type = 'DEED_OF_INCORPORATION') AS deed_of_incorporation, " +
+            "bool_or(document_type = 'BYLAWS') AS bylaws, " +
+            "bool_or(document_type = 'TAX_ID') AS tax_id " +
+            "FROM corporate_document " +
+            "WHERE party_id = ANY(CAST(:partyIds AS BIGINT[])) AND is_verified " +
+            "AND (expiry_date IS NULL OR expiry_date > :at) " +
+            "GROUP BY party_id")
+    Flux<CorporateDocumentCoverage> summarizeCoverage(Long[] partyIds, LocalDateTime at);
 }
@@ -0,0 +1,14 @@
+package com.catalis.core.kycb.models.repositories.document.v1;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of a document, identity document or power of attorney returned by expiry range scans.
+ *
+ * @param documentId   The ID of the row in its own table
+ * @param partyId      The ID of the party the document belongs to
+ * @param documentType The document or power type
+ * @param expiryDate   When the document expires
+ */
+public record ExpiringDocument(Long documentId, Long partyId, String documentType, LocalDateTime expiryDate) {
+}
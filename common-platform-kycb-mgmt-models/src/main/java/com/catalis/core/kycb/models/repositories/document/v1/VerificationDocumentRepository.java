@@ -3,9 +3,12 @@ package com.catalis.core.kycb.models.repositories.document.v1;
 import com.catalis.core.kycb.models.entities.document.v1.VerificationDocument;
 import com.catalis.core.kycb.interfaces.enums.document.v1.DocumentTypeEnum;
 import com.catalis.core.kycb.models.repositories.BaseRepository;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 
+import java.time.LocalDateTime;
+
 /**
  * Repository for verification document operations.
  */
@@ -44,4 +47,23 @@ public interface VerificationDocumentRepository extends BaseRepository<Verificat
      * @return A flux of verification documents
      */
     Flux<VerificationDocument> findByIsVerified(Boolean isVerified);
-}
\ No newline at end of file
+
+    /**
+     * Find the next chunk of identity documents expiring in a window, in (expiry date, ID) order.
+     *
+     * @param from      Exclusive lower bound of the expiry window
+     * @param to        Inclusive upper bound of the expiry window
+     * @param afterDate Expiry date of the last row of the previous chunk, or {@code from} for the first chunk
+     * @param afterId   ID of the last row of the previous chunk, or 0 for the first chunk
+     * @param limit     The maximum number of rows to return
+     * @return A flux of expiring documents
+     */
+    @Query("SELECT d.verification_document_id AS document_id, k.party_id, " +
+            "CAST(d.document_type AS TEXT) AS document_type, d.expiry_date " +
+            "FROM verification_document d JOIN kyc_verification k ON k.kyc_verification_id = d.kyc_verification_id " +
+            "WHERE d.expiry_date > :from AND d.expiry_date <= :to " +
+            "AND (d.expiry_date, d.verification_document_id) > (:afterDate, :afterId) " +
+            "ORDER BY d.expiry_date, d.verification_document_id LIMIT :limit")
+    Flux<ExpiringDocument> findExpiringAfter(LocalDateTime from, LocalDateTime to,
+                                             LocalDateTime afterDate, Long afterId, int limit);
+}
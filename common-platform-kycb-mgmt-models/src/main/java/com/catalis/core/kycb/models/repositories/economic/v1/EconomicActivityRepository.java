@@ -2,6 +2,7 @@ package com.catalis.core.kycb.models.repositories.economic.v1;
 
 import com.catalis.core.kycb.models.entities.economic.v1.EconomicActivity;
 import com.catalis.core.kycb.models.repositories.BaseRepository;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -99,4 +100,26 @@ public interface EconomicActivityRepository extends BaseRepository<EconomicActiv
      * @return A mono with the primary economic activity
      */
     Mono<EconomicActivity> findByPartyIdAndIsPrimaryTrue(Long partyId);
+
+    /**
+     * Find the next page of distinct party IDs carrying an activity code, in ascending party ID order.
+     *
+     * @param activityCode The activity code
+     * @param afterPartyId Only party IDs greater than this are returned
+     * @param limit        The maximum number of party IDs to return
+     * @return A flux of party IDs
+     */
+    @Query("SELECT DISTINCT party_id FROM economic_activity " +
+            "WHERE activity_code = :activityCode AND party_id > :afterPartyId " +
+            "ORDER BY party_id LIMIT :limit")
+    Flux<Long> findPartyIdsByActivityCodeAfter(String activityCode, Long afterPartyId, int limit);
+
+    /**
+     * Count the distinct parties carrying an activity code.
+     *
+     * @param activityCode The activity code
+     * @return A mono with the number of parties
+     */
+    @Query("SELECT COUNT(DISTINCT party_id) FROM economic_activity WHERE activity_code = :activityCode")
+    Mono<Long> countPartiesByActivityCode(String activityCode);
 }
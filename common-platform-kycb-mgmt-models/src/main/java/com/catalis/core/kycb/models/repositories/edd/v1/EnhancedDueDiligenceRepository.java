@@ -4,6 +4,7 @@ import com.catalis.core.kycb.models.entities.edd.v1.EnhancedDueDiligence;
 import com.catalis.core.kycb.interfaces.enums.edd.v1.EddReasonEnum;
 import com.catalis.core.kycb.interfaces.enums.edd.v1.EddStatusEnum;
 import com.catalis.core.kycb.models.repositories.BaseRepository;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -98,4 +99,79 @@ public interface EnhancedDueDiligenceRepository extends BaseRepository<EnhancedD
      * @return A mono with the latest enhanced due diligence record
      */
     Mono<EnhancedDueDiligence> findFirstByKycVerificationIdOrderByDateCreatedDesc(Long kycVerificationId);
-}
\ No newline at end of file
+
+    /**
+     * Create a pending EDD for every trigger that holds for the given parties and has no open EDD yet, in one
+     * statement. EDDs attach to the latest KYC verification of each party; parties without one are skipped. A
+     * party is triggered by a HIGH or EXTREME risk level on its latest KYC or KYB verification or an activity
+     * whose latest industry risk requires EDD (HIGH_RISK), a confirmed PEP match (PEP), or a positive sanctions
+     * answer on its latest questionnaire (SANCTIONS). An EDD is open while PENDING or IN_PROGRESS, and a unique
+     * partial index keeps at most one open per verification and reason; triggers that conflict with an open EDD,
+     * including one inserted concurrently, are skipped. Triggers whose EDD for the same verification and reason was
+     * COMPLETED or WAIVED since {@code closedSince} are skipped too, so a trigger that still holds does not reopen
+     * the EDD just closed for it. The enhanced due diligence flag of each verification that receives an EDD is set.
+     *
+     * @param partyIds The IDs of the parties to evaluate
+     * @param createdAt The creation time of the new EDDs
+     * @param closedSince The earliest closing time of an EDD that still holds back its trigger
+     * @return A flux of the EDDs created
+     */
+    @Query("WITH latest_kyc AS (" +
+            "SELECT DISTINCT ON (party_id) party_id, kyc_verification_id, risk_level FROM kyc_verification " +
+            "WHERE party_id = ANY(CAST(:partyIds AS BIGINT[])) " +
+            "ORDER BY party_id, verification_date DESC NULLS LAST, kyc_verification_id DESC), " +
+            "latest_kyb AS (" +
+            "SELECT DISTINCT ON (party_id) party_id, risk_level FROM kyb_verification " +
+            "WHERE party_id = ANY(CAST(:partyIds AS BIGINT[])) " +
+            "ORDER BY party_id, verification_date DESC NULLS LAST, kyb_verification_id DESC), " +
+            "latest_questionnaire AS (" +
+            "SELECT DISTINCT ON (party_id) party_id, economic_sanctions, resident_countries_sanctions, " +
+            "involved_sanctions FROM sanctions_questionnaire WHERE party_id = ANY(CAST(:partyIds AS BIGINT[])) " +
+            "ORDER BY party_id, questionnaire_date DESC NULLS LAST, sanctions_questionnaire_id DESC), " +
+            "triggers AS (" +
+            "SELECT k.kyc_verification_id, CAST('HIGH_RISK' AS edd_reason) AS edd_reason, " +
+            "'KYC verification risk level ' || CAST(k.risk_level AS TEXT) AS edd_description FROM latest_kyc k " +
+            "WHERE k.risk_level IN (CAST('HIGH' AS risk_level), CAST('EXTREME' AS risk_level)) " +
+            "UNION ALL " +
+            "SELECT k.kyc_verification_id, CAST('HIGH_RISK' AS edd_reason), " +
+            "'KYB verification risk level ' || CAST(b.risk_level AS TEXT) " +
+            "FROM latest_kyc k JOIN latest_kyb b ON b.party_id = k.party_id " +
+            "WHERE b.risk_level IN (CAST('HIGH' AS risk_level), CAST('EXTREME' AS risk_level)) " +
+            "UNION ALL " +
+            "SELECT k.kyc_verification_id, CAST('HIGH_RISK' AS edd_reason), " +
+            "'Industry risk of activity ' || e.activity_code || ' requires EDD' " +
+            "FROM latest_kyc k JOIN economic_activity e ON e.party_id = k.party_id " +
+            "JOIN LATERAL (SELECT i.requires_edd FROM industry_risk i WHERE i.activity_code = e.activity_code " +
+            "ORDER BY i.assessment_date DESC NULLS LAST LIMIT 1) r ON r.requires_edd " +
+            "UNION ALL " +
+            "SELECT k.kyc_verification_id, CAST('PEP' AS edd_reason), 'Confirmed PEP match: ' || m.matched_name " +
+            "FROM latest_kyc k JOIN aml_screening s ON s.party_id = k.party_id " +
+            "JOIN aml_match m ON m.aml_screening_id = s.aml_screening_id AND m.date_created >= s.date_created " +
+            "WHERE m.list_type = CAST('PEP' AS list_type) " +
+            "AND m.resolution_status = CAST('CONFIRMED_HIT' AS resolution_status) " +
+            "UNION ALL " +
+            "SELECT k.kyc_verification_id, CAST('SANCTIONS' AS edd_reason), " +
+            "'Positive answer on sanctions questionnaire' " +
+            "FROM latest_kyc k JOIN latest_questionnaire q ON q.party_id = k.party_id " +
+            "WHERE q.economic_sanctions OR q.resident_countries_sanctions OR q.involved_sanctions), " +
+            "created AS (" +
+            "INSERT INTO enhanced_due_diligence (kyc_verification_id, edd_reason, edd_status, edd_description, " +
+            "date_created) " +
+            "SELECT DISTINCT ON (t.kyc_verification_id, t.edd_reason) t.kyc_verification_id, t.edd_reason, " +
+            "CAST('PENDING' AS edd_status), t.edd_description, :createdAt FROM triggers t " +
+            "WHERE NOT EXISTS (SELECT 1 FROM enhanced_due_diligence d " +
+            "WHERE d.kyc_verification_id = t.kyc_verification_id AND d.edd_reason = t.edd_reason " +
+            "AND d.edd_status IN (CAST('COMPLETED' AS edd_status), CAST('WAIVED' AS edd_status)) " +
+            "AND COALESCE(d.completion_date, d.date_updated, d.date_created) >= :closedSince) " +
+            "ORDER BY t.kyc_verification_id, t.edd_reason, t.edd_description " +
+            "ON CONFLICT (kyc_verification_id, edd_reason) WHERE edd_status IN ('PENDING', 'IN_PROGRESS') " +
+            "DO NOTHING " +
+            "RETURNING *), " +
+            "flagged AS (" +
+            "UPDATE kyc_verification v SET enhanced_due_diligence = TRUE, date_updated = :createdAt " +
+            "FROM (SELECT DISTINCT kyc_verification_id FROM created) c " +
+            "WHERE v.kyc_verification_id = c.kyc_verification_id " +
+            "AND v.enhanced_due_diligence IS DISTINCT FROM TRUE) " +
+            "SELECT * FROM created")
+    Flux<EnhancedDueDiligence> createTriggered(Long[] partyIds, LocalDateTime createdAt, LocalDateTime closedSince);
+}
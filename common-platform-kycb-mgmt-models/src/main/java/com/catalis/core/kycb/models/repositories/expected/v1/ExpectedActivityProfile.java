@@ -0,0 +1,22 @@
+package com.catalis.core.kycb.models.repositories.expected.v1;
+
+import java.math.BigDecimal;
+
+/**
+ * The expected activity of a party, aggregated over all of its expected activity records.
+ *
+ * @param partyId                  The ID of the party
+ * @param expectedMonthlyVolume    The sum of the expected monthly volumes, or null if none is declared
+ * @param expectedAnnualVolume     The sum of the expected annual volumes, or null if none is declared
+ * @param expectedTransactionCount The sum of the expected monthly transaction counts, or null if none is declared
+ * @param anticipatedCountries     The anticipated countries of all records, comma separated, or null if none
+ * @param cashIntensive            Whether any record declares cash-intensive activity
+ */
+public record ExpectedActivityProfile(
+        Long partyId,
+        BigDecimal expectedMonthlyVolume,
+        BigDecimal expectedAnnualVolume,
+        Long expectedTransactionCount,
+        String anticipatedCountries,
+        Boolean cashIntensive) {
+}
@@ -2,6 +2,7 @@ package com.catalis.core.kycb.models.repositories.expected.v1;
 
 import com.catalis.core.kycb.models.entities.expected.v1.ExpectedActivity;
 import com.catalis.core.kycb.models.repositories.BaseRepository;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -109,4 +110,21 @@ public interface ExpectedActivityRepository extends BaseRepository<ExpectedActiv
      * @return A mono with the latest expected activity
      */
     Mono<ExpectedActivity> findFirstByPartyIdOrderByDateCreatedDesc(Long partyId);
-}
\ No newline at end of file
+
+    /**
+     * Aggregate the expected activity of each of the given parties over all of its expected activity records.
+     * Parties without expected activity are not returned.
+     *
+     * @param partyIds The IDs of the parties
+     * @return A flux of expected activity profiles, one per party with expected activity
+     */
+    @Query("SELECT party_id, SUM(expected_monthly_volume) AS expected_monthly_volume, " +
+            "SUM(expected_annual_volume) AS expected_annual_volume, " +
+            "SUM(expected_transaction_count) AS expected_transaction_count, " +
+            "string_agg(anticipated_countries, ',') AS anticipated_countries, " +
+            "bool_or(cash_intensive) AS cash_intensive " +
+            "FROM expected_activity " +
+            "WHERE party_id = ANY(CAST(:partyIds AS BIGINT[])) " +
+            "GROUP BY party_id")
+    Flux<ExpectedActivityProfile> findProfiles(Long[] partyIds);
+}
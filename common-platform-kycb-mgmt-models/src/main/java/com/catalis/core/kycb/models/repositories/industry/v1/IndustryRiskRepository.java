@@ -3,6 +3,7 @@ package com.catalis.core.kycb.models.repositories.industry.v1;
 import com.catalis.core.kycb.models.entities.industry.v1.IndustryRisk;
 import com.catalis.core.kycb.interfaces.enums.risk.v1.RiskLevelEnum;
 import com.catalis.core.kycb.models.repositories.BaseRepository;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -127,4 +128,23 @@ public interface IndustryRiskRepository extends BaseRepository<IndustryRisk, Lon
      * @return A mono with the latest industry risk
      */
     Mono<IndustryRisk> findFirstByActivityCodeOrderByAssessmentDateDesc(String activityCode);
-}
\ No newline at end of file
+
+    /**
+     * Claim a batch of industry risks whose next assessment date has passed and that have not been claimed since,
+     * skipping rows locked by another claimer. Must run inside a transaction so the lock is held until the
+     * claim is committed.
+     *
+     * @param claimedAt The claim time, also the cut-off for due rows
+     * @param limit     The maximum number of rows to claim
+     * @return A flux of the claimed industry risks, earliest due first
+     */
+    @Query("WITH claimed AS (UPDATE industry_risk SET review_claimed_at = :claimedAt " +
+            "WHERE industry_risk_id IN (" +
+            "SELECT industry_risk_id FROM industry_risk t " +
+            "WHERE t.next_assessment_date <= :claimedAt " +
+            "AND (t.review_claimed_at IS NULL OR t.review_claimed_at < t.next_assessment_date) " +
+            "ORDER BY t.next_assessment_date, t.industry_risk_id LIMIT :limit FOR UPDATE SKIP LOCKED) " +
+            "RETURNING *) " +
+            "SELECT * FROM claimed ORDER BY next_assessment_date, industry_risk_id")
+    Flux<IndustryRisk> claimDueForReview(LocalDateTime claimedAt, int limit);
+}
@@ -4,6 +4,8 @@ import com.catalis.core.kycb.models.entities.kyb.v1.KybVerification;
 import com.catalis.core.kycb.interfaces.enums.risk.v1.RiskLevelEnum;
 import com.catalis.core.kycb.interfaces.enums.verification.v1.VerificationStatusEnum;
 import com.catalis.core.kycb.models.repositories.BaseRepository;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -104,4 +106,98 @@ public interface KybVerificationRepository extends BaseRepository<KybVerificatio
      * @return A mono with the latest KYB verification
      */
     Mono<KybVerification> findFirstByPartyIdOrderByVerificationDateDesc(Long partyId);
+
+    /**
+     * Claim a batch of party-latest KYB verifications whose next review date has passed and that have not been
+     * claimed since, skipping rows locked by another claimer. Must run inside a transaction so the lock is held until
+     * the claim is committed. The latest verification of a party is the one with the latest verification date.
+     *
+     * @param claimedAt The claim time, also the cut-off for due rows
+     * @param limit     The maximum number of rows to claim
+     * @return A flux of the claimed KYB verifications, earliest due first
+     */
+    @Query("WITH claimed AS (UPDATE kyb_verification SET review_claimed_at = :claimedAt " +
+            "WHERE kyb_verification_id IN (" +
+            "SELECT kyb_verification_id FROM kyb_verification t " +
+            "WHERE t.next_review_date <= :claimedAt " +
+            "AND (t.review_claimed_at IS NULL OR t.review_claimed_at < t.next_review_date) " +
+            "AND t.kyb_verification_id = (SELECT latest.kyb_verification_id FROM kyb_verification latest " +
+            "WHERE latest.party_id = t.party_id " +
+            "ORDER BY latest.verification_date DESC NULLS LAST, latest.kyb_verification_id DESC LIMIT 1) " +
+            "ORDER BY t.next_review_date, t.kyb_verification_id LIMIT :limit FOR UPDATE SKIP LOCKED) " +
+            "RETURNING *) " +
+            "SELECT * FROM claimed ORDER BY next_review_date, kyb_verification_id")
+    Flux<KybVerification> claimDueForReview(LocalDateTime claimedAt, int limit);
+
+    /**
+     * Find the IDs of parties with a KYB verification, in ID order, after a given party.
+     *
+     * @param afterPartyId The party ID to start after
+     * @param limit The maximum number of IDs to return
+     * @return A flux of party IDs
+     */
+    @Query("SELECT DISTINCT party_id FROM kyb_verification WHERE party_id > :afterPartyId " +
+            "ORDER BY party_id LIMIT :limit")
+    Flux<Long> findPartyIdsAfter(Long afterPartyId, int limit);
+
+    /**
+     * Count the parties with a KYB verification.
+     *
+     * @return A mono with the number of parties
+     */
+    @Query("SELECT COUNT(DISTINCT party_id) FROM kyb_verification")
+    Mono<Long> countParties();
+
+    /**
+     * Write evaluated verification flags and status to the latest KYB verification of each party in one statement,
+     * latest being by verification date and then ID, as for the review claim. Rejected verifications keep their
+     * status, and rows whose flags and status are unchanged are not written. All arrays are positionally matched to
+     * {@code partyIds}.
+     *
+     * @param partyIds The IDs of the parties
+     * @param mercantileRegistry The evaluated mercantile registry flags
+     * @param deedOfIncorporation The evaluated deed of incorporation flags
+     * @param businessStructure The evaluated business structure flags
+     * @param ubo The evaluated UBO flags
+     * @param taxId The evaluated tax ID flags
+     * @param operatingLicense The evaluated operating license flags
+     * @param statuses The evaluated verification statuses
+     * @param evaluatedAt The time of the evaluation
+     * @return A mono with the number of verifications updated
+     */
+    @Modifying
+    @Query("UPDATE kyb_verification k SET " +
+            "mercantile_registry_verified = t.mercantile_registry, " +
+            "deed_of_incorporation_verified = t.deed_of_incorporation, " +
+            "business_structure_verified = t.business_structure, " +
+            "ubo_verified = t.ubo, " +
+            "tax_id_verified = t.tax_id, " +
+            "operating_license_verified = t.operating_license, " +
+            "verification_status = CASE WHEN k.verification_status = 'REJECTED' THEN k.verification_status " +
+            "ELSE CAST(t.status AS verification_status) END, " +
+            "verification_date = CASE WHEN t.status = 'VERIFIED' " +
+            "AND k.verification_status IS DISTINCT FROM 'VERIFIED' " +
+            "AND k.verification_status IS DISTINCT FROM 'REJECTED' " +
+            "THEN :evaluatedAt ELSE k.verification_date END, " +
+            "date_updated = :evaluatedAt " +
+            "FROM unnest(CAST(:partyIds AS BIGINT[]), CAST(:mercantileRegistry AS BOOLEAN[]), " +
+            "CAST(:deedOfIncorporation AS BOOLEAN[]), CAST(:businessStructure AS BOOLEAN[]), " +
+            "CAST(:ubo AS BOOLEAN[]), CAST(:taxId AS BOOLEAN[]), CAST(:operatingLicense AS BOOLEAN[]), " +
+            "CAST(:statuses AS TEXT[])) " +
+            "AS t(party_id, mercantile_registry, deed_of_incorporation, business_structure, ubo, tax_id, " +
+            "operating_license, status) " +
+            "WHERE k.kyb_verification_id = (SELECT l.kyb_verification_id FROM kyb_verification l " +
+            "WHERE l.party_id = t.party_id " +
+            "ORDER BY l.verification_date DESC NULLS LAST, l.kyb_verification_id DESC LIMIT 1) " +
+            "AND (k.mercantile_registry_verified IS DISTINCT FROM t.mercantile_registry " +
+            "OR k.deed_of_incorporation_verified IS DISTINCT FROM t.deed_of_incorporation " +
+            "OR k.business_structure_verified IS DISTINCT FROM t.business_structure " +
+            "OR k.ubo_verified IS DISTINCT FROM t.ubo " +
+            "OR k.tax_id_verified IS DISTINCT FROM t.tax_id " +
+            "OR k.operating_license_verified IS DISTINCT FROM t.operating_license " +
+            "OR (k.verification_status IS DISTINCT FROM 'REJECTED' " +
+            "AND k.verification_status IS DISTINCT FROM CAST(t.status AS verification_status)))")
+    Mono<Integer> applyCompleteness(Long[] partyIds, Boolean[] mercantileRegistry, Boolean[] deedOfIncorporation,
+                                    Boolean[] businessStructure, Boolean[] ubo, Boolean[] taxId,
+                                    Boolean[] operatingLicense, String[] statuses, LocalDateTime evaluatedAt);
 }
@@ -2,10 +2,13 @@ package com.catalis.core.kycb.models.repositories.kyc.v1;
 
 import com.catalis.core.kycb.models.entities.kyc.v1.KycVerification;
 import com.catalis.core.kycb.models.repositories.BaseRepository;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
+
 /**
  * Repository for KYC verification operations.
  */
@@ -27,4 +30,83 @@ public interface KycVerificationRepository extends BaseRepository<KycVerificatio
      * @return A mono with the latest KYC verification
      */
     Mono<KycVerification> findFirstByPartyIdOrderByVerificationDateDesc(Long partyId);
-}
\ No newline at end of file
+
+    /**
+     * Claim a batch of party-latest KYC verifications whose next review date has passed and that have not been
+     * claimed since, skipping rows locked by another claimer. Must run inside a transaction so the lock is held until
+     * the claim is committed. The latest verification of a party is the one with the latest verification date.
+     *
+     * @param claimedAt The claim time, also the cut-off for due rows
+     * @param limit     The maximum number of rows to claim
+     * @return A flux of the claimed KYC verifications, earliest due first
+     */
+    @Query("WITH claimed AS (UPDATE kyc_verification SET review_claimed_at = :claimedAt " +
+            "WHERE kyc_verification_id IN (" +
+            "SELECT kyc_verification_id FROM kyc_verification t " +
+            "WHERE t.next_review_date <= :claimedAt " +
+            "AND (t.review_claimed_at IS NULL OR t.review_claimed_at < t.next_review_date) " +
+            "AND t.kyc_verification_id = (SELECT latest.kyc_verification_id FROM kyc_verification latest " +
+            "WHERE latest.party_id = t.party_id " +
+            "ORDER BY latest.verification_date DESC NULLS LAST, latest.kyc_verification_id DESC LIMIT 1) " +
+            "ORDER BY t.next_review_date, t.kyc_verification_id LIMIT :limit FOR UPDATE SKIP LOCKED) " +
+            "RETURNING *) " +
+            "SELECT * FROM claimed ORDER BY next_review_date, kyc_verification_id")
+    Flux<KycVerification> claimDueForReview(LocalDateTime claimedAt, int limit);
+
+    /**
+     * Find the IDs of parties with a KYC verification, in ID order, after a given party.
+     *
+     * @param afterPartyId The party ID to start after
+     * @param limit The maximum number of IDs to return
+     * @return A flux of party IDs
+     */
+    @Query("SELECT DISTINCT party_id FROM kyc_verification WHERE party_id > :afterPartyId " +
+            "ORDER BY party_id LIMIT :limit")
+    Flux<Long> findPartyIdsAfter(Long afterPartyId, int limit);
+
+    /**
+     * Count the parties with a KYC verification.
+     *
+     * @return A mono with the number of parties
+     */
+    @Query("SELECT COUNT(DISTINCT party_id) FROM kyc_verification")
+    Mono<Long> countParties();
+
+    /**
+     * Read the pre-transaction check inputs of a batch of parties: their latest KYC verification, latest risk
+     * assessment, latest AML screening and latest sanctions questionnaire, whether they have a confirmed PEP match,
+     * and their aggregated expected activity, one row per requested party.
+     * Latest is by date, undated rows last and the highest ID breaking ties, so every read picks the same row.
+     *
+     * @param partyIds The IDs of the parties
+     * @return A flux of check profile rows, one per distinct party ID
+     */
+    @Query("SELECT p.party_id, k.verification_status, k.risk_level AS kyc_risk_level, " +
+            "r.risk_level AS assessed_risk_level, s.screening_result, pep.confirmed_pep, q.sanctions_exposure, " +
+            "e.expected_activities, e.expected_monthly_volume, e.anticipated_countries, e.cash_intensive " +
+            "FROM (SELECT DISTINCT unnest(CAST(:partyIds AS BIGINT[])) AS party_id) p " +
+            "LEFT JOIN LATERAL (SELECT CAST(v.verification_status AS TEXT) AS verification_status, " +
+            "CAST(v.risk_level AS TEXT) AS risk_level " +
+            "FROM kyc_verification v WHERE v.party_id = p.party_id " +
+            "ORDER BY v.verification_date DESC NULLS LAST, v.kyc_verification_id DESC LIMIT 1) k ON TRUE " +
+            "LEFT JOIN LATERAL (SELECT CAST(a.risk_level AS TEXT) AS risk_level " +
+            "FROM risk_assessment a WHERE a.party_id = p.party_id " +
+            "ORDER BY a.assessment_date DESC NULLS LAST, a.risk_assessment_id DESC LIMIT 1) r ON TRUE " +
+            "LEFT JOIN LATERAL (SELECT CAST(a.screening_result AS TEXT) AS screening_result " +
+            "FROM aml_screening a WHERE a.party_id = p.party_id " +
+            "ORDER BY a.screening_date DESC NULLS LAST, a.aml_screening_id DESC LIMIT 1) s ON TRUE " +
+            "LEFT JOIN LATERAL (SELECT TRUE AS confirmed_pep FROM aml_screening a " +
+            "JOIN aml_match m ON m.aml_screening_id = a.aml_screening_id AND m.date_created >= a.date_created " +
+            "WHERE a.party_id = p.party_id AND m.list_type = CAST('PEP' AS list_type) " +
+            "AND m.resolution_status = CAST('CONFIRMED_HIT' AS resolution_status) LIMIT 1) pep ON TRUE " +
+            "LEFT JOIN LATERAL (SELECT (q.economic_sanctions OR q.resident_countries_sanctions " +
+            "OR q.involved_sanctions) AS sanctions_exposure FROM sanctions_questionnaire q " +
+            "WHERE q.party_id = p.party_id " +
+            "ORDER BY q.questionnaire_date DESC NULLS LAST, q.sanctions_questionnaire_id DESC LIMIT 1) q ON TRUE " +
+            "LEFT JOIN LATERAL (SELECT COUNT(*) AS expected_activities, " +
+            "SUM(x.expected_monthly_volume) AS expected_monthly_volume, " +
+            "string_agg(x.anticipated_countries, ',') AS anticipated_countries, " +
+            "bool_or(x.cash_intensive) AS cash_intensive " +
+            "FROM expected_activity x WHERE x.party_id = p.party_id) e ON TRUE")
+    Flux<PartyCheckProfileRow> findCheckProfiles(Long[] partyIds);
+}
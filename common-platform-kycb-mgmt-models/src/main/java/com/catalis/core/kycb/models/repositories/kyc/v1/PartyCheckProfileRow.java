@@ -0,0 +1,33 @@
+package com.catalis.core.kycb.models.repositories.kyc.v1;
+
+import java.math.BigDecimal;
+
+/**
+ * The inputs of a party's pre-transaction check, read in one row. Every column but the party ID and the number of
+ * expected activities is null when the party has no record of the corresponding kind.
+ *
+ * @param partyId               The ID of the party
+ * @param verificationStatus    The status of the party's latest KYC verification
+ * @param kycRiskLevel          The risk level of the party's latest KYC verification
+ * @param assessedRiskLevel     The risk level of the party's latest risk assessment
+ * @param screeningResult       The result of the party's latest AML screening
+ * @param confirmedPep          Whether any AML screening of the party has a confirmed PEP match
+ * @param sanctionsExposure     Whether the party's latest sanctions questionnaire answers any sanctions question yes
+ * @param expectedActivities    The number of expected activity records of the party
+ * @param expectedMonthlyVolume The sum of the party's expected monthly volumes
+ * @param anticipatedCountries  The anticipated countries of all expected activity records, comma separated
+ * @param cashIntensive         Whether any expected activity record declares cash-intensive activity
+ */
+public record PartyCheckProfileRow(
+        Long partyId,
+        String verificationStatus,
+        String kycRiskLevel,
+        String assessedRiskLevel,
+        String screeningResult,
+        Boolean confirmedPep,
+        Boolean sanctionsExposure,
+        Long expectedActivities,
+        BigDecimal expectedMonthlyVolume,
+        String anticipatedCountries,
+        Boolean cashIntensive) {
+}
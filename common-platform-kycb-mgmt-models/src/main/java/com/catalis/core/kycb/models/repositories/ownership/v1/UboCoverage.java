@@ -0,0 +1,11 @@
+package com.catalis.core.kycb.models.repositories.ownership.v1;
+
+/**
+ * Projection of how many of a party's current ultimate beneficial owners are verified.
+ *
+ * @param partyId     The ID of the party
+ * @param currentUbos The number of UBOs whose ownership has not ended
+ * @param verifiedUbos The number of those UBOs that are verified
+ */
+public record UboCoverage(Long partyId, Long currentUbos, Long verifiedUbos) {
+}
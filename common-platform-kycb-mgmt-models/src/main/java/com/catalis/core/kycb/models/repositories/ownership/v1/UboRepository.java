@@ -3,6 +3,7 @@ package com.catalis.core.kycb.models.repositories.ownership.v1;
 import com.catalis.core.kycb.models.entities.ownership.v1.Ubo;
 import com.catalis.core.kycb.interfaces.enums.ownership.v1.OwnershipTypeEnum;
 import com.catalis.core.kycb.models.repositories.BaseRepository;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 
@@ -88,4 +89,17 @@ public interface UboRepository extends BaseRepository<Ubo, Long> {
      * @return A flux of UBOs
      */
     Flux<Ubo> findByPartyIdAndOwnershipPercentageGreaterThanEqual(Long partyId, BigDecimal threshold);
+
+    /**
+     * Count the current and verified ultimate beneficial owners of each of the given parties.
+     *
+     * @param partyIds The IDs of the parties
+     * @param at The time ownership must not have ended by
+     * @return A flux with one coverage per party that has current UBOs
+     */
+    @Query("SELECT party_id, COUNT(*) AS current_ubos, COUNT(*) FILTER (WHERE is_verified) AS verified_ubos " +
+            "FROM ubo " +
+            "WHERE party_id = ANY(CAST(:partyIds AS BIGINT[])) AND (end_date IS NULL OR end_date > :at) " +
+            "GROUP BY party_id")
+    Flux<UboCoverage> summarizeCoverage(Long[] partyIds, LocalDateTime at);
 }
@@ -3,6 +3,8 @@ package com.catalis.core.kycb.models.repositories.power.v1;
 import com.catalis.core.kycb.models.entities.power.v1.PowerOfAttorney;
 import com.catalis.core.kycb.interfaces.enums.power.v1.PowerTypeEnum;
 import com.catalis.core.kycb.models.repositories.BaseRepository;
+import com.catalis.core.kycb.models.repositories.document.v1.ExpiringDocument;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 
@@ -77,4 +79,23 @@ public interface PowerOfAttorneyRepository extends BaseRepository<PowerOfAttorne
      * @return A flux of powers of attorney
      */
     Flux<PowerOfAttorney> findByExpiryDateAfterOrExpiryDateIsNull(LocalDateTime currentDate);
+
+    /**
+     * Find the next chunk of powers of attorney expiring in a window, in (expiry date, ID) order.
+     *
+     * @param from      Exclusive lower bound of the expiry window
+     * @param to        Inclusive upper bound of the expiry window
+     * @param afterDate Expiry date of the last row of the previous chunk, or {@code from} for the first chunk
+     * @param afterId   ID of the last row of the previous chunk, or 0 for the first chunk
+     * @param limit     The maximum number of rows to return
+     * @return A flux of expiring documents
+     */
+    @Query("SELECT p.power_of_attorney_id AS document_id, p.party_id, " +
+            "CAST(p.power_type AS TEXT) AS document_type, p.expiry_date " +
+            "FROM power_of_attorney p " +
+            "WHERE p.expiry_date > :from AND p.expiry_date <= :to " +
+            "AND (p.expiry_date, p.power_of_attorney_id) > (:afterDate, :afterId) " +
+            "ORDER BY p.expiry_date, p.power_of_attorney_id LIMIT :limit")
+    Flux<ExpiringDocument> findExpiringAfter(LocalDateTime from, LocalDateTime to,
+                                             LocalDateTime afterDate, Long afterId, int limit);
 }
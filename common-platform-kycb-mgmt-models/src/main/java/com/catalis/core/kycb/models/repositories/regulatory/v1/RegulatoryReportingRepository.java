@@ -4,6 +4,8 @@ import com.catalis.core.kycb.models.entities.regulatory.v1.RegulatoryReporting;
 import com.catalis.core.kycb.interfaces.enums.report.v1.ReportStatusEnum;
 import com.catalis.core.kycb.interfaces.enums.report.v1.ReportTypeEnum;
 import com.catalis.core.kycb.models.repositories.BaseRepository;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -98,4 +100,87 @@ public interface RegulatoryReportingRepository extends BaseRepository<Regulatory
      * @return A mono with the latest regulatory report
      */
     Mono<RegulatoryReporting> findFirstByComplianceCaseIdOrderBySubmissionDateDesc(Long complianceCaseId);
-}
\ No newline at end of file
+
+    /**
+     * Stream the cases flagged for SEPBLAC reporting that have no SEPBLAC report yet, lowest case ID first, with
+     * their actions, their party's AML matches other than false positives, and the party's latest KYC verification
+     * and business profile, as one ordered cursor. See {@link SepblacReportRow} for the row layout.
+     *
+     * @param limit The maximum number of cases to include
+     * @return A flux of report rows
+     */
+    @Query("WITH reportable AS (" +
+            "SELECT c.* FROM compliance_case c WHERE c.report_to_sepblac_required " +
+            "AND NOT EXISTS (SELECT 1 FROM regulatory_reporting r " +
+            "WHERE r.compliance_case_id = c.compliance_case_id " +
+            "AND r.report_type = CAST('COMUNICACION_SEPBLAC' AS report_type)) " +
+            "ORDER BY c.compliance_case_id LIMIT :limit) " +
+            "SELECT c.compliance_case_id, 0 AS row_kind, CAST(0 AS BIGINT) AS child_id, c.party_id, " +
+            "CAST(c.case_type AS TEXT) AS case_type, CAST(c.case_status AS TEXT) AS case_status, " +
+            "CAST(c.case_priority AS TEXT) AS case_priority, c.case_reference, c.case_summary, " +
+            "c.date_created AS case_date, c.resolution_date, c.resolution_notes, " +
+            "k.risk_level, k.risk_score, b.registration_number, b.legal_form_code, " +
+            "CAST(NULL AS TEXT) AS action_type, CAST(NULL AS TEXT) AS action_status, " +
+            "CAST(NULL AS TEXT) AS action_description, CAST(NULL AS TIMESTAMP) AS action_due_date, " +
+            "CAST(NULL AS TIMESTAMP) AS action_completion_date, CAST(NULL AS TEXT) AS action_result, " +
+            "CAST(NULL AS TEXT) AS list_type, CAST(NULL AS TEXT) AS list_source, " +
+            "CAST(NULL AS TEXT) AS matched_name, CAST(NULL AS NUMERIC) AS match_score, " +
+            "CAST(NULL AS TEXT) AS match_resolution_status " +
+            "FROM reportable c " +
+            "LEFT JOIN LATERAL (SELECT CAST(v.risk_level AS TEXT) AS risk_level, v.risk_score " +
+            "FROM kyc_verification v WHERE v.party_id = c.party_id " +
+            "ORDER BY v.verification_date DESC NULLS LAST, v.kyc_verification_id DESC LIMIT 1) k ON TRUE " +
+            "LEFT JOIN LATERAL (SELECT p.registration_number, p.legal_form_code " +
+            "FROM business_profile p WHERE p.party_id = c.party_id " +
+            "ORDER BY p.date_created DESC, p.business_profile_id DESC LIMIT 1) b ON TRUE " +
+            "UNION ALL " +
+            "SELECT c.compliance_case_id, 1, a.compliance_action_id, c.party_id, " +
+            "NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, " +
+            "CAST(a.action_type AS TEXT), CAST(a.action_status AS TEXT), a.action_description, a.due_date, " +
+            "a.completion_date, a.result, NULL, NULL, NULL, NULL, NULL " +
+            "FROM reportable c JOIN compliance_action a ON a.compliance_case_id = c.compliance_case_id " +
+            "UNION ALL " +
+            "SELECT c.compliance_case_id, 2, m.aml_match_id, c.party_id, " +
+            "NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, " +
+            "NULL, NULL, NULL, NULL, NULL, NULL, " +
+            "CAST(m.list_type AS TEXT), m.list_source, m.matched_name, m.match_score, " +
+            "CAST(m.resolution_status AS TEXT) " +
+            "FROM reportable c JOIN aml_screening s ON s.party_id = c.party_id " +
+            "JOIN aml_match m ON m.aml_screening_id = s.aml_screening_id AND m.date_created >= s.date_created " +
+            "WHERE m.resolution_status IS DISTINCT FROM CAST('FALSE_POSITIVE' AS resolution_status) " +
+            "ORDER BY 1, 2, 3")
+    Flux<SepblacReportRow> streamSepblacReport(int limit);
+
+    /**
+     * Take the transaction-scoped advisory lock that serializes SEPBLAC report recording across nodes. Must run in
+     * the same transaction as, and before, {@link #recordSepblacReports}.
+     *
+     * @return A mono that emits once the lock is held
+     */
+    @Query("SELECT 1 FROM pg_advisory_xact_lock(hashtext('kycb.sepblac-report'))")
+    Mono<Integer> lockSepblacReporting();
+
+    /**
+     * Record one draft SEPBLAC report per case, in one statement. Cases that already have a SEPBLAC report are
+     * skipped, which is only race-free under {@link #lockSepblacReporting}.
+     *
+     * @param caseIds The IDs of the reported cases
+     * @param reportReferences The report reference of each case, in the same order
+     * @param regulatoryAuthority The authority the reports are addressed to
+     * @param contentSummary The content summary shared by the reports
+     * @param createdAt The creation time of the reports
+     * @return A mono with the number of reports recorded, less than the number of cases if some were skipped
+     */
+    @Modifying
+    @Query("INSERT INTO regulatory_reporting (compliance_case_id, report_type, report_reference, " +
+            "regulatory_authority, report_status, report_content_summary, date_created) " +
+            "SELECT t.compliance_case_id, CAST('COMUNICACION_SEPBLAC' AS report_type), t.report_reference, " +
+            ":regulatoryAuthority, CAST('DRAFT' AS report_status), :contentSummary, :createdAt " +
+            "FROM unnest(CAST(:caseIds AS BIGINT[]), CAST(:reportReferences AS TEXT[])) " +
+            "AS t(compliance_case_id, report_reference) " +
+            "WHERE NOT EXISTS (SELECT 1 FROM regulatory_reporting r " +
+            "WHERE r.compliance_case_id = t.compliance_case_id " +
+            "AND r.report_type = CAST('COMUNICACION_SEPBLAC' AS report_type))")
+    Mono<Integer> recordSepblacReports(Long[] caseIds, String[] reportReferences, String regulatoryAuthority,
+                                       String contentSummary, LocalDateTime createdAt);
+}
@@ -0,0 +1,71 @@
+package com.catalis.core.kycb.models.repositories.regulatory.v1;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * One row of the SEPBLAC report cursor. Rows arrive ordered by case, then kind, then child ID: a case row carrying
+ * the case and its party, followed by one row per compliance action and one row per AML match of the party. Columns
+ * that do not belong to the row's kind are null.
+ *
+ * @param complianceCaseId      The ID of the case the row belongs to
+ * @param rowKind               {@link #CASE}, {@link #ACTION} or {@link #MATCH}
+ * @param childId               The ID of the action or match, 0 for the case row
+ * @param partyId               The ID of the party the case is about
+ * @param caseType              The case type
+ * @param caseStatus            The case status
+ * @param casePriority          The case priority
+ * @param caseReference         The case reference
+ * @param caseSummary           The case summary
+ * @param caseDate              When the case was opened
+ * @param resolutionDate        When the case was resolved
+ * @param resolutionNotes       The resolution notes of the case
+ * @param riskLevel             The risk level of the party's latest KYC verification
+ * @param riskScore             The risk score of the party's latest KYC verification
+ * @param registrationNumber    The registration number of the party's latest business profile
+ * @param legalFormCode         The legal form of the party's latest business profile
+ * @param actionType            The action type
+ * @param actionStatus          The action status
+ * @param actionDescription     The action description
+ * @param actionDueDate         When the action was due
+ * @param actionCompletionDate  When the action was completed
+ * @param actionResult          The action result
+ * @param listType              The list the party matched
+ * @param listSource            The source of the list
+ * @param matchedName           The listed name matched
+ * @param matchScore            The match score
+ * @param matchResolutionStatus The resolution status of the match
+ */
+public record SepblacReportRow(
+        Long complianceCaseId,
+        Integer rowKind,
+        Long childId,
+        Long partyId,
+        String caseType,
+        String caseStatus,
+        String casePriority,
+        String caseReference,
+        String caseSummary,
+        LocalDateTime caseDate,
+        LocalDateTime resolutionDate,
+        String resolutionNotes,
+        String riskLevel,
+        Integer riskScore,
+        String registrationNumber,
+        String legalFormCode,
+        String actionType,
+        String actionStatus,
+        String actionDescription,
+        LocalDateTime actionDueDate,
+        LocalDateTime actionCompletionDate,
+        String actionResult,
+        String listType,
+        String listSource,
+        String matchedName,
+        BigDecimal matchScore,
+        String matchResolutionStatus) {
+
+    public static final int CASE = 0;
+    public static final int ACTION = 1;
+    public static final int MATCH = 2;
+}
@@ -5,6 +5,7 @@ import com.catalis.core.kycb.interfaces.enums.assessment.v1.AssessmentTypeEnum;
 import com.catalis.core.kycb.interfaces.enums.risk.v1.RiskCategoryEnum;
 import com.catalis.core.kycb.interfaces.enums.risk.v1.RiskLevelEnum;
 import com.catalis.core.kycb.models.repositories.BaseRepository;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -89,4 +90,26 @@ public interface RiskAssessmentRepository extends BaseRepository<RiskAssessment,
      * @return A mono with the latest risk assessment
      */
     Mono<RiskAssessment> findFirstByPartyIdOrderByAssessmentDateDesc(Long partyId);
-}
\ No newline at end of file
+
+    /**
+     * Claim a batch of party-latest risk assessments whose next assessment date has passed and that have not been
+     * claimed since, skipping rows locked by another claimer. Must run inside a transaction so the lock is held until
+     * the claim is committed.
+     *
+     * @param claimedAt The claim time, also the cut-off for due rows
+     * @param limit     The maximum number of rows to claim
+     * @return A flux of the claimed risk assessments, earliest due first
+     */
+    @Query("WITH claimed AS (UPDATE risk_assessment SET review_claimed_at = :claimedAt " +
+            "WHERE risk_assessment_id IN (" +
+            "SELECT risk_assessment_id FROM risk_assessment t " +
+            "WHERE t.next_assessment_date <= :claimedAt " +
+            "AND (t.review_claimed_at IS NULL OR t.review_claimed_at < t.next_assessment_date) " +
+            "AND t.risk_assessment_id = (SELECT latest.risk_assessment_id FROM risk_assessment latest " +
+            "WHERE latest.party_id = t.party_id " +
+            "ORDER BY latest.assessment_date DESC NULLS LAST, latest.risk_assessment_id DESC LIMIT 1) " +
+            "ORDER BY t.next_assessment_date, t.risk_assessment_id LIMIT :limit FOR UPDATE SKIP LOCKED) " +
+            "RETURNING *) " +
+            "SELECT * FROM claimed ORDER BY next_assessment_date, risk_assessment_id")
+    Flux<RiskAssessment> claimDueForReview(LocalDateTime claimedAt, int limit);
+}
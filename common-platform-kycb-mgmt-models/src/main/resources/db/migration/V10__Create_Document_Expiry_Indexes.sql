@@ -0,0 +1,26 @@
+-- V10__Create_Document_Expiry_Indexes.sql
+
+-- Expiry scans walk each document table in (expiry_date, id) order; the covering partial indexes make every
+-- chunk an index-only range scan
+CREATE INDEX IF NOT EXISTS idx_corporate_document_expiry_date
+    ON corporate_document (expiry_date, corporate_document_id) INCLUDE (party_id, document_type)
+    WHERE expiry_date IS NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_power_of_attorney_expiry_date
+    ON power_of_attorney (expiry_date, power_of_attorney_id) INCLUDE (party_id, power_type)
+    WHERE expiry_date IS NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_verification_document_expiry_date
+    ON verification_document (expiry_date, verification_document_id) INCLUDE (kyc_verification_id, document_type)
+    WHERE expiry_date IS NOT NULL;
+
+-- At most one open document expiry case per party, so concurrent monitors upsert the same case
+CREATE UNIQUE INDEX IF NOT EXISTS ux_compliance_case_open_document_expiry
+    ON compliance_case (case_reference)
+    WHERE case_status <> 'CLOSED' AND case_reference LIKE 'DOC-EXPIRY-%';
+
+-- Actions raised for a specific source record are created once per case
+ALTER TABLE compliance_action ADD COLUMN IF NOT EXISTS source_reference TEXT;
+CREATE UNIQUE INDEX IF NOT EXISTS ux_compliance_action_case_source_reference
+    ON compliance_action (compliance_case_id, source_reference)
+    WHERE source_reference IS NOT NULL;
@@ -0,0 +1,7 @@
+-- V11__Create_Case_Queue_Index.sql
+
+-- The case queue holds unassigned cases that are not closed, ordered by priority and due date; claims and queue
+-- peeks read its head straight off this index, and depth counts are index-only scans
+CREATE INDEX IF NOT EXISTS idx_compliance_case_queue
+    ON compliance_case (case_priority DESC NULLS LAST, due_date ASC NULLS LAST, compliance_case_id)
+    WHERE assigned_to IS NULL AND case_status <> 'CLOSED';
@@ -0,0 +1,16 @@
+-- V12__Add_Sla_Breach_Columns.sql
+
+-- SLA breaches: an open case or action breaches once its due date passes. sla_breached_at records the breach so it
+-- is handled once across restarts and nodes. The partial indexes hold only open, not yet breached rows with a due
+-- date, which is all the SLA monitor loads.
+
+ALTER TABLE compliance_case ADD COLUMN IF NOT EXISTS sla_breached_at TIMESTAMP;
+CREATE INDEX IF NOT EXISTS idx_compliance_case_sla_due_date
+    ON compliance_case (due_date)
+    WHERE due_date IS NOT NULL AND sla_breached_at IS NULL AND case_status <> 'CLOSED';
+
+ALTER TABLE compliance_action ADD COLUMN IF NOT EXISTS sla_breached_at TIMESTAMP;
+CREATE INDEX IF NOT EXISTS idx_compliance_action_sla_due_date
+    ON compliance_action (due_date)
+    WHERE due_date IS NOT NULL AND sla_breached_at IS NULL AND completion_date IS NULL
+        AND action_status IN ('PENDING', 'IN_PROGRESS');
@@ -0,0 +1,18 @@
+-- V13__Create_Kyb_Completeness_Indexes.sql
+
+-- KYB completeness evaluation reads the documents, structure links, UBOs and business profile of thousands of
+-- parties per statement with party_id = ANY(...), and writes the latest KYB verification of each party
+CREATE INDEX IF NOT EXISTS idx_corporate_document_party_id
+    ON corporate_document (party_id);
+
+CREATE INDEX IF NOT EXISTS idx_corporate_structure_party_id
+    ON corporate_structure (party_id);
+
+CREATE INDEX IF NOT EXISTS idx_ubo_party_id
+    ON ubo (party_id);
+
+CREATE INDEX IF NOT EXISTS idx_business_profile_party_id_business_profile_id
+    ON business_profile (party_id, business_profile_id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_kyb_verification_party_id_kyb_verification_id
+    ON kyb_verification (party_id, kyb_verification_id DESC);
@@ -0,0 +1,24 @@
+-- V14__Create_Edd_Trigger_Indexes.sql
+
+-- EDD trigger evaluation resolves the latest KYC verification of thousands of parties per statement with
+-- party_id = ANY(...), then probes each trigger source for the same parties
+CREATE INDEX IF NOT EXISTS idx_kyc_verification_party_id_kyc_verification_id
+    ON kyc_verification (party_id, kyc_verification_id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_economic_activity_party_id_activity_code
+    ON economic_activity (party_id, activity_code);
+
+CREATE INDEX IF NOT EXISTS idx_aml_screening_party_id
+    ON aml_screening (party_id);
+
+CREATE INDEX IF NOT EXISTS idx_aml_match_confirmed_pep
+    ON aml_match (aml_screening_id)
+    WHERE list_type = 'PEP' AND resolution_status = 'CONFIRMED_HIT';
+
+CREATE INDEX IF NOT EXISTS idx_sanctions_questionnaire_party_id_questionnaire_date
+    ON sanctions_questionnaire (party_id, questionnaire_date DESC NULLS LAST, sanctions_questionnaire_id DESC);
+
+-- Open EDDs are probed per verification and reason before a new one is created
+CREATE INDEX IF NOT EXISTS idx_enhanced_due_diligence_open
+    ON enhanced_due_diligence (kyc_verification_id, edd_reason)
+    WHERE edd_status IN ('PENDING', 'IN_PROGRESS');
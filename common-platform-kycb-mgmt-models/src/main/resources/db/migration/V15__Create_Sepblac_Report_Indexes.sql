@@ -0,0 +1,16 @@
+-- V15__Create_Sepblac_Report_Indexes.sql
+
+-- SEPBLAC report generation walks the cases flagged for reporting in ID order and skips those already reported
+CREATE INDEX IF NOT EXISTS idx_compliance_case_sepblac_required
+    ON compliance_case (compliance_case_id)
+    WHERE report_to_sepblac_required;
+
+CREATE INDEX IF NOT EXISTS idx_regulatory_reporting_case_id_report_type
+    ON regulatory_reporting (compliance_case_id, report_type);
+
+-- Actions and AML matches are joined to every reported case
+CREATE INDEX IF NOT EXISTS idx_compliance_action_case_id
+    ON compliance_action (compliance_case_id, compliance_action_id);
+
+CREATE INDEX IF NOT EXISTS idx_aml_match_screening_id
+    ON aml_match (aml_screening_id, aml_match_id);
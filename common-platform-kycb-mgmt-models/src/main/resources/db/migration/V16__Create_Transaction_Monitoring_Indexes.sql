@@ -0,0 +1,10 @@
+-- V16__Create_Transaction_Monitoring_Indexes.sql
+
+-- Expected activity profiles are loaded in batches of parties and aggregated per party
+CREATE INDEX IF NOT EXISTS idx_expected_activity_party_id
+    ON expected_activity (party_id);
+
+-- At most one open transaction monitoring case per party and deviation, so concurrent monitors upsert the same case
+CREATE UNIQUE INDEX IF NOT EXISTS ux_compliance_case_open_transaction_monitoring
+    ON compliance_case (case_reference)
+    WHERE case_status <> 'CLOSED' AND case_reference LIKE 'TXM-%';
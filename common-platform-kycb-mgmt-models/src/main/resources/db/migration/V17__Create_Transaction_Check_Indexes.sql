@@ -0,0 +1,5 @@
+-- V17__Create_Transaction_Check_Indexes.sql
+
+-- Transaction check profiles read the latest AML screening of each party
+CREATE INDEX IF NOT EXISTS idx_aml_screening_party_id_screening_date
+    ON aml_screening (party_id, screening_date DESC NULLS LAST, aml_screening_id DESC);
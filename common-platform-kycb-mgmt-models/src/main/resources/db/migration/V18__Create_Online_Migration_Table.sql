@@ -0,0 +1,17 @@
+-- V18__Create_Online_Migration_Table.sql
+
+-- Online column migrations: one row per migration configured under kycb.online-migration. The row records the
+-- phase reached and how far the backfill got, so a migration resumes where it stopped across restarts and nodes.
+-- last_key and max_key bound the backfill by primary key; rows above max_key are converted by the trigger.
+
+CREATE TABLE IF NOT EXISTS online_migration (
+    name VARCHAR(100) PRIMARY KEY,
+    table_name VARCHAR(100) NOT NULL,
+    column_name VARCHAR(100) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    last_key BIGINT NOT NULL DEFAULT 0,
+    max_key BIGINT NOT NULL DEFAULT 0,
+    rows_backfilled BIGINT NOT NULL DEFAULT 0,
+    date_created TIMESTAMP NOT NULL DEFAULT now(),
+    date_updated TIMESTAMP
+);
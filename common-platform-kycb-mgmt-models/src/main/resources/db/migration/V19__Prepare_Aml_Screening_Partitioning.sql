@@ -0,0 +1,31 @@
+-- V19__Prepare_Aml_Screening_Partitioning.sql
+
+-- First step of partitioning aml_screening and aml_match by month, completed by V24. Each table becomes the
+-- <table>_history partition holding everything up to a bound, and attaching it would scan the whole table under
+-- the exclusive lock that the attach holds. This migration only adds NOT VALID checks, which existing rows are not
+-- scanned against; V22 validates them without blocking reads or writes, V23 builds the new primary key index
+-- concurrently, and V24 then attaches each table without scanning it.
+--
+-- The bound is the start of the month after next, or after the newest row if that is later: the margin keeps rows
+-- written while the following migrations run within the check.
+
+-- The partition key of aml_screening; the application sets it, the default covers other writers
+ALTER TABLE aml_screening ALTER COLUMN screening_date SET DEFAULT now();
+
+DO $$
+DECLARE
+    t RECORD;
+    history_end TIMESTAMP;
+BEGIN
+    FOR t IN SELECT * FROM (VALUES
+        ('aml_screening', 'screening_date'),
+        ('aml_match', 'date_created')) AS v (table_name, key_column)
+    LOOP
+        -- Screenings without a date take their creation date in V22
+        EXECUTE format('SELECT date_trunc(''month'', greatest(CAST(now() AS TIMESTAMP), max(coalesce(%I, '
+                           || 'date_created)))) + INTERVAL ''2 months'' FROM %I', t.key_column, t.table_name)
+            INTO history_end;
+        EXECUTE format('ALTER TABLE %I ADD CONSTRAINT %I CHECK (%I IS NOT NULL AND %I < %L) NOT VALID',
+                       t.table_name, t.table_name || '_history_bound', t.key_column, t.key_column, history_end);
+    END LOOP;
+END $$;
@@ -0,0 +1,37 @@
+-- V20__Create_Latest_Row_Indexes.sql
+
+-- The latest KYC verification, KYB verification and risk assessment of a party is the one with the latest date,
+-- undated rows last and the highest ID breaking ties. These indexes resolve it with a single probe per party.
+--
+-- Flyway runs this migration outside a transaction (see the .conf file next to it), so the indexes are built with
+-- CREATE INDEX CONCURRENTLY and the tables keep taking writes. An INVALID leftover of a failed build is dropped
+-- first, as IF NOT EXISTS would otherwise keep it.
+
+DO $$
+DECLARE
+    leftover TEXT;
+BEGIN
+    FOR leftover IN
+        SELECT c.relname
+        FROM pg_index i JOIN pg_class c ON c.oid = i.indexrelid
+        WHERE c.relname IN ('idx_kyc_verification_party_id_verification_date',
+                            'idx_kyb_verification_party_id_verification_date',
+                            'idx_risk_assessment_party_id_assessment_date_id')
+          AND c.relnamespace = CAST(current_schema() AS regnamespace)
+          AND NOT i.indisvalid
+    LOOP
+        EXECUTE format('DROP INDEX %I', leftover);
+    END LOOP;
+END $$;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_kyc_verification_party_id_verification_date
+    ON kyc_verification (party_id, verification_date DESC NULLS LAST, kyc_verification_id DESC);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_kyb_verification_party_id_verification_date
+    ON kyb_verification (party_id, verification_date DESC NULLS LAST, kyb_verification_id DESC);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_risk_assessment_party_id_assessment_date_id
+    ON risk_assessment (party_id, assessment_date DESC NULLS LAST, risk_assessment_id DESC);
+
+-- Superseded by the index above, which has the same leading columns
+DROP INDEX CONCURRENTLY IF EXISTS idx_risk_assessment_party_id_assessment_date;
@@ -0,0 +1,24 @@
+-- V21__Make_Open_Edd_Index_Unique.sql
+
+-- A verification has at most one open EDD per reason. The check used to be a NOT EXISTS probe, which two
+-- concurrent trigger runs could both pass; the partial index is now unique so the insert can skip conflicts instead.
+
+-- Waive duplicates left by earlier races, keeping the most advanced and then the oldest open EDD of each pair
+UPDATE enhanced_due_diligence d
+SET edd_status = 'WAIVED',
+    edd_notes = concat_ws(E'\n', d.edd_notes, 'Waived as a duplicate of EDD ' || keep.edd_id),
+    date_updated = now()
+FROM (SELECT DISTINCT ON (kyc_verification_id, edd_reason) edd_id, kyc_verification_id, edd_reason
+      FROM enhanced_due_diligence
+      WHERE edd_status IN ('PENDING', 'IN_PROGRESS')
+      ORDER BY kyc_verification_id, edd_reason, edd_status = 'IN_PROGRESS' DESC, edd_id) keep
+WHERE d.kyc_verification_id = keep.kyc_verification_id
+  AND d.edd_reason = keep.edd_reason
+  AND d.edd_id <> keep.edd_id
+  AND d.edd_status IN ('PENDING', 'IN_PROGRESS');
+
+DROP INDEX IF EXISTS idx_enhanced_due_diligence_open;
+
+CREATE UNIQUE INDEX IF NOT EXISTS idx_enhanced_due_diligence_open
+    ON enhanced_due_diligence (kyc_verification_id, edd_reason)
+    WHERE edd_status IN ('PENDING', 'IN_PROGRESS');
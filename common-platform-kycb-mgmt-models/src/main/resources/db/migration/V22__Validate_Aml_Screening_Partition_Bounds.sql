@@ -0,0 +1,32 @@
+-- V22__Validate_Aml_Screening_Partition_Bounds.sql
+
+-- Second step of partitioning aml_screening and aml_match (see V19). Validating a check scans the table under a
+-- lock that still lets reads and writes through, and lets V24 set screening_date NOT NULL and attach both tables
+-- as partitions without scanning them again.
+--
+-- Flyway runs this migration outside a transaction (see the .conf file next to it), so the backfill commits every
+-- chunk of ids instead of holding the row locks of every screening it touches until the end. Each statement is
+-- safe to run again if the migration fails halfway.
+
+DO $$
+DECLARE
+    chunk_size CONSTANT BIGINT := 10000;
+    chunk_start BIGINT;
+    last_id BIGINT;
+BEGIN
+    SELECT min(aml_screening_id), max(aml_screening_id)
+    INTO chunk_start, last_id
+    FROM aml_screening
+    WHERE screening_date IS NULL;
+
+    WHILE chunk_start <= last_id LOOP
+        UPDATE aml_screening SET screening_date = date_created
+        WHERE aml_screening_id >= chunk_start AND aml_screening_id < chunk_start + chunk_size
+          AND screening_date IS NULL;
+        COMMIT;
+        chunk_start := chunk_start + chunk_size;
+    END LOOP;
+END $$;
+
+ALTER TABLE aml_screening VALIDATE CONSTRAINT aml_screening_history_bound;
+ALTER TABLE aml_match VALIDATE CONSTRAINT aml_match_history_bound;
@@ -0,0 +1,29 @@
+-- V23__Create_Aml_Screening_Partition_Key_Indexes.sql
+
+-- Third step of partitioning aml_screening and aml_match (see V19). The primary keys of the partitioned tables
+-- include the partition key, so the history partitions need a unique index on both columns; it is built here
+-- without blocking writes, and V24 turns it into the partition's primary key. Flyway runs this migration outside a
+-- transaction (see the .conf file next to it), as CREATE INDEX CONCURRENTLY requires.
+--
+-- A concurrent build that fails leaves an INVALID index behind, which IF NOT EXISTS would then keep. Such leftovers
+-- are dropped first; the drop only briefly locks the table, as there is nothing to scan.
+
+DO $$
+DECLARE
+    leftover TEXT;
+BEGIN
+    FOR leftover IN
+        SELECT c.relname
+        FROM pg_index i JOIN pg_class c ON c.oid = i.indexrelid
+        WHERE c.relname IN ('aml_screening_history_pkey', 'aml_match_history_pkey')
+          AND c.relnamespace = CAST(current_schema() AS regnamespace)
+          AND NOT i.indisvalid
+    LOOP
+        EXECUTE format('DROP INDEX %I', leftover);
+    END LOOP;
+END $$;
+
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS aml_screening_history_pkey
+    ON aml_screening (aml_screening_id, screening_date);
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS aml_match_history_pkey
+    ON aml_match (aml_match_id, date_created);
@@ -0,0 +1,83 @@
+-- V24__Partition_Aml_Screening_And_Match.sql
+
+-- aml_screening and aml_match grow with every rescreen, so both become range-partitioned by month: aml_screening on
+-- screening_date, aml_match on date_created. The existing rows are not copied. Each table is renamed to
+-- <table>_history and attached as the partition holding everything up to the bound of the check added by V19, and
+-- the following months get partitions of their own. The partition maintenance job keeps creating them ahead and can
+-- move partitions past retention into the kycb_archive schema.
+--
+-- There is no default partition: creating a partition next to one means scanning it, and the maintenance job
+-- creates months ahead instead. Primary keys of partitioned tables must include the partition key, and so must
+-- foreign keys referencing them, so the aml_match to aml_screening foreign key is dropped; matches are only created
+-- for existing screenings.
+--
+-- Everything here holds an exclusive lock on both tables until the migration commits, so nothing scans them: the
+-- checks validated by V22 prove screening_date NOT NULL and the partition bound, and the primary key of each
+-- history partition takes over the index built by V23.
+
+CREATE SCHEMA IF NOT EXISTS kycb_archive;
+
+ALTER TABLE aml_screening ALTER COLUMN screening_date SET NOT NULL;
+
+ALTER TABLE aml_match DROP CONSTRAINT IF EXISTS aml_match_aml_screening_id_fkey;
+
+-- The parents' indexes take the current names; the history tables' equivalent indexes are attached to them
+ALTER INDEX IF EXISTS idx_aml_screening_party_id RENAME TO idx_aml_screening_history_party_id;
+ALTER INDEX IF EXISTS idx_aml_screening_party_id_screening_date
+    RENAME TO idx_aml_screening_history_party_id_screening_date;
+ALTER INDEX IF EXISTS idx_aml_match_confirmed_pep RENAME TO idx_aml_match_history_confirmed_pep;
+ALTER INDEX IF EXISTS idx_aml_match_screening_id RENAME TO idx_aml_match_history_screening_id;
+
+DO $$
+DECLARE
+    t RECORD;
+    id_sequence TEXT;
+    bound_check TEXT;
+    history_end TIMESTAMP;
+    month_start TIMESTAMP;
+BEGIN
+    FOR t IN SELECT * FROM (VALUES
+        ('aml_screening', 'aml_screening_id', 'screening_date'),
+        ('aml_match', 'aml_match_id', 'date_created')) AS v (table_name, id_column, key_column)
+    LOOP
+        -- The bound V19 chose, read back from the definition of its check
+        bound_check := t.table_name || '_history_bound';
+        SELECT CAST((regexp_match(pg_get_constraintdef(oid), '< ''([^'']+)'''))[1] AS TIMESTAMP)
+        INTO history_end
+        FROM pg_constraint
+        WHERE conrelid = CAST(t.table_name AS regclass) AND conname = bound_check;
+        id_sequence := pg_get_serial_sequence(t.table_name, t.id_column);
+
+        EXECUTE format('ALTER TABLE %I RENAME TO %I', t.table_name, t.table_name || '_history');
+        EXECUTE format('ALTER TABLE %I DROP CONSTRAINT %I, ADD CONSTRAINT %I PRIMARY KEY USING INDEX %I',
+                       t.table_name || '_history', t.table_name || '_pkey', t.table_name || '_history_pkey',
+                       t.table_name || '_history_pkey');
+
+        EXECUTE format('CREATE TABLE %I (LIKE %I INCLUDING DEFAULTS INCLUDING COMMENTS) PARTITION BY RANGE (%I)',
+                       t.table_name, t.table_name || '_history', t.key_column);
+        EXECUTE format('ALTER TABLE %I ADD PRIMARY KEY (%I, %I)', t.table_name, t.id_column, t.key_column);
+        EXECUTE format('ALTER SEQUENCE %s OWNED BY %I.%I', id_sequence, t.table_name, t.id_column);
+
+        EXECUTE format('ALTER TABLE %I ATTACH PARTITION %I FOR VALUES FROM (MINVALUE) TO (%L)',
+                       t.table_name, t.table_name || '_history', history_end);
+        -- Now implied by the partition bound
+        EXECUTE format('ALTER TABLE %I DROP CONSTRAINT %I', t.table_name || '_history', bound_check);
+
+        FOR i IN 0..2 LOOP
+            month_start := history_end + make_interval(months => i);
+            EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                           t.table_name || to_char(month_start, '"_p"YYYY_MM'), t.table_name,
+                           month_start, month_start + INTERVAL '1 month');
+        END LOOP;
+    END LOOP;
+END $$;
+
+CREATE INDEX IF NOT EXISTS idx_aml_screening_party_id
+    ON aml_screening (party_id);
+CREATE INDEX IF NOT EXISTS idx_aml_screening_party_id_screening_date
+    ON aml_screening (party_id, screening_date DESC NULLS LAST, aml_screening_id DESC);
+CREATE INDEX IF NOT EXISTS idx_aml_match_confirmed_pep
+    ON aml_match (aml_screening_id)
+    WHERE list_type = 'PEP' AND resolution_status = 'CONFIRMED_HIT';
+CREATE INDEX IF NOT EXISTS idx_aml_match_screening_id
+    ON aml_match (aml_screening_id, aml_match_id);
@@ -0,0 +1,19 @@
+-- V25__Create_Latest_Business_Profile_Index.sql
+
+-- The latest business profile of a party is the one created last, the highest ID breaking ties, as in
+-- findFirstByPartyIdOrderByDateCreatedDesc; the SEPBLAC report resolves it for every reported case with one probe.
+-- Flyway runs this migration outside a transaction (see the .conf file next to it), as CREATE INDEX CONCURRENTLY
+-- requires; an INVALID leftover of a failed build is dropped first.
+
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM pg_index i JOIN pg_class c ON c.oid = i.indexrelid
+               WHERE c.relname = 'idx_business_profile_party_id_date_created'
+                 AND c.relnamespace = CAST(current_schema() AS regnamespace)
+                 AND NOT i.indisvalid) THEN
+        DROP INDEX idx_business_profile_party_id_date_created;
+    END IF;
+END $$;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_business_profile_party_id_date_created
+    ON business_profile (party_id, date_created DESC, business_profile_id DESC);
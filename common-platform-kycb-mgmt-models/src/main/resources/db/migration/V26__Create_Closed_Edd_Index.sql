@@ -0,0 +1,24 @@
+-- V26__Create_Closed_Edd_Index.sql
+
+-- EDD trigger evaluation skips a trigger whose EDD for the same verification and reason was completed or waived
+-- recently, probed per verification and reason like the open EDDs. Every query resolving the latest KYC
+-- verification of a party now orders by verification date (see V20), so V14's index ordered by ID alone is dropped.
+--
+-- Flyway runs this migration outside a transaction (see the .conf file next to it), as CREATE and DROP INDEX
+-- CONCURRENTLY require; an INVALID leftover of a failed build is dropped first.
+
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM pg_index i JOIN pg_class c ON c.oid = i.indexrelid
+               WHERE c.relname = 'idx_enhanced_due_diligence_closed'
+                 AND c.relnamespace = CAST(current_schema() AS regnamespace)
+                 AND NOT i.indisvalid) THEN
+        DROP INDEX idx_enhanced_due_diligence_closed;
+    END IF;
+END $$;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_enhanced_due_diligence_closed
+    ON enhanced_due_diligence (kyc_verification_id, edd_reason)
+    WHERE edd_status IN ('COMPLETED', 'WAIVED');
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_kyc_verification_party_id_kyc_verification_id;
@@ -0,0 +1,9 @@
+-- V8__Create_Activity_Code_Indexes.sql
+
+-- Resolves the parties carrying an activity code as an index-only scan, in party_id order for keyset paging
+CREATE INDEX IF NOT EXISTS idx_economic_activity_activity_code_party_id
+    ON economic_activity (activity_code, party_id);
+
+-- Latest industry risk per activity code, read once per activity by the risk engine
+CREATE INDEX IF NOT EXISTS idx_industry_risk_activity_code_assessment_date
+    ON industry_risk (activity_code, assessment_date DESC);
@@ -0,0 +1,33 @@
+-- V9__Add_Review_Claim_Columns.sql
+
+-- Periodic review claims: a row is due when its review date has passed and it has not been claimed since that date.
+-- The partial indexes hold only rows with a review date, ordered the way the scheduler claims them.
+
+ALTER TABLE kyc_verification ADD COLUMN IF NOT EXISTS review_claimed_at TIMESTAMP;
+CREATE INDEX IF NOT EXISTS idx_kyc_verification_next_review_date
+    ON kyc_verification (next_review_date)
+    WHERE next_review_date IS NOT NULL;
+
+ALTER TABLE kyb_verification ADD COLUMN IF NOT EXISTS review_claimed_at TIMESTAMP;
+CREATE INDEX IF NOT EXISTS idx_kyb_verification_next_review_date
+    ON kyb_verification (next_review_date)
+    WHERE next_review_date IS NOT NULL;
+
+ALTER TABLE risk_assessment ADD COLUMN IF NOT EXISTS review_claimed_at TIMESTAMP;
+CREATE INDEX IF NOT EXISTS idx_risk_assessment_next_assessment_date
+    ON risk_assessment (next_assessment_date)
+    WHERE next_assessment_date IS NOT NULL;
+
+-- Only the latest assessment of a party is reviewed; superseded ones are skipped through this index
+CREATE INDEX IF NOT EXISTS idx_risk_assessment_party_id_assessment_date
+    ON risk_assessment (party_id, assessment_date DESC);
+
+ALTER TABLE industry_risk ADD COLUMN IF NOT EXISTS review_claimed_at TIMESTAMP;
+CREATE INDEX IF NOT EXISTS idx_industry_risk_next_assessment_date
+    ON industry_risk (next_assessment_date)
+    WHERE next_assessment_date IS NOT NULL;
+
+-- Open review cases are looked up per party before new ones are opened
+CREATE INDEX IF NOT EXISTS idx_compliance_case_party_id_case_type
+    ON compliance_case (party_id, case_type)
+    WHERE case_status <> 'CLOSED';
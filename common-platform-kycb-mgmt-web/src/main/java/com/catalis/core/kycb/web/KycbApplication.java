@@ -6,12 +6,18 @@ import io.swagger.v3.oas.annotations.info.Info;
 import io.swagger.v3.oas.annotations.servers.Server;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
 import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.data.r2dbc.config.EnableR2dbcAuditing;
 import org.springframework.data.r2dbc.repository.config.EnableR2dbcRepositories;
 import org.springframework.web.reactive.config.EnableWebFlux;
 
+import java.util.Arrays;
+
 @SpringBootApplication(
+        // spring-jdbc and Hikari are on the classpath for the persistence benchmark; the application itself has no
+        // DataSource and only uses R2DBC
+        exclude = DataSourceAutoConfiguration.class,
         scanBasePackages = {
                 "com.catalis.core.kycb",
                 "com.catalis.common.web"  // Scan common web library configurations
@@ -22,7 +28,9 @@ import org.springframework.web.reactive.config.EnableWebFlux;
         basePackages = "com.catalis.core.kycb.models.repositories"
 )
 @EnableR2dbcAuditing
-@ConfigurationPropertiesScan
+@ConfigurationPropertiesScan(
+        basePackages = "com.catalis.core.kycb"
+)
 @OpenAPIDefinition(
         info = @Info(
                 title = "${spring.application.name}",
@@ -46,6 +54,14 @@ import org.springframework.web.reactive.config.EnableWebFlux;
 )
 public class KycbApplication {
     public static void main(String[] args) {
+        if (args.length > 0 && KycbMigrationApplication.COMMAND.equals(args[0])) {
+            KycbMigrationApplication.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+        if (args.length > 0 && KycbPersistenceBenchmarkApplication.COMMAND.equals(args[0])) {
+            KycbPersistenceBenchmarkApplication.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
         SpringApplication.run(KycbApplication.class, args);
     }
 }
\ No newline at end of file
@@ -0,0 +1,29 @@
+package com.catalis.core.kycb.web;
+
+import org.springframework.aot.AotDetector;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.core.SpringProperties;
+import org.springframework.util.StringUtils;
+
+/**
+ * One-shot command that applies the Flyway migrations and exits, run once per deploy with
+ * {@code java -jar common-platform-kycb-mgmt.jar migrate} before the serving instances start.
+ * <p>
+ * Only Flyway is started, from the same configuration as the application: no web server, R2DBC pool or scheduled
+ * work. The exit code is non-zero when a migration fails.
+ */
+public class KycbMigrationApplication {
+
+    static final String COMMAND = "migrate";
+
+    public static void main(String[] args) {
+        // The AOT-generated context only covers KycbApplication
+        SpringProperties.setProperty(AotDetector.AOT_ENABLED, "false");
+        new SpringApplicationBuilder(FlywayAutoConfiguration.class)
+                .web(WebApplicationType.NONE)
+                .run(StringUtils.addStringToArray(args, "--spring.flyway.enabled=true"))
+                .close();
+    }
+}
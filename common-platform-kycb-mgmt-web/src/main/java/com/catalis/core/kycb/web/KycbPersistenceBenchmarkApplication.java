@@ -0,0 +1,42 @@
+package com.catalis.core.kycb.web;
+
+import com.catalis.core.kycb.core.persistence.JdbcPersistence;
+import com.catalis.core.kycb.core.persistence.PersistenceBenchmark;
+import com.catalis.core.kycb.core.persistence.PersistenceBenchmarkProperties;
+import com.catalis.core.kycb.core.persistence.PersistenceProperties;
+import org.springframework.aot.AotDetector;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.data.r2dbc.R2dbcDataAutoConfiguration;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.SpringProperties;
+
+/**
+ * One-shot command that runs the {@link PersistenceBenchmark} and exits, started with
+ * {@code java -jar common-platform-kycb-mgmt.jar benchmark-persistence}.
+ * <p>
+ * Only the R2DBC connection factory and the JDBC pool are started, from the same configuration as the application:
+ * no web server, Flyway or scheduled work. The workload writes and deletes its own rows in the configured database,
+ * so point it at a copy rather than at a database serving traffic. The exit code is non-zero when the run fails.
+ */
+@Import({R2dbcAutoConfiguration.class, R2dbcDataAutoConfiguration.class, JdbcPersistence.class,
+        PersistenceBenchmark.class})
+@EnableConfigurationProperties({PersistenceProperties.class, PersistenceBenchmarkProperties.class})
+public class KycbPersistenceBenchmarkApplication {
+
+    static final String COMMAND = "benchmark-persistence";
+
+    public static void main(String[] args) {
+        // The AOT-generated context only covers KycbApplication
+        SpringProperties.setProperty(AotDetector.AOT_ENABLED, "false");
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+                KycbPersistenceBenchmarkApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(args)) {
+            context.getBean(PersistenceBenchmark.class).run().block();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.catalis.core.kycb.web.controllers.activity.v1;
+
+import com.catalis.core.kycb.core.services.monitoring.v1.TransactionCheckService;
+import com.catalis.core.kycb.interfaces.dtos.monitoring.v1.TransactionCheckResultDTO;
+import com.catalis.core.kycb.interfaces.dtos.monitoring.v1.TransactionDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/v1/activity/transaction-checks")
+@Tag(name = "Transaction Check", description = "API for checking transactions before they are executed")
+public class TransactionCheckController {
+
+    @Autowired
+    private TransactionCheckService transactionCheckService;
+
+    @PostMapping
+    @Operation(
+            summary = "Check a transaction",
+            description = "Checks a transaction against the party's KYC state, risk level, latest AML screening and expected activity and answers ALLOW, REVIEW or BLOCK",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successfully checked the transaction",
+                            content = @Content(schema = @Schema(implementation = TransactionCheckResultDTO.class))
+                    )
+            }
+    )
+    public Mono<ResponseEntity<TransactionCheckResultDTO>> checkTransaction(
+            @Parameter(description = "Transaction to check; party and amount are required", required = true)
+            @RequestBody TransactionDTO transaction
+    ) {
+        return transactionCheckService.check(transaction)
+                .map(ResponseEntity::ok);
+    }
+}
@@ -0,0 +1,46 @@
+package com.catalis.core.kycb.web.controllers.activity.v1;
+
+import com.catalis.core.kycb.core.services.monitoring.v1.TransactionMonitoringService;
+import com.catalis.core.kycb.interfaces.dtos.monitoring.v1.TransactionDTO;
+import com.catalis.core.kycb.interfaces.dtos.monitoring.v1.TransactionIngestionResultDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/v1/activity/transactions")
+@Tag(name = "Transaction Monitoring", description = "API for monitoring transactions against expected activity")
+public class TransactionMonitoringController {
+
+    @Autowired
+    private TransactionMonitoringService transactionMonitoringService;
+
+    @PostMapping(consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+            summary = "Ingest transactions",
+            description = "Streams NDJSON transactions into the per-party sliding windows and opens a compliance case for every new deviation from the party's expected activity",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successfully ingested transactions",
+                            content = @Content(schema = @Schema(implementation = TransactionIngestionResultDTO.class))
+                    )
+            }
+    )
+    public Mono<ResponseEntity<TransactionIngestionResultDTO>> ingestTransactions(
+            @Parameter(description = "Transactions, one JSON object per line", required = true)
+            @RequestBody Flux<TransactionDTO> transactions
+    ) {
+        return transactionMonitoringService.ingest(transactions)
+                .map(ResponseEntity::ok);
+    }
+}
@@ -0,0 +1,68 @@
+package com.catalis.core.kycb.web.controllers.compliance.v1;
+
+import com.catalis.core.kycb.core.services.compliance.v1.CaseAssignmentService;
+import com.catalis.core.kycb.interfaces.dtos.compliance.v1.AnalystWorkloadDTO;
+import com.catalis.core.kycb.interfaces.dtos.compliance.v1.ComplianceCaseDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/v1/compliance/case-assignments")
+@Tag(name = "Compliance Case Assignment", description = "API for load-balanced assignment of cases to analysts")
+public class CaseAssignmentController {
+
+    @Autowired
+    private CaseAssignmentService caseAssignmentService;
+
+    @GetMapping("/workload")
+    @Operation(
+            summary = "Get analyst workload",
+            description = "Retrieves the number of open cases assigned to each analyst",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successfully retrieved analyst workload",
+                            content = @Content(schema = @Schema(implementation = AnalystWorkloadDTO.class))
+                    )
+            }
+    )
+    public Flux<AnalystWorkloadDTO> getWorkload() {
+        return caseAssignmentService.workload();
+    }
+
+    @PostMapping("/cases/{caseId}")
+    @Operation(
+            summary = "Assign case",
+            description = "Assigns an unassigned case to the least-loaded analyst eligible for its type and " +
+                    "priority; the case is returned unchanged if no eligible analyst has capacity",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successfully processed the assignment",
+                            content = @Content(schema = @Schema(implementation = ComplianceCaseDTO.class))
+                    ),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "Compliance case not found",
+                            content = @Content
+                    )
+            }
+    )
+    public Mono<ResponseEntity<ComplianceCaseDTO>> assignCase(
+            @Parameter(description = "ID of the compliance case", required = true)
+            @PathVariable Long caseId
+    ) {
+        return caseAssignmentService.assign(caseId)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+}
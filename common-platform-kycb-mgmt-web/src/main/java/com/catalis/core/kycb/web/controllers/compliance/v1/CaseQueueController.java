@@ -0,0 +1,81 @@
+package com.catalis.core.kycb.web.controllers.compliance.v1;
+
+import com.catalis.core.kycb.core.services.compliance.v1.CaseQueueService;
+import com.catalis.core.kycb.interfaces.dtos.compliance.v1.CaseQueueDepthDTO;
+import com.catalis.core.kycb.interfaces.dtos.compliance.v1.ComplianceCaseDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+
+@RestController
+@RequestMapping("/api/v1/compliance/case-queue")
+@Tag(name = "Compliance Case Queue", description = "API for pulling unassigned compliance cases in priority order")
+public class CaseQueueController {
+
+    @Autowired
+    private CaseQueueService caseQueueService;
+
+    @GetMapping
+    @Operation(
+            summary = "Peek at case queue",
+            description = "Retrieves the next unassigned cases, highest priority and earliest due date first, " +
+                    "without claiming them",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successfully retrieved queued cases",
+                            content = @Content(schema = @Schema(implementation = ComplianceCaseDTO.class))
+                    )
+            }
+    )
+    public Flux<ComplianceCaseDTO> peek(
+            @Parameter(description = "Maximum number of cases to return")
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        return caseQueueService.peek(limit);
+    }
+
+    @PostMapping("/claims")
+    @Operation(
+            summary = "Claim next cases",
+            description = "Atomically assigns the next unassigned cases to the analyst; concurrent claims never " +
+                    "receive the same case",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successfully claimed cases; empty if the queue is empty",
+                            content = @Content(schema = @Schema(implementation = ComplianceCaseDTO.class))
+                    )
+            }
+    )
+    public Flux<ComplianceCaseDTO> claim(
+            @Parameter(description = "Analyst claiming the cases", required = true)
+            @RequestParam String analyst,
+            @Parameter(description = "Maximum number of cases to claim")
+            @RequestParam(defaultValue = "1") int limit
+    ) {
+        return caseQueueService.claim(analyst, limit);
+    }
+
+    @GetMapping("/depth")
+    @Operation(
+            summary = "Get case queue depth",
+            description = "Counts the unassigned cases that are not closed per priority",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successfully counted queued cases",
+                            content = @Content(schema = @Schema(implementation = CaseQueueDepthDTO.class))
+                    )
+            }
+    )
+    public Flux<CaseQueueDepthDTO> depth() {
+        return caseQueueService.depth();
+    }
+}
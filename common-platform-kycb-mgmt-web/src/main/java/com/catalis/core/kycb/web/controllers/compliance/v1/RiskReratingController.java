@@ -0,0 +1,86 @@
+package com.catalis.core.kycb.web.controllers.compliance.v1;
+
+import com.catalis.core.kycb.core.services.risk.v1.RiskReratingService;
+import com.catalis.core.kycb.interfaces.dtos.risk.v1.RiskReratingJobDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/v1/compliance/risk-rerating-jobs")
+@Tag(name = "Risk Re-rating Jobs", description = "API for re-rating all parties of an economic activity")
+public class RiskReratingController {
+
+    @Autowired
+    private RiskReratingService riskReratingService;
+
+    @GetMapping
+    @Operation(
+            summary = "List re-rating jobs",
+            description = "Retrieves running and recently finished re-rating jobs, newest first",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successfully retrieved re-rating jobs",
+                            content = @Content(schema = @Schema(implementation = RiskReratingJobDTO.class))
+                    )
+            }
+    )
+    public Flux<RiskReratingJobDTO> listJobs() {
+        return riskReratingService.listJobs();
+    }
+
+    @PostMapping
+    @Operation(
+            summary = "Start re-rating job",
+            description = "Re-scores in the background every party carrying the given economic activity code",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "202",
+                            description = "Re-rating job started",
+                            content = @Content(schema = @Schema(implementation = RiskReratingJobDTO.class))
+                    )
+            }
+    )
+    public Mono<ResponseEntity<RiskReratingJobDTO>> startJob(
+            @Parameter(description = "Economic activity code", required = true)
+            @RequestParam String activityCode
+    ) {
+        return riskReratingService.startJob(activityCode, "manual")
+                .map(dto -> ResponseEntity.status(HttpStatus.ACCEPTED).body(dto));
+    }
+
+    @GetMapping("/{jobId}")
+    @Operation(
+            summary = "Get re-rating job",
+            description = "Retrieves the progress of a re-rating job",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successfully retrieved re-rating job",
+                            content = @Content(schema = @Schema(implementation = RiskReratingJobDTO.class))
+                    ),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "Re-rating job not found"
+                    )
+            }
+    )
+    public Mono<ResponseEntity<RiskReratingJobDTO>> getJob(
+            @Parameter(description = "ID of the re-rating job", required = true)
+            @PathVariable String jobId
+    ) {
+        return riskReratingService.getJob(jobId)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+}
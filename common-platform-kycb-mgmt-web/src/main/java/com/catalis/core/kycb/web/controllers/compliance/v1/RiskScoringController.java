@@ -0,0 +1,66 @@
+package com.catalis.core.kycb.web.controllers.compliance.v1;
+
+import com.catalis.core.kycb.core.services.risk.v1.RiskScoringService;
+import com.catalis.core.kycb.interfaces.dtos.risk.v1.RiskScoringResultDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/compliance/risk-scoring")
+@Tag(name = "Risk Scoring", description = "API for scoring parties with the rule-based risk engine")
+public class RiskScoringController {
+
+    @Autowired
+    private RiskScoringService riskScoringService;
+
+    @PostMapping("/parties/{partyId}")
+    @Operation(
+            summary = "Score party",
+            description = "Scores a party against the configured risk rules and records the result as a risk assessment",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "201",
+                            description = "Successfully scored party",
+                            content = @Content(schema = @Schema(implementation = RiskScoringResultDTO.class))
+                    )
+            }
+    )
+    public Mono<ResponseEntity<RiskScoringResultDTO>> scoreParty(
+            @Parameter(description = "ID of the party", required = true)
+            @PathVariable Long partyId
+    ) {
+        return riskScoringService.assess(partyId)
+                .map(dto -> ResponseEntity.status(HttpStatus.CREATED).body(dto));
+    }
+
+    @PostMapping("/parties")
+    @Operation(
+            summary = "Score parties",
+            description = "Scores several parties against the configured risk rules and records a risk assessment for each",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successfully scored parties",
+                            content = @Content(schema = @Schema(implementation = RiskScoringResultDTO.class))
+                    )
+            }
+    )
+    public Flux<RiskScoringResultDTO> scoreParties(
+            @Parameter(description = "IDs of the parties to score", required = true)
+            @RequestBody List<Long> partyIds
+    ) {
+        return riskScoringService.assessAll(Flux.fromIterable(partyIds));
+    }
+}
@@ -0,0 +1,86 @@
+package com.catalis.core.kycb.web.controllers.compliance.v1;
+
+import com.catalis.core.kycb.core.services.regulatory.v1.SepblacReportService;
+import com.catalis.core.kycb.interfaces.dtos.regulatory.v1.SepblacReportJobDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/v1/compliance/sepblac-reports")
+@Tag(name = "SEPBLAC Reports", description = "API for generating SEPBLAC report files from flagged compliance cases")
+public class SepblacReportController {
+
+    @Autowired
+    private SepblacReportService sepblacReportService;
+
+    @GetMapping
+    @Operation(
+            summary = "List SEPBLAC report jobs",
+            description = "Retrieves running and recently finished report generation jobs, newest first",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successfully retrieved report jobs",
+                            content = @Content(schema = @Schema(implementation = SepblacReportJobDTO.class))
+                    )
+            }
+    )
+    public Flux<SepblacReportJobDTO> listJobs() {
+        return sepblacReportService.listJobs();
+    }
+
+    @PostMapping
+    @Operation(
+            summary = "Start SEPBLAC report job",
+            description = "Writes every case flagged for SEPBLAC reporting and not yet reported to a new report " +
+                    "file in the background and records a draft report per case; returns the running job if " +
+                    "one is already in progress",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "202",
+                            description = "Report job started",
+                            content = @Content(schema = @Schema(implementation = SepblacReportJobDTO.class))
+                    )
+            }
+    )
+    public Mono<ResponseEntity<SepblacReportJobDTO>> startJob() {
+        return sepblacReportService.startJob()
+                .map(dto -> ResponseEntity.status(HttpStatus.ACCEPTED).body(dto));
+    }
+
+    @GetMapping("/{jobId}")
+    @Operation(
+            summary = "Get SEPBLAC report job",
+            description = "Retrieves the progress of a report generation job",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successfully retrieved report job",
+                            content = @Content(schema = @Schema(implementation = SepblacReportJobDTO.class))
+                    ),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "Report job not found",
+                            content = @Content
+                    )
+            }
+    )
+    public Mono<ResponseEntity<SepblacReportJobDTO>> getJob(
+            @Parameter(description = "ID of the report job", required = true)
+            @PathVariable String jobId
+    ) {
+        return sepblacReportService.getJob(jobId)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,88 @@
+package com.catalis.core.kycb.web.controllers.compliance.v1;
+
+import com.catalis.core.kycb.core.services.watchlist.v1.WatchlistLoaderService;
+import com.catalis.core.kycb.interfaces.dtos.watchlist.v1.WatchlistLoadRequestDTO;
+import com.catalis.core.kycb.interfaces.dtos.watchlist.v1.WatchlistSnapshotDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/v1/compliance/watchlists")
+@Tag(name = "Watchlists", description = "API for ingesting sanctions and PEP list files")
+public class WatchlistController {
+
+    @Autowired
+    private WatchlistLoaderService watchlistLoaderService;
+
+    @GetMapping
+    @Operation(
+            summary = "List loaded watchlists",
+            description = "Retrieves the current snapshot summary of every loaded list source",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successfully retrieved watchlist snapshots",
+                            content = @Content(schema = @Schema(implementation = WatchlistSnapshotDTO.class))
+                    )
+            }
+    )
+    public Flux<WatchlistSnapshotDTO> listWatchlists() {
+        return watchlistLoaderService.listSnapshots();
+    }
+
+    @PostMapping
+    @Operation(
+            summary = "Load watchlist file",
+            description = "Streams a CSV or XML list file from the watchlist directory and publishes it as a new snapshot version",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "201",
+                            description = "Successfully loaded watchlist",
+                            content = @Content(schema = @Schema(implementation = WatchlistSnapshotDTO.class))
+                    )
+            }
+    )
+    public Mono<ResponseEntity<WatchlistSnapshotDTO>> loadWatchlist(
+            @Parameter(description = "Watchlist file to load", required = true)
+            @Valid @RequestBody WatchlistLoadRequestDTO watchlistLoadRequestDTO
+    ) {
+        return watchlistLoaderService.load(watchlistLoadRequestDTO)
+                .map(dto -> ResponseEntity.status(HttpStatus.CREATED).body(dto));
+    }
+
+    @GetMapping("/{listSource}")
+    @Operation(
+            summary = "Get watchlist snapshot",
+            description = "Retrieves the current snapshot summary of a list source",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successfully retrieved watchlist snapshot",
+                            content = @Content(schema = @Schema(implementation = WatchlistSnapshotDTO.class))
+                    ),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "Watchlist not loaded"
+                    )
+            }
+    )
+    public Mono<ResponseEntity<WatchlistSnapshotDTO>> getWatchlist(
+            @Parameter(description = "List source identifier", required = true)
+            @PathVariable String listSource
+    ) {
+        return watchlistLoaderService.getSnapshot(listSource)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+}
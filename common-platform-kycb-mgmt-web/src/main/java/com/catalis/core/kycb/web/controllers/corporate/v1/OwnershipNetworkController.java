@@ -0,0 +1,85 @@
+package com.catalis.core.kycb.web.controllers.corporate.v1;
+
+import com.catalis.core.kycb.core.services.ownership.v1.OwnershipNetworkService;
+import com.catalis.core.kycb.interfaces.dtos.ownership.v1.OwnershipNetworkDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/v1/corporate/parties/{partyId}/ownership-network")
+@Tag(name = "Ownership Network", description = "API for analysing the ownership network around a party")
+public class OwnershipNetworkController {
+
+    @Autowired
+    private OwnershipNetworkService ownershipNetworkService;
+
+    @GetMapping("/component")
+    @Operation(
+            summary = "Get connected component",
+            description = "Retrieves every party and natural person linked to the party through ownership in either direction",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successfully retrieved connected component",
+                            content = @Content(schema = @Schema(implementation = OwnershipNetworkDTO.class))
+                    )
+            }
+    )
+    public Mono<ResponseEntity<OwnershipNetworkDTO>> getConnectedComponent(
+            @Parameter(description = "ID of the party", required = true)
+            @PathVariable Long partyId
+    ) {
+        return ownershipNetworkService.getConnectedComponent(partyId)
+                .map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/shared-owners")
+    @Operation(
+            summary = "Get parties sharing an owner",
+            description = "Retrieves the legal entities that share a natural-person owner with the party, directly or through intermediate entities",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successfully retrieved related parties",
+                            content = @Content(schema = @Schema(implementation = OwnershipNetworkDTO.class))
+                    )
+            }
+    )
+    public Mono<ResponseEntity<OwnershipNetworkDTO>> getSharedOwnerParties(
+            @Parameter(description = "ID of the party", required = true)
+            @PathVariable Long partyId
+    ) {
+        return ownershipNetworkService.getSharedOwnerParties(partyId)
+                .map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/neighbourhood")
+    @Operation(
+            summary = "Get ownership neighbourhood",
+            description = "Retrieves the parties and natural persons within the given number of ownership edges of the party",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successfully retrieved neighbourhood",
+                            content = @Content(schema = @Schema(implementation = OwnershipNetworkDTO.class))
+                    )
+            }
+    )
+    public Mono<ResponseEntity<OwnershipNetworkDTO>> getNeighbourhood(
+            @Parameter(description = "ID of the party", required = true)
+            @PathVariable Long partyId,
+            @Parameter(description = "Maximum number of ownership edges from the party")
+            @RequestParam(defaultValue = "2") int hops
+    ) {
+        return ownershipNetworkService.getNeighbourhood(partyId, hops)
+                .map(ResponseEntity::ok);
+    }
+}
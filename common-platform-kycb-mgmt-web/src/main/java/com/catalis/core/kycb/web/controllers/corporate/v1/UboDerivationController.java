@@ -0,0 +1,47 @@
+package com.catalis.core.kycb.web.controllers.corporate.v1;
+
+import com.catalis.core.kycb.core.services.ownership.v1.UboDerivationService;
+import com.catalis.core.kycb.interfaces.dtos.ownership.v1.UboDerivationResultDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+
+@RestController
+@RequestMapping("/api/v1/corporate/parties/{partyId}/derived-ubos")
+@Tag(name = "UBO Derivation", description = "API for deriving beneficial owners through indirect ownership chains")
+public class UboDerivationController {
+
+    @Autowired
+    private UboDerivationService uboDerivationService;
+
+    @GetMapping
+    @Operation(
+            summary = "Derive UBOs",
+            description = "Computes effective ownership of the party through its corporate structure and returns the natural persons at or above the threshold",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successfully derived UBOs",
+                            content = @Content(schema = @Schema(implementation = UboDerivationResultDTO.class))
+                    )
+            }
+    )
+    public Mono<ResponseEntity<UboDerivationResultDTO>> deriveUbos(
+            @Parameter(description = "ID of the party", required = true)
+            @PathVariable Long partyId,
+            @Parameter(description = "Minimum effective ownership percentage (defaults to kycb.ownership.ubo-threshold)")
+            @RequestParam(required = false) BigDecimal threshold
+    ) {
+        return uboDerivationService.deriveUbos(partyId, threshold)
+                .map(ResponseEntity::ok);
+    }
+}
@@ -0,0 +1,81 @@
+package com.catalis.core.kycb.web.controllers.document.v1;
+
+import com.catalis.core.kycb.core.services.power.v1.SigningAuthorityService;
+import com.catalis.core.kycb.interfaces.dtos.power.v1.SigningAuthorityCheckDTO;
+import com.catalis.core.kycb.interfaces.dtos.power.v1.SigningAuthorityResultDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/documents/parties/{partyId}/signing-authority")
+@Tag(name = "Signing Authority", description = "API for checking attorneys' signing authority under powers of attorney")
+public class SigningAuthorityController {
+
+    @Autowired
+    private SigningAuthorityService signingAuthorityService;
+
+    @GetMapping
+    @Operation(
+            summary = "Check signing authority",
+            description = "Checks whether an attorney may sign an amount in a currency on behalf of the party",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successfully checked signing authority",
+                            content = @Content(schema = @Schema(implementation = SigningAuthorityResultDTO.class))
+                    )
+            }
+    )
+    public Mono<ResponseEntity<SigningAuthorityResultDTO>> checkSigningAuthority(
+            @Parameter(description = "ID of the represented party", required = true)
+            @PathVariable Long partyId,
+            @Parameter(description = "ID of the attorney", required = true)
+            @RequestParam Long attorneyId,
+            @Parameter(description = "Amount to sign", required = true)
+            @RequestParam BigDecimal amount,
+            @Parameter(description = "ISO 4217 currency of the amount", required = true)
+            @RequestParam String currency
+    ) {
+        SigningAuthorityCheckDTO check = SigningAuthorityCheckDTO.builder()
+                .attorneyId(attorneyId)
+                .amount(amount)
+                .currency(currency)
+                .build();
+        return signingAuthorityService.check(partyId, check)
+                .map(ResponseEntity::ok);
+    }
+
+    @PostMapping("/checks")
+    @Operation(
+            summary = "Check signing authority of several signers",
+            description = "Checks several attorneys, amounts and currencies against the party's powers of attorney at once",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successfully checked signing authority",
+                            content = @Content(schema = @Schema(implementation = SigningAuthorityResultDTO.class))
+                    )
+            }
+    )
+    public Flux<SigningAuthorityResultDTO> checkSigningAuthorities(
+            @Parameter(description = "ID of the represented party", required = true)
+            @PathVariable Long partyId,
+            @Parameter(description = "Signers to check", required = true)
+            @Valid @RequestBody List<@Valid SigningAuthorityCheckDTO> checks
+    ) {
+        return signingAuthorityService.checkAll(partyId, checks);
+    }
+}
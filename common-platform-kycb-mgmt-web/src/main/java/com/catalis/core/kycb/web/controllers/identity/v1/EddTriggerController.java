@@ -0,0 +1,104 @@
+package com.catalis.core.kycb.web.controllers.identity.v1;
+
+import com.catalis.core.kycb.core.services.edd.v1.EddTriggerService;
+import com.catalis.core.kycb.interfaces.dtos.edd.v1.EddTriggerJobDTO;
+import com.catalis.core.kycb.interfaces.dtos.edd.v1.EnhancedDueDiligenceDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/identity/edd-triggers")
+@Tag(name = "EDD Triggers", description = "API for opening enhanced due diligence automatically from a party's records")
+public class EddTriggerController {
+
+    @Autowired
+    private EddTriggerService eddTriggerService;
+
+    @PostMapping("/evaluations")
+    @Operation(
+            summary = "Evaluate EDD triggers",
+            description = "Evaluates the EDD triggers of the given parties and opens a pending EDD on each " +
+                    "party's latest KYC verification for every trigger without an open EDD",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successfully evaluated the parties; the EDDs created are returned",
+                            content = @Content(schema = @Schema(implementation = EnhancedDueDiligenceDTO.class))
+                    )
+            }
+    )
+    public Flux<EnhancedDueDiligenceDTO> evaluate(@RequestBody List<Long> partyIds) {
+        return eddTriggerService.evaluate(partyIds);
+    }
+
+    @GetMapping("/jobs")
+    @Operation(
+            summary = "List EDD trigger backfill jobs",
+            description = "Retrieves running and recently finished backfill jobs, newest first",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successfully retrieved backfill jobs",
+                            content = @Content(schema = @Schema(implementation = EddTriggerJobDTO.class))
+                    )
+            }
+    )
+    public Flux<EddTriggerJobDTO> listJobs() {
+        return eddTriggerService.listJobs();
+    }
+
+    @PostMapping("/jobs")
+    @Operation(
+            summary = "Start EDD trigger backfill",
+            description = "Evaluates the EDD triggers of every party with a KYC verification in the background",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "202",
+                            description = "Backfill job started",
+                            content = @Content(schema = @Schema(implementation = EddTriggerJobDTO.class))
+                    )
+            }
+    )
+    public Mono<ResponseEntity<EddTriggerJobDTO>> startBackfill() {
+        return eddTriggerService.startBackfill()
+                .map(dto -> ResponseEntity.status(HttpStatus.ACCEPTED).body(dto));
+    }
+
+    @GetMapping("/jobs/{jobId}")
+    @Operation(
+            summary = "Get EDD trigger backfill job",
+            description = "Retrieves the progress of a backfill job",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successfully retrieved backfill job",
+                            content = @Content(schema = @Schema(implementation = EddTriggerJobDTO.class))
+                    ),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "Backfill job not found",
+                            content = @Content
+                    )
+            }
+    )
+    public Mono<ResponseEntity<EddTriggerJobDTO>> getJob(
+            @Parameter(description = "ID of the backfill job", required = true)
+            @PathVariable String jobId
+    ) {
+        return eddTriggerService.getJob(jobId)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+}
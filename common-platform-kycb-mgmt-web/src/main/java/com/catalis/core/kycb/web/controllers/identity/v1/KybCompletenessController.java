@@ -0,0 +1,107 @@
+package com.catalis.core.kycb.web.controllers.identity.v1;
+
+import com.catalis.core.kycb.core.services.kyb.v1.KybCompletenessService;
+import com.catalis.core.kycb.interfaces.dtos.kyb.v1.KybCompletenessDTO;
+import com.catalis.core.kycb.interfaces.dtos.kyb.v1.KybCompletenessJobDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/identity/kyb-completeness")
+@Tag(name = "KYB Completeness", description = "API for deriving KYB verification flags from a party's records")
+public class KybCompletenessController {
+
+    @Autowired
+    private KybCompletenessService kybCompletenessService;
+
+    @PostMapping("/evaluations")
+    @Operation(
+            summary = "Evaluate KYB completeness",
+            description = "Derives the KYB verification flags and status of the given parties and writes them to " +
+                    "each party's latest KYB verification",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successfully evaluated the parties",
+                            content = @Content(schema = @Schema(implementation = KybCompletenessDTO.class))
+                    )
+            }
+    )
+    public Flux<KybCompletenessDTO> evaluate(@RequestBody List<Long> partyIds) {
+        return kybCompletenessService.evaluate(partyIds);
+    }
+
+    @GetMapping("/jobs")
+    @Operation(
+            summary = "List KYB completeness jobs",
+            description = "Retrieves running and recently finished evaluation jobs, newest first",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successfully retrieved evaluation jobs",
+                            content = @Content(schema = @Schema(implementation = KybCompletenessJobDTO.class))
+                    )
+            }
+    )
+    public Flux<KybCompletenessJobDTO> listJobs() {
+        return kybCompletenessService.listJobs();
+    }
+
+    @PostMapping("/jobs")
+    @Operation(
+            summary = "Start KYB completeness job",
+            description = "Evaluates the given parties in the background, or every party with a KYB verification " +
+                    "if no body is sent",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "202",
+                            description = "Evaluation job started",
+                            content = @Content(schema = @Schema(implementation = KybCompletenessJobDTO.class))
+                    )
+            }
+    )
+    public Mono<ResponseEntity<KybCompletenessJobDTO>> startJob(
+            @RequestBody(required = false) List<Long> partyIds
+    ) {
+        return kybCompletenessService.startJob(partyIds)
+                .map(dto -> ResponseEntity.status(HttpStatus.ACCEPTED).body(dto));
+    }
+
+    @GetMapping("/jobs/{jobId}")
+    @Operation(
+            summary = "Get KYB completeness job",
+            description = "Retrieves the progress of an evaluation job",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successfully retrieved evaluation job",
+                            content = @Content(schema = @Schema(implementation = KybCompletenessJobDTO.class))
+                    ),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "Evaluation job not found",
+                            content = @Content
+                    )
+            }
+    )
+    public Mono<ResponseEntity<KybCompletenessJobDTO>> getJob(
+            @Parameter(description = "ID of the evaluation job", required = true)
+            @PathVariable String jobId
+    ) {
+        return kybCompletenessService.getJob(jobId)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+}